@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * In-process loopback server the benchmarks run against, so results measure the client rather than the network.
+ * {@code /small} answers with a 128 byte body and {@code /large} with a 1 MiB body; {@code /echo} returns the
+ * request body.
+ */
+final class BenchmarkServer implements AutoCloseable {
+    static final int SMALL_BODY_SIZE = 128;
+    static final int LARGE_BODY_SIZE = 1 << 20;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private BenchmarkServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the server on an ephemeral loopback port.
+     *
+     * @return the started server
+     * @throws IOException if the server cannot be bound
+     */
+    static BenchmarkServer start() throws IOException {
+        // Without TCP_NODELAY the server's separate header and body writes stall on delayed ACKs
+        // for ~40ms, which would hide everything the client does for small responses.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        byte[] small = filled(SMALL_BODY_SIZE);
+        byte[] large = filled(LARGE_BODY_SIZE);
+        server.createContext("/small", exchange -> respond(exchange, small));
+        server.createContext("/large", exchange -> respond(exchange, large));
+        server.createContext("/echo", exchange -> respond(exchange, exchange.getRequestBody().readAllBytes()));
+        server.setExecutor(executor);
+        server.start();
+        return new BenchmarkServer(server, executor);
+    }
+
+    /**
+     * Returns the absolute URL for the given path.
+     *
+     * @param path the path, starting with a slash
+     * @return the URL
+     */
+    String url(String path) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path;
+    }
+
+    private static byte[] filled(int size) {
+        byte[] body = new byte[size];
+        Arrays.fill(body, (byte) 'x');
+        return body;
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
\ No newline at end of file
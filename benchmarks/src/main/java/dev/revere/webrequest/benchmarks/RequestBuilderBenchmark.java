@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.benchmarks;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Measures the cost of describing a request, without any I/O: building one from scratch
+ * versus deriving one from a shared template.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestBuilderBenchmark {
+    private HttpRequest template;
+    private long id;
+
+    @Setup
+    public void setUp() {
+        template = new HttpRequestBuilder()
+                .url("https://api.example.com/users/{id}")
+                .addHeader("Accept", "application/json")
+                .addHeader("Authorization", "Bearer token")
+                .buildRequest();
+    }
+
+    @Benchmark
+    public HttpRequest buildFromScratch() {
+        return new HttpRequestBuilder()
+                .url("https://api.example.com/users/" + (id++))
+                .method("POST")
+                .addHeader("Accept", "application/json")
+                .addHeader("Authorization", "Bearer token")
+                .body("{\"name\":\"benchmark\"}")
+                .buildRequest();
+    }
+
+    @Benchmark
+    public URI deriveFromTemplate() {
+        return template.withPathParam("id", id++).withHeader("X-Request-Id", "42").uri();
+    }
+}
\ No newline at end of file
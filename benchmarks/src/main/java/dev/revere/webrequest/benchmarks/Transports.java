@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.benchmarks;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.transport.Http1Transport;
+import dev.revere.webrequest.transport.HttpTransport;
+import dev.revere.webrequest.transport.JdkHttpTransport;
+import dev.revere.webrequest.transport.UrlConnectionTransport;
+
+import java.util.function.Supplier;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The transports a benchmark can be parameterized over.
+ */
+public enum Transports {
+    URL_CONNECTION(UrlConnectionTransport::new),
+    JDK(JdkHttpTransport::new),
+    HTTP1(Http1Transport::new);
+
+    private final Supplier<HttpTransport> factory;
+
+    Transports(Supplier<HttpTransport> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Builds a client that sends through a new instance of this transport.
+     *
+     * @return the client
+     */
+    public HttpClient newClient() {
+        return HttpClient.builder().transport(factory.get()).build();
+    }
+}
\ No newline at end of file
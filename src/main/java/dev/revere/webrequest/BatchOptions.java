@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Settings for {@link HttpClient#executeAll(java.util.Collection, BatchOptions)}.
+ */
+public final class BatchOptions {
+    private long deadlineMillis = -1;
+    private int maxParallelism = Integer.MAX_VALUE;
+    private BatchMode mode = BatchMode.COLLECT_ALL;
+
+    /**
+     * Sets the time the whole batch may take, counted from its start. Requests still unfinished
+     * when it expires are cancelled and fail with a {@link java.util.concurrent.TimeoutException}.
+     * By default a batch has no deadline.
+     *
+     * @param deadline the deadline
+     * @return this options object
+     */
+    public BatchOptions deadline(Duration deadline) {
+        long millis = deadline.toMillis();
+        if (millis <= 0) {
+            throw new IllegalArgumentException("deadline must be positive: " + deadline);
+        }
+        this.deadlineMillis = millis;
+        return this;
+    }
+
+    /**
+     * Sets how many requests of the batch may be in flight at once. Further requests start as earlier
+     * ones finish, in submission order. By default all requests start at once, subject to the
+     * client's own concurrency limits.
+     *
+     * @param maxParallelism the maximum number of requests in flight
+     * @return this options object
+     */
+    public BatchOptions maxParallelism(int maxParallelism) {
+        if (maxParallelism <= 0) {
+            throw new IllegalArgumentException("maxParallelism must be positive: " + maxParallelism);
+        }
+        this.maxParallelism = maxParallelism;
+        return this;
+    }
+
+    /**
+     * Sets how failed requests affect the batch. Defaults to {@link BatchMode#COLLECT_ALL}.
+     *
+     * @param mode the mode
+     * @return this options object
+     */
+    public BatchOptions mode(BatchMode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        return this;
+    }
+
+    long deadlineMillis() {
+        return deadlineMillis;
+    }
+
+    int maxParallelism() {
+        return maxParallelism;
+    }
+
+    BatchMode mode() {
+        return mode;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The result of one request of an {@link HttpBatch}.
+ *
+ * @param index    the position of the request in the submitted collection
+ * @param request  the request
+ * @param response the response, or null if the request failed
+ * @param failure  the failure, or null if the request succeeded; requests cancelled by the batch
+ *                 fail with a {@link java.util.concurrent.CancellationException} or, past the deadline,
+ *                 a {@link java.util.concurrent.TimeoutException}
+ */
+public record BatchOutcome(int index, HttpRequest request, HttpResponse response, Throwable failure) {
+
+    /**
+     * Returns whether the request produced a response.
+     *
+     * @return true if the request succeeded
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
\ No newline at end of file
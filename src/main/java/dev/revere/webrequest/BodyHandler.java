@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import dev.revere.webrequest.buffer.BufferPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Decodes a response body straight from its stream into a value, for
+ * {@link HttpClient#execute(HttpRequest, BodyHandler)}.
+ * <p>
+ * The handler reads the body as it arrives from the socket, already decompressed, so the payload
+ * is never staged as a {@code String} or {@code byte[]} unless the handler does so itself. Codecs
+ * for formats such as JSON or protobuf plug in as a lambda over their own parser, for example
+ * {@code (headers, body) -> mapper.readValue(body, User.class)}, without this library depending
+ * on them. The client closes the stream once the handler returns.
+ *
+ * @param <T> the type of the decoded body
+ */
+@FunctionalInterface
+public interface BodyHandler<T> {
+
+    /**
+     * Decodes a response body. It is only called for responses with a status code below 400.
+     *
+     * @param headers the response headers
+     * @param body    the body stream, which the handler need not close or read to the end
+     * @return the decoded body
+     * @throws IOException if the body cannot be read or decoded
+     */
+    T handle(HttpHeaders headers, InputStream body) throws IOException;
+
+    /**
+     * Returns a handler that decodes the body with this handler and then applies a function to it.
+     *
+     * @param mapper the function to apply
+     * @param <U>    the type of the mapped body
+     * @return the composed handler
+     */
+    default <U> BodyHandler<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return (headers, body) -> mapper.apply(handle(headers, body));
+    }
+
+    /**
+     * Returns a handler that reads the whole body into an array, presized from {@code Content-Length}
+     * when the body was not compressed.
+     *
+     * @return the handler
+     */
+    static BodyHandler<byte[]> ofByteArray() {
+        return (headers, body) -> BufferPool.shared().readAll(body,
+                headers.contains("Content-Encoding") ? -1 : headers.contentLength());
+    }
+
+    /**
+     * Returns a handler that decodes the body as text in the charset named by {@code Content-Type},
+     * or UTF-8 if none is named.
+     *
+     * @return the handler
+     */
+    static BodyHandler<String> ofString() {
+        return ofString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a handler that decodes the body as text in the charset named by {@code Content-Type}.
+     *
+     * @param fallback the charset to use if the response names none
+     * @return the handler
+     */
+    static BodyHandler<String> ofString(Charset fallback) {
+        Objects.requireNonNull(fallback, "fallback");
+        BodyHandler<byte[]> bytes = ofByteArray();
+        return (headers, body) -> {
+            Charset charset = headers.charset();
+            return new String(bytes.handle(headers, body), charset != null ? charset : fallback);
+        };
+    }
+
+    /**
+     * Returns a handler that writes the body to a file, replacing any existing content.
+     *
+     * @param path the target file
+     * @return the handler, which returns the path
+     */
+    static BodyHandler<Path> ofFile(Path path) {
+        Objects.requireNonNull(path, "path");
+        return (headers, body) -> {
+            Files.copy(body, path, StandardCopyOption.REPLACE_EXISTING);
+            return path;
+        };
+    }
+
+    /**
+     * Returns a handler that reads and drops the body, so that the connection can be reused.
+     *
+     * @return the handler, which returns null
+     */
+    static BodyHandler<Void> discarding() {
+        return (headers, body) -> {
+            body.transferTo(OutputStream.nullOutputStream());
+            return null;
+        };
+    }
+}
\ No newline at end of file
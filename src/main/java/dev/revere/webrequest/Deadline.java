@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import dev.revere.webrequest.transport.Cancellation;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The overall deadline of one call, shared by all of its attempts, and the cancellation that
+ * aborts whatever exchange is in flight when the deadline expires or the caller gives up.
+ */
+final class Deadline {
+    private static final ScheduledThreadPoolExecutor TIMER = newTimer();
+
+    private final int timeoutMillis;
+    private final long expiresAtNanos;
+    private final Cancellation cancellation = new Cancellation();
+
+    /**
+     * Starts a deadline.
+     *
+     * @param timeoutMillis the time the call may take, or 0 for no deadline
+     */
+    Deadline(int timeoutMillis) {
+        this(timeoutMillis, timeoutMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : Long.MAX_VALUE);
+    }
+
+    private Deadline(int timeoutMillis, long expiresAtNanos) {
+        this.timeoutMillis = timeoutMillis;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    private static ScheduledThreadPoolExecutor newTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "http-client-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Returns a deadline that expires at the same time but has a cancellation of its own, for each
+     * request an interceptor passes on: one that fails then does not abort the next one it sends.
+     *
+     * @return the deadline
+     */
+    Deadline fork() {
+        return new Deadline(timeoutMillis, expiresAtNanos);
+    }
+
+    /**
+     * Returns the cancellation that aborts the call's exchanges.
+     *
+     * @return the cancellation
+     */
+    Cancellation cancellation() {
+        return cancellation;
+    }
+
+    /**
+     * Returns the time left.
+     *
+     * @return the remaining milliseconds, or {@link Long#MAX_VALUE} without a deadline
+     */
+    long remainingMillis() {
+        if (expiresAtNanos == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime()));
+    }
+
+    /**
+     * Returns whether waiting for the given delay still leaves time for another attempt.
+     *
+     * @param delayMillis the delay before the attempt
+     * @return true if the deadline falls after the delay
+     */
+    boolean allows(long delayMillis) {
+        return !cancellation.isCancelled() && remainingMillis() > delayMillis;
+    }
+
+    /**
+     * Caps the socket timeouts of an attempt to the time left, rounded up so that a socket timeout
+     * never fires before the deadline has passed.
+     *
+     * @param request the request
+     * @return the request to send
+     */
+    HttpRequest bound(HttpRequest request) {
+        long remaining = remainingMillis();
+        return remaining == Long.MAX_VALUE ? request : request.withinDeadline(remaining + 1);
+    }
+
+    /**
+     * Returns why the call has to stop: the reason it was cancelled, or its expiry once the deadline
+     * has passed, even if a socket timeout noticed before the timer did.
+     *
+     * @return the failure to report, or null if the call may go on
+     */
+    Throwable abortReason() {
+        Throwable reason = cancellation.reason();
+        if (reason == null && expiresAtNanos != Long.MAX_VALUE && expiresAtNanos - System.nanoTime() <= 0) {
+            return expired();
+        }
+        return reason;
+    }
+
+    /**
+     * Returns the failure reported for a call that ran out of time.
+     *
+     * @return the exception
+     */
+    TimeoutException expired() {
+        return new TimeoutException("Request deadline of " + timeoutMillis + " ms exceeded");
+    }
+
+    /**
+     * Aborts the call's exchange once the deadline expires, for calls that block the caller.
+     *
+     * @return the armed timer, to be passed to {@link #disarm}, or null without a deadline
+     */
+    ScheduledFuture<?> arm() {
+        if (expiresAtNanos == Long.MAX_VALUE) {
+            return null;
+        }
+        return TIMER.schedule(() -> cancellation.cancel(expired()), expiresAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops a timer started by {@link #arm()}.
+     *
+     * @param timer the timer, or null
+     */
+    static void disarm(ScheduledFuture<?> timer) {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+    }
+
+    /**
+     * Ties the call's result to the deadline: the result fails with a {@link TimeoutException} when
+     * the deadline expires, and however the result completes, by then any exchange still in flight
+     * is aborted, such as the losing copy of a hedged request or one the caller cancelled.
+     *
+     * @param result the result of the call
+     * @param <T>    the result type
+     * @return the result
+     */
+    <T> CompletableFuture<T> bind(CompletableFuture<T> result) {
+        ScheduledFuture<?> timer = expiresAtNanos == Long.MAX_VALUE ? null
+                : TIMER.schedule(() -> result.completeExceptionally(expired()), expiresAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        result.whenComplete((value, error) -> {
+            disarm(timer);
+            cancellation.cancel(error != null ? error : new CancellationException("Call completed"));
+        });
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Reads server-sent events from a request, reconnecting whenever the stream ends or the
+ * connection fails. Each reconnect waits for the delay last set by the server's {@code retry}
+ * field and resumes with a {@code Last-Event-ID} header. An error status, or {@code 204 No Content}
+ * from the server, ends the stream instead.
+ */
+final class EventSource implements SourcePublisher.Source<ServerSentEvent> {
+    static final long DEFAULT_RETRY_MILLIS = 3000;
+
+    private final HttpRequest request;
+    private final Function<HttpRequest, HttpResponse> connector;
+    private final int maxEventBytes;
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private volatile HttpResponse response;
+    private EventStreamParser parser;
+    private String lastEventId;
+    private long retryMillis = DEFAULT_RETRY_MILLIS;
+
+    /**
+     * Creates a source. Nothing is sent until the first event is read.
+     *
+     * @param request       the request that opens the stream
+     * @param connector     executes a request and returns its streaming response
+     * @param maxEventBytes the largest event accepted
+     */
+    EventSource(HttpRequest request, Function<HttpRequest, HttpResponse> connector, int maxEventBytes) {
+        this.request = request;
+        this.connector = connector;
+        this.maxEventBytes = maxEventBytes;
+    }
+
+    @Override
+    public ServerSentEvent next() throws IOException {
+        while (!isClosed()) {
+            if (parser == null && !connect()) {
+                return null;
+            }
+            try {
+                ServerSentEvent event = parser.next();
+                if (event != null) {
+                    return event;
+                }
+            } catch (LineReader.LimitExceededException e) {
+                throw e;
+            } catch (IOException e) {
+                if (isClosed()) {
+                    return null;
+                }
+            }
+            disconnect();
+            if (!await(retryMillis)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Opens the stream, retrying after connection failures.
+     *
+     * @return false if the stream is over, because the source was closed or the server sent 204
+     */
+    private boolean connect() {
+        while (true) {
+            HttpRequest attempt = lastEventId == null ? request : request.withHeader("Last-Event-ID", lastEventId);
+            HttpResponse opened;
+            try {
+                opened = connector.apply(attempt);
+            } catch (HttpException e) {
+                // Only network failures are retried; error statuses end the stream.
+                if (!(e.getCause() instanceof IOException) || isClosed()) {
+                    throw e;
+                }
+                if (!await(retryMillis)) {
+                    return false;
+                }
+                continue;
+            }
+            response = opened;
+            if (isClosed() || opened.statusCode() == 204) {
+                opened.close();
+                return false;
+            }
+            parser = new EventStreamParser(opened.content().asInputStream(), lastEventId, maxEventBytes);
+            return true;
+        }
+    }
+
+    private void disconnect() {
+        lastEventId = parser.lastEventId();
+        if (parser.retryMillis() >= 0) {
+            retryMillis = parser.retryMillis();
+        }
+        parser = null;
+        HttpResponse current = response;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * Waits before reconnecting, returning early if the source is closed.
+     *
+     * @param millis the delay
+     * @return true if the source is still open
+     */
+    private boolean await(long millis) {
+        try {
+            return !closed.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isClosed() {
+        return closed.getCount() == 0;
+    }
+
+    @Override
+    public void close() {
+        closed.countDown();
+        HttpResponse current = response;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
\ No newline at end of file
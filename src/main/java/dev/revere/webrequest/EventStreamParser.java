@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Parses a {@code text/event-stream} body incrementally, following the event stream interpretation
+ * rules of the HTML Living Standard, section 9.2.6. Only the event being assembled is held in memory,
+ * and its data may not exceed a fixed limit.
+ */
+final class EventStreamParser implements SourcePublisher.Source<ServerSentEvent> {
+    private final LineReader reader;
+    private final int maxEventBytes;
+    private final StringBuilder data = new StringBuilder();
+    private String eventType;
+    private String lastEventId;
+    private long retryMillis = -1;
+
+    /**
+     * Creates a parser.
+     *
+     * @param in            the body stream
+     * @param lastEventId   the last event ID to start from, or null
+     * @param maxEventBytes the largest event data accepted
+     */
+    EventStreamParser(InputStream in, String lastEventId, int maxEventBytes) {
+        this.reader = new LineReader(in, maxEventBytes);
+        this.lastEventId = lastEventId;
+        this.maxEventBytes = maxEventBytes;
+    }
+
+    /**
+     * Reads lines until the next event is complete.
+     *
+     * @return the event, or null at the end of the stream; a partly received event is discarded
+     * @throws IOException if an I/O error occurs or the event data exceeds the limit
+     */
+    @Override
+    public ServerSentEvent next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                ServerSentEvent event = dispatch();
+                if (event != null) {
+                    return event;
+                }
+                continue;
+            }
+            if (line.charAt(0) == ':') {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String field = colon == -1 ? line : line.substring(0, colon);
+            String value = "";
+            if (colon != -1) {
+                int start = colon + 1 < line.length() && line.charAt(colon + 1) == ' ' ? colon + 2 : colon + 1;
+                value = line.substring(start);
+            }
+            process(field, value);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the last event ID seen, including one set by an event that carried no data.
+     *
+     * @return the ID, or null if none was set
+     */
+    String lastEventId() {
+        return lastEventId;
+    }
+
+    /**
+     * Returns the reconnection delay last requested by the server.
+     *
+     * @return the delay in milliseconds, or -1 if the server never set one
+     */
+    long retryMillis() {
+        return retryMillis;
+    }
+
+    private void process(String field, String value) throws IOException {
+        switch (field) {
+            case "event" -> eventType = value;
+            case "data" -> {
+                if (data.length() + value.length() + 1 > maxEventBytes) {
+                    throw new LineReader.LimitExceededException("Event data exceeds " + maxEventBytes + " bytes");
+                }
+                data.append(value).append('\n');
+            }
+            case "id" -> {
+                if (value.indexOf('\0') == -1) {
+                    lastEventId = value.isEmpty() ? null : value;
+                }
+            }
+            case "retry" -> {
+                if (!value.isEmpty() && value.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                    try {
+                        retryMillis = Long.parseLong(value);
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private ServerSentEvent dispatch() {
+        long retry = retryMillis;
+        if (data.isEmpty()) {
+            eventType = null;
+            return null;
+        }
+        String payload = data.substring(0, data.length() - 1);
+        String type = eventType == null || eventType.isEmpty() ? "message" : eventType;
+        data.setLength(0);
+        eventType = null;
+        return new ServerSentEvent(lastEventId, type, payload, retry);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
\ No newline at end of file
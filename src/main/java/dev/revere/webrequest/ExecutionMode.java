@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Selects the kind of executor an {@link HttpClient} creates for its asynchronous requests.
+ */
+public enum ExecutionMode {
+
+    /**
+     * A cached pool of platform threads. Grows with the number of concurrent requests.
+     */
+    CACHED_THREAD_POOL {
+        @Override
+        ExecutorService newExecutor() {
+            return Executors.newCachedThreadPool();
+        }
+    },
+
+    /**
+     * One virtual thread per request. Blocking I/O parks the virtual thread instead of
+     * holding a platform thread and its stack.
+     */
+    VIRTUAL_THREADS {
+        @Override
+        ExecutorService newExecutor() {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-client-", 0).factory());
+        }
+    };
+
+    /**
+     * Creates a new executor for this mode.
+     *
+     * @return the executor
+     */
+    abstract ExecutorService newExecutor();
+}
\ No newline at end of file
@@ -0,0 +1,290 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A group of requests executed together by {@link HttpClient#executeAll}.
+ * <p>
+ * The batch resolves once every request has finished, once a request fails in
+ * {@link BatchMode#FAIL_FAST} mode, once its deadline expires or once it is cancelled. Requests
+ * that have not finished by then are cancelled, and requests that have not started never are.
+ * Results can be taken in submission order with {@link #join()} and {@link #responses()}, or in
+ * completion order as they arrive with {@link #stream()}. Closing the batch cancels it.
+ */
+public final class HttpBatch implements AutoCloseable {
+    private final List<HttpRequest> requests;
+    private final Function<HttpRequest, CompletableFuture<HttpResponse>> executor;
+    private final BatchOptions options;
+    private final BatchOutcome[] outcomes;
+    private final CompletableFuture<?>[] inFlight;
+    private final AtomicInteger next = new AtomicInteger();
+    private final BlockingQueue<BatchOutcome> completed = new LinkedBlockingQueue<>();
+    private final CompletableFuture<List<BatchOutcome>> completion = new CompletableFuture<>();
+    private final AtomicBoolean streamed = new AtomicBoolean();
+    private int finished;
+    private boolean resolved;
+    private Throwable failFastCause;
+
+    HttpBatch(List<HttpRequest> requests, BatchOptions options, Function<HttpRequest, CompletableFuture<HttpResponse>> executor) {
+        this.requests = requests;
+        this.executor = executor;
+        this.options = options;
+        this.outcomes = new BatchOutcome[requests.size()];
+        this.inFlight = new CompletableFuture<?>[requests.size()];
+    }
+
+    /**
+     * Starts the first requests and arms the deadline.
+     */
+    void start() {
+        if (requests.isEmpty()) {
+            resolve(null);
+            return;
+        }
+        long deadline = options.deadlineMillis();
+        if (deadline > 0) {
+            CompletableFuture.delayedExecutor(deadline, TimeUnit.MILLISECONDS, Runnable::run)
+                    .execute(() -> resolve(new TimeoutException("Batch deadline of " + deadline + " ms exceeded")));
+        }
+        int initial = Math.min(options.maxParallelism(), requests.size());
+        for (int i = 0; i < initial; i++) {
+            launchNext();
+        }
+    }
+
+    /**
+     * Returns the number of requests in the batch.
+     *
+     * @return the size
+     */
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * Returns whether the batch has resolved.
+     *
+     * @return true if no further outcome will arrive
+     */
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    /**
+     * Returns a future of the outcomes in submission order, completed when the batch resolves.
+     * Cancelling the returned future does not cancel the batch; use {@link #cancel()}.
+     *
+     * @return the future
+     */
+    public CompletableFuture<List<BatchOutcome>> completion() {
+        return completion.copy();
+    }
+
+    /**
+     * Waits for the batch to resolve and returns the outcome of each request in submission order.
+     *
+     * @return the outcomes
+     */
+    public List<BatchOutcome> join() {
+        return completion.join();
+    }
+
+    /**
+     * Waits for the batch to resolve and returns the responses in submission order.
+     *
+     * @return the responses
+     * @throws CompletionException wrapping the failure that resolved a fail-fast batch, or otherwise
+     *                             the failure of the first request that did not succeed
+     */
+    public List<HttpResponse> responses() {
+        List<BatchOutcome> results = join();
+        Throwable failure;
+        synchronized (this) {
+            failure = failFastCause;
+        }
+        List<HttpResponse> responses = new ArrayList<>(results.size());
+        for (BatchOutcome outcome : results) {
+            if (!outcome.isSuccess()) {
+                throw new CompletionException(failure != null ? failure : outcome.failure());
+            }
+            responses.add(outcome.response());
+        }
+        return responses;
+    }
+
+    /**
+     * Returns the outcomes in the order they complete, blocking while waiting for the next one.
+     * The stream ends after one outcome per request; requests cancelled by the batch appear as
+     * failed outcomes when it resolves. The stream can be obtained only once.
+     *
+     * @return the outcomes in completion order
+     * @throws IllegalStateException if the stream has already been obtained
+     */
+    public Stream<BatchOutcome> stream() {
+        if (!streamed.compareAndSet(false, true)) {
+            throw new IllegalStateException("The batch has already been streamed");
+        }
+        Spliterator<BatchOutcome> spliterator = new Spliterators.AbstractSpliterator<>(requests.size(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED) {
+            private int taken;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super BatchOutcome> action) {
+                if (taken == requests.size()) {
+                    return false;
+                }
+                try {
+                    action.accept(completed.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted while waiting for the batch");
+                }
+                taken++;
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Resolves the batch now, cancelling every request that has not finished. Does nothing if the
+     * batch has already resolved.
+     */
+    public void cancel() {
+        resolve(new CancellationException("Batch cancelled"));
+    }
+
+    /**
+     * Cancels the batch if it has not resolved.
+     */
+    @Override
+    public void close() {
+        cancel();
+    }
+
+    private void launchNext() {
+        int index = next.getAndIncrement();
+        if (index >= requests.size()) {
+            return;
+        }
+        if (isDone()) {
+            return;
+        }
+        CompletableFuture<HttpResponse> future;
+        try {
+            future = executor.apply(requests.get(index));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        synchronized (this) {
+            if (resolved) {
+                future.cancel(true);
+                return;
+            }
+            inFlight[index] = future;
+        }
+        future.whenComplete((response, error) -> complete(index, response, error));
+    }
+
+    private void complete(int index, HttpResponse response, Throwable error) {
+        Throwable failure = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        boolean failFast = failure != null && options.mode() == BatchMode.FAIL_FAST;
+        boolean finishedAll;
+        synchronized (this) {
+            inFlight[index] = null;
+            if (outcomes[index] != null) {
+                // Already cancelled by the resolution of the batch.
+                return;
+            }
+            BatchOutcome outcome = new BatchOutcome(index, requests.get(index), response, failure);
+            outcomes[index] = outcome;
+            completed.add(outcome);
+            finishedAll = ++finished == requests.size();
+            if (failFast && failFastCause == null) {
+                failFastCause = failure;
+            }
+        }
+        if (failFast) {
+            resolve(new CancellationException("Cancelled after request " + index + " of the batch failed"));
+        } else if (finishedAll) {
+            resolve(null);
+        } else {
+            launchNext();
+        }
+    }
+
+    /**
+     * Resolves the batch once, failing unfinished requests with the given reason.
+     *
+     * @param reason the failure for requests that have not finished, or null if all have
+     */
+    private void resolve(Throwable reason) {
+        List<CompletableFuture<?>> cancelled = new ArrayList<>();
+        List<BatchOutcome> results;
+        synchronized (this) {
+            if (resolved) {
+                return;
+            }
+            resolved = true;
+            for (int i = 0; i < outcomes.length; i++) {
+                if (outcomes[i] == null) {
+                    outcomes[i] = new BatchOutcome(i, requests.get(i), null, reason);
+                    completed.add(outcomes[i]);
+                    if (inFlight[i] != null) {
+                        cancelled.add(inFlight[i]);
+                        inFlight[i] = null;
+                    }
+                }
+            }
+            results = List.of(outcomes);
+        }
+        for (CompletableFuture<?> future : cancelled) {
+            future.cancel(true);
+        }
+        completion.complete(results);
+    }
+}
\ No newline at end of file
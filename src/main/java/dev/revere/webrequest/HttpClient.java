@@ -24,13 +24,54 @@
 
 package dev.revere.webrequest;
 
-import java.io.BufferedReader;
+import dev.revere.webrequest.balance.EndpointGroup;
+import dev.revere.webrequest.balance.LoadBalancingTransport;
+import dev.revere.webrequest.breaker.CircuitBreaker;
+import dev.revere.webrequest.breaker.CircuitBreakerOpenException;
+import dev.revere.webrequest.breaker.CircuitBreakers;
+import dev.revere.webrequest.buffer.BufferPool;
+import dev.revere.webrequest.cache.CacheStats;
+import dev.revere.webrequest.cache.CachingTransport;
+import dev.revere.webrequest.cache.HttpCache;
+import dev.revere.webrequest.codec.ContentCodec;
+import dev.revere.webrequest.codec.ContentCodecs;
+import dev.revere.webrequest.dns.DnsResolver;
+import dev.revere.webrequest.limit.Bulkheads;
+import dev.revere.webrequest.limit.ConcurrencyLimitExceededException;
+import dev.revere.webrequest.limit.ConcurrencyLimiter;
+import dev.revere.webrequest.limit.RateLimitExceededException;
+import dev.revere.webrequest.limit.RateLimiter;
+import dev.revere.webrequest.limit.RateLimiters;
+import dev.revere.webrequest.limit.RateLimitingTransport;
+import dev.revere.webrequest.metrics.ClientMetrics;
+import dev.revere.webrequest.metrics.ExchangeTimings;
+import dev.revere.webrequest.metrics.MetricsListener;
+import dev.revere.webrequest.metrics.MetricsSnapshot;
+import dev.revere.webrequest.pool.ConnectionPool;
+import dev.revere.webrequest.pool.PoolStats;
+import dev.revere.webrequest.pool.Route;
+import dev.revere.webrequest.retry.HedgePolicy;
+import dev.revere.webrequest.retry.RetryPolicy;
+import dev.revere.webrequest.transport.Http1Transport;
+import dev.revere.webrequest.transport.HttpTransport;
+import dev.revere.webrequest.transport.TransportResponse;
+import dev.revere.webrequest.transport.UrlConnectionTransport;
+
+import javax.net.ssl.SSLSocketFactory;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * @author Remi
@@ -39,25 +80,791 @@ import java.util.stream.Collectors;
  * <p>
  * Represents an HTTP client.
  */
-public class HttpClient {
+public class HttpClient implements AutoCloseable {
 
     private static class Holder {
         private static final HttpClient INSTANCE = new HttpClient();
     }
 
     private final ExecutorService executorService;
+    private final boolean ownsExecutor;
+    private final boolean shared;
+    private final HttpTransport transport;
+    private final ConnectionPool connectionPool;
+    private final HttpCache cache;
+    private final ClientMetrics metrics;
+    private final MetricsListener metricsListener;
+    private final Bulkheads bulkheads;
+    private final CircuitBreakers circuitBreakers;
+    private final RateLimiters rateLimiters;
+    private final InterceptorChain interceptors;
+    private final RetryPolicy retryPolicy;
+    private final HedgePolicy hedgePolicy;
+    private final SingleFlight singleFlight;
+    private final ContentCodecs codecs;
+    private final int requestTimeout;
+    private final int connectTimeout;
+    private final int readTimeout;
+    private volatile boolean shutdown;
 
     /**
-     * Private constructor to initialize the HttpClient with a cached thread pool.
+     * Private constructor to initialize the shared HttpClient with a cached thread pool
+     * and the {@link HttpURLConnection} transport.
      */
     private HttpClient() {
-        this.executorService = Executors.newCachedThreadPool();
+        this(new Builder(), true);
+    }
+
+    /**
+     * Private constructor to initialize the HttpClient from a builder.
+     *
+     * @param builder the builder holding the client configuration
+     * @param shared  whether this is the shared instance, which cannot be shut down
+     */
+    private HttpClient(Builder builder, boolean shared) {
+        this.shared = shared;
+        this.ownsExecutor = builder.executor == null;
+        this.executorService = ownsExecutor ? builder.executionMode.newExecutor() : builder.executor;
+        if (builder.poolConfig != null || builder.dnsResolver != null) {
+            if (builder.transport != null) {
+                throw new IllegalStateException("connectionPool and dnsResolver cannot be combined with a custom transport");
+            }
+            this.connectionPool = new ConnectionPool(builder.poolConfig != null ? builder.poolConfig : new ConnectionPool.Config());
+        } else {
+            this.connectionPool = null;
+        }
+        DnsResolver resolver = builder.dnsResolver != null ? builder.dnsResolver : DnsResolver.system();
+        HttpTransport network = connectionPool != null
+                ? new Http1Transport(connectionPool, (SSLSocketFactory) SSLSocketFactory.getDefault(), resolver)
+                : builder.transport != null ? builder.transport : new UrlConnectionTransport();
+        if (!builder.endpointGroups.isEmpty()) {
+            network = new LoadBalancingTransport(network, builder.endpointGroups);
+        }
+        this.rateLimiters = builder.rateLimit != null ? new RateLimiters(builder.rateLimit) : null;
+        if (rateLimiters != null) {
+            network = new RateLimitingTransport(network, rateLimiters);
+        }
+        this.cache = builder.cacheConfig != null ? new HttpCache(builder.cacheConfig) : null;
+        this.transport = cache != null ? new CachingTransport(network, cache) : network;
+        this.metrics = builder.metricsEnabled ? new ClientMetrics() : null;
+        List<MetricsListener> listeners = new ArrayList<>();
+        if (metrics != null) {
+            listeners.add(metrics);
+        }
+        listeners.addAll(builder.metricsListeners);
+        this.metricsListener = listeners.isEmpty() ? null : MetricsListener.of(listeners);
+        this.bulkheads = builder.concurrencyLimit != null ? new Bulkheads(builder.concurrencyLimit) : null;
+        this.circuitBreakers = builder.circuitBreaker != null ? new CircuitBreakers(builder.circuitBreaker) : null;
+        this.hedgePolicy = builder.hedgePolicy;
+        this.codecs = builder.decompression ? builder.codecs : null;
+        this.singleFlight = builder.coalesceHeaders != null ? new SingleFlight(builder.coalesceHeaders) : null;
+        this.retryPolicy = builder.retryPolicy != null || hedgePolicy == null ? builder.retryPolicy : new RetryPolicy().maxAttempts(1);
+        this.requestTimeout = builder.requestTimeout;
+        this.connectTimeout = builder.connectTimeout;
+        this.readTimeout = builder.readTimeout;
+        this.interceptors = InterceptorChain.compile(builder.interceptors, executorService);
     }
 
+    /**
+     * Returns the shared client, configured with the defaults of {@link Builder}. It lives as long as
+     * the JVM: {@link #shutdown()} and {@link #close()} leave it running, so that no caller can break
+     * it for the others. Workloads that need their own executor, timeouts, pool or limits should use
+     * a client from {@link #builder()} instead.
+     *
+     * @return the shared client
+     */
     public static HttpClient getInstance() {
         return Holder.INSTANCE;
     }
 
+    /**
+     * Creates a new builder for a dedicated HttpClient.
+     *
+     * @return a new Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the transport this client sends {@link HttpRequest}s through.
+     *
+     * @return the transport
+     */
+    public HttpTransport transport() {
+        return transport;
+    }
+
+    /**
+     * Returns a snapshot of the client's connection pool.
+     *
+     * @return the pool stats, or {@link PoolStats#EMPTY} if the client was built without a pool
+     */
+    public PoolStats poolStats() {
+        return connectionPool != null ? connectionPool.stats() : PoolStats.EMPTY;
+    }
+
+    /**
+     * Returns a snapshot of the client's response cache.
+     *
+     * @return the cache stats, or {@link CacheStats#EMPTY} if the client was built without a cache
+     */
+    public CacheStats cacheStats() {
+        return cache != null ? cache.stats() : CacheStats.EMPTY;
+    }
+
+    /**
+     * Returns a snapshot of the metrics recorded for requests executed by this client.
+     *
+     * @return the metrics, or {@link MetricsSnapshot#EMPTY} if the client was built without {@link Builder#enableMetrics()}
+     */
+    public MetricsSnapshot metrics() {
+        return metrics != null ? metrics.snapshot() : MetricsSnapshot.EMPTY;
+    }
+
+    /**
+     * Returns the per-host concurrency limiters created so far.
+     *
+     * @return the limiters keyed by route, empty if the client was built without a concurrency limit
+     */
+    public Map<Route, ConcurrencyLimiter> concurrencyLimiters() {
+        return bulkheads != null ? bulkheads.limiters() : Map.of();
+    }
+
+    /**
+     * Returns the per-host circuit breakers created so far.
+     *
+     * @return the breakers keyed by route, empty if the client was built without a circuit breaker
+     */
+    public Map<Route, CircuitBreaker> circuitBreakers() {
+        return circuitBreakers != null ? circuitBreakers.breakers() : Map.of();
+    }
+
+    /**
+     * Returns the rate limiters created so far.
+     *
+     * @return the limiters keyed by URI prefix or host route, empty if the client was built without a rate limit
+     */
+    public Map<String, RateLimiter> rateLimiters() {
+        return rateLimiters != null ? rateLimiters.limiters() : Map.of();
+    }
+
+    /**
+     * Executes an HTTP request synchronously through the configured transport.
+     *
+     * @param request the HttpRequest to execute
+     * @return the HttpResponse of the request
+     * @throws HttpException if the request fails or an I/O error occurs
+     * @throws dev.revere.webrequest.limit.ConcurrencyLimitExceededException if the host's concurrency limit rejects the request
+     * @throws CircuitBreakerOpenException if the host's circuit breaker is open
+     */
+    public HttpResponse execute(HttpRequest request) throws HttpException {
+        Deadline deadline = deadline(request);
+        return interceptors != null ? interceptors.execute(request, intercepted -> executeCoalesced(intercepted, deadline))
+                : executeCoalesced(request, deadline);
+    }
+
+    /**
+     * Executes a request synchronously once it has left the interceptors, sharing the exchange with
+     * identical calls in flight if coalescing is enabled.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return the response
+     */
+    private HttpResponse executeCoalesced(HttpRequest request, Deadline deadline) {
+        request = prepare(request);
+        if (singleFlight == null) {
+            return executeLimited(request, deadline);
+        }
+        try {
+            return singleFlight.execute(request, coalesced -> CompletableFuture.completedFuture(executeLimited(coalesced, deadline))).join();
+        } catch (CompletionException e) {
+            // An asynchronous call this one joined may fail with its deadline's TimeoutException.
+            Throwable cause = unwrap(e);
+            throw cause instanceof RuntimeException runtime ? runtime : new HttpException(500, cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Executes a request synchronously through the host's circuit breaker.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return the response
+     */
+    private HttpResponse executeLimited(HttpRequest request, Deadline deadline) {
+        if (circuitBreakers == null) {
+            return executeBulkheaded(request, deadline);
+        }
+        CircuitBreaker breaker = circuitBreakers.forHost(request.uri());
+        breaker.acquirePermission();
+        long start = System.nanoTime();
+        try {
+            HttpResponse response = executeBulkheaded(request, deadline);
+            recordOutcome(breaker, null, start);
+            return response;
+        } catch (RuntimeException e) {
+            recordOutcome(breaker, e, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Executes a request synchronously within the host's concurrency limit.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return the response
+     */
+    private HttpResponse executeBulkheaded(HttpRequest request, Deadline deadline) {
+        if (bulkheads == null) {
+            return send(request, deadline);
+        }
+        ConcurrencyLimiter.Permit permit = bulkheads.forHost(request.uri()).acquire();
+        boolean dropped = false;
+        try {
+            return send(request, deadline);
+        } catch (HttpException e) {
+            dropped = isOverload(e);
+            throw e;
+        } finally {
+            permit.release(dropped);
+        }
+    }
+
+    /**
+     * Starts the deadline of a call, from the request's own timeout or the client's default. It is
+     * started before the interceptors run, so the time they take counts against it.
+     *
+     * @param request the request
+     * @return the deadline
+     */
+    private Deadline deadline(HttpRequest request) {
+        return new Deadline(request.timeout() > 0 ? request.timeout() : requestTimeout);
+    }
+
+    /**
+     * Sends a request through the transport and buffers the response, retrying or hedging it
+     * as the client's policies allow. The exchange in flight is aborted when the deadline expires,
+     * and no retry is scheduled that could not start before it.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return the response
+     */
+    private HttpResponse send(HttpRequest request, Deadline deadline) {
+        RetryPolicy policy = retryPolicy;
+        if (policy == null || !policy.isRetryable(request)) {
+            policy = null;
+        } else {
+            policy.budget().deposit();
+            if (hedgePolicy != null) {
+                try {
+                    return deadline.bind(sendHedged(request, deadline)).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof TimeoutException timeout) {
+                        throw new HttpException(500, timeout.getMessage(), timeout);
+                    }
+                    throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        ScheduledFuture<?> timer = deadline.arm();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                MeteredExchange exchange = MeteredExchange.start(metricsListener, request);
+                long start = System.nanoTime();
+                long delay;
+                try (TransportResponse response = transport.send(deadline.bound(request), deadline.cancellation())) {
+                    delay = policy != null ? retryDelay(policy, attempt, response, exchange, deadline) : -1;
+                    if (delay < 0) {
+                        return toHttpResponse(response, exchange, start);
+                    }
+                } catch (IOException e) {
+                    exchange.fail(e);
+                    Throwable reason = deadline.abortReason();
+                    if (reason != null) {
+                        throw new HttpException(500, reason.getMessage(), reason);
+                    }
+                    delay = policy != null ? policy.delayAfterFailure(attempt) : -1;
+                    if (delay < 0 || !deadline.allows(delay)) {
+                        throw new HttpException(500, "I/O error occurred while processing the request", e);
+                    }
+                } catch (RuntimeException e) {
+                    exchange.fail(e);
+                    throw e;
+                }
+                sleep(delay);
+            }
+        } finally {
+            Deadline.disarm(timer);
+        }
+    }
+
+    /**
+     * Executes an HTTP request asynchronously through the configured transport.
+     * <p>
+     * Non-blocking transports complete the returned future without holding a thread
+     * for the duration of the exchange.
+     *
+     * Cancelling the returned future, or reaching the request's deadline, aborts the exchange in
+     * flight by closing its connection; the future then fails with a {@link CancellationException}
+     * or {@link TimeoutException} respectively.
+     *
+     * @param request the HttpRequest to execute
+     * @return a CompletableFuture that completes with the HttpResponse, or fails with a
+     * {@link dev.revere.webrequest.limit.ConcurrencyLimitExceededException} if the host's concurrency limit rejects it,
+     * or with a {@link CircuitBreakerOpenException} if the host's circuit breaker is open
+     */
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        Deadline deadline = deadline(request);
+        return interceptors != null
+                ? interceptors.executeAsync(request, intercepted -> executeCoalescedAsync(intercepted, deadline.fork()), deadline)
+                : executeCoalescedAsync(request, deadline);
+    }
+
+    /**
+     * Executes a request asynchronously once it has left the interceptors, sharing the exchange with
+     * identical calls in flight if coalescing is enabled.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return a CompletableFuture that completes with the response
+     */
+    private CompletableFuture<HttpResponse> executeCoalescedAsync(HttpRequest request, Deadline deadline) {
+        request = prepare(request);
+        return singleFlight != null ? singleFlight.execute(request, coalesced -> executeLimitedAsync(coalesced, deadline))
+                : executeLimitedAsync(request, deadline);
+    }
+
+    /**
+     * Executes a request asynchronously through the host's circuit breaker.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return a CompletableFuture that completes with the response
+     */
+    private CompletableFuture<HttpResponse> executeLimitedAsync(HttpRequest request, Deadline deadline) {
+        if (circuitBreakers == null) {
+            return executeBulkheadedAsync(request, deadline);
+        }
+        CircuitBreaker breaker = circuitBreakers.forHost(request.uri());
+        try {
+            breaker.acquirePermission();
+        } catch (CircuitBreakerOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse> result = executeBulkheadedAsync(request, deadline);
+        result.whenComplete((response, error) -> recordOutcome(breaker, error, start));
+        return result;
+    }
+
+    /**
+     * Executes a request asynchronously within the host's concurrency limit.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return a CompletableFuture that completes with the response
+     */
+    private CompletableFuture<HttpResponse> executeBulkheadedAsync(HttpRequest request, Deadline deadline) {
+        if (bulkheads == null) {
+            return deadline.bind(sendAsync(request, deadline));
+        }
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        bulkheads.forHost(request.uri()).acquireAsync().whenComplete((permit, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+            } else if (result.isDone()) {
+                // Cancelled or timed out while queued for the permit.
+                permit.release(false);
+            } else {
+                sendAsync(request, deadline).whenComplete((response, failure) -> {
+                    permit.release(failure != null && isOverload(failure));
+                    if (failure != null) {
+                        result.completeExceptionally(unwrap(failure));
+                    } else {
+                        result.complete(response);
+                    }
+                });
+            }
+        });
+        return deadline.bind(result);
+    }
+
+    /**
+     * Sends a request through the transport asynchronously and buffers the response, retrying or
+     * hedging it as the client's policies allow.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return a CompletableFuture that completes with the response
+     */
+    private CompletableFuture<HttpResponse> sendAsync(HttpRequest request, Deadline deadline) {
+        if (retryPolicy == null || !retryPolicy.isRetryable(request)) {
+            return sendAsync(request, null, 1, deadline);
+        }
+        retryPolicy.budget().deposit();
+        return hedgePolicy != null ? sendHedged(request, deadline) : sendAsync(request, retryPolicy, 1, deadline);
+    }
+
+    /**
+     * Sends one attempt of a request asynchronously, scheduling the next attempt if the policy retries it.
+     *
+     * @param request  the request
+     * @param policy   the retry policy, or null to send the request once
+     * @param attempt  the number of this attempt, starting at 1
+     * @param deadline the deadline of the call
+     * @return a CompletableFuture that completes with the response
+     */
+    private CompletableFuture<HttpResponse> sendAsync(HttpRequest request, RetryPolicy policy, int attempt, Deadline deadline) {
+        Throwable aborted = deadline.abortReason();
+        if (aborted != null) {
+            return CompletableFuture.failedFuture(aborted);
+        }
+        CompletableFuture<TransportResponse> future;
+        MeteredExchange exchange = MeteredExchange.UNMETERED;
+        long start;
+        try {
+            ensureRunning();
+            exchange = MeteredExchange.start(metricsListener, request);
+            start = System.nanoTime();
+            future = transport.sendAsync(deadline.bound(request), executorService, deadline.cancellation());
+        } catch (RejectedExecutionException e) {
+            exchange.fail(e);
+            return CompletableFuture.failedFuture(rejected(e));
+        }
+        MeteredExchange metered = exchange;
+        long startNanos = start;
+        return future
+                .handle((response, error) -> {
+                    long delay;
+                    if (error != null) {
+                        CompletionException failure = asCompletionException(error);
+                        metered.fail(failure.getCause());
+                        Throwable reason = deadline.abortReason();
+                        if (reason != null) {
+                            throw new CompletionException(reason);
+                        }
+                        delay = policy != null && failure.getCause().getCause() instanceof IOException
+                                ? policy.delayAfterFailure(attempt) : -1;
+                        if (delay < 0 || !deadline.allows(delay)) {
+                            throw failure;
+                        }
+                    } else {
+                        try (response) {
+                            delay = policy != null ? retryDelay(policy, attempt, response, metered, deadline) : -1;
+                            if (delay < 0) {
+                                return CompletableFuture.completedFuture(toHttpResponse(response, metered, startNanos));
+                            }
+                        } catch (IOException e) {
+                            metered.fail(e);
+                            throw new CompletionException(new HttpException(500, "I/O error occurred while processing the request", e));
+                        }
+                    }
+                    Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, Runnable::run);
+                    return CompletableFuture.runAsync(() -> {
+                    }, delayed).thenCompose(ignored -> sendAsync(request, policy, attempt + 1, deadline));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Sends a request and, if it has not completed within the hedge delay, a second copy of it.
+     * The first successful response wins; the request fails only if every copy fails.
+     *
+     * The losing copy is aborted when the deadline is bound to the result.
+     *
+     * @param request  the request, whose method must be retryable
+     * @param deadline the deadline of the call
+     * @return a CompletableFuture that completes with the first successful response
+     */
+    private CompletableFuture<HttpResponse> sendHedged(HttpRequest request, Deadline deadline) {
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        sendHedgeLeg(request, result, pending, deadline);
+        long delay = hedgePolicy.delayMillis(request);
+        if (deadline.allows(delay)) {
+            Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, Runnable::run);
+            delayed.execute(() -> {
+                if (!result.isDone() && !deadline.cancellation().isCancelled() && retryPolicy.budget().tryWithdraw()) {
+                    pending.incrementAndGet();
+                    sendHedgeLeg(request, result, pending, deadline);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Sends one copy of a hedged request and reports its outcome to the shared result.
+     *
+     * @param request  the request
+     * @param result   the result of the hedged request
+     * @param pending  the number of copies that have not completed yet
+     * @param deadline the deadline of the call
+     */
+    private void sendHedgeLeg(HttpRequest request, CompletableFuture<HttpResponse> result, AtomicInteger pending, Deadline deadline) {
+        long start = System.nanoTime();
+        sendAsync(request, retryPolicy, 1, deadline).whenComplete((response, error) -> {
+            if (error == null) {
+                hedgePolicy.record(request, System.nanoTime() - start);
+                result.complete(response);
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        });
+    }
+
+    /**
+     * Executes an HTTP request and returns as soon as the response headers arrive, leaving the
+     * body on the connection. The caller must consume or close the response to release the connection.
+     * The request's deadline bounds the wait for the headers only, so long-lived streams are not cut off.
+     *
+     * @param request the HttpRequest to execute
+     * @return the HttpResponse with a streaming {@link ResponseBody}
+     * @throws HttpException if the request fails, the status code is 400 or above, or an I/O error occurs
+     */
+    public HttpResponse executeStreaming(HttpRequest request) throws HttpException {
+        Deadline deadline = deadline(request);
+        return interceptors != null ? interceptors.execute(request, intercepted -> executeStreamingLimited(intercepted, deadline))
+                : executeStreamingLimited(request, deadline);
+    }
+
+    /**
+     * Executes a streaming request once it has left the interceptors, through the host's circuit breaker.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return the streaming response
+     */
+    private HttpResponse executeStreamingLimited(HttpRequest request, Deadline deadline) {
+        request = prepare(request);
+        if (circuitBreakers == null) {
+            return executeStreamingBulkheaded(request, deadline);
+        }
+        CircuitBreaker breaker = circuitBreakers.forHost(request.uri());
+        breaker.acquirePermission();
+        long start = System.nanoTime();
+        try {
+            HttpResponse response = executeStreamingBulkheaded(request, deadline);
+            recordOutcome(breaker, null, start);
+            return response;
+        } catch (RuntimeException e) {
+            recordOutcome(breaker, e, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a streaming request within the host's concurrency limit.
+     *
+     * @param request  the request
+     * @param deadline the deadline of the call
+     * @return the streaming response
+     */
+    private HttpResponse executeStreamingBulkheaded(HttpRequest request, Deadline deadline) {
+        if (bulkheads == null) {
+            return sendStreaming(request, null, deadline);
+        }
+        ConcurrencyLimiter.Permit permit = bulkheads.forHost(request.uri()).acquire();
+        try {
+            return sendStreaming(request, permit, deadline);
+        } catch (HttpException e) {
+            permit.release(isOverload(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a request and hands back its body unread.
+     *
+     * @param request  the request
+     * @param permit   the concurrency permit to release once the body is consumed, or null
+     * @param deadline the deadline of the call
+     * @return the streaming response
+     */
+    private HttpResponse sendStreaming(HttpRequest request, ConcurrencyLimiter.Permit permit, Deadline deadline) {
+        MeteredExchange exchange = MeteredExchange.start(metricsListener, request);
+        long start = System.nanoTime();
+        ScheduledFuture<?> timer = deadline.arm();
+        TransportResponse response;
+        try {
+            response = transport.send(request, deadline.cancellation());
+        } catch (IOException e) {
+            exchange.fail(e);
+            Throwable reason = deadline.abortReason();
+            if (reason != null) {
+                throw new HttpException(500, reason.getMessage(), reason);
+            }
+            throw new HttpException(500, "I/O error occurred while processing the request", e);
+        } catch (RuntimeException e) {
+            exchange.fail(e);
+            throw e;
+        } finally {
+            Deadline.disarm(timer);
+        }
+        int statusCode = response.statusCode();
+        try {
+            if (statusCode >= 400) {
+                exchange.end(statusCode, null, response.timings(), 0);
+                checkStatus(statusCode);
+            }
+            InputStream body = decode(exchange.meter(response.body(), statusCode, response.timings()), response);
+            if (permit != null) {
+                body = new PermitReleasingInputStream(body, permit);
+            }
+            return new HttpResponse(statusCode, response.httpHeaders(), ResponseBody.ofStream(body, executorService),
+                    ResponseTimings.of(response.timings(), start, System.nanoTime(), -1));
+        } catch (IOException e) {
+            closeQuietly(response);
+            exchange.end(statusCode, e, response.timings(), 0);
+            throw new HttpException(500, "I/O error occurred while processing the request", e);
+        } catch (RuntimeException e) {
+            closeQuietly(response);
+            exchange.end(statusCode, e, response.timings(), 0);
+            throw e;
+        }
+    }
+
+    /**
+     * Executes an HTTP request asynchronously, completing once the response headers arrive.
+     * The caller must consume or close the response to release the connection.
+     *
+     * @param request the HttpRequest to execute
+     * @return a CompletableFuture that completes with the streaming HttpResponse
+     * @see #executeStreaming(HttpRequest)
+     */
+    public CompletableFuture<HttpResponse> executeStreamingAsync(HttpRequest request) {
+        try {
+            ensureRunning();
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return executeStreaming(request);
+                } catch (HttpException e) {
+                    throw new CompletionException(e);
+                }
+            }, executorService);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(rejected(e));
+        }
+    }
+
+    /**
+     * Executes an HTTP request and decodes its body with a handler as it is read from the socket,
+     * without first buffering it as text. The request is sent as by {@link #executeStreaming(HttpRequest)},
+     * so it is not retried or hedged and its deadline covers the wait for the response headers.
+     *
+     * @param request the HttpRequest to execute
+     * @param handler the handler that decodes the body
+     * @param <T>     the type of the decoded body
+     * @return the response with the decoded body
+     * @throws HttpException if the request fails, the status code is 400 or above, or an I/O error occurs
+     */
+    public <T> TypedResponse<T> execute(HttpRequest request, BodyHandler<T> handler) throws HttpException {
+        Objects.requireNonNull(handler, "handler");
+        HttpResponse response = executeStreaming(request);
+        long received = System.nanoTime();
+        try (response; InputStream body = response.content().asInputStream()) {
+            T value = handler.handle(response.headers(), body);
+            ResponseTimings timings = response.timings();
+            if (timings.firstByteNanos() >= 0) {
+                timings = timings.withTotal(timings.firstByteNanos() + System.nanoTime() - received);
+            }
+            return new TypedResponse<>(response.statusCode(), response.headers(), value, timings);
+        } catch (IOException e) {
+            throw new HttpException(500, "I/O error occurred while processing the request", e);
+        }
+    }
+
+    /**
+     * Executes an HTTP request asynchronously and decodes its body with a handler on the client's executor.
+     *
+     * @param request the HttpRequest to execute
+     * @param handler the handler that decodes the body
+     * @param <T>     the type of the decoded body
+     * @return a CompletableFuture that completes with the response and its decoded body
+     * @see #execute(HttpRequest, BodyHandler)
+     */
+    public <T> CompletableFuture<TypedResponse<T>> executeAsync(HttpRequest request, BodyHandler<T> handler) {
+        Objects.requireNonNull(handler, "handler");
+        try {
+            ensureRunning();
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return execute(request, handler);
+                } catch (HttpException e) {
+                    throw new CompletionException(e);
+                }
+            }, executorService);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(rejected(e));
+        }
+    }
+
+    /**
+     * Opens a server-sent event stream and publishes its events as they arrive, holding one
+     * event in memory at a time and reading only as fast as the subscriber requests.
+     * <p>
+     * Nothing is sent until the subscriber first requests an event. When the stream ends or the
+     * connection fails, the request is sent again after the delay set by the server's {@code retry}
+     * field (3 seconds by default) with a {@code Last-Event-ID} header, until the subscription is
+     * cancelled. An error status fails the subscription and {@code 204 No Content} completes it.
+     *
+     * @param request the HttpRequest that opens the stream; {@code Accept: text/event-stream} is added if absent
+     * @return a single-subscriber publisher of events
+     * @throws RejectedExecutionException if the client has been shut down
+     */
+    public Flow.Publisher<ServerSentEvent> executeEventStream(HttpRequest request) {
+        ensureRunning();
+        HttpRequest stream = request.header("Accept") == null ? request.withHeader("Accept", "text/event-stream") : request;
+        return new SourcePublisher<>(new EventSource(stream, this::executeStreaming, ResponseBody.MAX_MESSAGE_BYTES), executorService);
+    }
+
+    /**
+     * Executes a request whose response is newline-delimited JSON and publishes its records as they
+     * arrive, one record's JSON text at a time, reading only as fast as the subscriber requests.
+     * Nothing is sent until the subscriber first requests a record.
+     *
+     * @param request the HttpRequest to execute; {@code Accept: application/x-ndjson} is added if absent
+     * @return a single-subscriber publisher of records
+     * @throws RejectedExecutionException if the client has been shut down
+     */
+    public Flow.Publisher<String> executeNdjson(HttpRequest request) {
+        ensureRunning();
+        HttpRequest stream = request.header("Accept") == null ? request.withHeader("Accept", "application/x-ndjson") : request;
+        return new SourcePublisher<>(new ResponseSource<>(() -> executeStreaming(stream),
+                in -> new NdjsonReader(in, ResponseBody.MAX_MESSAGE_BYTES)), executorService);
+    }
+
+    /**
+     * Executes a group of requests together, with all of them starting at once and the batch
+     * collecting every outcome.
+     *
+     * @param requests the requests
+     * @return the running batch
+     * @see #executeAll(Collection, BatchOptions)
+     */
+    public HttpBatch executeAll(Collection<HttpRequest> requests) {
+        return executeAll(requests, new BatchOptions());
+    }
+
+    /**
+     * Executes a group of requests together through {@link #executeAsync}, under a shared deadline
+     * and parallelism cap. Requests that have not finished when the batch resolves are cancelled.
+     *
+     * @param requests the requests
+     * @param options  the batch settings
+     * @return the running batch
+     */
+    public HttpBatch executeAll(Collection<HttpRequest> requests, BatchOptions options) {
+        Objects.requireNonNull(options, "options");
+        HttpBatch batch = new HttpBatch(List.copyOf(requests), options, this::executeAsync);
+        batch.start();
+        return batch;
+    }
+
     /**
      * Executes an HTTP request synchronously.
      *
@@ -66,19 +873,29 @@ public class HttpClient {
      * @throws HttpException if the request fails or an I/O error occurs
      */
     public HttpResponse execute(HttpURLConnection connection) throws HttpException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(getResponseStream(connection)))) {
+        boolean consumed = false;
+        long start = System.nanoTime();
+        try {
             int responseCode = connection.getResponseCode();
-            String responseBody = readResponseBody(reader);
+            long headersNanos = System.nanoTime();
+            InputStream stream = getResponseStream(connection);
+            String encoding = connection.getContentEncoding();
+            byte[] responseBody = codecs != null && encoding != null
+                    ? readResponseBody(codecs.decode(stream, encoding), -1)
+                    : readResponseBody(stream, connection.getContentLengthLong());
+            consumed = true;
 
-            if (responseCode >= 400) {
-                throw new HttpException(responseCode, String.format("HTTP request failed with status code: %d", responseCode));
-            }
+            checkStatus(responseCode);
 
-            return new HttpResponse(responseCode, responseBody);
+            return new HttpResponse(responseCode, HttpHeaders.of(connection.getHeaderFields()), ResponseBody.of(responseBody),
+                    ResponseTimings.of(ExchangeTimings.NONE, start, headersNanos, System.nanoTime()));
         } catch (IOException e) {
             throw new HttpException(500, "I/O error occurred while processing the request", e);
         } finally {
-            connection.disconnect();
+            // A fully read and closed body lets the JDK keep the socket alive for reuse.
+            if (!consumed) {
+                connection.disconnect();
+            }
         }
     }
 
@@ -89,30 +906,316 @@ public class HttpClient {
      * @return a CompletableFuture that completes with the HttpResponse
      */
     public CompletableFuture<HttpResponse> executeAsync(HttpURLConnection connection) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return execute(connection);
-            } catch (HttpException e) {
-                throw new CompletionException(e);
+        try {
+            ensureRunning();
+            CompletableFuture<HttpResponse> future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return execute(connection);
+                } catch (HttpException e) {
+                    throw new CompletionException(e);
+                }
+            }, executorService);
+            if (requestTimeout > 0) {
+                future.orTimeout(requestTimeout, TimeUnit.MILLISECONDS);
             }
-        }, executorService).orTimeout(60, TimeUnit.SECONDS);
+            return future.whenComplete((response, error) -> {
+                if (error instanceof TimeoutException || error instanceof CancellationException) {
+                    connection.disconnect();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            connection.disconnect();
+            return CompletableFuture.failedFuture(rejected(e));
+        }
     }
 
     /**
-     * Shuts down the HttpClient and its ExecutorService.
+     * Shuts down the HttpClient, its ExecutorService and its transport.
+     * <p>
+     * An executor supplied through {@link Builder#executor(ExecutorService)} is owned by the caller
+     * and is left running; requests submitted after shutdown are still rejected.
+     * <p>
+     * On the shared client returned by {@link #getInstance()} this method does nothing, without
+     * failing: that client lives as long as the JVM, so one caller cannot shut it down for all the others.
      */
     public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
+        if (shared) {
+            return;
+        }
+        shutdown = true;
+        if (ownsExecutor) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
+                    executorService.shutdownNow();
+                }
+            } catch (InterruptedException e) {
                 executorService.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        transport.close();
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+    }
+
+    /**
+     * Shuts down the client, as {@link #shutdown()} does. Like {@link #shutdown()}, this does nothing
+     * on the shared client returned by {@link #getInstance()}, so it is safe in try-with-resources.
+     */
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    /**
+     * Returns whether the client has been shut down and rejects further requests.
+     *
+     * @return true once {@link #shutdown()} has been called on a client other than the shared one
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Converts a transport response into an HttpResponse, reading the whole body.
+     *
+     * @param response the transport response
+     * @param exchange   the exchange to report the outcome to
+     * @param startNanos the {@link System#nanoTime()} at which the request was handed to the transport
+     * @return the HttpResponse
+     * @throws IOException   if an I/O error occurs while reading the body
+     * @throws HttpException if the response has an error status code
+     */
+    private HttpResponse toHttpResponse(TransportResponse response, MeteredExchange exchange, long startNanos) throws IOException {
+        long headersNanos = System.nanoTime();
+        int responseCode = response.statusCode();
+        // Metering below the decoder counts the bytes as received, before decompression.
+        InputStream body = exchange.meter(response.body(), responseCode, response.timings());
+        byte[] responseBody = readResponseBody(decode(body, response), expectedLength(response));
+        exchange.end(responseCode, null, response.timings(), responseBody.length);
+
+        checkStatus(responseCode);
+
+        return new HttpResponse(responseCode, response.httpHeaders(), ResponseBody.of(responseBody),
+                ResponseTimings.of(response.timings(), startNanos, headersNanos, System.nanoTime()));
+    }
+
+    /**
+     * Decides whether a response is retried. A retried response has its body drained, so the
+     * connection can be reused, and its exchange reported.
+     *
+     * @param policy   the retry policy
+     * @param attempt  the number of the attempt that produced the response, starting at 1
+     * @param response the response
+     * @param exchange the exchange to report the retried response to
+     * @param deadline the deadline of the call, which must leave time for the next attempt
+     * @return the delay before the next attempt in milliseconds, or -1 if the response is final
+     * @throws IOException if an I/O error occurs while draining the body
+     */
+    private static long retryDelay(RetryPolicy policy, int attempt, TransportResponse response, MeteredExchange exchange,
+                                   Deadline deadline) throws IOException {
+        int statusCode = response.statusCode();
+        if (!policy.isRetryableStatus(statusCode)) {
+            return -1;
+        }
+        long delay = policy.delayAfterResponse(attempt, statusCode, response.httpHeaders().get("Retry-After"));
+        if (delay >= 0 && !deadline.allows(delay)) {
+            return -1;
+        }
+        if (delay >= 0) {
+            long drained;
+            try (InputStream body = response.body()) {
+                drained = BufferPool.shared().transfer(body, OutputStream.nullOutputStream());
             }
+            exchange.end(statusCode, null, response.timings(), drained);
+        }
+        return delay;
+    }
+
+    /**
+     * Waits before a synchronous retry.
+     *
+     * @param delayMillis the delay in milliseconds
+     * @throws HttpException if the thread is interrupted while waiting
+     */
+    private static void sleep(long delayMillis) {
+        try {
+            Thread.sleep(delayMillis);
         } catch (InterruptedException e) {
-            executorService.shutdownNow();
             Thread.currentThread().interrupt();
+            throw new HttpException(500, "Interrupted while waiting to retry the request", e);
+        }
+    }
+
+    /**
+     * Applies the client's defaults to a request that has left the interceptors.
+     *
+     * @param request the request
+     * @return the request with the client's timeouts and {@code Accept-Encoding} header where it sets none
+     */
+    private HttpRequest prepare(HttpRequest request) {
+        return negotiateEncoding(request.withDefaultTimeouts(connectTimeout, readTimeout));
+    }
+
+    /**
+     * Advertises the client's content codings, unless decompression is disabled or the request
+     * already names its own.
+     *
+     * @param request the request
+     * @return the request with an {@code Accept-Encoding} header
+     */
+    private HttpRequest negotiateEncoding(HttpRequest request) {
+        if (codecs == null || request.header("Accept-Encoding") != null) {
+            return request;
+        }
+        return request.withHeader("Accept-Encoding", codecs.acceptEncoding());
+    }
+
+    /**
+     * Wraps a response body in the decoders for its {@code Content-Encoding}.
+     *
+     * @param body     the body as received
+     * @param response the response the body belongs to
+     * @return the decoded body
+     */
+    private InputStream decode(InputStream body, TransportResponse response) {
+        return codecs != null ? codecs.decode(body, response.httpHeaders().get("Content-Encoding")) : body;
+    }
+
+    /**
+     * Returns the length of the body as {@link #decode} will deliver it, if the response announces it.
+     *
+     * @param response the response
+     * @return the length in bytes, or -1 if unknown or changed by decoding
+     */
+    private long expectedLength(TransportResponse response) {
+        if (codecs != null && response.httpHeaders().get("Content-Encoding") != null) {
+            return -1;
+        }
+        return response.contentLength();
+    }
+
+    /**
+     * Throws an HttpException for error status codes.
+     *
+     * @param responseCode the status code
+     * @throws HttpException if the status code is 400 or above
+     */
+    private static void checkStatus(int responseCode) {
+        if (responseCode >= 400) {
+            throw new HttpException(responseCode, String.format("HTTP request failed with status code: %d", responseCode));
+        }
+    }
+
+    /**
+     * Closes a transport response, ignoring errors.
+     *
+     * @param response the response to close
+     */
+    private static void closeQuietly(TransportResponse response) {
+        try {
+            response.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Rejects new asynchronous work once the client has been shut down.
+     *
+     * @throws RejectedExecutionException if the client has been shut down
+     */
+    private void ensureRunning() {
+        if (shutdown) {
+            throw new RejectedExecutionException("HttpClient has been shut down");
         }
     }
 
+    /**
+     * Creates the exception reported when the executor refuses an asynchronous request,
+     * either because the client was shut down or because a bounded executor is saturated.
+     *
+     * @param e the rejection
+     * @return the HttpException to fail the request with
+     */
+    private static HttpException rejected(RejectedExecutionException e) {
+        return new HttpException(503, "Asynchronous request rejected by the client executor", e);
+    }
+
+    /**
+     * Returns whether a failure signals that the host is overloaded, which makes adaptive
+     * concurrency limits back off: I/O errors, timeouts and 429, 503 or 504 responses, but not the
+     * client's own rate limit rejections.
+     *
+     * @param error the failure
+     * @return true if the failure counts as a dropped request
+     */
+    private static boolean isOverload(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return true;
+        }
+        if (cause instanceof HttpException http && !(cause instanceof RateLimitExceededException)) {
+            int status = http.getStatusCode();
+            return status == 429 || status == 503 || status == 504
+                    || http.getCause() instanceof IOException || http.getCause() instanceof TimeoutException;
+        }
+        return false;
+    }
+
+    /**
+     * Reports the outcome of a call to its circuit breaker. I/O errors, timeouts and 5xx responses
+     * count as failures; cancelled calls and requests the client rejected itself say nothing about
+     * the host and are ignored.
+     *
+     * @param breaker the breaker
+     * @param error   the failure, or null if the call succeeded
+     * @param start   the time the call started, from {@link System#nanoTime()}
+     */
+    private static void recordOutcome(CircuitBreaker breaker, Throwable error, long start) {
+        long duration = System.nanoTime() - start;
+        Throwable cause = error != null ? unwrap(error) : null;
+        if (cause == null) {
+            breaker.onSuccess(duration);
+        } else if (cause instanceof CancellationException || cause instanceof ConcurrencyLimitExceededException
+                || cause instanceof CircuitBreakerOpenException || cause instanceof RateLimitExceededException
+                || cause.getCause() instanceof RejectedExecutionException) {
+            breaker.onIgnored();
+        } else if (cause instanceof TimeoutException || cause instanceof HttpException http && http.getStatusCode() >= 500) {
+            breaker.onError(duration);
+        } else {
+            breaker.onSuccess(duration);
+        }
+    }
+
+    /**
+     * Strips the CompletionException a dependent stage wraps failures in.
+     *
+     * @param error the failure
+     * @return the underlying failure
+     */
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Maps a failure from the transport to a CompletionException carrying an HttpException.
+     *
+     * @param error the failure
+     * @return the CompletionException to rethrow
+     */
+    private static CompletionException asCompletionException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof UncheckedIOException unchecked) {
+            cause = unchecked.getCause();
+        }
+        if (cause instanceof HttpException) {
+            return new CompletionException(cause);
+        }
+        return new CompletionException(new HttpException(500, "I/O error occurred while processing the request", cause));
+    }
+
     /**
      * Gets the appropriate InputStream based on the response code.
      *
@@ -122,19 +1225,407 @@ public class HttpClient {
      */
     private InputStream getResponseStream(HttpURLConnection connection) throws IOException {
         int responseCode = connection.getResponseCode();
-        return (responseCode >= 200 && responseCode < 300)
+        InputStream stream = (responseCode >= 200 && responseCode < 300)
                 ? connection.getInputStream()
                 : connection.getErrorStream();
+        return stream != null ? stream : InputStream.nullInputStream();
     }
 
     /**
-     * Reads the response body from the BufferedReader.
+     * Reads the response body as raw bytes and closes the stream.
+     * Bytes are kept as sent; decoding happens lazily in {@link HttpResponse#body()}.
+     * A known length lets the body be read straight into an array of its final size.
      *
-     * @param reader the BufferedReader to read from
-     * @return the response body as a string
+     * @param stream         the InputStream to read from
+     * @param expectedLength the announced body length, or -1 if unknown
+     * @return the response body
      * @throws IOException if an I/O error occurs
      */
-    private String readResponseBody(BufferedReader reader) throws IOException {
-        return reader.lines().collect(Collectors.joining(System.lineSeparator()));
+    private static byte[] readResponseBody(InputStream stream, long expectedLength) throws IOException {
+        try (stream) {
+            return BufferPool.shared().readAll(stream, expectedLength);
+        }
+    }
+
+    /**
+     * Releases a concurrency permit once a streaming body has been read to the end, failed or been closed.
+     */
+    private static final class PermitReleasingInputStream extends FilterInputStream {
+        private final ConcurrencyLimiter.Permit permit;
+
+        private PermitReleasingInputStream(InputStream in, ConcurrencyLimiter.Permit permit) {
+            super(in);
+            this.permit = permit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                int read = in.read();
+                if (read == -1) {
+                    permit.release(false);
+                }
+                return read;
+            } catch (IOException e) {
+                permit.release(true);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                int read = in.read(buffer, offset, length);
+                if (read == -1) {
+                    permit.release(false);
+                }
+                return read;
+            } catch (IOException e) {
+                permit.release(true);
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                permit.release(false);
+            }
+        }
+    }
+
+    /**
+     * Builds HttpClient instances with a chosen configuration.
+     */
+    public static final class Builder {
+        private HttpTransport transport;
+        private ConnectionPool.Config poolConfig;
+        private HttpCache.Config cacheConfig;
+        private DnsResolver dnsResolver;
+        private ExecutionMode executionMode = ExecutionMode.CACHED_THREAD_POOL;
+        private ExecutorService executor;
+        private boolean metricsEnabled;
+        private Bulkheads.Config concurrencyLimit;
+        private CircuitBreakers.Config circuitBreaker;
+        private RateLimiters.Config rateLimit;
+        private final List<Interceptor> interceptors = new ArrayList<>();
+        private RetryPolicy retryPolicy;
+        private HedgePolicy hedgePolicy;
+        private List<String> coalesceHeaders;
+        private int requestTimeout = 60_000;
+        private int connectTimeout = HttpRequest.DEFAULT_TIMEOUT;
+        private int readTimeout = HttpRequest.DEFAULT_TIMEOUT;
+        private ContentCodecs codecs = ContentCodecs.defaults();
+        private boolean decompression = true;
+        private final List<MetricsListener> metricsListeners = new ArrayList<>();
+        private final List<EndpointGroup> endpointGroups = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the transport used to send {@link HttpRequest}s.
+         * Defaults to the blocking {@link UrlConnectionTransport}, or to the pooled
+         * {@link Http1Transport} when a connection pool or DNS resolver is configured.
+         *
+         * @param transport the transport to use
+         * @return the Builder instance
+         */
+        public Builder transport(HttpTransport transport) {
+            this.transport = Objects.requireNonNull(transport, "transport");
+            return this;
+        }
+
+        /**
+         * Gives the client its own per-host connection pool, used by an {@link Http1Transport}.
+         * The pool is closed when the client is shut down.
+         *
+         * @param config the pool configuration
+         * @return the Builder instance
+         */
+        public Builder connectionPool(ConnectionPool.Config config) {
+            this.poolConfig = Objects.requireNonNull(config, "config");
+            return this;
+        }
+
+        /**
+         * Resolves host names with the given resolver instead of the JVM-wide DNS cache, for example a
+         * {@link dev.revere.webrequest.dns.CachingDnsResolver} with its own TTL. Connections to hosts with
+         * several addresses race them happy-eyeballs style and skip addresses that recently failed.
+         * Since {@link java.net.HttpURLConnection} cannot take a resolver, the client then uses a pooled
+         * {@link Http1Transport}, with a default pool unless one is configured.
+         *
+         * @param resolver the resolver
+         * @return the Builder instance
+         */
+        public Builder dnsResolver(DnsResolver resolver) {
+            this.dnsResolver = Objects.requireNonNull(resolver, "resolver");
+            return this;
+        }
+
+        /**
+         * Spreads requests addressed to the group's name over its endpoints, e.g. a request to
+         * {@code http://users/v1/users/42} goes to one of the {@code users} replicas. Each attempt,
+         * including retries and hedges, picks its endpoint anew, and endpoints that keep failing are
+         * ejected for a while.
+         *
+         * @param group the endpoint group
+         * @return the Builder instance
+         * @throws IllegalArgumentException if a group with the same name has already been added
+         */
+        public Builder endpointGroup(EndpointGroup group) {
+            Objects.requireNonNull(group, "group");
+            for (EndpointGroup existing : endpointGroups) {
+                if (existing.name().equals(group.name())) {
+                    throw new IllegalArgumentException("Duplicate endpoint group: " + group.name());
+                }
+            }
+            endpointGroups.add(group);
+            return this;
+        }
+
+        /**
+         * Gives the client a private HTTP cache. Fresh GET responses are served without contacting the
+         * server and stale ones are revalidated with a conditional request. The cache's disk tier, if
+         * any, is flushed when the client is shut down.
+         *
+         * @param config the cache configuration
+         * @return the Builder instance
+         */
+        public Builder cache(HttpCache.Config config) {
+            this.cacheConfig = Objects.requireNonNull(config, "config");
+            return this;
+        }
+
+        /**
+         * Sets the kind of executor the client creates for asynchronous requests.
+         * Defaults to {@link ExecutionMode#CACHED_THREAD_POOL}.
+         *
+         * @param executionMode the execution mode
+         * @return the Builder instance
+         */
+        public Builder executionMode(ExecutionMode executionMode) {
+            this.executionMode = Objects.requireNonNull(executionMode, "executionMode");
+            this.executor = null;
+            return this;
+        }
+
+        /**
+         * Runs asynchronous requests on a caller-supplied executor, such as a bounded thread pool.
+         * The executor stays owned by the caller and is not shut down by {@link HttpClient#shutdown()}.
+         * Requests it rejects fail with an {@link HttpException} instead of throwing.
+         *
+         * @param executor the executor to use
+         * @return the Builder instance
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Limits the number of requests in flight to each destination host. Requests over the limit wait
+         * in a bounded queue or fail fast with a {@link dev.revere.webrequest.limit.ConcurrencyLimitExceededException}.
+         * Adaptive limits back off on I/O errors, timeouts and 429, 503 or 504 responses.
+         *
+         * @param config the per-host limit configuration, e.g. {@link Bulkheads.Config#aimd(int, int)}
+         * @return the Builder instance
+         */
+        public Builder concurrencyLimit(Bulkheads.Config config) {
+            this.concurrencyLimit = Objects.requireNonNull(config, "config");
+            return this;
+        }
+
+        /**
+         * Gives every destination host a circuit breaker. Once the share of failed or slow calls to a
+         * host crosses the configured threshold, calls to it fail fast with a
+         * {@link CircuitBreakerOpenException} until trial calls show it has recovered. I/O errors,
+         * timeouts and 5xx responses count as failures; retries happen inside a single breaker call.
+         *
+         * @param config the per-host breaker configuration
+         * @return the Builder instance
+         */
+        public Builder circuitBreaker(CircuitBreakers.Config config) {
+            this.circuitBreaker = Objects.requireNonNull(config, "config");
+            return this;
+        }
+
+        /**
+         * Paces requests per host or URI prefix to stay under upstream quotas. Every attempt waits for
+         * its permit, blocking the calling thread on the synchronous path and on a timer on the
+         * asynchronous path, and is rejected with a {@link RateLimitExceededException} if the wait would
+         * exceed the configured maximum. Cached responses do not take a permit.
+         *
+         * @param config the rate limit configuration
+         * @return the Builder instance
+         */
+        public Builder rateLimit(RateLimiters.Config config) {
+            this.rateLimit = Objects.requireNonNull(config, "config");
+            return this;
+        }
+
+        /**
+         * Adds an interceptor that wraps every call made with {@link HttpClient#execute(HttpRequest)},
+         * {@link HttpClient#executeAsync(HttpRequest)} and the streaming entry points. Interceptors run in the
+         * order they are added, the first one outermost.
+         *
+         * @param interceptor the interceptor
+         * @return the Builder instance
+         */
+        public Builder interceptor(Interceptor interceptor) {
+            interceptors.add(Objects.requireNonNull(interceptor, "interceptor"));
+            return this;
+        }
+
+        /**
+         * Retries idempotent requests that fail with an I/O error or a retryable status, waiting a
+         * jittered exponential backoff or the server's {@code Retry-After} between attempts. Streaming
+         * requests are not retried, since their body may already have been handed to the caller.
+         *
+         * @param policy the retry policy
+         * @return the Builder instance
+         */
+        public Builder retryPolicy(RetryPolicy policy) {
+            this.retryPolicy = Objects.requireNonNull(policy, "policy");
+            return this;
+        }
+
+        /**
+         * Sets the default overall deadline of requests, for those that do not set their own with
+         * {@link HttpRequestBuilder#timeout(int)}. The deadline covers connecting, reading the body,
+         * retries and the delays between them; when it expires the exchange in flight is aborted by
+         * closing its connection. Defaults to 60 seconds.
+         *
+         * @param millis the deadline in milliseconds, or 0 for none
+         * @return the Builder instance
+         * @throws IllegalArgumentException if the deadline is negative
+         */
+        public Builder requestTimeout(int millis) {
+            if (millis < 0) {
+                throw new IllegalArgumentException("requestTimeout must not be negative: " + millis);
+            }
+            this.requestTimeout = millis;
+            return this;
+        }
+
+        /**
+         * Sets the connection timeout of requests that do not set their own with
+         * {@link HttpRequestBuilder#connectTimeout(int)}. Defaults to 10 seconds.
+         *
+         * @param millis the timeout in milliseconds, or 0 to wait without limit
+         * @return the Builder instance
+         * @throws IllegalArgumentException if the timeout is negative
+         */
+        public Builder connectTimeout(int millis) {
+            if (millis < 0) {
+                throw new IllegalArgumentException("connectTimeout must not be negative: " + millis);
+            }
+            this.connectTimeout = millis;
+            return this;
+        }
+
+        /**
+         * Sets the read timeout of requests that do not set their own with
+         * {@link HttpRequestBuilder#readTimeout(int)}. Defaults to 10 seconds.
+         *
+         * @param millis the timeout in milliseconds, or 0 to wait without limit
+         * @return the Builder instance
+         * @throws IllegalArgumentException if the timeout is negative
+         */
+        public Builder readTimeout(int millis) {
+            if (millis < 0) {
+                throw new IllegalArgumentException("readTimeout must not be negative: " + millis);
+            }
+            this.readTimeout = millis;
+            return this;
+        }
+
+        /**
+         * Sends a second copy of idempotent requests that are slower than the host's recent latency
+         * percentile and uses whichever response arrives first. Hedges draw from the retry policy's
+         * budget; without a retry policy a default budget is used and failed requests are not retried.
+         *
+         * @param policy the hedge policy
+         * @return the Builder instance
+         */
+        public Builder hedging(HedgePolicy policy) {
+            this.hedgePolicy = Objects.requireNonNull(policy, "policy");
+            return this;
+        }
+
+        /**
+         * Enables or disables transparent response decompression. When enabled, which is the default,
+         * requests advertise the registered codings in {@code Accept-Encoding} unless they set that
+         * header themselves, and response bodies are decoded according to {@code Content-Encoding}.
+         *
+         * @param enabled whether to decompress responses
+         * @return the Builder instance
+         */
+        public Builder decompression(boolean enabled) {
+            this.decompression = enabled;
+            return this;
+        }
+
+        /**
+         * Registers an additional content coding, preferred over the built-in gzip and deflate.
+         *
+         * @param codec the codec
+         * @return the Builder instance
+         */
+        public Builder codec(ContentCodec codec) {
+            this.codecs = codecs.with(codec);
+            return this;
+        }
+
+        /**
+         * Lets concurrent identical GET and HEAD requests share one exchange. A request made while an
+         * identical one is in flight waits for that response instead of opening its own connection,
+         * and every caller gets a response over the same body bytes. Requests are identical when their
+         * method, URI and the values of the given headers match. Streaming requests are not coalesced.
+         * Cancelling one caller's future leaves the others waiting; the shared exchange is aborted only
+         * once every caller has cancelled. Disabled by default.
+         *
+         * @param varyHeaders the request headers that must also match, e.g. {@code Authorization}
+         * @return the Builder instance
+         */
+        public Builder coalesceRequests(String... varyHeaders) {
+            this.coalesceHeaders = List.of(varyHeaders);
+            return this;
+        }
+
+        /**
+         * Records latency histograms, status-class counters and byte counts per host and method,
+         * available through {@link HttpClient#metrics()}. Disabled by default.
+         *
+         * @return the Builder instance
+         */
+        public Builder enableMetrics() {
+            this.metricsEnabled = true;
+            return this;
+        }
+
+        /**
+         * Adds a listener notified of every request executed through {@link HttpRequest}s, e.g. to export
+         * metrics to an external system. Requests executed from an {@link HttpURLConnection} are not reported.
+         *
+         * @param listener the listener
+         * @return the Builder instance
+         */
+        public Builder metricsListener(MetricsListener listener) {
+            this.metricsListeners.add(Objects.requireNonNull(listener, "listener"));
+            return this;
+        }
+
+        /**
+         * Builds an independent HttpClient. It owns its executor, unless one was supplied, its connection
+         * pool and its other resources, and must be closed when no longer needed.
+         *
+         * @return a new HttpClient
+         */
+        public HttpClient build() {
+            return new HttpClient(this, false);
+        }
     }
 }
\ No newline at end of file
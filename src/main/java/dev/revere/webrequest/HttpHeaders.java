@@ -0,0 +1,355 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The header fields of a response, in the order they were received.
+ * <p>
+ * Fields are kept as their raw {@code Name: value} lines in a flat array. Names are matched
+ * case-insensitively in place and a value is only cut out of its line when it is asked for, so
+ * headers that are never read cost nothing beyond the line itself. Multiple fields with the same
+ * name are kept separately rather than merged.
+ */
+public final class HttpHeaders {
+
+    /**
+     * Headers of a response that has none.
+     */
+    public static final HttpHeaders EMPTY = new HttpHeaders(new String[0], 0);
+
+    private final String[] lines;
+    private final int size;
+    private Map<String, List<String>> map;
+
+    private HttpHeaders(String[] lines, int size) {
+        this.lines = lines;
+        this.size = size;
+    }
+
+    /**
+     * Creates headers over raw field lines, as read off the wire. The array is used as-is and must
+     * not be modified afterwards; lines without a colon are ignored on lookup.
+     *
+     * @param lines the field lines, such as {@code Content-Type: text/plain}
+     * @param count the number of lines in use
+     * @return the headers
+     */
+    public static HttpHeaders ofLines(String[] lines, int count) {
+        if (count < 0 || count > lines.length) {
+            throw new IllegalArgumentException("count out of range: " + count);
+        }
+        return count == 0 ? EMPTY : new HttpHeaders(lines, count);
+    }
+
+    /**
+     * Creates headers from a map of names to values. Entries with a null name, such as the status
+     * line reported by {@link java.net.HttpURLConnection}, are skipped.
+     *
+     * @param headers the headers keyed by name
+     * @return the headers
+     */
+    public static HttpHeaders of(Map<String, List<String>> headers) {
+        if (headers.isEmpty()) {
+            return EMPTY;
+        }
+        List<String> lines = new ArrayList<>(headers.size());
+        headers.forEach((name, values) -> {
+            if (name != null && values != null) {
+                for (String value : values) {
+                    lines.add(name + ": " + value);
+                }
+            }
+        });
+        return ofLines(lines.toArray(new String[0]), lines.size());
+    }
+
+    /**
+     * Returns the number of header fields.
+     *
+     * @return the field count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether a header is present.
+     *
+     * @param name the header name, in any case
+     * @return true if at least one field has the name
+     */
+    public boolean contains(String name) {
+        return indexOf(name, 0) != -1;
+    }
+
+    /**
+     * Returns the value of the first field with the given name.
+     *
+     * @param name the header name, in any case
+     * @return the value, or null if absent
+     */
+    public String get(String name) {
+        int index = indexOf(name, 0);
+        return index != -1 ? valueAt(index) : null;
+    }
+
+    /**
+     * Returns the values of all fields with the given name, in order.
+     *
+     * @param name the header name, in any case
+     * @return the values, empty if absent
+     */
+    public List<String> all(String name) {
+        int index = indexOf(name, 0);
+        if (index == -1) {
+            return List.of();
+        }
+        List<String> values = new ArrayList<>(1);
+        while (index != -1) {
+            values.add(valueAt(index));
+            index = indexOf(name, index + 1);
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Returns whether a comma-separated header such as {@code Connection} lists a token.
+     *
+     * @param name  the header name, in any case
+     * @param token the token, in any case
+     * @return true if any field with the name contains the token
+     */
+    public boolean hasToken(String name, String token) {
+        for (int index = indexOf(name, 0); index != -1; index = indexOf(name, index + 1)) {
+            for (String part : valueAt(index).split(",")) {
+                if (part.trim().equalsIgnoreCase(token)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a header holding a non-negative integer, such as {@code X-RateLimit-Remaining}.
+     *
+     * @param name the header name, in any case
+     * @return the value, or -1 if absent, negative or malformed
+     */
+    public long getLong(String name) {
+        String value = get(name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            return parsed >= 0 ? parsed : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parses a header holding an HTTP date, such as {@code Date} or {@code Last-Modified}.
+     *
+     * @param name the header name, in any case
+     * @return the instant, or null if absent or malformed
+     */
+    public Instant getDate(String name) {
+        String value = get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the {@code Content-Length}.
+     *
+     * @return the length in bytes, or -1 if absent or malformed
+     */
+    public long contentLength() {
+        return getLong("Content-Length");
+    }
+
+    /**
+     * Returns the media type of the {@code Content-Type} header without its parameters.
+     *
+     * @return the media type in lower case, such as {@code application/json}, or null if absent
+     */
+    public String mediaType() {
+        String contentType = get("Content-Type");
+        if (contentType == null) {
+            return null;
+        }
+        int semicolon = contentType.indexOf(';');
+        return (semicolon != -1 ? contentType.substring(0, semicolon) : contentType).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the charset named by the {@code charset} parameter of the {@code Content-Type} header.
+     *
+     * @return the charset, or null if none is named or the JVM does not support it
+     */
+    public Charset charset() {
+        String contentType = get("Content-Type");
+        if (contentType == null) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            int equals = parameter.indexOf('=');
+            if (equals != -1 && parameter.substring(0, equals).trim().equalsIgnoreCase("charset")) {
+                String charset = parameter.substring(equals + 1).trim();
+                if (charset.length() > 1 && charset.startsWith("\"") && charset.endsWith("\"")) {
+                    charset = charset.substring(1, charset.length() - 1);
+                }
+                try {
+                    return Charset.forName(charset);
+                } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entity tag of the {@code ETag} header, quotes and weak prefix included.
+     *
+     * @return the entity tag, or null if absent
+     */
+    public String etag() {
+        return get("ETag");
+    }
+
+    /**
+     * Returns the wait requested by a {@code Retry-After} header in either of its forms.
+     *
+     * @return the wait, zero if the date has passed, or null if absent or malformed
+     */
+    public Duration retryAfter() {
+        String value = get("Retry-After");
+        if (value == null) {
+            return null;
+        }
+        long seconds = getLong("Retry-After");
+        if (seconds >= 0) {
+            return Duration.ofSeconds(seconds);
+        }
+        Instant date = getDate("Retry-After");
+        if (date == null) {
+            return null;
+        }
+        Duration wait = Duration.between(Instant.now(), date);
+        return wait.isNegative() ? Duration.ZERO : wait;
+    }
+
+    /**
+     * Calls the action for every field, in the order received.
+     *
+     * @param action receives each name and value
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        for (int i = 0; i < size; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                action.accept(lines[i].substring(0, colon).trim(), valueAt(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the headers as a map with case-insensitive keys, built on first use.
+     *
+     * @return an unmodifiable map of names to values
+     */
+    public synchronized Map<String, List<String>> toMap() {
+        if (map == null) {
+            Map<String, List<String>> built = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            forEach((name, value) -> built.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value));
+            built.replaceAll((name, values) -> List.copyOf(values));
+            map = Collections.unmodifiableMap(built);
+        }
+        return map;
+    }
+
+    private int indexOf(String name, int from) {
+        int length = name.length();
+        for (int i = from; i < size; i++) {
+            String line = lines[i];
+            if (line.length() > length && line.charAt(length) == ':' && line.regionMatches(true, 0, name, 0, length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String valueAt(int index) {
+        String line = lines[index];
+        int start = line.indexOf(':') + 1;
+        int end = line.length();
+        while (start < end && isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        return line.substring(start, end);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    @Override
+    public String toString() {
+        return "HttpHeaders" + Arrays.toString(Arrays.copyOf(lines, size));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,414 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Represents an immutable, transport-independent HTTP request.
+ * <p>
+ * Unlike {@link HttpRequestBuilder#build()}, creating an HttpRequest does not open a connection;
+ * the request is handed to the {@link HttpClient}, which sends it through its configured transport.
+ * A request can be sent any number of times and from any thread.
+ * <p>
+ * Requests built from a {@link UriTemplate} act as templates: {@link #withPathParam}, {@link #withHeader}
+ * and the other {@code with} methods derive a new request that shares the parsed template, headers
+ * and body of the original, so per-send variations do not re-parse or re-copy the common parts.
+ */
+public final class HttpRequest {
+
+    /**
+     * Connect and read timeout in milliseconds of a request that leaves them to a client built
+     * without its own.
+     */
+    static final int DEFAULT_TIMEOUT = 10_000;
+
+    private static final String[] NO_VALUES = new String[0];
+
+    private final UriTemplate template;
+    private final String[] pathValues;
+    private final String method;
+    private final String[] headers;
+    private final RequestBody body;
+    private final int connectTimeout;
+    private final int readTimeout;
+    private final int timeout;
+
+    private URI uri;
+    private Map<String, String> headerMap;
+
+    /**
+     * Constructs a new HttpRequest.
+     *
+     * @param template       the target URL template
+     * @param method         the HTTP method
+     * @param headers        the request headers
+     * @param body           the request body, or null if there is none
+     * @param connectTimeout the connection timeout in milliseconds, or -1 to use the client's default
+     * @param readTimeout    the read timeout in milliseconds, or -1 to use the client's default
+     * @param timeout        the overall deadline in milliseconds, or 0 to use the client's default
+     */
+    HttpRequest(UriTemplate template, String method, Map<String, String> headers, RequestBody body, int connectTimeout,
+                int readTimeout, int timeout) {
+        this(template, template.variableCount() == 0 ? NO_VALUES : new String[template.variableCount()],
+                method, flatten(headers), body, connectTimeout, readTimeout, timeout);
+    }
+
+    private HttpRequest(UriTemplate template, String[] pathValues, String method, String[] headers,
+                        RequestBody body, int connectTimeout, int readTimeout, int timeout) {
+        this.template = template;
+        this.pathValues = pathValues;
+        this.method = method;
+        this.headers = headers;
+        this.body = body;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Rejects a header that could not be written as one header field: the name must be an RFC 9110
+     * token, and the value must not contain CR, LF or NUL, which would let it end the field early and
+     * inject headers or a whole request.
+     *
+     * @param name  the header name
+     * @param value the header value, or null
+     * @throws IllegalArgumentException if the header is invalid
+     */
+    static void checkHeader(String name, String value) {
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Header name must not be empty");
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (!isTokenChar(name.charAt(i))) {
+                throw new IllegalArgumentException("Invalid character in header name: " + name);
+            }
+        }
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\r' || c == '\n' || c == '\0') {
+                    throw new IllegalArgumentException("Invalid character in value of header " + name);
+                }
+            }
+        }
+    }
+
+    private static boolean isTokenChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || "!#$%&'*+-.^_`|~".indexOf(c) != -1;
+    }
+
+    private static String[] flatten(Map<String, String> headers) {
+        String[] flat = new String[headers.size() * 2];
+        int i = 0;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            flat[i++] = header.getKey();
+            flat[i++] = header.getValue();
+        }
+        return flat;
+    }
+
+    /**
+     * Returns the target URI of the request, expanding its template on first use.
+     *
+     * @return the URI
+     * @throws IllegalStateException if a path parameter of the template has not been set
+     */
+    public URI uri() {
+        URI resolved = uri;
+        if (resolved == null) {
+            resolved = template.expand(pathValues);
+            uri = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns the URL template the request was built from.
+     *
+     * @return the template
+     */
+    public UriTemplate template() {
+        return template;
+    }
+
+    /**
+     * Returns the HTTP method of the request.
+     *
+     * @return the HTTP method
+     */
+    public String method() {
+        return method;
+    }
+
+    /**
+     * Returns the request headers.
+     *
+     * @return an unmodifiable view of the headers
+     */
+    public Map<String, String> headers() {
+        Map<String, String> map = headerMap;
+        if (map == null) {
+            Map<String, String> copy = new LinkedHashMap<>();
+            forEachHeader(copy::put);
+            map = Collections.unmodifiableMap(copy);
+            headerMap = map;
+        }
+        return map;
+    }
+
+    /**
+     * Returns the value of a header, matching its name case-insensitively.
+     *
+     * @param name the header name
+     * @return the header value, or null if the header is not set
+     */
+    public String header(String name) {
+        int index = indexOfHeader(name);
+        return index == -1 ? null : headers[index + 1];
+    }
+
+    /**
+     * Passes each header to the action in insertion order without allocating a map.
+     *
+     * @param action receives each header name and value
+     */
+    public void forEachHeader(BiConsumer<String, String> action) {
+        for (int i = 0; i < headers.length; i += 2) {
+            action.accept(headers[i], headers[i + 1]);
+        }
+    }
+
+    /**
+     * Returns the request body.
+     *
+     * @return the body, or null if the request has none
+     */
+    public RequestBody body() {
+        return body;
+    }
+
+    /**
+     * Returns the connection timeout in milliseconds. A request that leaves it to the client reports
+     * 10 seconds until a client has applied its own default.
+     *
+     * @return the connection timeout
+     */
+    public int connectTimeout() {
+        return connectTimeout < 0 ? DEFAULT_TIMEOUT : connectTimeout;
+    }
+
+    /**
+     * Returns the read timeout in milliseconds. A request that leaves it to the client reports
+     * 10 seconds until a client has applied its own default.
+     *
+     * @return the read timeout
+     */
+    public int readTimeout() {
+        return readTimeout < 0 ? DEFAULT_TIMEOUT : readTimeout;
+    }
+
+    /**
+     * Returns a copy of this request with a client's timeouts in place of those it leaves to the client.
+     *
+     * @param connectTimeout the client's connection timeout in milliseconds
+     * @param readTimeout    the client's read timeout in milliseconds
+     * @return this request if it sets both timeouts itself, otherwise the derived request
+     */
+    HttpRequest withDefaultTimeouts(int connectTimeout, int readTimeout) {
+        if (this.connectTimeout >= 0 && this.readTimeout >= 0) {
+            return this;
+        }
+        HttpRequest derived = new HttpRequest(template, pathValues, method, headers, body,
+                this.connectTimeout < 0 ? connectTimeout : this.connectTimeout,
+                this.readTimeout < 0 ? readTimeout : this.readTimeout, timeout);
+        derived.uri = uri;
+        return derived;
+    }
+
+    /**
+     * Returns the overall deadline of the request in milliseconds. It bounds the whole call,
+     * including connecting, reading the body, retries and the delays between them.
+     *
+     * @return the deadline, or 0 if the client's default applies
+     */
+    public int timeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns a copy of this request with a different overall deadline.
+     *
+     * @param timeout the deadline in milliseconds, or 0 to use the client's default
+     * @return the derived request
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public HttpRequest withTimeout(int timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+        }
+        HttpRequest derived = new HttpRequest(template, pathValues, method, headers, body, connectTimeout, readTimeout, timeout);
+        derived.uri = uri;
+        return derived;
+    }
+
+    /**
+     * Returns a copy of this request whose connect and read timeouts do not exceed the given time,
+     * so that no single socket operation outlives the request's deadline.
+     *
+     * @param remainingMillis the time left until the deadline, at least 1
+     * @return this request if its timeouts already fit, otherwise the derived request
+     */
+    HttpRequest withinDeadline(long remainingMillis) {
+        int connectTimeout = connectTimeout();
+        int readTimeout = readTimeout();
+        int connect = cap(connectTimeout, remainingMillis);
+        int read = cap(readTimeout, remainingMillis);
+        if (connect == connectTimeout && read == readTimeout) {
+            return this;
+        }
+        HttpRequest derived = new HttpRequest(template, pathValues, method, headers, body, connect, read, timeout);
+        derived.uri = uri;
+        return derived;
+    }
+
+    private static int cap(int timeout, long remainingMillis) {
+        int limit = (int) Math.max(1, Math.min(remainingMillis, Integer.MAX_VALUE));
+        // A timeout of zero waits forever.
+        return timeout == 0 || timeout > limit ? limit : timeout;
+    }
+
+    /**
+     * Returns a copy of this request with a header set, replacing any header of the same name.
+     *
+     * @param name  the header name
+     * @param value the header value
+     * @return the derived request
+     * @throws IllegalArgumentException if the name is not a valid token or the value contains CR, LF or NUL
+     */
+    public HttpRequest withHeader(String name, String value) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(value, "value");
+        checkHeader(name, value);
+        int index = indexOfHeader(name);
+        String[] updated;
+        if (index == -1) {
+            updated = Arrays.copyOf(headers, headers.length + 2);
+            updated[headers.length] = name;
+            updated[headers.length + 1] = value;
+        } else {
+            updated = headers.clone();
+            updated[index] = name;
+            updated[index + 1] = value;
+        }
+        HttpRequest derived = new HttpRequest(template, pathValues, method, updated, body, connectTimeout, readTimeout, timeout);
+        derived.uri = uri;
+        return derived;
+    }
+
+    /**
+     * Returns a copy of this request with a path parameter of its template bound to a value.
+     * The value is percent-encoded when the URI is expanded.
+     *
+     * @param name  the placeholder name
+     * @param value the value to substitute
+     * @return the derived request
+     * @throws IllegalArgumentException if the template has no such placeholder
+     */
+    public HttpRequest withPathParam(String name, Object value) {
+        int index = template.indexOf(name);
+        if (index == -1) {
+            throw new IllegalArgumentException("Unknown path parameter '" + name + "' in " + template);
+        }
+        String[] values = pathValues.clone();
+        values[index] = String.valueOf(Objects.requireNonNull(value, "value"));
+        return new HttpRequest(template, values, method, headers, body, connectTimeout, readTimeout, timeout);
+    }
+
+    /**
+     * Returns a copy of this request sent to a different URI, such as the same path on another
+     * replica. The template is kept, so metrics still group the request under it.
+     *
+     * @param uri the target URI
+     * @return the derived request
+     */
+    public HttpRequest withUri(URI uri) {
+        HttpRequest derived = new HttpRequest(template, pathValues, method, headers, body, connectTimeout, readTimeout, timeout);
+        derived.uri = Objects.requireNonNull(uri, "uri");
+        return derived;
+    }
+
+    /**
+     * Returns a copy of this request with a different method.
+     *
+     * @param method the HTTP method
+     * @return the derived request
+     */
+    public HttpRequest withMethod(String method) {
+        HttpRequest derived = new HttpRequest(template, pathValues, Objects.requireNonNull(method, "method").toUpperCase(),
+                headers, body, connectTimeout, readTimeout, timeout);
+        derived.uri = uri;
+        return derived;
+    }
+
+    /**
+     * Returns a copy of this request with a different body.
+     *
+     * @param body the body, or null to send none
+     * @return the derived request
+     */
+    public HttpRequest withBody(RequestBody body) {
+        HttpRequest derived = new HttpRequest(template, pathValues, method, headers, body, connectTimeout, readTimeout, timeout);
+        derived.uri = uri;
+        return derived;
+    }
+
+    private int indexOfHeader(String name) {
+        for (int i = 0; i < headers.length; i += 2) {
+            if (headers[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "HttpRequest{" +
+                "method=" + method +
+                ", uri=" + template +
+                '}';
+    }
+}
\ No newline at end of file
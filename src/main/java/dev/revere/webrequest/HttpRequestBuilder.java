@@ -24,12 +24,19 @@
 
 package dev.revere.webrequest;
 
+import dev.revere.webrequest.codec.ContentCodec;
+import dev.revere.webrequest.transport.UrlConnectionTransport;
+
 import java.io.IOException;
-import java.io.OutputStream;
-import java.net.*;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * @author Remi
@@ -39,30 +46,26 @@ import java.util.Set;
  * Builds an HTTP request with the specified URL, method, headers, body, and timeouts.
  */
 public class HttpRequestBuilder {
-    private URI uri;
+    private UriTemplate template;
     private String method = "GET";
     private final Map<String, String> headers = new HashMap<>();
-    private String body;
-    private int connectTimeout = 10000;
-    private int readTimeout = 10000;
+    private RequestBody body;
+    private int connectTimeout = -1;
+    private int readTimeout = -1;
+    private int timeout;
+    private ContentCodec compression;
+    private long compressionThreshold;
 
     /**
-     * Sets the URL of the request.
+     * Sets the URL of the request. The URL may contain {@code {name}} placeholders, which are
+     * bound per request with {@link HttpRequest#withPathParam(String, Object)}.
      *
      * @param url the URL of the request
      * @return the HttpRequestBuilder instance
      * @throws IllegalArgumentException if the URL is invalid
      */
     public HttpRequestBuilder url(String url) {
-        try {
-            URI uri = new URI(url);
-            if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
-                throw new IllegalArgumentException("URL must start with http or https: " + url);
-            }
-            this.uri = uri;
-        } catch (URISyntaxException e) {
-            throw new IllegalArgumentException("Invalid URL: " + url, e);
-        }
+        this.template = UriTemplate.parse(url);
         return this;
     }
 
@@ -87,25 +90,99 @@ public class HttpRequestBuilder {
      * @param key the key of the header
      * @param value the value of the header
      * @return the HttpRequestBuilder instance
+     * @throws IllegalArgumentException if the key is not a valid token or the value contains CR, LF or NUL
      */
     public HttpRequestBuilder addHeader(String key, String value) {
+        HttpRequest.checkHeader(Objects.requireNonNull(key, "key"), value);
         headers.put(key, value);
         return this;
     }
 
     /**
-     * Sets the body of the request.
+     * Sets the body of the request, encoded as UTF-8. An empty string sends no body.
      *
      * @param body the body of the request
      * @return the HttpRequestBuilder instance
      */
     public HttpRequestBuilder body(String body) {
-        this.body = body;
+        this.body = body == null || body.isEmpty() ? null : RequestBody.ofString(body);
         return this;
     }
 
     /**
-     * Sets the connection timeout in milliseconds.
+     * Sets the body of the request. The array is sent as-is without being copied.
+     *
+     * @param body the body of the request
+     * @return the HttpRequestBuilder instance
+     */
+    public HttpRequestBuilder body(byte[] body) {
+        return body(RequestBody.ofBytes(body));
+    }
+
+    /**
+     * Sets the body of the request to the remaining content of a heap or direct buffer,
+     * such as a pre-serialized message. The buffer is not copied.
+     *
+     * @param body the body of the request
+     * @return the HttpRequestBuilder instance
+     */
+    public HttpRequestBuilder body(ByteBuffer body) {
+        return body(RequestBody.ofByteBuffer(body));
+    }
+
+    /**
+     * Sets the body of the request to the content of a file, streamed without loading it into memory.
+     *
+     * @param body the file to upload
+     * @return the HttpRequestBuilder instance
+     */
+    public HttpRequestBuilder body(Path body) {
+        return body(RequestBody.ofFile(body));
+    }
+
+    /**
+     * Sets the body of the request to the content of streams produced by the supplier.
+     * A new stream is requested each time the request is sent.
+     *
+     * @param body          supplies the body content
+     * @param contentLength the number of bytes each stream yields, or -1 to send the body chunked
+     * @return the HttpRequestBuilder instance
+     */
+    public HttpRequestBuilder body(Supplier<? extends InputStream> body, long contentLength) {
+        return body(RequestBody.ofInputStream(body, contentLength));
+    }
+
+    /**
+     * Sets the body of the request.
+     *
+     * @param body the body of the request
+     * @return the HttpRequestBuilder instance
+     */
+    public HttpRequestBuilder body(RequestBody body) {
+        this.body = Objects.requireNonNull(body, "body");
+        return this;
+    }
+
+    /**
+     * Compresses the body with a content coding when it is at least {@code minBytes} long, or of
+     * unknown length, and sets {@code Content-Encoding} accordingly. The server must accept the coding.
+     *
+     * @param codec    the coding to apply, e.g. {@link ContentCodec#GZIP}
+     * @param minBytes the smallest body worth compressing
+     * @return the HttpRequestBuilder instance
+     */
+    public HttpRequestBuilder compressBody(ContentCodec codec, long minBytes) {
+        if (minBytes < 0) {
+            throw new IllegalArgumentException("minBytes must not be negative: " + minBytes);
+        }
+        this.compression = Objects.requireNonNull(codec, "codec");
+        this.compressionThreshold = minBytes;
+        return this;
+    }
+
+    /**
+     * Sets the connection timeout in milliseconds. Defaults to the connect timeout of the client
+     * that executes the request, or 10 seconds for {@link #build()}.
      *
      * @param timeout the connection timeout in milliseconds
      * @return the HttpRequestBuilder instance
@@ -116,7 +193,8 @@ public class HttpRequestBuilder {
     }
 
     /**
-     * Sets the read timeout in milliseconds.
+     * Sets the read timeout in milliseconds. Defaults to the read timeout of the client that
+     * executes the request, or 10 seconds for {@link #build()}.
      *
      * @param timeout the read timeout in milliseconds
      * @return the HttpRequestBuilder instance
@@ -126,6 +204,22 @@ public class HttpRequestBuilder {
         return this;
     }
 
+    /**
+     * Sets the overall deadline of the request in milliseconds, covering connecting, reading the
+     * body, retries and the delays between them. Defaults to the client's request timeout.
+     *
+     * @param timeout the deadline in milliseconds, or 0 to use the client's default
+     * @return the HttpRequestBuilder instance
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public HttpRequestBuilder timeout(int timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
     /**
      * Builds the request.
      *
@@ -133,35 +227,34 @@ public class HttpRequestBuilder {
      * @throws IOException if an I/O error occurs while building the request
      */
     public HttpURLConnection build() throws IOException {
-        if (uri == null) {
-            throw new IllegalStateException("URL must be set before building the request.");
-        }
-
-        URL url = uri.toURL();
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod(method);
-        connection.setConnectTimeout(connectTimeout);
-        connection.setReadTimeout(readTimeout);
-
-        headers.forEach(connection::setRequestProperty);
-
-        setRequestBody(connection);
+        return UrlConnectionTransport.open(buildRequest());
+    }
 
-        return connection;
+    /**
+     * Builds a transport-independent request without opening a connection.
+     *
+     * @return the HttpRequest to be executed by an {@link HttpClient}
+     * @throws IllegalStateException if the URL has not been set
+     */
+    public HttpRequest buildRequest() {
+        ensureUrlSet();
+        long contentLength = body != null ? body.contentLength() : 0;
+        if (compression == null || body == null || contentLength >= 0 && contentLength < compressionThreshold) {
+            return new HttpRequest(template, method, headers, body, connectTimeout, readTimeout, timeout);
+        }
+        Map<String, String> encodedHeaders = new HashMap<>(headers);
+        encodedHeaders.put("Content-Encoding", compression.name());
+        return new HttpRequest(template, method, encodedHeaders, RequestBody.encoded(body, compression), connectTimeout, readTimeout, timeout);
     }
 
     /**
-     * Sets the request body if it is present.
+     * Ensures the URL has been set before building.
      *
-     * @param connection the HttpURLConnection to set the body for
-     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if the URL has not been set
      */
-    private void setRequestBody(HttpURLConnection connection) throws IOException {
-        if (body != null && !body.isEmpty()) {
-            connection.setDoOutput(true);
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(body.getBytes());
-            }
+    private void ensureUrlSet() {
+        if (template == null) {
+            throw new IllegalStateException("URL must be set before building the request.");
         }
     }
 
@@ -24,23 +24,168 @@
 
 package dev.revere.webrequest;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
 /**
  * @author Remi
  * @project java-request-library
  * @date 8/17/2024
  * <p>
  * Represents an HTTP response.
- *
- * @param statusCode the status code of the response
- * @param body the body of the response as a string
+ * <p>
+ * The body is held as a {@link ResponseBody}; {@link #body()} is a lazily decoded text view of it.
+ * <p>
+ * Responses compare by status code and body text, as they did when this class was a record of the
+ * two. A streaming body is only equal to itself until it has been buffered, so that comparing a
+ * response never reads from its connection.
  */
-public record HttpResponse(int statusCode, String body) {
+public final class HttpResponse implements AutoCloseable {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final ResponseBody content;
+    private final ResponseTimings timings;
+    private String body;
+
+    /**
+     * Constructs a new HttpResponse with a text body.
+     *
+     * @param statusCode the status code of the response
+     * @param body       the body of the response as a string
+     */
+    public HttpResponse(int statusCode, String body) {
+        this.statusCode = statusCode;
+        this.headers = HttpHeaders.EMPTY;
+        this.content = ResponseBody.of(body.getBytes(StandardCharsets.UTF_8));
+        this.timings = ResponseTimings.NONE;
+        this.body = body;
+    }
+
+    /**
+     * Constructs a new HttpResponse over a buffered or streaming body.
+     *
+     * @param statusCode the status code of the response
+     * @param content    the body of the response
+     */
+    public HttpResponse(int statusCode, ResponseBody content) {
+        this(statusCode, HttpHeaders.EMPTY, content, ResponseTimings.NONE);
+    }
+
+    /**
+     * Constructs a new HttpResponse with the headers and timings of the exchange that produced it.
+     *
+     * @param statusCode the status code of the response
+     * @param headers    the response headers
+     * @param content    the body of the response
+     * @param timings    the timings of the exchange
+     */
+    public HttpResponse(int statusCode, HttpHeaders headers, ResponseBody content, ResponseTimings timings) {
+        this.statusCode = statusCode;
+        this.headers = Objects.requireNonNull(headers, "headers");
+        this.content = Objects.requireNonNull(content, "content");
+        this.timings = Objects.requireNonNull(timings, "timings");
+    }
+
+    /**
+     * Returns the status code of the response.
+     *
+     * @return the status code
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the response headers. Values are parsed from the received header lines on lookup.
+     *
+     * @return the headers, empty if the response was not received from a transport
+     */
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    /**
+     * Returns the first value of a header, matching its name case-insensitively.
+     *
+     * @param name the header name
+     * @return the header value, or null if the header is absent
+     */
+    public String header(String name) {
+        return headers.get(name);
+    }
+
+    /**
+     * Returns when the exchange that produced this response started and how long its phases took.
+     * The total of a streaming response is not measured, as its body is read after it is returned.
+     *
+     * @return the timings, {@link ResponseTimings#NONE} if the response was not received from a transport
+     */
+    public ResponseTimings timings() {
+        return timings;
+    }
+
+    /**
+     * Returns the body decoded as text, in the charset named by the {@code Content-Type} header or
+     * UTF-8 if it names none. The text is decoded on first use; a streaming body is read to the end.
+     *
+     * @return the body of the response as a string
+     */
+    public synchronized String body() {
+        if (body == null) {
+            Charset charset = headers.charset();
+            body = content.asString(charset != null ? charset : StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    /**
+     * Returns the body for reading as a stream, bytes, a buffer, a publisher or a file.
+     *
+     * @return the response body
+     */
+    public ResponseBody content() {
+        return content;
+    }
+
+    /**
+     * Closes the body, releasing the connection of a streaming response that was not fully read.
+     */
+    @Override
+    public void close() {
+        content.close();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof HttpResponse response) || statusCode != response.statusCode) {
+            return false;
+        }
+        return isReadable() && response.isReadable() && body().equals(response.body());
+    }
+
+    @Override
+    public int hashCode() {
+        return isReadable() ? 31 * statusCode + body().hashCode() : System.identityHashCode(this);
+    }
+
+    /**
+     * Returns whether the body text can be produced without reading from the connection.
+     *
+     * @return true if the text is decoded or the body is buffered
+     */
+    private synchronized boolean isReadable() {
+        return body != null || content.isBuffered();
+    }
 
     @Override
     public String toString() {
         return "HttpResponse{" +
                 "statusCode=" + statusCode +
-                ", body='" + body + '\'' +
+                ", body=" + (isReadable() ? "'" + body() + "'" : "<streaming>") +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Hooks into every request an {@link HttpClient} executes, for cross-cutting concerns such as
+ * authentication, tracing headers or request signing.
+ * <p>
+ * Interceptors run in the order they were added to the client, each wrapping the ones after it. An
+ * interceptor can rewrite the request it passes on, answer without proceeding, proceed more than once,
+ * and observe the response or failure of the rest of the chain. They run before request coalescing,
+ * circuit breakers and concurrency limits, once per call rather than once per retry.
+ * <p>
+ * {@link #intercept} serves the blocking entry points. On the asynchronous path an interceptor that
+ * only implements it runs on the client's executor and blocks that thread while the rest of the chain
+ * completes; overriding {@link #interceptAsync} avoids the hop. The {@link #rewriting} and
+ * {@link #observing} interceptors implement both.
+ */
+@FunctionalInterface
+public interface Interceptor {
+
+    /**
+     * Intercepts a blocking call.
+     *
+     * @param chain the rest of the chain
+     * @return the response
+     * @throws HttpException if the call fails
+     */
+    HttpResponse intercept(Chain chain) throws HttpException;
+
+    /**
+     * Intercepts an asynchronous call. The default implementation runs {@link #intercept} on the
+     * chain's executor, with {@link Chain#proceed} waiting for the rest of the asynchronous chain.
+     *
+     * @param chain the rest of the chain
+     * @return a CompletableFuture that completes with the response
+     */
+    default CompletableFuture<HttpResponse> interceptAsync(AsyncChain chain) {
+        return CompletableFuture.supplyAsync(() -> intercept(new Chain() {
+            @Override
+            public HttpRequest request() {
+                return chain.request();
+            }
+
+            @Override
+            public HttpResponse proceed(HttpRequest request) {
+                try {
+                    return chain.proceed(request).join();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }), chain.executor());
+    }
+
+    /**
+     * Returns an interceptor that rewrites every request before passing it on, such as to add an
+     * {@code Authorization} header.
+     *
+     * @param rewrite the function deriving the request to send
+     * @return the interceptor
+     */
+    static Interceptor rewriting(UnaryOperator<HttpRequest> rewrite) {
+        Objects.requireNonNull(rewrite, "rewrite");
+        return new Interceptor() {
+            @Override
+            public HttpResponse intercept(Chain chain) {
+                return chain.proceed(rewrite.apply(chain.request()));
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> interceptAsync(AsyncChain chain) {
+                return chain.proceed(rewrite.apply(chain.request()));
+            }
+        };
+    }
+
+    /**
+     * Returns an interceptor that reports the outcome of every call without changing it.
+     *
+     * @param observer receives each request with its response or failure
+     * @return the interceptor
+     */
+    static Interceptor observing(Observer observer) {
+        Objects.requireNonNull(observer, "observer");
+        return new Interceptor() {
+            @Override
+            public HttpResponse intercept(Chain chain) {
+                HttpRequest request = chain.request();
+                HttpResponse response;
+                try {
+                    response = chain.proceed(request);
+                } catch (RuntimeException e) {
+                    observer.onOutcome(request, null, e);
+                    throw e;
+                }
+                observer.onOutcome(request, response, null);
+                return response;
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> interceptAsync(AsyncChain chain) {
+                HttpRequest request = chain.request();
+                CompletableFuture<HttpResponse> response = chain.proceed(request);
+                response.whenComplete((value, error) -> observer.onOutcome(request, value,
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error));
+                return response;
+            }
+        };
+    }
+
+    /**
+     * The rest of a blocking call, as seen by an interceptor.
+     */
+    interface Chain {
+
+        /**
+         * Returns the request this interceptor was called with.
+         *
+         * @return the request
+         */
+        HttpRequest request();
+
+        /**
+         * Passes a request to the next interceptor, or sends it if this is the last one.
+         *
+         * @param request the request to pass on
+         * @return the response
+         * @throws HttpException if the call fails
+         */
+        HttpResponse proceed(HttpRequest request) throws HttpException;
+    }
+
+    /**
+     * The rest of an asynchronous call, as seen by an interceptor.
+     */
+    interface AsyncChain {
+
+        /**
+         * Returns the request this interceptor was called with.
+         *
+         * @return the request
+         */
+        HttpRequest request();
+
+        /**
+         * Passes a request to the next interceptor, or sends it if this is the last one.
+         *
+         * @param request the request to pass on
+         * @return a CompletableFuture that completes with the response
+         */
+        CompletableFuture<HttpResponse> proceed(HttpRequest request);
+
+        /**
+         * Returns the client's executor, for interceptors that need to run blocking work.
+         *
+         * @return the executor
+         */
+        Executor executor();
+    }
+
+    /**
+     * Receives the outcome of a call.
+     */
+    @FunctionalInterface
+    interface Observer {
+
+        /**
+         * Called once a call has completed.
+         *
+         * @param request  the request the call was made with
+         * @param response the response, or null if the call failed
+         * @param error    the failure, or null if the call succeeded
+         */
+        void onOutcome(HttpRequest request, HttpResponse response, Throwable error);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The interceptors of a client, compiled once into a flat array. A call walks the array by index,
+ * allocating one small chain link per interceptor it passes; a client without interceptors has no
+ * chain at all and calls its terminal directly.
+ */
+final class InterceptorChain {
+    private final Interceptor[] interceptors;
+    private final Executor executor;
+
+    /**
+     * Creates a chain over compiled interceptors.
+     *
+     * @param interceptors the interceptors, outermost first
+     * @param executor     the client's executor
+     */
+    private InterceptorChain(Interceptor[] interceptors, Executor executor) {
+        this.interceptors = interceptors;
+        this.executor = executor;
+    }
+
+    /**
+     * Compiles the interceptors of a client.
+     *
+     * @param interceptors the interceptors, outermost first
+     * @param executor     the client's executor
+     * @return the chain, or null if there are no interceptors
+     */
+    static InterceptorChain compile(List<Interceptor> interceptors, Executor executor) {
+        return interceptors.isEmpty() ? null : new InterceptorChain(interceptors.toArray(new Interceptor[0]), executor);
+    }
+
+    /**
+     * Runs a blocking call through the interceptors.
+     *
+     * @param request  the request of the call
+     * @param terminal sends the request that leaves the last interceptor
+     * @return the response
+     */
+    HttpResponse execute(HttpRequest request, Function<HttpRequest, HttpResponse> terminal) {
+        return new Link(0, request, terminal).run();
+    }
+
+    /**
+     * Runs an asynchronous call through the interceptors. Interceptors return futures of their own,
+     * so the chain keeps every future its terminal hands out and cancels those still pending once the
+     * call completes, such as when the caller cancels it or its deadline expires.
+     *
+     * @param request  the request of the call
+     * @param terminal sends the request that leaves the last interceptor
+     * @param deadline the deadline of the call, already started
+     * @return a CompletableFuture that completes with the response
+     */
+    CompletableFuture<HttpResponse> executeAsync(HttpRequest request,
+                                                 Function<HttpRequest, CompletableFuture<HttpResponse>> terminal,
+                                                 Deadline deadline) {
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        List<CompletableFuture<HttpResponse>> sent = new ArrayList<>(1);
+        Function<HttpRequest, CompletableFuture<HttpResponse>> tracked = outgoing -> {
+            CompletableFuture<HttpResponse> response = terminal.apply(outgoing);
+            synchronized (sent) {
+                sent.add(response);
+            }
+            if (result.isDone()) {
+                response.cancel(false);
+            }
+            return response;
+        };
+        result.whenComplete((response, error) -> {
+            synchronized (sent) {
+                sent.forEach(pending -> pending.cancel(false));
+            }
+        });
+        new AsyncLink(0, request, tracked).run().whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(response);
+            }
+        });
+        return deadline.bind(result);
+    }
+
+    /**
+     * The position of a blocking call in the chain.
+     */
+    private final class Link implements Interceptor.Chain {
+        private final int index;
+        private final HttpRequest request;
+        private final Function<HttpRequest, HttpResponse> terminal;
+
+        private Link(int index, HttpRequest request, Function<HttpRequest, HttpResponse> terminal) {
+            this.index = index;
+            this.request = request;
+            this.terminal = terminal;
+        }
+
+        private HttpResponse run() {
+            return Objects.requireNonNull(interceptors[index].intercept(this),
+                    () -> "Interceptor returned null: " + interceptors[index]);
+        }
+
+        @Override
+        public HttpRequest request() {
+            return request;
+        }
+
+        @Override
+        public HttpResponse proceed(HttpRequest request) {
+            Objects.requireNonNull(request, "request");
+            int next = index + 1;
+            return next == interceptors.length ? terminal.apply(request) : new Link(next, request, terminal).run();
+        }
+    }
+
+    /**
+     * The position of an asynchronous call in the chain.
+     */
+    private final class AsyncLink implements Interceptor.AsyncChain {
+        private final int index;
+        private final HttpRequest request;
+        private final Function<HttpRequest, CompletableFuture<HttpResponse>> terminal;
+
+        private AsyncLink(int index, HttpRequest request, Function<HttpRequest, CompletableFuture<HttpResponse>> terminal) {
+            this.index = index;
+            this.request = request;
+            this.terminal = terminal;
+        }
+
+        private CompletableFuture<HttpResponse> run() {
+            Interceptor interceptor = interceptors[index];
+            try {
+                CompletableFuture<HttpResponse> response = interceptor.interceptAsync(this);
+                return response != null ? response
+                        : CompletableFuture.failedFuture(new NullPointerException("Interceptor returned null: " + interceptor));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public HttpRequest request() {
+            return request;
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse> proceed(HttpRequest request) {
+            Objects.requireNonNull(request, "request");
+            int next = index + 1;
+            return next == interceptors.length ? terminal.apply(request) : new AsyncLink(next, request, terminal).run();
+        }
+
+        @Override
+        public Executor executor() {
+            return executor;
+        }
+    }
+}
\ No newline at end of file
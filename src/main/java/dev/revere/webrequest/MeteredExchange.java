@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import dev.revere.webrequest.metrics.ExchangeTimings;
+import dev.revere.webrequest.metrics.MetricsListener;
+import dev.revere.webrequest.metrics.RequestEvent;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Tracks one request for a {@link MetricsListener}, from the moment it is handed to the transport
+ * until its outcome is known. The outcome is reported once; later calls are ignored.
+ * <p>
+ * Clients without listeners use {@link #UNMETERED}, which records nothing and allocates nothing.
+ */
+final class MeteredExchange {
+
+    /**
+     * Exchange of a client without metrics listeners.
+     */
+    static final MeteredExchange UNMETERED = new MeteredExchange(null, null, 0);
+
+    private final MetricsListener listener;
+    private final HttpRequest request;
+    private final long startNanos;
+    private boolean ended;
+
+    private MeteredExchange(MetricsListener listener, HttpRequest request, long startNanos) {
+        this.listener = listener;
+        this.request = request;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Starts tracking a request.
+     *
+     * @param listener the listener to report to, or null if the client records no metrics
+     * @param request  the request about to be sent
+     * @return the exchange
+     */
+    static MeteredExchange start(MetricsListener listener, HttpRequest request) {
+        if (listener == null) {
+            return UNMETERED;
+        }
+        listener.onRequestStart(request);
+        return new MeteredExchange(listener, request, System.nanoTime());
+    }
+
+    /**
+     * Reports a received response.
+     *
+     * @param statusCode    the status code
+     * @param error         the failure while reading the body, or null
+     * @param timings       the timings measured by the transport
+     * @param bytesReceived the body bytes received
+     */
+    void end(int statusCode, Throwable error, ExchangeTimings timings, long bytesReceived) {
+        if (listener == null || ended) {
+            return;
+        }
+        ended = true;
+        RequestBody body = request.body();
+        long bytesSent = body == null ? 0 : Math.max(0, body.contentLength());
+        listener.onRequestEnd(new RequestEvent(request, statusCode, error, timings,
+                System.nanoTime() - startNanos, bytesSent, bytesReceived));
+    }
+
+    /**
+     * Reports an exchange that failed before a response was received.
+     *
+     * @param error the failure
+     */
+    void fail(Throwable error) {
+        end(-1, error, ExchangeTimings.NONE, 0);
+    }
+
+    /**
+     * Wraps a streaming body so that the exchange ends when the body is read to the end, fails or is closed.
+     *
+     * @param body       the body stream
+     * @param statusCode the status code of the response
+     * @param timings    the timings measured by the transport
+     * @return the stream to hand to the caller
+     */
+    InputStream meter(InputStream body, int statusCode, ExchangeTimings timings) {
+        return listener == null ? body : new MeteredInputStream(body, statusCode, timings);
+    }
+
+    /**
+     * Counts the body bytes of a streaming response.
+     */
+    private final class MeteredInputStream extends FilterInputStream {
+        private final int statusCode;
+        private final ExchangeTimings timings;
+        private long bytesReceived;
+
+        private MeteredInputStream(InputStream in, int statusCode, ExchangeTimings timings) {
+            super(in);
+            this.statusCode = statusCode;
+            this.timings = timings;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                int read = in.read();
+                if (read == -1) {
+                    end(statusCode, null, timings, bytesReceived);
+                } else {
+                    bytesReceived++;
+                }
+                return read;
+            } catch (IOException e) {
+                end(statusCode, e, timings, bytesReceived);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                int read = in.read(buffer, offset, length);
+                if (read == -1) {
+                    end(statusCode, null, timings, bytesReceived);
+                } else {
+                    bytesReceived += read;
+                }
+                return read;
+            } catch (IOException e) {
+                end(statusCode, e, timings, bytesReceived);
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                end(statusCode, null, timings, bytesReceived);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,388 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import dev.revere.webrequest.buffer.BufferPool;
+import dev.revere.webrequest.codec.ContentCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The body of an {@link HttpRequest}.
+ * <p>
+ * Bodies are written straight from their source to the connection without an intermediate copy,
+ * and can be written more than once so that a request can be resent.
+ */
+public abstract class RequestBody {
+
+    /**
+     * Returns the number of bytes the body will write.
+     *
+     * @return the length in bytes, or -1 if unknown, in which case the body is sent chunked
+     */
+    public abstract long contentLength();
+
+    /**
+     * Writes the body to the given stream. The stream is not closed.
+     *
+     * @param out the stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public abstract void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Opens a stream over the body, for transports that pull the body instead of having it pushed.
+     *
+     * @return a new stream over the body
+     * @throws IOException if the body source cannot be opened
+     */
+    public abstract InputStream openStream() throws IOException;
+
+    /**
+     * Creates a body from text encoded as UTF-8.
+     *
+     * @param text the body text
+     * @return the body
+     */
+    public static RequestBody ofString(String text) {
+        return ofString(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a body from text in the given charset.
+     *
+     * @param text    the body text
+     * @param charset the charset to encode with
+     * @return the body
+     */
+    public static RequestBody ofString(String text, Charset charset) {
+        return ofBytes(text.getBytes(charset));
+    }
+
+    /**
+     * Creates a body backed by a byte array. The array is not copied and must not be modified
+     * while the request is in use.
+     *
+     * @param bytes the body content
+     * @return the body
+     */
+    public static RequestBody ofBytes(byte[] bytes) {
+        return new BytesBody(Objects.requireNonNull(bytes, "bytes"), 0, bytes.length);
+    }
+
+    /**
+     * Creates a body backed by the remaining content of a buffer. The buffer's position and limit
+     * are captured now and left untouched; its content is not copied.
+     *
+     * @param buffer the body content, heap or direct
+     * @return the body
+     */
+    public static RequestBody ofByteBuffer(ByteBuffer buffer) {
+        ByteBuffer content = Objects.requireNonNull(buffer, "buffer").slice();
+        if (content.hasArray()) {
+            return new BytesBody(content.array(), content.arrayOffset(), content.remaining());
+        }
+        return new BufferBody(content);
+    }
+
+    /**
+     * Creates a body streamed from a file with {@link FileChannel#transferTo}, so the file is never
+     * loaded onto the heap. The file length is read once, when the body is first sent, and every
+     * send writes exactly that many bytes: a file that grows is cut off at that length, and one that
+     * shrinks fails the send with an {@link EOFException}.
+     *
+     * @param path the file to send
+     * @return the body
+     */
+    public static RequestBody ofFile(Path path) {
+        return new FileBody(Objects.requireNonNull(path, "path"));
+    }
+
+    /**
+     * Creates a body read from streams produced by the supplier. A new stream is requested every
+     * time the body is sent, and closed afterwards.
+     *
+     * @param streamSupplier supplies the body content
+     * @param contentLength  the number of bytes each stream yields, or -1 to send the body chunked
+     * @return the body
+     */
+    public static RequestBody ofInputStream(Supplier<? extends InputStream> streamSupplier, long contentLength) {
+        return new StreamBody(Objects.requireNonNull(streamSupplier, "streamSupplier"), contentLength);
+    }
+
+    /**
+     * Creates a body that sends another body compressed with a content coding. The content is
+     * encoded as it is written, so no compressed copy is held in memory; since its compressed
+     * length is not known up front, the body is sent chunked.
+     *
+     * @param body  the body to compress
+     * @param codec the coding to apply
+     * @return the body
+     */
+    public static RequestBody encoded(RequestBody body, ContentCodec codec) {
+        return new EncodedBody(Objects.requireNonNull(body, "body"), Objects.requireNonNull(codec, "codec"));
+    }
+
+    /**
+     * Body backed by a region of a byte array.
+     */
+    private static final class BytesBody extends RequestBody {
+        private final byte[] bytes;
+        private final int offset;
+        private final int length;
+
+        private BytesBody(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public long contentLength() {
+            return length;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(bytes, offset, length);
+        }
+    }
+
+    /**
+     * Body backed by a direct buffer.
+     */
+    private static final class BufferBody extends RequestBody {
+        private final ByteBuffer buffer;
+
+        private BufferBody(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            BufferPool.shared().write(buffer, out);
+        }
+
+        @Override
+        public InputStream openStream() {
+            ByteBuffer content = buffer.duplicate();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return content.hasRemaining() ? content.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] target, int offset, int length) {
+                    if (!content.hasRemaining()) {
+                        return -1;
+                    }
+                    int count = Math.min(length, content.remaining());
+                    content.get(target, offset, count);
+                    return count;
+                }
+
+                @Override
+                public int available() {
+                    return content.remaining();
+                }
+            };
+        }
+    }
+
+    /**
+     * Body streamed from a file, always exactly as long as the length it announced.
+     */
+    private static final class FileBody extends RequestBody {
+        private final Path path;
+        private long size = -1;
+
+        private FileBody(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public synchronized long contentLength() {
+            if (size < 0) {
+                try {
+                    size = Files.size(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot read the size of " + path, e);
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            long size = contentLength();
+            try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                while (position < size) {
+                    long transferred = file.transferTo(position, size - position, target);
+                    if (transferred <= 0) {
+                        throw truncated(position, size);
+                    }
+                    position += transferred;
+                }
+            }
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            long size = contentLength();
+            return new FilterInputStream(Files.newInputStream(path)) {
+                private long remaining = size;
+
+                @Override
+                public int read() throws IOException {
+                    byte[] single = new byte[1];
+                    return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+                }
+
+                @Override
+                public int read(byte[] target, int offset, int length) throws IOException {
+                    if (remaining == 0) {
+                        return -1;
+                    }
+                    int read = in.read(target, offset, (int) Math.min(length, remaining));
+                    if (read == -1) {
+                        throw truncated(size - remaining, size);
+                    }
+                    remaining -= read;
+                    return read;
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    long skipped = in.skip(Math.min(n, remaining));
+                    remaining -= skipped;
+                    return skipped;
+                }
+
+                @Override
+                public int available() throws IOException {
+                    return (int) Math.min(in.available(), remaining);
+                }
+            };
+        }
+
+        private EOFException truncated(long position, long size) {
+            return new EOFException(path + " ended after " + position + " of its " + size + " bytes");
+        }
+    }
+
+    /**
+     * Body read from supplied streams.
+     */
+    private static final class StreamBody extends RequestBody {
+        private final Supplier<? extends InputStream> streamSupplier;
+        private final long contentLength;
+
+        private StreamBody(Supplier<? extends InputStream> streamSupplier, long contentLength) {
+            this.streamSupplier = streamSupplier;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = openStream()) {
+                BufferPool.shared().transfer(in, out);
+            }
+        }
+
+        @Override
+        public InputStream openStream() {
+            return Objects.requireNonNull(streamSupplier.get(), "streamSupplier returned null");
+        }
+    }
+
+    /**
+     * Body compressed with a content coding while it is written.
+     */
+    private static final class EncodedBody extends RequestBody {
+        private final RequestBody body;
+        private final ContentCodec codec;
+
+        private EncodedBody(RequestBody body, ContentCodec codec) {
+            this.body = body;
+            this.codec = codec;
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = openStream()) {
+                BufferPool.shared().transfer(in, out);
+            }
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return codec.encode(body.openStream());
+        }
+    }
+}
\ No newline at end of file
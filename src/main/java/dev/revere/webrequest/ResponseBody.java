@@ -0,0 +1,295 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import dev.revere.webrequest.buffer.BufferPool;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The body of an {@link HttpResponse}, readable as a stream, bytes, a buffer, a publisher of
+ * lines or chunks, or transferred straight to a file.
+ * <p>
+ * A buffered body can be read any number of times. A streaming body is read from the live
+ * connection and can be consumed only once, except that {@link #asBytes()}, {@link #asByteBuffer()}
+ * and {@link #asString(Charset)} buffer it on first use so that these three views can be combined.
+ */
+public final class ResponseBody implements AutoCloseable {
+    private static final Executor DIRECT = Runnable::run;
+
+    /**
+     * The largest event or record accepted from an event stream or NDJSON body.
+     */
+    static final int MAX_MESSAGE_BYTES = 1024 * 1024;
+
+    private final Executor executor;
+    private final boolean shared;
+    private InputStream stream;
+    private byte[] bytes;
+    private boolean consumed;
+
+    private ResponseBody(byte[] bytes, InputStream stream, Executor executor, boolean shared) {
+        this.bytes = bytes;
+        this.stream = stream;
+        this.executor = executor;
+        this.shared = shared;
+    }
+
+    /**
+     * Creates a buffered body.
+     *
+     * @param bytes the body content, which must not be modified afterwards
+     * @return the body
+     */
+    public static ResponseBody of(byte[] bytes) {
+        return new ResponseBody(Objects.requireNonNull(bytes, "bytes"), null, DIRECT, false);
+    }
+
+    /**
+     * Creates a buffered body over bytes that other bodies share. {@link #asBytes()} hands out a
+     * copy, so no holder can change what the others read; the other views read the shared array.
+     *
+     * @param bytes the body content, which must not be modified afterwards
+     * @return the body
+     */
+    static ResponseBody shared(byte[] bytes) {
+        return new ResponseBody(Objects.requireNonNull(bytes, "bytes"), null, DIRECT, true);
+    }
+
+    /**
+     * Creates a streaming body. Publishers returned by the body read the stream on the given executor.
+     *
+     * @param stream   the body stream
+     * @param executor the executor for blocking reads
+     * @return the body
+     */
+    public static ResponseBody ofStream(InputStream stream, Executor executor) {
+        return new ResponseBody(null, Objects.requireNonNull(stream, "stream"), Objects.requireNonNull(executor, "executor"), false);
+    }
+
+    /**
+     * Returns whether the body is held in memory.
+     *
+     * @return true if the body is buffered
+     */
+    public synchronized boolean isBuffered() {
+        return bytes != null;
+    }
+
+    /**
+     * Returns the body as a stream. For a streaming body this is the live connection stream,
+     * which the caller must close.
+     *
+     * @return the body stream
+     * @throws IllegalStateException if a streaming body has already been consumed
+     */
+    public synchronized InputStream asInputStream() {
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+        ensureNotConsumed();
+        consumed = true;
+        return stream;
+    }
+
+    /**
+     * Returns the body as bytes, reading a streaming body fully into memory.
+     * The array is shared with this body and must not be modified, except for a body shared by
+     * coalesced calls, which returns a copy of its own.
+     *
+     * @return the body content
+     * @throws UncheckedIOException if reading a streaming body fails
+     */
+    public byte[] asBytes() {
+        byte[] content = buffered();
+        return shared ? content.clone() : content;
+    }
+
+    /**
+     * Returns a read-only buffer over the body without copying it.
+     *
+     * @return the body content
+     * @throws UncheckedIOException if reading a streaming body fails
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buffered()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Decodes the body as text. Line endings are preserved as sent.
+     *
+     * @param charset the charset to decode with
+     * @return the body text
+     * @throws UncheckedIOException if reading a streaming body fails
+     */
+    public String asString(Charset charset) {
+        return new String(buffered(), charset);
+    }
+
+    /**
+     * Publishes the body line by line, reading more only as the subscriber requests it.
+     * Line terminators are not included.
+     *
+     * @param charset the charset to decode with
+     * @return a single-subscriber publisher of lines
+     */
+    public Flow.Publisher<String> lines(Charset charset) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(asInputStream(), charset));
+        return new SourcePublisher<>(new SourcePublisher.Source<>() {
+            @Override
+            public String next() throws IOException {
+                return reader.readLine();
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        }, executor);
+    }
+
+    /**
+     * Publishes the body as {@code text/event-stream} server-sent events, parsing each one as its
+     * bytes arrive and reading more only as the subscriber requests it. Comments and events without
+     * data are skipped; an event larger than 1 MiB fails the stream. Use
+     * {@link HttpClient#executeEventStream(HttpRequest)} to reconnect when the stream ends.
+     *
+     * @return a single-subscriber publisher of events
+     */
+    public Flow.Publisher<ServerSentEvent> events() {
+        return new SourcePublisher<>(new EventStreamParser(asInputStream(), null, MAX_MESSAGE_BYTES), executor);
+    }
+
+    /**
+     * Publishes the body as newline-delimited JSON, one record's JSON text at a time, reading more
+     * only as the subscriber requests it. Blank lines are skipped; a record larger than 1 MiB fails
+     * the stream.
+     *
+     * @return a single-subscriber publisher of records
+     */
+    public Flow.Publisher<String> ndjson() {
+        return new SourcePublisher<>(new NdjsonReader(asInputStream(), MAX_MESSAGE_BYTES), executor);
+    }
+
+    /**
+     * Publishes the body in chunks of at most {@code chunkSize} bytes, reading more only as
+     * the subscriber requests it.
+     *
+     * @param chunkSize the maximum chunk size
+     * @return a single-subscriber publisher of chunks
+     */
+    public Flow.Publisher<ByteBuffer> chunks(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        InputStream in = asInputStream();
+        return new SourcePublisher<>(new SourcePublisher.Source<>() {
+            @Override
+            public ByteBuffer next() throws IOException {
+                byte[] chunk = in.readNBytes(chunkSize);
+                return chunk.length == 0 ? null : ByteBuffer.wrap(chunk);
+            }
+
+            @Override
+            public void close() throws IOException {
+                in.close();
+            }
+        }, executor);
+    }
+
+    /**
+     * Writes the body to a file, replacing any existing content, without staging it on the heap.
+     * Streaming bodies are copied with {@link FileChannel#transferFrom}.
+     *
+     * @param path the target file
+     * @return the number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    public long transferTo(Path path) throws IOException {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             ReadableByteChannel source = Channels.newChannel(asInputStream())) {
+            long position = 0;
+            long transferred;
+            while ((transferred = file.transferFrom(source, position, Long.MAX_VALUE)) > 0) {
+                position += transferred;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Closes a streaming body that has not been read, releasing its connection.
+     */
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            consumed = true;
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private synchronized byte[] buffered() {
+        if (bytes != null) {
+            return bytes;
+        }
+        ensureNotConsumed();
+        consumed = true;
+        try (InputStream in = stream) {
+            bytes = BufferPool.shared().readAll(in, -1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the response body", e);
+        }
+        return bytes;
+    }
+
+    private void ensureNotConsumed() {
+        if (consumed) {
+            throw new IllegalStateException("Streaming response body has already been consumed");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Reads items from the body of a response that is only requested once the first item is needed,
+ * so that publishing a streaming request costs nothing until someone subscribes and asks for data.
+ *
+ * @param <T> the item type
+ */
+final class ResponseSource<T> implements SourcePublisher.Source<T> {
+    private final Supplier<HttpResponse> connector;
+    private final Function<InputStream, SourcePublisher.Source<T>> reader;
+    private volatile boolean closed;
+    private volatile HttpResponse response;
+    private SourcePublisher.Source<T> items;
+
+    /**
+     * Creates a source.
+     *
+     * @param connector executes the request and returns its streaming response
+     * @param reader    reads items from the response body
+     */
+    ResponseSource(Supplier<HttpResponse> connector, Function<InputStream, SourcePublisher.Source<T>> reader) {
+        this.connector = connector;
+        this.reader = reader;
+    }
+
+    @Override
+    public T next() throws IOException {
+        if (items == null) {
+            HttpResponse opened = connector.get();
+            response = opened;
+            if (closed) {
+                opened.close();
+                return null;
+            }
+            items = reader.apply(opened.content().asInputStream());
+        }
+        return items.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        HttpResponse current = response;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import dev.revere.webrequest.metrics.ExchangeTimings;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * When the exchange that produced a response started and how long its phases took.
+ * A negative duration means the phase was not measured, e.g. no connection was opened.
+ *
+ * @param requestStart   the wall-clock time the exchange started, or null if unknown
+ * @param dnsNanos       time spent resolving the host name
+ * @param connectNanos   time spent opening the connection, including the TLS handshake
+ * @param firstByteNanos time from the start of the exchange until the response headers arrived
+ * @param totalNanos     time from the start of the exchange until the body was complete
+ */
+public record ResponseTimings(Instant requestStart, long dnsNanos, long connectNanos, long firstByteNanos, long totalNanos) {
+
+    /**
+     * Timings of a response that was not measured, such as one built by hand.
+     */
+    public static final ResponseTimings NONE = new ResponseTimings(null, -1, -1, -1, -1);
+
+    /**
+     * Combines the phases measured by a transport with the timestamps taken by the client.
+     * The time to first byte of the transport wins over the client's, which also includes
+     * the time spent handing the request to the transport.
+     *
+     * @param measured     the timings measured by the transport
+     * @param startNanos   the {@link System#nanoTime()} at which the exchange started
+     * @param headersNanos the {@link System#nanoTime()} at which the response headers were received
+     * @param endNanos     the {@link System#nanoTime()} at which the body was complete, or -1 if it is still streaming
+     * @return the timings
+     */
+    static ResponseTimings of(ExchangeTimings measured, long startNanos, long headersNanos, long endNanos) {
+        long now = System.nanoTime();
+        Instant requestStart = Instant.now().minusNanos(now - startNanos);
+        long firstByte = measured.firstByteNanos() >= 0 ? measured.firstByteNanos() : headersNanos - startNanos;
+        return new ResponseTimings(requestStart, measured.dnsNanos(), measured.connectNanos(), firstByte,
+                endNanos < 0 ? -1 : endNanos - startNanos);
+    }
+
+    /**
+     * Returns a copy with the total time set, such as once a streaming body has been read.
+     *
+     * @param totalNanos the total time in nanoseconds
+     * @return the updated timings
+     */
+    ResponseTimings withTotal(long totalNanos) {
+        return new ResponseTimings(requestStart, dnsNanos, connectNanos, firstByteNanos, totalNanos);
+    }
+
+    /**
+     * Returns the time to first byte.
+     *
+     * @return the duration, or null if not measured
+     */
+    public Duration timeToFirstByte() {
+        return firstByteNanos >= 0 ? Duration.ofNanos(firstByteNanos) : null;
+    }
+
+    /**
+     * Returns the time until the response was complete.
+     *
+     * @return the duration, or null if not measured
+     */
+    public Duration total() {
+        return totalNanos >= 0 ? Duration.ofNanos(totalNanos) : null;
+    }
+
+    /**
+     * Returns the wall-clock time the response was complete.
+     *
+     * @return the instant, or null if not measured
+     */
+    public Instant completedAt() {
+        return requestStart != null && totalNanos >= 0 ? requestStart.plusNanos(totalNanos) : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Coalesces concurrent identical GET and HEAD requests into one exchange.
+ * <p>
+ * The first caller for a key sends the request; callers arriving while it is in flight wait for
+ * the same outcome. Every caller gets its own {@link HttpResponse} over the one buffered body, so
+ * the body is shared rather than copied. The shared body is read-only: {@link ResponseBody#asBytes()}
+ * hands each caller a copy, so no caller can change what the others read. The key is removed before the outcome is published, so a
+ * request made after completion always goes to the server again.
+ * <p>
+ * Cancelling a caller's future detaches only that caller. The shared exchange is aborted once every
+ * caller waiting on it has cancelled, the first one included.
+ */
+final class SingleFlight {
+    private final List<String> varyHeaders;
+    private final ConcurrentHashMap<Key, Flight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a coalescer.
+     *
+     * @param varyHeaders the request headers whose values must also match for requests to be coalesced
+     */
+    SingleFlight(List<String> varyHeaders) {
+        this.varyHeaders = List.copyOf(varyHeaders);
+    }
+
+    /**
+     * Sends a request, or joins an identical one already in flight.
+     *
+     * @param request the request
+     * @param send    sends the request when no identical one is in flight
+     * @return a future completing with the caller's response
+     */
+    CompletableFuture<HttpResponse> execute(HttpRequest request, Function<HttpRequest, CompletableFuture<HttpResponse>> send) {
+        String method = request.method();
+        if (!method.equals("GET") && !method.equals("HEAD") || request.body() != null) {
+            return send.apply(request);
+        }
+        Key key = Key.of(request, varyHeaders);
+        while (true) {
+            Flight flight = new Flight();
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                return flight.lead(key, request, send);
+            }
+            CompletableFuture<HttpResponse> joined = existing.attach();
+            if (joined != null) {
+                return joined;
+            }
+            // Every caller of that exchange has cancelled it; start a new one.
+            inFlight.remove(key, existing);
+        }
+    }
+
+    /**
+     * Returns a response for one caller over the same body bytes, read-only.
+     *
+     * @param response the response of the shared exchange
+     * @return a new response sharing the body
+     */
+    private static HttpResponse share(HttpResponse response) {
+        return new HttpResponse(response.statusCode(), response.headers(), ResponseBody.shared(response.content().asBytes()),
+                response.timings());
+    }
+
+    /**
+     * Identifies requests that may share an exchange.
+     *
+     * @param method     the HTTP method
+     * @param uri        the target URI
+     * @param varyValues the values of the vary headers, null where a header is absent
+     */
+    private record Key(String method, URI uri, List<String> varyValues) {
+
+        private static Key of(HttpRequest request, List<String> varyHeaders) {
+            if (varyHeaders.isEmpty()) {
+                return new Key(request.method(), request.uri(), List.of());
+            }
+            List<String> values = new ArrayList<>(varyHeaders.size());
+            for (String header : varyHeaders) {
+                values.add(request.header(header));
+            }
+            return new Key(request.method(), request.uri(), values);
+        }
+    }
+
+    /**
+     * One shared exchange and the callers waiting on it.
+     */
+    private final class Flight {
+        private final CompletableFuture<HttpResponse> outcome = new CompletableFuture<>();
+        private CompletableFuture<HttpResponse> sent;
+        private int callers;
+        private boolean abandoned;
+
+        /**
+         * Sends the request on behalf of the first caller.
+         *
+         * @param key     the key the flight is registered under
+         * @param request the request
+         * @param send    sends the request
+         * @return a future completing with the first caller's response
+         */
+        private CompletableFuture<HttpResponse> lead(Key key, HttpRequest request,
+                                                     Function<HttpRequest, CompletableFuture<HttpResponse>> send) {
+            CompletableFuture<HttpResponse> caller = attach();
+            CompletableFuture<HttpResponse> exchange;
+            try {
+                exchange = send.apply(request);
+            } catch (RuntimeException e) {
+                exchange = CompletableFuture.failedFuture(e);
+            }
+            boolean cancelled;
+            synchronized (this) {
+                sent = exchange;
+                cancelled = abandoned;
+            }
+            if (cancelled) {
+                exchange.cancel(false);
+            }
+            exchange.whenComplete((response, error) -> {
+                inFlight.remove(key, this);
+                if (error != null) {
+                    outcome.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                } else {
+                    outcome.complete(response);
+                }
+            });
+            return caller;
+        }
+
+        /**
+         * Adds a caller to the flight. Each caller gets a future of its own, so completing or
+         * cancelling it cannot affect the others.
+         *
+         * @return the caller's future, or null if every earlier caller has cancelled the flight
+         */
+        private CompletableFuture<HttpResponse> attach() {
+            synchronized (this) {
+                if (abandoned) {
+                    return null;
+                }
+                callers++;
+            }
+            CompletableFuture<HttpResponse> caller = new CompletableFuture<>();
+            outcome.whenComplete((response, error) -> {
+                if (error != null) {
+                    caller.completeExceptionally(error);
+                } else {
+                    caller.complete(share(response));
+                }
+            });
+            caller.whenComplete((response, error) -> {
+                if (!outcome.isDone()) {
+                    leave();
+                }
+            });
+            return caller;
+        }
+
+        /**
+         * Removes a caller that gave up, aborting the exchange if it was the last one.
+         */
+        private void leave() {
+            CompletableFuture<HttpResponse> exchange;
+            synchronized (this) {
+                if (--callers > 0) {
+                    return;
+                }
+                abandoned = true;
+                exchange = sent;
+            }
+            if (exchange != null) {
+                exchange.cancel(false);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Publishes the items of a blocking source to a single subscriber, reading only as many
+ * items as the subscriber has requested. At most one item is held in memory at a time.
+ *
+ * @param <T> the item type
+ */
+final class SourcePublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * A blocking source of items.
+     *
+     * @param <T> the item type
+     */
+    interface Source<T> extends Closeable {
+
+        /**
+         * Reads the next item, blocking if necessary.
+         *
+         * @return the next item, or null at the end of the source
+         * @throws IOException if an I/O error occurs
+         */
+        T next() throws IOException;
+    }
+
+    private final Source<T> source;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Creates a publisher over the given source.
+     *
+     * @param source   the source to read from
+     * @param executor the executor that performs the blocking reads and delivers signals
+     */
+    SourcePublisher(Source<T> source, Executor executor) {
+        this.source = source;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("This publisher supports a single subscriber"));
+            return;
+        }
+        new SourceSubscription(subscriber).start();
+    }
+
+    private final class SourceSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private SourceSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            try {
+                subscriber.onSubscribe(this);
+            } catch (Throwable t) {
+                terminate();
+                throw t;
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (done.get()) {
+                return;
+            }
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Demand must be positive: " + n));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            terminate();
+        }
+
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                while (!done.get() && demand.get() > 0) {
+                    T item;
+                    try {
+                        item = source.next();
+                    } catch (IOException | RuntimeException e) {
+                        fail(e);
+                        return;
+                    }
+                    if (item == null) {
+                        if (terminate()) {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    if (!done.get()) {
+                        demand.decrementAndGet();
+                        subscriber.onNext(item);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void fail(Throwable error) {
+            if (terminate()) {
+                subscriber.onError(error);
+            }
+        }
+
+        private boolean terminate() {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            try {
+                source.close();
+            } catch (IOException ignored) {
+            }
+            return true;
+        }
+    }
+}
\ No newline at end of file
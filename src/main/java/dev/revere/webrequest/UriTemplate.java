@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A URL with {@code {name}} placeholders, such as {@code https://api.example.com/users/{id}}.
+ * <p>
+ * The template is parsed and validated once. A template without placeholders keeps its parsed
+ * {@link URI} and hands out the same instance on every expansion.
+ */
+public final class UriTemplate {
+    private final String template;
+    private final String[] literals;
+    private final int[] slots;
+    private final String[] variables;
+    private final URI uri;
+
+    private UriTemplate(String template, String[] literals, int[] slots, String[] variables, URI uri) {
+        this.template = template;
+        this.literals = literals;
+        this.slots = slots;
+        this.variables = variables;
+        this.uri = uri;
+    }
+
+    /**
+     * Parses a URL template.
+     *
+     * @param template the template, e.g. {@code https://example.com/users/{id}}
+     * @return the parsed template
+     * @throws IllegalArgumentException if the template is not a valid http or https URL
+     */
+    public static UriTemplate parse(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder sample = new StringBuilder(template.length());
+
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) != -1) {
+            int close = template.indexOf('}', open);
+            if (close == -1 || close == open + 1) {
+                throw new IllegalArgumentException("Invalid URL template: " + template);
+            }
+            String name = template.substring(open + 1, close);
+            int slot = variables.indexOf(name);
+            if (slot == -1) {
+                slot = variables.size();
+                variables.add(name);
+            }
+            literals.add(template.substring(start, open));
+            slots.add(slot);
+            sample.append(template, start, open).append('x');
+            start = close + 1;
+        }
+        literals.add(template.substring(start));
+        sample.append(template, start, template.length());
+
+        URI parsed = validate(sample.toString(), template);
+        return new UriTemplate(template,
+                literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                variables.toArray(String[]::new),
+                variables.isEmpty() ? parsed : null);
+    }
+
+    private static URI validate(String url, String template) {
+        try {
+            URI uri = new URI(url);
+            if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+                throw new IllegalArgumentException("URL must start with http or https: " + template);
+            }
+            return uri;
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid URL: " + template, e);
+        }
+    }
+
+    /**
+     * Returns the distinct placeholder names in order of first appearance.
+     *
+     * @return the variable names
+     */
+    public List<String> variables() {
+        return List.of(variables);
+    }
+
+    /**
+     * Returns the position of a variable, as used by {@link #expand(String[])}.
+     *
+     * @param name the variable name
+     * @return the index of the variable, or -1 if the template has no such placeholder
+     */
+    int indexOf(String name) {
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int variableCount() {
+        return variables.length;
+    }
+
+    /**
+     * Expands the template. Values are percent-encoded as path segments, so a value
+     * containing {@code /} or {@code ?} cannot change the structure of the URL.
+     *
+     * @param values the value of each variable, indexed like {@link #variables()}
+     * @return the expanded URI
+     * @throws IllegalStateException if a variable has no value
+     */
+    URI expand(String[] values) {
+        if (uri != null) {
+            return uri;
+        }
+        StringBuilder url = new StringBuilder(template.length() + 32);
+        for (int i = 0; i < slots.length; i++) {
+            String value = values[slots[i]];
+            if (value == null) {
+                throw new IllegalStateException("No value for path parameter '" + variables[slots[i]] + "' in " + template);
+            }
+            url.append(literals[i]);
+            encode(url, value);
+        }
+        url.append(literals[slots.length]);
+        return URI.create(url.toString());
+    }
+
+    private static void encode(StringBuilder out, String value) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            int c = b & 0xFF;
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~') {
+                out.append((char) c);
+            } else {
+                out.append('%').append(Character.toUpperCase(Character.forDigit(c >> 4, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(c & 0xF, 16)));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof UriTemplate other && template.equals(other.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return template.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.balance;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * One replica of an {@link EndpointGroup}, with the load and health statistics load balancers pick by.
+ * <p>
+ * Latency is tracked as an exponentially weighted moving average that decays with time rather than
+ * with the number of samples, so an endpoint's score recovers at the same pace whether it is busy or idle.
+ */
+public final class Endpoint {
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final URI baseUri;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private double latencyEwmaNanos;
+    private long lastSampleNanos = System.nanoTime();
+    private int consecutiveFailures;
+    private int ejections;
+    private long ejectedUntilNanos;
+    private boolean ejected;
+
+    Endpoint(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Returns the base URI requests to this endpoint are resolved against.
+     *
+     * @return the base URI
+     */
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    /**
+     * Returns the number of requests sent to this endpoint that have not completed yet.
+     *
+     * @return the outstanding requests
+     */
+    public int outstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * Returns the moving average of the time to response headers.
+     *
+     * @return the average latency in milliseconds, or 0 before the first response
+     */
+    public synchronized double latencyMillis() {
+        return latencyEwmaNanos / 1_000_000.0;
+    }
+
+    /**
+     * Returns whether the endpoint is currently ejected from the rotation.
+     *
+     * @return true while an ejection is in effect
+     */
+    public synchronized boolean isEjected() {
+        if (ejected && ejectedUntilNanos - System.nanoTime() <= 0) {
+            ejected = false;
+        }
+        return ejected;
+    }
+
+    /**
+     * Resolves a request URI against this endpoint: the scheme and authority are replaced by the
+     * endpoint's, and the endpoint's path is prepended.
+     *
+     * @param requestUri the URI addressed to the group
+     * @return the URI on this endpoint
+     */
+    public URI resolve(URI requestUri) {
+        StringBuilder target = new StringBuilder(baseUri.getScheme()).append("://").append(baseUri.getRawAuthority());
+        String basePath = baseUri.getRawPath();
+        if (basePath != null && !basePath.isEmpty() && !basePath.equals("/")) {
+            target.append(basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) : basePath);
+        }
+        String path = requestUri.getRawPath();
+        target.append(path == null || path.isEmpty() ? "/" : path);
+        if (requestUri.getRawQuery() != null) {
+            target.append('?').append(requestUri.getRawQuery());
+        }
+        return URI.create(target.toString());
+    }
+
+    /**
+     * Returns the load score used by power-of-two-choices: the average latency scaled by the
+     * requests already waiting on the endpoint.
+     *
+     * @return the score, lower is better
+     */
+    synchronized double cost() {
+        return (latencyEwmaNanos + 1) * (outstanding.get() + 1);
+    }
+
+    void begin() {
+        outstanding.incrementAndGet();
+    }
+
+    void complete() {
+        outstanding.decrementAndGet();
+    }
+
+    /**
+     * Folds a response time into the moving average.
+     *
+     * @param latencyNanos the time to response headers
+     */
+    synchronized void recordLatency(long latencyNanos) {
+        long now = System.nanoTime();
+        double weight = Math.exp(-(now - lastSampleNanos) / DECAY_NANOS);
+        lastSampleNanos = now;
+        latencyEwmaNanos = latencyEwmaNanos == 0 ? latencyNanos : latencyEwmaNanos * weight + latencyNanos * (1 - weight);
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        ejections = 0;
+    }
+
+    /**
+     * Counts a failure.
+     *
+     * @return the number of consecutive failures so far
+     */
+    synchronized int recordFailure() {
+        return ++consecutiveFailures;
+    }
+
+    /**
+     * Takes the endpoint out of rotation for the base ejection time multiplied by the number of
+     * times it has been ejected in a row.
+     *
+     * @param baseEjectionNanos the base ejection time
+     * @param maxEjectionNanos  the longest ejection
+     */
+    synchronized void eject(long baseEjectionNanos, long maxEjectionNanos) {
+        ejections++;
+        consecutiveFailures = 0;
+        ejected = true;
+        ejectedUntilNanos = System.nanoTime() + Math.min(baseEjectionNanos * ejections, maxEjectionNanos);
+    }
+
+    @Override
+    public String toString() {
+        return baseUri.toString();
+    }
+}
\ No newline at end of file
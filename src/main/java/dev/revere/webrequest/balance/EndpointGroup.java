@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.balance;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A named set of replicas of one service. Requests whose URL host is the group's name are sent to an
+ * endpoint picked by the group's {@link LoadBalancer}, e.g. {@code http://users/v1/users/42} to
+ * {@code https://10.0.0.7:8443/v1/users/42}.
+ * <p>
+ * Endpoints are ejected passively: after a number of consecutive I/O errors or 5xx responses an
+ * endpoint leaves the rotation for the base ejection time, longer each time it is ejected again,
+ * and returns once that time is up. At most half of the endpoints are ejected at once by default,
+ * and if every endpoint is ejected requests are spread over all of them.
+ */
+public final class EndpointGroup {
+    private final String name;
+    private final List<Endpoint> endpoints;
+    private volatile LoadBalancer loadBalancer = LoadBalancer.powerOfTwoChoices();
+    private volatile int consecutiveFailures = 5;
+    private volatile long baseEjectionNanos = Duration.ofSeconds(30).toNanos();
+    private volatile long maxEjectionNanos = Duration.ofMinutes(5).toNanos();
+    private volatile int maxEjectedPercent = 50;
+
+    private EndpointGroup(String name, List<Endpoint> endpoints) {
+        this.name = name;
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Creates a group.
+     *
+     * @param name     the logical host name requests address the group by
+     * @param baseUrls the base URLs of the replicas, such as {@code https://10.0.0.7:8443/api}
+     * @return the group
+     * @throws IllegalArgumentException if no URL is given or a URL is not an absolute http or https URL
+     */
+    public static EndpointGroup of(String name, List<String> baseUrls) {
+        Objects.requireNonNull(name, "name");
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("An endpoint group needs at least one endpoint");
+        }
+        List<Endpoint> endpoints = new ArrayList<>(baseUrls.size());
+        for (String baseUrl : baseUrls) {
+            URI uri = URI.create(baseUrl);
+            String scheme = uri.getScheme();
+            if (uri.getHost() == null || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+                throw new IllegalArgumentException("Invalid endpoint URL: " + baseUrl);
+            }
+            endpoints.add(new Endpoint(uri));
+        }
+        return new EndpointGroup(name.toLowerCase(Locale.ROOT), List.copyOf(endpoints));
+    }
+
+    /**
+     * Creates a group.
+     *
+     * @param name     the logical host name requests address the group by
+     * @param baseUrls the base URLs of the replicas
+     * @return the group
+     */
+    public static EndpointGroup of(String name, String... baseUrls) {
+        return of(name, List.of(baseUrls));
+    }
+
+    /**
+     * Sets the strategy that picks endpoints. Defaults to {@link LoadBalancer#powerOfTwoChoices()}.
+     *
+     * @param loadBalancer the strategy, not shared with other groups
+     * @return this group
+     */
+    public EndpointGroup loadBalancer(LoadBalancer loadBalancer) {
+        this.loadBalancer = Objects.requireNonNull(loadBalancer, "loadBalancer");
+        return this;
+    }
+
+    /**
+     * Configures passive outlier ejection. Defaults to 5 consecutive failures and 30 seconds.
+     *
+     * @param consecutiveFailures the I/O errors or 5xx responses in a row that eject an endpoint
+     * @param baseEjectionTime    how long the first ejection lasts
+     * @return this group
+     */
+    public EndpointGroup outlierDetection(int consecutiveFailures, Duration baseEjectionTime) {
+        if (consecutiveFailures <= 0) {
+            throw new IllegalArgumentException("consecutiveFailures must be positive: " + consecutiveFailures);
+        }
+        Objects.requireNonNull(baseEjectionTime, "baseEjectionTime");
+        if (baseEjectionTime.isNegative() || baseEjectionTime.isZero()) {
+            throw new IllegalArgumentException("baseEjectionTime must be positive: " + baseEjectionTime);
+        }
+        this.consecutiveFailures = consecutiveFailures;
+        this.baseEjectionNanos = baseEjectionTime.toNanos();
+        this.maxEjectionNanos = Math.max(maxEjectionNanos, baseEjectionNanos);
+        return this;
+    }
+
+    /**
+     * Sets the largest share of endpoints that may be ejected at once. Defaults to 50.
+     *
+     * @param percent the share in percent, between 0 and 100
+     * @return this group
+     */
+    public EndpointGroup maxEjectedPercent(int percent) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("percent must be between 0 and 100: " + percent);
+        }
+        this.maxEjectedPercent = percent;
+        return this;
+    }
+
+    /**
+     * Returns the logical host name of the group.
+     *
+     * @return the name, in lower case
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the endpoints of the group, including ejected ones.
+     *
+     * @return the endpoints
+     */
+    public List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Picks the endpoint for the next request among those in rotation.
+     *
+     * @return the endpoint
+     */
+    public Endpoint select() {
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+        List<Endpoint> available = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.isEjected()) {
+                available.add(endpoint);
+            }
+        }
+        return loadBalancer.select(available.isEmpty() ? endpoints : available);
+    }
+
+    /**
+     * Records a response from an endpoint.
+     *
+     * @param endpoint     the endpoint
+     * @param statusCode   the status code
+     * @param latencyNanos the time to response headers
+     */
+    void onResponse(Endpoint endpoint, int statusCode, long latencyNanos) {
+        endpoint.recordLatency(latencyNanos);
+        if (statusCode >= 500) {
+            onFailure(endpoint);
+        } else {
+            endpoint.recordSuccess();
+        }
+    }
+
+    /**
+     * Records a failed exchange with an endpoint, ejecting it after too many in a row.
+     *
+     * @param endpoint the endpoint
+     */
+    void onFailure(Endpoint endpoint) {
+        if (endpoint.recordFailure() < consecutiveFailures) {
+            return;
+        }
+        synchronized (this) {
+            int ejected = 0;
+            for (Endpoint other : endpoints) {
+                if (other.isEjected()) {
+                    ejected++;
+                }
+            }
+            if (!endpoint.isEjected() && (ejected + 1) * 100 <= endpoints.size() * maxEjectedPercent) {
+                endpoint.eject(baseEjectionNanos, maxEjectionNanos);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointGroup{" + name + "=" + endpoints + "}";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.balance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Picks the endpoint of an {@link EndpointGroup} that receives the next request.
+ * <p>
+ * Strategies may keep state, such as a rotation counter, so each group needs its own instance.
+ */
+@FunctionalInterface
+public interface LoadBalancer {
+
+    /**
+     * Picks an endpoint.
+     *
+     * @param endpoints the endpoints in rotation, never empty
+     * @return the endpoint to send the request to
+     */
+    Endpoint select(List<Endpoint> endpoints);
+
+    /**
+     * Cycles through the endpoints in order.
+     *
+     * @return a new round-robin balancer
+     */
+    static LoadBalancer roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return endpoints -> endpoints.get(Math.floorMod(next.getAndIncrement(), endpoints.size()));
+    }
+
+    /**
+     * Picks the endpoint with the fewest requests in flight, breaking ties at random.
+     *
+     * @return a new least-outstanding-requests balancer
+     */
+    static LoadBalancer leastOutstanding() {
+        return endpoints -> {
+            int size = endpoints.size();
+            int offset = ThreadLocalRandom.current().nextInt(size);
+            Endpoint best = null;
+            for (int i = 0; i < size; i++) {
+                Endpoint candidate = endpoints.get((offset + i) % size);
+                if (best == null || candidate.outstanding() < best.outstanding()) {
+                    best = candidate;
+                }
+            }
+            return best;
+        };
+    }
+
+    /**
+     * Samples two endpoints at random and picks the one with the lower latency average weighted by
+     * its requests in flight. Slow or congested endpoints therefore lose traffic gradually, without
+     * every client piling onto the same fastest endpoint.
+     *
+     * @return a new power-of-two-choices balancer
+     */
+    static LoadBalancer powerOfTwoChoices() {
+        return endpoints -> {
+            int size = endpoints.size();
+            if (size == 1) {
+                return endpoints.get(0);
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            Endpoint a = endpoints.get(first);
+            Endpoint b = endpoints.get(second);
+            return a.cost() <= b.cost() ? a : b;
+        };
+    }
+}
\ No newline at end of file
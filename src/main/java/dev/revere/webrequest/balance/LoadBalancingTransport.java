@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.balance;
+
+import dev.revere.webrequest.HttpHeaders;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.metrics.ExchangeTimings;
+import dev.revere.webrequest.transport.Cancellation;
+import dev.revere.webrequest.transport.HttpTransport;
+import dev.revere.webrequest.transport.TransportResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Transport decorator that sends requests addressed to an {@link EndpointGroup} to one of its endpoints
+ * and forwards everything else unchanged.
+ * <p>
+ * Every attempt picks an endpoint anew, so a retried or hedged request can land on another replica.
+ * A request counts as outstanding on its endpoint until its response is closed.
+ */
+public class LoadBalancingTransport implements HttpTransport {
+    private final HttpTransport delegate;
+    private final Map<String, EndpointGroup> groups;
+
+    /**
+     * Creates a load-balancing transport.
+     *
+     * @param delegate the transport that contacts the endpoints
+     * @param groups   the endpoint groups, with distinct names
+     */
+    public LoadBalancingTransport(HttpTransport delegate, Collection<EndpointGroup> groups) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.groups = groups.stream().collect(Collectors.toUnmodifiableMap(EndpointGroup::name, Function.identity()));
+    }
+
+    /**
+     * Returns the group a request is addressed to.
+     *
+     * @param request the request
+     * @return the group, or null if the request's host is not a group name
+     */
+    public EndpointGroup groupFor(HttpRequest request) {
+        String host = request.uri().getHost();
+        return host != null ? groups.get(host.toLowerCase(Locale.ROOT)) : null;
+    }
+
+    @Override
+    public TransportResponse send(HttpRequest request) throws IOException {
+        return send(request, new Cancellation());
+    }
+
+    @Override
+    public TransportResponse send(HttpRequest request, Cancellation cancellation) throws IOException {
+        EndpointGroup group = groupFor(request);
+        if (group == null) {
+            return delegate.send(request, cancellation);
+        }
+        Endpoint endpoint = group.select();
+        endpoint.begin();
+        long start = System.nanoTime();
+        TransportResponse response;
+        try {
+            response = delegate.send(request.withUri(endpoint.resolve(request.uri())), cancellation);
+        } catch (IOException | RuntimeException e) {
+            endpoint.complete();
+            if (!cancellation.isCancelled()) {
+                group.onFailure(endpoint);
+            }
+            throw e;
+        }
+        return track(group, endpoint, response, start);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor) {
+        return sendAsync(request, executor, new Cancellation());
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor, Cancellation cancellation) {
+        EndpointGroup group = groupFor(request);
+        if (group == null) {
+            return delegate.sendAsync(request, executor, cancellation);
+        }
+        Endpoint endpoint = group.select();
+        endpoint.begin();
+        long start = System.nanoTime();
+        return delegate.sendAsync(request.withUri(endpoint.resolve(request.uri())), executor, cancellation)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        endpoint.complete();
+                        if (!cancellation.isCancelled()) {
+                            group.onFailure(endpoint);
+                        }
+                    }
+                })
+                .thenApply(response -> track(group, endpoint, response, start));
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static TransportResponse track(EndpointGroup group, Endpoint endpoint, TransportResponse response, long start) {
+        group.onResponse(endpoint, response.statusCode(), System.nanoTime() - start);
+        return new TrackedResponse(response, endpoint);
+    }
+
+    /**
+     * Keeps a request outstanding on its endpoint until the response or its body is closed.
+     */
+    private static final class TrackedResponse implements TransportResponse {
+        private final TransportResponse response;
+        private final Endpoint endpoint;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private TrackedResponse(TransportResponse response, Endpoint endpoint) {
+            this.response = response;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> headers() {
+            return response.headers();
+        }
+
+        @Override
+        public HttpHeaders httpHeaders() {
+            return response.httpHeaders();
+        }
+
+        @Override
+        public InputStream body() throws IOException {
+            return new FilterInputStream(response.body()) {
+                @Override
+                public void close() throws IOException {
+                    complete();
+                    super.close();
+                }
+            };
+        }
+
+        @Override
+        public long contentLength() {
+            return response.contentLength();
+        }
+
+        @Override
+        public ExchangeTimings timings() {
+            return response.timings();
+        }
+
+        @Override
+        public void close() throws IOException {
+            complete();
+            response.close();
+        }
+
+        private void complete() {
+            if (closed.compareAndSet(false, true)) {
+                endpoint.complete();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,307 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.breaker;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Stops calls to a host that keeps failing, so callers fail fast instead of waiting out timeouts.
+ * <p>
+ * While {@link CircuitState#CLOSED closed}, outcomes are counted in a sliding time window made of
+ * buckets that are swapped out as time moves on, so recording never takes a lock. Once enough calls
+ * have been seen and the failure or slow-call rate reaches its threshold the breaker opens and rejects
+ * calls with a {@link CircuitBreakerOpenException}. After the wait duration it lets a few trial calls
+ * through: if they all succeed it closes again, and any failure opens it for another wait duration.
+ */
+public final class CircuitBreaker {
+    private final String name;
+    private final CircuitBreakers.Config config;
+    private final List<CircuitBreakerListener> listeners;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final long bucketNanos;
+    private final AtomicReference<Phase> phase = new AtomicReference<>(Phase.closed());
+
+    /**
+     * Creates a breaker.
+     *
+     * @param name   the name reported in rejections and to listeners, e.g. the host
+     * @param config the configuration
+     */
+    public CircuitBreaker(String name, CircuitBreakers.Config config) {
+        this.name = name;
+        this.config = config;
+        this.listeners = List.copyOf(config.listeners());
+        this.buckets = new AtomicReferenceArray<>(config.buckets());
+        this.bucketNanos = Math.max(1, config.window().toNanos() / config.buckets());
+    }
+
+    /**
+     * Returns the name of the breaker.
+     *
+     * @return the name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the current state, without moving an open breaker to half-open.
+     *
+     * @return the state
+     */
+    public CircuitState state() {
+        return phase.get().state;
+    }
+
+    /**
+     * Returns the failure rate over the sliding window.
+     *
+     * @return the rate in percent, or -1 if fewer than the minimum number of calls were recorded
+     */
+    public float failureRate() {
+        Totals totals = totals();
+        return totals.calls < config.minimumCalls() ? -1 : totals.failures * 100f / totals.calls;
+    }
+
+    /**
+     * Returns the slow-call rate over the sliding window.
+     *
+     * @return the rate in percent, or -1 if fewer than the minimum number of calls were recorded
+     */
+    public float slowCallRate() {
+        Totals totals = totals();
+        return totals.calls < config.minimumCalls() ? -1 : totals.slow * 100f / totals.calls;
+    }
+
+    /**
+     * Asks to make a call. Each permitted call must be reported through exactly one of
+     * {@link #onSuccess}, {@link #onError} or {@link #onIgnored}.
+     *
+     * @throws CircuitBreakerOpenException if the breaker is open, or half-open with no trial call left
+     */
+    public void acquirePermission() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED -> {
+                    return;
+                }
+                case OPEN -> {
+                    long remaining = config.waitInOpenState().toNanos() - (System.nanoTime() - current.sinceNanos);
+                    if (remaining > 0) {
+                        throw new CircuitBreakerOpenException("Circuit breaker for " + name + " is open",
+                                TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+                    }
+                    transition(current, Phase.halfOpen(config.permittedCallsInHalfOpenState()));
+                }
+                case HALF_OPEN -> {
+                    if (current.permits.getAndDecrement() > 0) {
+                        return;
+                    }
+                    current.permits.incrementAndGet();
+                    throw new CircuitBreakerOpenException("Circuit breaker for " + name + " is half-open and waiting for trial calls", 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports a successful call.
+     *
+     * @param durationNanos how long the call took
+     */
+    public void onSuccess(long durationNanos) {
+        boolean slow = durationNanos >= config.slowCallDuration().toNanos();
+        Phase current = phase.get();
+        switch (current.state) {
+            case CLOSED -> record(current, false, slow);
+            case HALF_OPEN -> {
+                if (slow) {
+                    transition(current, Phase.open());
+                } else if (current.successes.incrementAndGet() >= config.permittedCallsInHalfOpenState()) {
+                    if (transition(current, Phase.closed())) {
+                        clearWindow();
+                    }
+                }
+            }
+            case OPEN -> {
+            }
+        }
+    }
+
+    /**
+     * Reports a failed call.
+     *
+     * @param durationNanos how long the call took
+     */
+    public void onError(long durationNanos) {
+        Phase current = phase.get();
+        switch (current.state) {
+            case CLOSED -> record(current, true, durationNanos >= config.slowCallDuration().toNanos());
+            case HALF_OPEN -> transition(current, Phase.open());
+            case OPEN -> {
+            }
+        }
+    }
+
+    /**
+     * Reports a permitted call whose outcome says nothing about the host, such as one the caller
+     * cancelled, handing a trial call back if the breaker is half-open.
+     */
+    public void onIgnored() {
+        Phase current = phase.get();
+        if (current.state == CircuitState.HALF_OPEN) {
+            current.permits.incrementAndGet();
+        }
+    }
+
+    private void record(Phase current, boolean failure, boolean slow) {
+        long now = System.nanoTime();
+        Bucket bucket = bucket(now / bucketNanos);
+        bucket.calls.increment();
+        if (failure) {
+            bucket.failures.increment();
+        }
+        if (slow) {
+            bucket.slow.increment();
+        }
+        if (!failure && !slow) {
+            return;
+        }
+        Totals totals = totals();
+        if (totals.calls >= config.minimumCalls()
+                && (totals.failures * 100 >= config.failureRateThreshold() * totals.calls
+                || totals.slow * 100 >= config.slowCallRateThreshold() * totals.calls)) {
+            transition(current, Phase.open());
+        }
+    }
+
+    /**
+     * Returns the bucket of an epoch, replacing the expired bucket that occupies its slot.
+     */
+    private Bucket bucket(long epoch) {
+        int index = (int) Math.floorMod(epoch, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private Totals totals() {
+        long oldest = System.nanoTime() / bucketNanos - buckets.length();
+        long calls = 0;
+        long failures = 0;
+        long slow = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch > oldest) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+                slow += bucket.slow.sum();
+            }
+        }
+        return new Totals(calls, failures, slow);
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    private boolean transition(Phase from, Phase to) {
+        if (!phase.compareAndSet(from, to)) {
+            return false;
+        }
+        for (CircuitBreakerListener listener : listeners) {
+            listener.onStateTransition(this, from.state, to.state);
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" + name + ", " + state() + "}";
+    }
+
+    /**
+     * A state and the bookkeeping that belongs to it. Transitions swap the whole phase atomically.
+     */
+    private static final class Phase {
+        private final CircuitState state;
+        private final long sinceNanos = System.nanoTime();
+        private final AtomicInteger permits;
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private Phase(CircuitState state, int permits) {
+            this.state = state;
+            this.permits = new AtomicInteger(permits);
+        }
+
+        static Phase closed() {
+            return new Phase(CircuitState.CLOSED, 0);
+        }
+
+        static Phase open() {
+            return new Phase(CircuitState.OPEN, 0);
+        }
+
+        static Phase halfOpen(int permits) {
+            return new Phase(CircuitState.HALF_OPEN, permits);
+        }
+    }
+
+    /**
+     * Counts of one slice of the sliding window.
+     */
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    private record Totals(long calls, long failures, long slow) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.breaker;
+
+import dev.revere.webrequest.HttpException;
+
+import java.io.Serial;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Thrown when a request is rejected by the client itself because the circuit breaker of its host
+ * is open. The request never reached the network. Carries status code 503.
+ */
+public class CircuitBreakerOpenException extends HttpException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterMillis;
+
+    /**
+     * Constructs a new CircuitBreakerOpenException with the specified detail message.
+     *
+     * @param message          the detail message
+     * @param retryAfterMillis the time until the breaker lets trial calls through, or 0 if unknown
+     */
+    public CircuitBreakerOpenException(String message, long retryAfterMillis) {
+        super(503, message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * Returns how long the breaker stays open.
+     *
+     * @return the time in milliseconds until trial calls are let through, or 0 if unknown
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
\ No newline at end of file
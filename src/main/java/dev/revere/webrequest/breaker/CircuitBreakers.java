@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.breaker;
+
+import dev.revere.webrequest.pool.Route;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Keeps one {@link CircuitBreaker} per destination host, so a dead dependency only fails fast for
+ * its own requests.
+ */
+public final class CircuitBreakers {
+    private final Config config;
+    private final ConcurrentHashMap<Route, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates per-host circuit breakers.
+     *
+     * @param config the configuration applied to every host
+     */
+    public CircuitBreakers(Config config) {
+        this.config = Objects.requireNonNull(config, "config");
+    }
+
+    /**
+     * Returns the breaker for the host of a URI, creating it on first use.
+     *
+     * @param uri the request URI
+     * @return the breaker
+     */
+    public CircuitBreaker forHost(URI uri) {
+        Route route = Route.of(uri);
+        CircuitBreaker breaker = breakers.get(route);
+        return breaker != null ? breaker : breakers.computeIfAbsent(route, r -> new CircuitBreaker(r.toString(), config));
+    }
+
+    /**
+     * Returns the breakers created so far.
+     *
+     * @return an unmodifiable view of the breakers keyed by route
+     */
+    public Map<Route, CircuitBreaker> breakers() {
+        return Map.copyOf(breakers);
+    }
+
+    /**
+     * Configuration for {@link CircuitBreakers}.
+     */
+    public static final class Config {
+        private int failureRateThreshold = 50;
+        private int slowCallRateThreshold = 100;
+        private Duration slowCallDuration = Duration.ofSeconds(60);
+        private int minimumCalls = 20;
+        private Duration window = Duration.ofSeconds(10);
+        private int buckets = 10;
+        private Duration waitInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+        private final List<CircuitBreakerListener> listeners = new ArrayList<>();
+
+        /**
+         * Sets the failure rate at which a breaker opens. Defaults to 50.
+         *
+         * @param percent the rate in percent, between 1 and 100
+         * @return the Config instance
+         */
+        public Config failureRateThreshold(int percent) {
+            this.failureRateThreshold = percent(percent, "failureRateThreshold");
+            return this;
+        }
+
+        /**
+         * Sets the rate of slow calls at which a breaker opens, and how long a call must take to
+         * count as slow. Defaults to 100 percent of calls slower than 60 seconds.
+         *
+         * @param percent  the rate in percent, between 1 and 100
+         * @param duration the duration from which a call is slow
+         * @return the Config instance
+         */
+        public Config slowCallThreshold(int percent, Duration duration) {
+            this.slowCallRateThreshold = percent(percent, "slowCallRateThreshold");
+            this.slowCallDuration = positive(duration, "duration");
+            return this;
+        }
+
+        /**
+         * Sets how many calls the window must hold before the rates are evaluated. Defaults to 20.
+         *
+         * @param minimumCalls the minimum number of calls
+         * @return the Config instance
+         */
+        public Config minimumCalls(int minimumCalls) {
+            if (minimumCalls <= 0) {
+                throw new IllegalArgumentException("minimumCalls must be positive: " + minimumCalls);
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets the length of the sliding window and the number of buckets it is made of.
+         * Defaults to 10 seconds in 10 buckets.
+         *
+         * @param window  the window length
+         * @param buckets the number of buckets
+         * @return the Config instance
+         */
+        public Config slidingWindow(Duration window, int buckets) {
+            if (buckets <= 0) {
+                throw new IllegalArgumentException("buckets must be positive: " + buckets);
+            }
+            this.window = positive(window, "window");
+            this.buckets = buckets;
+            return this;
+        }
+
+        /**
+         * Sets how long an open breaker rejects calls before letting trial calls through. Defaults to 30 seconds.
+         *
+         * @param wait the wait duration
+         * @return the Config instance
+         */
+        public Config waitInOpenState(Duration wait) {
+            this.waitInOpenState = positive(wait, "wait");
+            return this;
+        }
+
+        /**
+         * Sets how many trial calls a half-open breaker lets through, all of which must succeed for
+         * it to close. Defaults to 3.
+         *
+         * @param calls the number of trial calls
+         * @return the Config instance
+         */
+        public Config permittedCallsInHalfOpenState(int calls) {
+            if (calls <= 0) {
+                throw new IllegalArgumentException("calls must be positive: " + calls);
+            }
+            this.permittedCallsInHalfOpenState = calls;
+            return this;
+        }
+
+        /**
+         * Adds a listener notified of every state transition.
+         *
+         * @param listener the listener
+         * @return the Config instance
+         */
+        public Config listener(CircuitBreakerListener listener) {
+            listeners.add(Objects.requireNonNull(listener, "listener"));
+            return this;
+        }
+
+        int failureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        int slowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        Duration slowCallDuration() {
+            return slowCallDuration;
+        }
+
+        int minimumCalls() {
+            return minimumCalls;
+        }
+
+        Duration window() {
+            return window;
+        }
+
+        int buckets() {
+            return buckets;
+        }
+
+        Duration waitInOpenState() {
+            return waitInOpenState;
+        }
+
+        int permittedCallsInHalfOpenState() {
+            return permittedCallsInHalfOpenState;
+        }
+
+        List<CircuitBreakerListener> listeners() {
+            return listeners;
+        }
+
+        private static int percent(int percent, String name) {
+            if (percent < 1 || percent > 100) {
+                throw new IllegalArgumentException(name + " must be between 1 and 100: " + percent);
+            }
+            return percent;
+        }
+
+        private static Duration positive(Duration duration, String name) {
+            Objects.requireNonNull(duration, name);
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive: " + duration);
+            }
+            return duration;
+        }
+    }
+}
\ No newline at end of file
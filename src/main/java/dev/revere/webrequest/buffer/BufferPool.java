@@ -0,0 +1,342 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A pool of heap and direct buffers for body I/O, so that reading and writing bodies does not
+ * allocate a fresh scratch buffer per request.
+ * <p>
+ * Buffers come in power-of-two size classes from 4 KiB to 1 MiB. Each platform thread keeps one
+ * small buffer per class to itself, which serves the common case without any synchronization;
+ * beyond that, buffers are shared through bounded lock-free stacks. Virtual threads skip the
+ * thread-local level, since they are too short-lived to benefit from it. Larger requests are
+ * allocated and dropped without pooling.
+ */
+public final class BufferPool {
+    private static final int MIN_SHIFT = 12;
+    private static final int MAX_SHIFT = 20;
+    private static final int CLASSES = MAX_SHIFT - MIN_SHIFT + 1;
+    private static final int MAX_THREAD_LOCAL_SIZE = 64 * 1024;
+    private static final int MAX_PRESIZED_READ = 16 * 1024 * 1024;
+    private static final BufferPool SHARED = new BufferPool(8L * 1024 * 1024);
+
+    private final long maxPooledBytes;
+    private final SizeClass<byte[]>[] heap;
+    private final SizeClass<ByteBuffer>[] direct;
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+    private final LongAdder allocated = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    /**
+     * Creates a pool.
+     *
+     * @param maxPooledBytes the total capacity of the buffers kept in the shared pool
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BufferPool(long maxPooledBytes) {
+        if (maxPooledBytes < 0) {
+            throw new IllegalArgumentException("maxPooledBytes must not be negative: " + maxPooledBytes);
+        }
+        this.maxPooledBytes = maxPooledBytes;
+        this.heap = new SizeClass[CLASSES];
+        this.direct = new SizeClass[CLASSES];
+        for (int i = 0; i < CLASSES; i++) {
+            heap[i] = new SizeClass<>();
+            direct[i] = new SizeClass<>();
+        }
+    }
+
+    /**
+     * Returns the pool used by the library's body I/O.
+     *
+     * @return the shared pool
+     */
+    public static BufferPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Takes a heap buffer of at least the given size. Its content is undefined.
+     *
+     * @param minSize the minimum size in bytes
+     * @return the buffer, to be handed back with {@link #release(byte[])}
+     */
+    public byte[] acquire(int minSize) {
+        int index = classOf(minSize);
+        if (index == -1) {
+            allocated.increment();
+            return new byte[minSize];
+        }
+        byte[] buffer = heap[index].poll(this, 1 << (index + MIN_SHIFT));
+        if (buffer != null) {
+            reused.increment();
+            return buffer;
+        }
+        allocated.increment();
+        return new byte[1 << (index + MIN_SHIFT)];
+    }
+
+    /**
+     * Hands a heap buffer back to the pool. The caller must not use it afterwards.
+     *
+     * @param buffer the buffer
+     */
+    public void release(byte[] buffer) {
+        int index = exactClassOf(buffer.length);
+        if (index == -1 || !heap[index].offer(this, buffer, buffer.length)) {
+            discarded.increment();
+        }
+    }
+
+    /**
+     * Takes a direct buffer of at least the given capacity, cleared and ready for writing.
+     *
+     * @param minSize the minimum capacity in bytes
+     * @return the buffer, to be handed back with {@link #release(ByteBuffer)}
+     */
+    public ByteBuffer acquireDirect(int minSize) {
+        int index = classOf(minSize);
+        if (index == -1) {
+            allocated.increment();
+            return ByteBuffer.allocateDirect(minSize);
+        }
+        ByteBuffer buffer = direct[index].poll(this, 1 << (index + MIN_SHIFT));
+        if (buffer != null) {
+            reused.increment();
+            return buffer.clear();
+        }
+        allocated.increment();
+        return ByteBuffer.allocateDirect(1 << (index + MIN_SHIFT));
+    }
+
+    /**
+     * Hands a direct buffer back to the pool. The caller must not use it afterwards.
+     *
+     * @param buffer the buffer
+     */
+    public void release(ByteBuffer buffer) {
+        int index = buffer.isDirect() ? exactClassOf(buffer.capacity()) : -1;
+        if (index == -1 || !direct[index].offer(this, buffer, buffer.capacity())) {
+            discarded.increment();
+        }
+    }
+
+    /**
+     * Copies a stream to another through a pooled buffer. Neither stream is closed.
+     *
+     * @param in  the source
+     * @param out the target
+     * @return the number of bytes copied
+     * @throws IOException if an I/O error occurs
+     */
+    public long transfer(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = acquire(8192);
+        try {
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer, 0, buffer.length)) != -1) {
+                out.write(buffer, 0, read);
+                total += read;
+            }
+            return total;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Writes the remaining content of a buffer to a stream without changing the buffer's position.
+     * Heap buffers are written straight from their array; direct ones are staged through a pooled heap buffer.
+     *
+     * @param content the content to write
+     * @param out     the target
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(ByteBuffer content, OutputStream out) throws IOException {
+        if (content.hasArray()) {
+            out.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            return;
+        }
+        ByteBuffer source = content.duplicate();
+        byte[] buffer = acquire(Math.min(source.remaining(), 64 * 1024));
+        try {
+            while (source.hasRemaining()) {
+                int count = Math.min(buffer.length, source.remaining());
+                source.get(buffer, 0, count);
+                out.write(buffer, 0, count);
+            }
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Reads a stream to its end into an array of exactly the content's size.
+     * <p>
+     * When the length is known up front, as from {@code Content-Length}, the content is read straight
+     * into its final array. Otherwise it is collected in pooled buffers and copied out once.
+     *
+     * @param in             the stream, which is not closed
+     * @param expectedLength the expected number of bytes, or -1 if unknown
+     * @return the content
+     * @throws IOException if an I/O error occurs
+     */
+    public byte[] readAll(InputStream in, long expectedLength) throws IOException {
+        if (expectedLength >= 0 && expectedLength <= MAX_PRESIZED_READ) {
+            byte[] bytes = new byte[(int) expectedLength];
+            int read = in.readNBytes(bytes, 0, bytes.length);
+            if (read < bytes.length) {
+                return Arrays.copyOf(bytes, read);
+            }
+            int next = in.read();
+            if (next == -1) {
+                return bytes;
+            }
+            // The stream is longer than announced; keep what was read and collect the rest.
+            byte[] rest = readAll(in, -1);
+            byte[] all = Arrays.copyOf(bytes, bytes.length + 1 + rest.length);
+            all[bytes.length] = (byte) next;
+            System.arraycopy(rest, 0, all, bytes.length + 1, rest.length);
+            return all;
+        }
+        byte[] buffer = acquire(8192);
+        int length = 0;
+        try {
+            int read;
+            while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+                if (length == buffer.length) {
+                    if (buffer.length >= Integer.MAX_VALUE - 8) {
+                        throw new OutOfMemoryError("Body exceeds the maximum array size");
+                    }
+                    byte[] larger = acquire((int) Math.min((long) buffer.length * 2, Integer.MAX_VALUE - 8));
+                    System.arraycopy(buffer, 0, larger, 0, length);
+                    release(buffer);
+                    buffer = larger;
+                }
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool's counters and occupancy.
+     *
+     * @return the stats
+     */
+    public BufferPoolStats stats() {
+        return new BufferPoolStats(allocated.sum(), reused.sum(), discarded.sum(), pooledBuffers.get(), pooledBytes.get());
+    }
+
+    private static int classOf(int size) {
+        if (size > 1 << MAX_SHIFT) {
+            return -1;
+        }
+        int shift = Math.max(MIN_SHIFT, 32 - Integer.numberOfLeadingZeros(Math.max(1, size) - 1));
+        return shift - MIN_SHIFT;
+    }
+
+    private static int exactClassOf(int size) {
+        int index = classOf(size);
+        return index != -1 && 1 << (index + MIN_SHIFT) == size ? index : -1;
+    }
+
+    private boolean reserve(int size) {
+        long current;
+        do {
+            current = pooledBytes.get();
+            if (current + size > maxPooledBytes) {
+                return false;
+            }
+        } while (!pooledBytes.compareAndSet(current, current + size));
+        pooledBuffers.incrementAndGet();
+        return true;
+    }
+
+    private void unreserve(int size) {
+        pooledBytes.addAndGet(-size);
+        pooledBuffers.decrementAndGet();
+    }
+
+    /**
+     * The buffers of one size: a one-slot cache per platform thread for small sizes, then a shared stack.
+     *
+     * @param <B> the buffer type
+     */
+    private static final class SizeClass<B> {
+        private final ThreadLocal<Object[]> local = ThreadLocal.withInitial(() -> new Object[1]);
+        private final ConcurrentLinkedDeque<B> shared = new ConcurrentLinkedDeque<>();
+
+        @SuppressWarnings("unchecked")
+        private B poll(BufferPool pool, int size) {
+            if (size <= MAX_THREAD_LOCAL_SIZE && !Thread.currentThread().isVirtual()) {
+                Object[] slot = local.get();
+                B cached = (B) slot[0];
+                if (cached != null) {
+                    slot[0] = null;
+                    return cached;
+                }
+            }
+            B buffer = shared.pollFirst();
+            if (buffer != null) {
+                pool.unreserve(size);
+            }
+            return buffer;
+        }
+
+        private boolean offer(BufferPool pool, B buffer, int size) {
+            if (size <= MAX_THREAD_LOCAL_SIZE && !Thread.currentThread().isVirtual()) {
+                Object[] slot = local.get();
+                if (slot[0] == null) {
+                    slot[0] = buffer;
+                    return true;
+                }
+            }
+            if (!pool.reserve(size)) {
+                return false;
+            }
+            shared.offerFirst(buffer);
+            return true;
+        }
+    }
+}
\ No newline at end of file
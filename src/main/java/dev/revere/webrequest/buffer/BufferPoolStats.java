@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.buffer;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Point-in-time snapshot of a {@link BufferPool}.
+ *
+ * @param allocated     the buffers allocated because no pooled one was free
+ * @param reused        the requests served by a pooled buffer, i.e. allocations avoided
+ * @param discarded     the released buffers dropped because the pool was full or they were too large
+ * @param pooledBuffers the buffers waiting in the shared pool
+ * @param pooledBytes   the capacity of the buffers waiting in the shared pool
+ */
+public record BufferPoolStats(long allocated, long reused, long discarded, int pooledBuffers, long pooledBytes) {
+
+    /**
+     * Returns the share of buffer requests served without allocating.
+     *
+     * @return the reuse rate between 0 and 1, or 0 if no buffer was requested
+     */
+    public double reuseRate() {
+        long total = allocated + reused;
+        return total == 0 ? 0 : (double) reused / total;
+    }
+}
\ No newline at end of file
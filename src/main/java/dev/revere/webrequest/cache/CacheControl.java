@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The {@code Cache-Control} directives a private cache acts on (RFC 9111, section 5.2).
+ * Unknown directives and ones meant for shared caches are ignored.
+ *
+ * @param noStore       the response must not be stored
+ * @param noCache       a stored response must be revalidated before every use
+ * @param maxAgeSeconds the {@code max-age} value, or -1 if absent
+ */
+record CacheControl(boolean noStore, boolean noCache, long maxAgeSeconds) {
+
+    static final CacheControl NONE = new CacheControl(false, false, -1);
+
+    /**
+     * Parses the values of every {@code Cache-Control} header of a message.
+     *
+     * @param values the header values, may be null
+     * @return the directives
+     */
+    static CacheControl parse(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return NONE;
+        }
+        boolean noStore = false;
+        boolean noCache = false;
+        long maxAge = -1;
+        for (String value : values) {
+            for (String directive : value.split(",")) {
+                String trimmed = directive.trim().toLowerCase(Locale.ROOT);
+                if (trimmed.equals("no-store")) {
+                    noStore = true;
+                } else if (trimmed.equals("no-cache") || trimmed.startsWith("no-cache=")) {
+                    noCache = true;
+                } else if (trimmed.startsWith("max-age=")) {
+                    maxAge = parseSeconds(trimmed.substring("max-age=".length()));
+                }
+            }
+        }
+        return new CacheControl(noStore, noCache, maxAge);
+    }
+
+    private static long parseSeconds(String value) {
+        String unquoted = value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")
+                ? value.substring(1, value.length() - 1) : value;
+        try {
+            return Math.max(0, Long.parseLong(unquoted));
+        } catch (NumberFormatException e) {
+            // RFC 9111 section 4.2.1: an invalid max-age makes the response stale.
+            return 0;
+        }
+    }
+}
\ No newline at end of file
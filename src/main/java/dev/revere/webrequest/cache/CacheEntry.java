@@ -0,0 +1,434 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.metrics.ExchangeTimings;
+import dev.revere.webrequest.transport.TransportResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A stored response together with the times needed to compute its age (RFC 9111, section 4.2.3)
+ * and the request header values it was selected by.
+ */
+final class CacheEntry {
+    private static final Set<Integer> HEURISTICALLY_CACHEABLE = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+    private static final Set<String> NOT_UPDATED_BY_304 = Set.of("content-length", "content-encoding", "transfer-encoding", "content-range");
+    private static final long MAX_HEURISTIC_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final int FORMAT_VERSION = 1;
+
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final Map<String, String> varyValues;
+    private final long requestMillis;
+    private final long responseMillis;
+    private final CacheControl cacheControl;
+
+    CacheEntry(int statusCode, Map<String, List<String>> headers, byte[] body, Map<String, String> varyValues,
+               long requestMillis, long responseMillis) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.varyValues = varyValues;
+        this.requestMillis = requestMillis;
+        this.responseMillis = responseMillis;
+        this.cacheControl = CacheControl.parse(values(headers, "Cache-Control"));
+    }
+
+    /**
+     * Creates an entry for a response received from the server.
+     *
+     * @param request        the request that produced the response
+     * @param response       the buffered response
+     * @param body           the response body
+     * @param requestMillis  the time the request was sent
+     * @param responseMillis the time the response was received
+     * @return the entry
+     */
+    static CacheEntry of(HttpRequest request, TransportResponse response, byte[] body, long requestMillis, long responseMillis) {
+        Map<String, String> varyValues = new LinkedHashMap<>();
+        for (String name : varyNames(response.headers())) {
+            varyValues.put(name, request.header(name));
+        }
+        return new CacheEntry(response.statusCode(), copy(response.headers()), body, varyValues, requestMillis, responseMillis);
+    }
+
+    /**
+     * Returns whether a response may be stored (RFC 9111, section 3): its status is heuristically
+     * cacheable, it is not marked {@code no-store}, it does not vary on everything, and it can either
+     * be reused for a while or revalidated.
+     *
+     * @param statusCode the response status code
+     * @param headers    the response headers
+     * @return true if the response may be stored
+     */
+    static boolean isStorable(int statusCode, Map<String, List<String>> headers) {
+        if (!HEURISTICALLY_CACHEABLE.contains(statusCode)) {
+            return false;
+        }
+        CacheControl cacheControl = CacheControl.parse(values(headers, "Cache-Control"));
+        if (cacheControl.noStore() || varyNames(headers).contains("*")) {
+            return false;
+        }
+        return cacheControl.maxAgeSeconds() > 0
+                || first(headers, "Expires") != null
+                || first(headers, "Last-Modified") != null
+                || first(headers, "ETag") != null;
+    }
+
+    int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns whether the entry was stored for a request with the same values of the headers
+     * named by the response's {@code Vary} header.
+     *
+     * @param request the request to serve
+     * @return true if the entry can answer the request
+     */
+    boolean matches(HttpRequest request) {
+        for (Map.Entry<String, String> vary : varyValues.entrySet()) {
+            if (!Objects.equals(vary.getValue(), request.header(vary.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns how long the response stays fresh after it was generated (RFC 9111, section 4.2.1).
+     *
+     * @return the freshness lifetime in milliseconds
+     */
+    long freshnessLifetimeMillis() {
+        if (cacheControl.noCache()) {
+            return 0;
+        }
+        if (cacheControl.maxAgeSeconds() >= 0) {
+            return TimeUnit.SECONDS.toMillis(cacheControl.maxAgeSeconds());
+        }
+        long date = dateValue();
+        String expires = first(headers, "Expires");
+        if (expires != null) {
+            long expiresMillis = parseDate(expires);
+            return expiresMillis == -1 ? 0 : Math.max(0, expiresMillis - date);
+        }
+        long lastModified = parseDate(first(headers, "Last-Modified"));
+        if (lastModified != -1 && lastModified < date) {
+            return Math.min(MAX_HEURISTIC_MILLIS, (date - lastModified) / 10);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the age of the response (RFC 9111, section 4.2.3).
+     *
+     * @param nowMillis the current time
+     * @return the current age in milliseconds
+     */
+    long currentAgeMillis(long nowMillis) {
+        long apparentAge = Math.max(0, responseMillis - dateValue());
+        long ageValue = TimeUnit.SECONDS.toMillis(parseAge(first(headers, "Age")));
+        long correctedAge = ageValue + (responseMillis - requestMillis);
+        return Math.max(apparentAge, correctedAge) + (nowMillis - responseMillis);
+    }
+
+    /**
+     * Returns whether the entry can answer the request without contacting the server, honoring the
+     * request's own {@code no-cache} and {@code max-age} directives.
+     *
+     * @param request   the request to serve
+     * @param nowMillis the current time
+     * @return true if the entry is fresh enough
+     */
+    boolean isFresh(HttpRequest request, long nowMillis) {
+        String requestDirectives = request.header("Cache-Control");
+        CacheControl requested = requestDirectives == null ? CacheControl.NONE : CacheControl.parse(List.of(requestDirectives));
+        if (requested.noCache() || request.header("Pragma") != null && request.header("Pragma").contains("no-cache")) {
+            return false;
+        }
+        long age = currentAgeMillis(nowMillis);
+        if (requested.maxAgeSeconds() >= 0 && age > TimeUnit.SECONDS.toMillis(requested.maxAgeSeconds())) {
+            return false;
+        }
+        return age < freshnessLifetimeMillis();
+    }
+
+    /**
+     * Returns whether the server can confirm the entry with a 304 response.
+     *
+     * @return true if the entry has an {@code ETag} or {@code Last-Modified} validator
+     */
+    boolean hasValidators() {
+        return first(headers, "ETag") != null || first(headers, "Last-Modified") != null;
+    }
+
+    /**
+     * Adds the entry's validators to a request as {@code If-None-Match} and {@code If-Modified-Since}.
+     *
+     * @param request the request
+     * @return the conditional request
+     */
+    HttpRequest conditional(HttpRequest request) {
+        HttpRequest conditional = request;
+        String etag = first(headers, "ETag");
+        if (etag != null) {
+            conditional = conditional.withHeader("If-None-Match", etag);
+        }
+        String lastModified = first(headers, "Last-Modified");
+        if (lastModified != null) {
+            conditional = conditional.withHeader("If-Modified-Since", lastModified);
+        }
+        return conditional;
+    }
+
+    /**
+     * Returns a copy of the entry refreshed by a 304 response (RFC 9111, section 4.3.4). The header
+     * fields of the 304 replace the stored ones, except those describing the body.
+     *
+     * @param notModified    the headers of the 304 response
+     * @param requestMillis  the time the conditional request was sent
+     * @param responseMillis the time the 304 was received
+     * @return the refreshed entry
+     */
+    CacheEntry revalidated(Map<String, List<String>> notModified, long requestMillis, long responseMillis) {
+        Map<String, List<String>> updated = new LinkedHashMap<>(headers);
+        for (Map.Entry<String, List<String>> header : notModified.entrySet()) {
+            if (header.getKey() == null || NOT_UPDATED_BY_304.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            updated.keySet().removeIf(name -> name.equalsIgnoreCase(header.getKey()));
+            updated.put(header.getKey(), List.copyOf(header.getValue()));
+        }
+        return new CacheEntry(statusCode, Collections.unmodifiableMap(updated), body, varyValues, requestMillis, responseMillis);
+    }
+
+    /**
+     * Returns the stored response with an {@code Age} header, as a cache must send it (RFC 9111, section 5.1).
+     *
+     * @param nowMillis the current time
+     * @return the response
+     */
+    TransportResponse toResponse(long nowMillis) {
+        Map<String, List<String>> served = new LinkedHashMap<>(headers);
+        served.keySet().removeIf(name -> name.equalsIgnoreCase("Age"));
+        served.put("Age", List.of(String.valueOf(TimeUnit.MILLISECONDS.toSeconds(currentAgeMillis(nowMillis)))));
+        return TransportResponse.of(statusCode, Collections.unmodifiableMap(served), body, ExchangeTimings.NONE);
+    }
+
+    /**
+     * Returns the approximate memory held by the entry.
+     *
+     * @return the weight in bytes
+     */
+    long weight() {
+        long weight = body.length + 64;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            weight += header.getKey().length();
+            for (String value : header.getValue()) {
+                weight += value.length() + 16;
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Encodes the entry for the disk tier.
+     *
+     * @return the encoded entry
+     */
+    byte[] serialize() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeShort(statusCode);
+            out.writeLong(requestMillis);
+            out.writeLong(responseMillis);
+            out.writeInt(headers.size());
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                writeString(out, header.getKey());
+                out.writeInt(header.getValue().size());
+                for (String value : header.getValue()) {
+                    writeString(out, value);
+                }
+            }
+            out.writeInt(varyValues.size());
+            for (Map.Entry<String, String> vary : varyValues.entrySet()) {
+                writeString(out, vary.getKey());
+                out.writeBoolean(vary.getValue() != null);
+                if (vary.getValue() != null) {
+                    writeString(out, vary.getValue());
+                }
+            }
+            out.writeInt(body.length);
+            out.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory stream failed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes an entry written by {@link #serialize()}.
+     *
+     * @param data the encoded entry
+     * @return the entry
+     * @throws IOException if the data is truncated or of an unknown format
+     */
+    static CacheEntry deserialize(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unknown cache entry format: " + version);
+            }
+            int statusCode = in.readUnsignedShort();
+            long requestMillis = in.readLong();
+            long responseMillis = in.readLong();
+            int headerCount = in.readInt();
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (int i = 0; i < headerCount; i++) {
+                String name = readString(in);
+                int valueCount = in.readInt();
+                List<String> values = new ArrayList<>(valueCount);
+                for (int j = 0; j < valueCount; j++) {
+                    values.add(readString(in));
+                }
+                headers.put(name, Collections.unmodifiableList(values));
+            }
+            int varyCount = in.readInt();
+            Map<String, String> varyValues = new LinkedHashMap<>();
+            for (int i = 0; i < varyCount; i++) {
+                String name = readString(in);
+                varyValues.put(name, in.readBoolean() ? readString(in) : null);
+            }
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new CacheEntry(statusCode, Collections.unmodifiableMap(headers), body, varyValues, requestMillis, responseMillis);
+        }
+    }
+
+    private long dateValue() {
+        long date = parseDate(first(headers, "Date"));
+        return date == -1 ? responseMillis : date;
+    }
+
+    private static List<String> varyNames(Map<String, List<String>> headers) {
+        List<String> values = values(headers, "Vary");
+        if (values == null) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>();
+        for (String value : values) {
+            for (String name : value.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static Map<String, List<String>> copy(Map<String, List<String>> headers) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        headers.forEach((name, values) -> {
+            if (name != null) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static List<String> values(Map<String, List<String>> headers, String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String first(Map<String, List<String>> headers, String name) {
+        List<String> values = values(headers, name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static long parseDate(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static long parseAge(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Point-in-time snapshot of an {@link HttpCache}.
+ *
+ * @param hitCount         the requests answered from the cache without contacting the server
+ * @param revalidatedCount the requests answered from the cache after the server confirmed it with a 304
+ * @param missCount        the cacheable requests answered by a full response from the server
+ * @param evictionCount    the entries dropped to make room, from the memory tier when there is no disk tier and from the disk tier otherwise
+ * @param memoryBytes      the approximate size of the entries held in memory
+ * @param diskBytes        the bytes written to the disk tier's segments
+ */
+public record CacheStats(long hitCount, long revalidatedCount, long missCount, long evictionCount, long memoryBytes, long diskBytes) {
+
+    /**
+     * Stats reported by clients that do not use a cache.
+     */
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    /**
+     * Returns the share of cacheable requests answered from the cache, including revalidated ones.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no request was looked up
+     */
+    public double hitRate() {
+        long total = hitCount + revalidatedCount + missCount;
+        return total == 0 ? 0 : (double) (hitCount + revalidatedCount) / total;
+    }
+}
\ No newline at end of file
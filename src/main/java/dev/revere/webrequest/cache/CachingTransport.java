@@ -0,0 +1,263 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpHeaders;
+import dev.revere.webrequest.buffer.BufferPool;
+import dev.revere.webrequest.metrics.ExchangeTimings;
+import dev.revere.webrequest.transport.Cancellation;
+import dev.revere.webrequest.transport.HttpTransport;
+import dev.revere.webrequest.transport.TransportResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Transport decorator that answers requests from an {@link HttpCache} where RFC 9111 allows it and
+ * forwards everything else to the underlying transport.
+ * <p>
+ * Fresh hits complete without any I/O. Storable responses are buffered so they can be stored, but
+ * never beyond the cache's entry limit: a body of unknown length that turns out larger is handed on
+ * as a stream instead. Other responses are passed through untouched, streaming bodies included.
+ */
+public class CachingTransport implements HttpTransport {
+    private final HttpTransport delegate;
+    private final HttpCache cache;
+
+    /**
+     * Creates a caching transport.
+     *
+     * @param delegate the transport that contacts the server
+     * @param cache    the cache to use
+     */
+    public CachingTransport(HttpTransport delegate, HttpCache cache) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.cache = Objects.requireNonNull(cache, "cache");
+    }
+
+    /**
+     * Returns the cache this transport answers from.
+     *
+     * @return the cache
+     */
+    public HttpCache cache() {
+        return cache;
+    }
+
+    @Override
+    public TransportResponse send(HttpRequest request) throws IOException {
+        return send(request, new Cancellation());
+    }
+
+    @Override
+    public TransportResponse send(HttpRequest request, Cancellation cancellation) throws IOException {
+        if (!HttpCache.isCacheable(request)) {
+            return invalidating(request, delegate.send(request, cancellation));
+        }
+        long now = System.currentTimeMillis();
+        CacheEntry entry = cache.get(request);
+        if (entry != null && entry.isFresh(request, now)) {
+            cache.recordHit();
+            return entry.toResponse(now);
+        }
+        TransportResponse response = delegate.send(outgoing(request, entry), cancellation);
+        return onResponse(request, entry, response, now);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor) {
+        return sendAsync(request, executor, new Cancellation());
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor, Cancellation cancellation) {
+        if (!HttpCache.isCacheable(request)) {
+            return delegate.sendAsync(request, executor, cancellation).thenApply(response -> invalidating(request, response));
+        }
+        long now = System.currentTimeMillis();
+        CacheEntry entry = cache.get(request);
+        if (entry != null && entry.isFresh(request, now)) {
+            cache.recordHit();
+            return CompletableFuture.completedFuture(entry.toResponse(now));
+        }
+        return delegate.sendAsync(outgoing(request, entry), executor, cancellation).thenApply(response -> {
+            try {
+                return onResponse(request, entry, response, now);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        try {
+            delegate.close();
+        } finally {
+            cache.close();
+        }
+    }
+
+    private static HttpRequest outgoing(HttpRequest request, CacheEntry entry) {
+        return entry != null && entry.hasValidators() ? entry.conditional(request) : request;
+    }
+
+    /**
+     * Serves a 304 from the stored entry, or stores a new storable response.
+     *
+     * @param request       the original request
+     * @param entry         the stale entry the request was made conditional on, or null
+     * @param response      the server's response
+     * @param requestMillis the time the request was sent
+     * @return the response to hand to the client
+     * @throws IOException if an I/O error occurs while buffering a storable response
+     */
+    private TransportResponse onResponse(HttpRequest request, CacheEntry entry, TransportResponse response, long requestMillis) throws IOException {
+        long now = System.currentTimeMillis();
+        if (response.statusCode() == 304 && entry != null) {
+            response.close();
+            CacheEntry refreshed = entry.revalidated(response.headers(), requestMillis, now);
+            cache.put(request, refreshed);
+            cache.recordRevalidated();
+            return refreshed.toResponse(now);
+        }
+        cache.recordMiss();
+        if (!CacheEntry.isStorable(response.statusCode(), response.headers()) || exceedsEntryLimit(response)) {
+            return response;
+        }
+        long length = response.contentLength();
+        InputStream in = response.body();
+        byte[] body;
+        try {
+            body = length >= 0 ? BufferPool.shared().readAll(in, length) : readUpTo(in, cache.maxEntryBytes() + 1);
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+        if (body.length > cache.maxEntryBytes()) {
+            return new PrefixedResponse(response, body, in);
+        }
+        try (response; in) {
+            cache.put(request, CacheEntry.of(request, response, body, requestMillis, now));
+        }
+        return TransportResponse.of(response.statusCode(), response.headers(), body, response.timings());
+    }
+
+    private boolean exceedsEntryLimit(TransportResponse response) {
+        return response.contentLength() > cache.maxEntryBytes();
+    }
+
+    /**
+     * Reads a body of unknown length, stopping once the limit is reached so that an oversized or
+     * endless body is never held in full.
+     *
+     * @param in    the body
+     * @param limit the most bytes to read
+     * @return the bytes read, fewer than the limit only if the body ended
+     * @throws IOException if an I/O error occurs
+     */
+    private static byte[] readUpTo(InputStream in, long limit) throws IOException {
+        return in.readNBytes((int) Math.min(limit, Integer.MAX_VALUE - 8));
+    }
+
+    /**
+     * Invalidates the stored response for the request's URI after a successful unsafe request
+     * (RFC 9111, section 4.4).
+     *
+     * @param request  the request
+     * @param response the response
+     * @return the response
+     */
+    private TransportResponse invalidating(HttpRequest request, TransportResponse response) {
+        int status = response.statusCode();
+        if (!isSafe(request.method()) && status >= 200 && status < 400) {
+            cache.invalidate(request.uri());
+        }
+        return response;
+    }
+
+    private static boolean isSafe(String method) {
+        return method.equals("GET") || method.equals("HEAD") || method.equals("OPTIONS") || method.equals("TRACE");
+    }
+
+    /**
+     * A response too large to store, whose body is the part already read followed by the rest of
+     * the stream.
+     */
+    private static final class PrefixedResponse implements TransportResponse {
+        private final TransportResponse response;
+        private final InputStream body;
+
+        private PrefixedResponse(TransportResponse response, byte[] prefix, InputStream rest) {
+            this.response = response;
+            this.body = new SequenceInputStream(new ByteArrayInputStream(prefix), rest);
+        }
+
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> headers() {
+            return response.headers();
+        }
+
+        @Override
+        public HttpHeaders httpHeaders() {
+            return response.httpHeaders();
+        }
+
+        @Override
+        public InputStream body() {
+            return body;
+        }
+
+        @Override
+        public ExchangeTimings timings() {
+            return response.timings();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (response) {
+                body.close();
+            }
+        }
+    }
+}
\ No newline at end of file
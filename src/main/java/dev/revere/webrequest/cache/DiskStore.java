@@ -0,0 +1,285 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The on-disk tier of an {@link HttpCache}: an append-only log of records in fixed-size,
+ * memory-mapped segment files.
+ * <p>
+ * Writes copy into the mapped segment, so storing an entry is a memory copy rather than a system
+ * call, and the operating system writes the pages back in the background. Each record carries a
+ * CRC32 so that a record torn by a crash is detected when the segments are scanned on startup.
+ * The key index lives in memory and is rebuilt by that scan. Space is reclaimed by deleting the
+ * oldest segment, which drops the entries written longest ago.
+ * <p>
+ * Record layout: magic, key length, data length (-1 for a removal), CRC32 of key and data, key, data.
+ */
+final class DiskStore implements Closeable {
+    private static final int MAGIC = 0x48434531;
+    private static final int RECORD_HEADER = 16;
+    private static final int MIN_SEGMENT_SIZE = 64 * 1024;
+    private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final int segmentSize;
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private final Map<String, Location> index = new HashMap<>();
+    private long nextSequence;
+
+    /**
+     * Opens the store, creating the directory if needed and indexing the existing segments.
+     *
+     * @param directory the directory holding the segment files
+     * @param maxBytes  the total size of the segment files to keep
+     * @throws IOException if the directory or a segment cannot be opened
+     */
+    DiskStore(Path directory, long maxBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        this.segmentSize = (int) Math.min(MAX_SEGMENT_SIZE, Math.max(MIN_SEGMENT_SIZE, maxBytes / 8));
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .forEach(name -> {
+                        try {
+                            sequences.add(Long.parseUnsignedLong(name.substring(0, name.length() - SUFFIX.length()), 16));
+                        } catch (NumberFormatException ignored) {
+                        }
+                    });
+        }
+        sequences.sort(null);
+        for (long sequence : sequences) {
+            Segment segment = map(sequence);
+            segments.add(segment);
+            scan(segment);
+            nextSequence = sequence + 1;
+        }
+    }
+
+    /**
+     * Reads the data stored under a key.
+     *
+     * @param key the key
+     * @return a copy of the data, or null if the key is not stored
+     */
+    synchronized byte[] get(String key) {
+        Location location = index.get(key);
+        if (location == null) {
+            return null;
+        }
+        byte[] data = new byte[location.length];
+        location.segment.buffer.get(location.offset, data);
+        return data;
+    }
+
+    /**
+     * Appends a record for a key, replacing any earlier one.
+     *
+     * @param key  the key
+     * @param data the data
+     * @return the number of entries dropped with old segments to make room
+     * @throws IOException if a new segment cannot be created
+     */
+    synchronized int put(String key, byte[] data) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (RECORD_HEADER + keyBytes.length + data.length > segmentSize) {
+            remove(key);
+            return 0;
+        }
+        int evicted = ensureRoom(RECORD_HEADER + keyBytes.length + data.length);
+        Segment segment = segments.getLast();
+        int offset = append(segment, keyBytes, data, data.length);
+        index.put(key, new Location(segment, offset, data.length));
+        return evicted;
+    }
+
+    /**
+     * Appends a removal record for a key, if it is stored.
+     *
+     * @param key the key
+     * @throws IOException if a new segment cannot be created
+     */
+    synchronized void remove(String key) throws IOException {
+        if (index.remove(key) == null) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ensureRoom(RECORD_HEADER + keyBytes.length);
+        append(segments.getLast(), keyBytes, new byte[0], -1);
+    }
+
+    /**
+     * Returns the number of bytes written to the segments, including replaced records.
+     *
+     * @return the used bytes
+     */
+    synchronized long bytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.position;
+        }
+        return bytes;
+    }
+
+    /**
+     * Flushes the segments to disk.
+     */
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+    }
+
+    /**
+     * Makes sure the active segment can take a record, starting a new segment and deleting the
+     * oldest ones as needed.
+     *
+     * @param recordSize the size of the record
+     * @return the number of entries dropped with deleted segments
+     * @throws IOException if a new segment cannot be created
+     */
+    private int ensureRoom(int recordSize) throws IOException {
+        Segment active = segments.peekLast();
+        if (active != null && active.position + recordSize <= active.buffer.capacity()) {
+            return 0;
+        }
+        if (active != null) {
+            active.buffer.force();
+        }
+        segments.add(map(nextSequence++));
+        int evicted = 0;
+        while (segments.size() > 1 && (long) segments.size() * segmentSize > maxBytes) {
+            Segment oldest = segments.removeFirst();
+            int before = index.size();
+            index.values().removeIf(location -> location.segment == oldest);
+            evicted += before - index.size();
+            // The mapping stays valid until it is garbage collected; on POSIX systems the file can go now.
+            Files.deleteIfExists(oldest.path);
+        }
+        return evicted;
+    }
+
+    private int append(Segment segment, byte[] key, byte[] data, int dataLength) {
+        int offset = segment.position;
+        ByteBuffer buffer = segment.buffer;
+        buffer.putInt(offset, MAGIC);
+        buffer.putInt(offset + 4, key.length);
+        buffer.putInt(offset + 8, dataLength);
+        CRC32 crc = new CRC32();
+        crc.update(key);
+        crc.update(data);
+        buffer.putInt(offset + 12, (int) crc.getValue());
+        buffer.put(offset + RECORD_HEADER, key);
+        buffer.put(offset + RECORD_HEADER + key.length, data);
+        segment.position = offset + RECORD_HEADER + key.length + data.length;
+        if (segment.position + 4 <= buffer.capacity()) {
+            // Overwrite what a torn record from before a crash may have left, so a scan stops here.
+            buffer.putInt(segment.position, 0);
+        }
+        return offset + RECORD_HEADER + key.length;
+    }
+
+    /**
+     * Indexes the valid records of a segment, stopping at the first missing or damaged one.
+     *
+     * @param segment the segment
+     */
+    private void scan(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        int capacity = buffer.capacity();
+        int position = 0;
+        while (position + RECORD_HEADER <= capacity && buffer.getInt(position) == MAGIC) {
+            int keyLength = buffer.getInt(position + 4);
+            int dataLength = buffer.getInt(position + 8);
+            int payload = keyLength + Math.max(0, dataLength);
+            if (keyLength <= 0 || dataLength < -1 || payload < 0 || payload > capacity - position - RECORD_HEADER) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(position + RECORD_HEADER, payload));
+            if ((int) crc.getValue() != buffer.getInt(position + 12)) {
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            buffer.get(position + RECORD_HEADER, key);
+            String name = new String(key, StandardCharsets.UTF_8);
+            if (dataLength == -1) {
+                index.remove(name);
+            } else {
+                index.put(name, new Location(segment, position + RECORD_HEADER + keyLength, dataLength));
+            }
+            position += RECORD_HEADER + payload;
+        }
+        segment.position = position;
+    }
+
+    private Segment map(long sequence) throws IOException {
+        Path path = directory.resolve(String.format("%016x%s", sequence, SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // A segment written under a different size limit keeps its own size.
+            long size = channel.size() > 0 ? Math.min(channel.size(), MAX_SEGMENT_SIZE) : segmentSize;
+            return new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    private record Location(Segment segment, int offset, int length) {
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int position;
+
+        private Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+import dev.revere.webrequest.HttpRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A private HTTP cache following RFC 9111, used by a {@link CachingTransport}.
+ * <p>
+ * GET responses that are fresh according to {@code Cache-Control: max-age}, {@code Expires} or the
+ * {@code Last-Modified} heuristic are served without contacting the server. Stale responses with an
+ * {@code ETag} or {@code Last-Modified} validator are revalidated with a conditional request, and a
+ * {@code 304 Not Modified} answer is served from the cache. Successful unsafe requests invalidate
+ * the stored response for their URI.
+ * <p>
+ * Entries are held in a size-bounded in-memory LRU tier and, optionally, written through to a
+ * memory-mapped disk tier that survives restarts.
+ */
+public final class HttpCache implements Closeable {
+    private static final List<String> CONDITIONAL_HEADERS = List.of("If-None-Match", "If-Modified-Since", "If-Match", "If-Unmodified-Since", "If-Range", "Range");
+
+    private final MemoryStore memory;
+    private final DiskStore disk;
+    private final long maxEntryBytes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache, opening its disk tier if one is configured.
+     *
+     * @param config the cache configuration
+     * @throws UncheckedIOException if the disk tier cannot be opened
+     */
+    public HttpCache(Config config) {
+        this.memory = new MemoryStore(config.maxMemoryBytes);
+        this.maxEntryBytes = config.maxEntryBytes;
+        try {
+            this.disk = config.directory != null ? new DiskStore(config.directory, config.maxDiskBytes) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open cache directory " + config.directory, e);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache's counters and size.
+     *
+     * @return the stats
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), revalidated.sum(), misses.sum(), evictions.sum(),
+                memory.bytes(), disk != null ? disk.bytes() : 0);
+    }
+
+    /**
+     * Removes the stored responses for a URI, to {@code GET} and {@code HEAD} alike, from both tiers.
+     *
+     * @param uri the URI
+     */
+    public void invalidate(URI uri) {
+        remove(uri.toString());
+        remove("HEAD " + uri);
+    }
+
+    private void remove(String key) {
+        memory.remove(key);
+        if (disk != null) {
+            try {
+                disk.remove(key);
+            } catch (IOException ignored) {
+                // The entry stays on disk until its segment is recycled; the memory tier no longer serves it.
+            }
+        }
+    }
+
+    /**
+     * Flushes the disk tier.
+     */
+    @Override
+    public void close() {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    /**
+     * Returns whether a request may be answered from the cache. Requests that carry their own
+     * conditional or range headers, or forbid storing with {@code no-store}, bypass the cache.
+     *
+     * @param request the request
+     * @return true if the cache handles the request
+     */
+    static boolean isCacheable(HttpRequest request) {
+        if (!request.method().equals("GET") && !request.method().equals("HEAD")) {
+            return false;
+        }
+        for (String header : CONDITIONAL_HEADERS) {
+            if (request.header(header) != null) {
+                return false;
+            }
+        }
+        String cacheControl = request.header("Cache-Control");
+        return cacheControl == null || !CacheControl.parse(List.of(cacheControl)).noStore();
+    }
+
+    /**
+     * Looks up the entry that can answer a request, promoting it from disk to memory if needed.
+     *
+     * @param request the request
+     * @return the entry, or null if none is stored or the stored one varies on other header values
+     */
+    CacheEntry get(HttpRequest request) {
+        String key = key(request);
+        CacheEntry entry = memory.get(key);
+        if (entry == null && disk != null) {
+            byte[] data = disk.get(key);
+            if (data != null) {
+                try {
+                    entry = CacheEntry.deserialize(data);
+                    evict(memory.put(key, entry));
+                } catch (IOException e) {
+                    invalidate(request.uri());
+                }
+            }
+        }
+        return entry != null && entry.matches(request) ? entry : null;
+    }
+
+    /**
+     * Stores an entry in both tiers, unless its body exceeds the entry size limit.
+     *
+     * @param request the request the entry answers
+     * @param entry   the entry
+     */
+    void put(HttpRequest request, CacheEntry entry) {
+        if (entry.weight() > maxEntryBytes) {
+            return;
+        }
+        String key = key(request);
+        int evicted = memory.put(key, entry);
+        if (disk == null) {
+            evict(evicted);
+            return;
+        }
+        try {
+            evict(disk.put(key, entry.serialize()));
+        } catch (IOException ignored) {
+            // The disk tier is best effort; the entry is still served from memory.
+        }
+    }
+
+    long maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordRevalidated() {
+        revalidated.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    private void evict(int count) {
+        if (count > 0) {
+            evictions.add(count);
+        }
+    }
+
+    private static String key(HttpRequest request) {
+        return request.method().equals("HEAD") ? "HEAD " + request.uri() : request.uri().toString();
+    }
+
+    /**
+     * Configuration for an {@link HttpCache}.
+     */
+    public static final class Config {
+        private long maxMemoryBytes = 16 * 1024 * 1024;
+        private long maxEntryBytes = 2 * 1024 * 1024;
+        private Path directory;
+        private long maxDiskBytes;
+
+        /**
+         * Sets the approximate memory used by the in-memory tier. Defaults to 16 MiB.
+         *
+         * @param maxMemoryBytes the memory limit in bytes
+         * @return the Config instance
+         */
+        public Config maxMemoryBytes(long maxMemoryBytes) {
+            if (maxMemoryBytes <= 0) {
+                throw new IllegalArgumentException("maxMemoryBytes must be positive: " + maxMemoryBytes);
+            }
+            this.maxMemoryBytes = maxMemoryBytes;
+            return this;
+        }
+
+        /**
+         * Sets the largest response that is stored. Defaults to 2 MiB.
+         *
+         * @param maxEntryBytes the entry size limit in bytes
+         * @return the Config instance
+         */
+        public Config maxEntryBytes(long maxEntryBytes) {
+            if (maxEntryBytes <= 0) {
+                throw new IllegalArgumentException("maxEntryBytes must be positive: " + maxEntryBytes);
+            }
+            this.maxEntryBytes = maxEntryBytes;
+            return this;
+        }
+
+        /**
+         * Adds a disk tier in the given directory, which keeps stored responses across restarts.
+         * The directory must not be shared with another open cache. Disabled by default.
+         *
+         * @param directory    the directory for the segment files
+         * @param maxDiskBytes the total size of the segment files to keep
+         * @return the Config instance
+         */
+        public Config directory(Path directory, long maxDiskBytes) {
+            if (maxDiskBytes <= 0) {
+                throw new IllegalArgumentException("maxDiskBytes must be positive: " + maxDiskBytes);
+            }
+            this.directory = Objects.requireNonNull(directory, "directory");
+            this.maxDiskBytes = maxDiskBytes;
+            return this;
+        }
+    }
+}
\ No newline at end of file
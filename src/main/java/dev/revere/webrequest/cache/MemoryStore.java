@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The in-memory tier of an {@link HttpCache}: entries in access order, evicting the least recently
+ * used ones once their combined weight exceeds the limit.
+ */
+final class MemoryStore {
+    private final long maxBytes;
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    MemoryStore(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized CacheEntry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Stores an entry, replacing any entry under the same key.
+     *
+     * @param key   the key
+     * @param entry the entry
+     * @return the number of other entries evicted to make room
+     */
+    synchronized int put(String key, CacheEntry entry) {
+        CacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            bytes -= previous.weight();
+        }
+        bytes += entry.weight();
+        int evicted = 0;
+        Iterator<Map.Entry<String, CacheEntry>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, CacheEntry> candidate = eldest.next();
+            if (candidate.getValue() == entry) {
+                continue;
+            }
+            bytes -= candidate.getValue().weight();
+            eldest.remove();
+            evicted++;
+        }
+        return evicted;
+    }
+
+    synchronized void remove(String key) {
+        CacheEntry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.weight();
+        }
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Service provider interface for an HTTP content coding, such as {@code gzip}.
+ * <p>
+ * Both directions are pull-based: a codec wraps a stream of one form and yields the other as it
+ * is read, so neither the compressed nor the plain form is ever held in memory as a whole.
+ * Codecs are registered with {@link dev.revere.webrequest.HttpClient.Builder#codec(ContentCodec)}
+ * and used for request bodies with {@link dev.revere.webrequest.HttpRequestBuilder#compressBody(ContentCodec, long)}.
+ * Implementations must be thread-safe.
+ */
+public interface ContentCodec {
+
+    /**
+     * The {@code gzip} coding (RFC 1952), backed by the JDK's zlib.
+     */
+    ContentCodec GZIP = new GzipCodec();
+
+    /**
+     * The {@code deflate} coding (RFC 1950). Decoding also accepts the raw deflate data some servers send instead.
+     */
+    ContentCodec DEFLATE = new DeflateCodec();
+
+    /**
+     * Returns the coding's token as used in {@code Content-Encoding} and {@code Accept-Encoding}.
+     *
+     * @return the lowercase coding name
+     */
+    String name();
+
+    /**
+     * Wraps an encoded stream in one that yields the decoded content.
+     * Closing the returned stream closes the encoded stream.
+     *
+     * @param encoded the encoded content
+     * @return the decoded content
+     * @throws IOException if the stream cannot be read or is not in this coding
+     */
+    InputStream decode(InputStream encoded) throws IOException;
+
+    /**
+     * Wraps a plain stream in one that yields the encoded content.
+     * Closing the returned stream closes the plain stream.
+     *
+     * @param plain the content to encode
+     * @return the encoded content
+     * @throws IOException if the stream cannot be read
+     */
+    InputStream encode(InputStream plain) throws IOException;
+}
\ No newline at end of file
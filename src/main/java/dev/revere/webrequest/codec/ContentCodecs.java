@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.codec;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The content codings a client accepts, in order of preference.
+ */
+public final class ContentCodecs {
+    private static final ContentCodecs DEFAULTS = new ContentCodecs(List.of(ContentCodec.GZIP, ContentCodec.DEFLATE));
+
+    private final List<ContentCodec> codecs;
+    private final String acceptEncoding;
+
+    private ContentCodecs(List<ContentCodec> codecs) {
+        this.codecs = List.copyOf(codecs);
+        this.acceptEncoding = codecs.stream().map(ContentCodec::name).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Returns the JDK-backed codings, gzip and deflate.
+     *
+     * @return the default codecs
+     */
+    public static ContentCodecs defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy with a codec added in front, replacing any codec of the same name.
+     *
+     * @param codec the codec
+     * @return the extended codecs
+     */
+    public ContentCodecs with(ContentCodec codec) {
+        Objects.requireNonNull(codec, "codec");
+        List<ContentCodec> extended = new ArrayList<>();
+        extended.add(codec);
+        for (ContentCodec existing : codecs) {
+            if (!existing.name().equalsIgnoreCase(codec.name())) {
+                extended.add(existing);
+            }
+        }
+        return new ContentCodecs(extended);
+    }
+
+    /**
+     * Returns the value to send in {@code Accept-Encoding}.
+     *
+     * @return the coding names separated by commas
+     */
+    public String acceptEncoding() {
+        return acceptEncoding;
+    }
+
+    /**
+     * Returns the codec for a coding name.
+     *
+     * @param name the coding name, matched case-insensitively
+     * @return the codec, or null if none is registered
+     */
+    public ContentCodec codec(String name) {
+        for (ContentCodec codec : codecs) {
+            if (codec.name().equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wraps a response body in the decoders for its {@code Content-Encoding}, undoing the codings
+     * in the reverse of the order they were applied. The decoders are created on first read, so
+     * wrapping a streaming body does not block, and an empty body is returned as is.
+     * A body with a coding no codec is registered for is returned undecoded.
+     *
+     * @param body            the encoded body
+     * @param contentEncoding the {@code Content-Encoding} header value, may be null
+     * @return the decoded body
+     */
+    public InputStream decode(InputStream body, String contentEncoding) {
+        if (contentEncoding == null || contentEncoding.isBlank()) {
+            return body;
+        }
+        List<ContentCodec> chain = new ArrayList<>();
+        for (String token : contentEncoding.split(",")) {
+            String name = token.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty() || name.equals("identity")) {
+                continue;
+            }
+            ContentCodec codec = codec(name);
+            if (codec == null) {
+                return body;
+            }
+            chain.add(0, codec);
+        }
+        return chain.isEmpty() ? body : new DecodingInputStream(body, chain);
+    }
+
+    @Override
+    public String toString() {
+        return "ContentCodecs{" + acceptEncoding + '}';
+    }
+
+    /**
+     * Defers building the decoder chain to the first read, since decoders read their header eagerly.
+     * <p>
+     * Decoders stop at the end of their compressed data without reading the encoded body to its end,
+     * so once the decoded body ends the rest of the encoded one is drained, up to a limit. A pooled
+     * connection is only handed back for reuse once its body has been read to the end.
+     */
+    private static final class DecodingInputStream extends FilterInputStream {
+        private static final int MAX_TRAILING_BYTES = 64 * 1024;
+
+        private final List<ContentCodec> chain;
+        private InputStream encoded;
+        private boolean opened;
+        private boolean drained;
+
+        private DecodingInputStream(InputStream body, List<ContentCodec> chain) {
+            super(body);
+            this.chain = chain;
+        }
+
+        private InputStream open() throws IOException {
+            if (!opened) {
+                opened = true;
+                PushbackInputStream peek = new PushbackInputStream(in, 1);
+                int first = peek.read();
+                if (first == -1) {
+                    in = peek;
+                    return in;
+                }
+                peek.unread(first);
+                encoded = peek;
+                InputStream decoded = peek;
+                for (ContentCodec codec : chain) {
+                    decoded = codec.decode(decoded);
+                }
+                in = decoded;
+            }
+            return in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return drainAtEnd(open().read());
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return drainAtEnd(open().read(buffer, offset, length));
+        }
+
+        /**
+         * Reads the encoded body to its end once the decoded body has ended. Bytes past the
+         * compressed data are discarded; a body with more of them than the limit is left unread.
+         *
+         * @param read the result of a read from the decoders
+         * @return the same result
+         * @throws IOException if an I/O error occurs
+         */
+        private int drainAtEnd(int read) throws IOException {
+            if (read == -1 && encoded != null && !drained) {
+                drained = true;
+                byte[] discard = new byte[512];
+                int remaining = MAX_TRAILING_BYTES;
+                int count;
+                while (remaining > 0 && (count = encoded.read(discard, 0, Math.min(discard.length, remaining))) != -1) {
+                    remaining -= count;
+                }
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return open().skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return opened ? in.available() : 0;
+        }
+    }
+}
\ No newline at end of file
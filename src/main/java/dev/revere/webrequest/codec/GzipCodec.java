@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.codec;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The {@code gzip} coding. The JDK only compresses gzip on the output side, so encoding frames a
+ * raw {@link DeflaterInputStream} with the gzip header and CRC32 trailer itself.
+ */
+final class GzipCodec implements ContentCodec {
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public String name() {
+        return "gzip";
+    }
+
+    @Override
+    public InputStream decode(InputStream encoded) throws IOException {
+        return new GZIPInputStream(encoded, BUFFER_SIZE);
+    }
+
+    @Override
+    public InputStream encode(InputStream plain) {
+        return new GzipEncodingStream(plain);
+    }
+
+    @Override
+    public String toString() {
+        return name();
+    }
+
+    /**
+     * Produces a gzip member from a plain stream: header, raw deflate data, then CRC32 and length.
+     */
+    private static final class GzipEncodingStream extends InputStream {
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+        private final ChecksumStream source;
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final DeflaterInputStream deflated;
+        private byte[] framing = HEADER;
+        private int framingPosition;
+        private boolean trailerSent;
+
+        private GzipEncodingStream(InputStream plain) {
+            this.source = new ChecksumStream(plain);
+            this.deflated = new DeflaterInputStream(source, deflater, BUFFER_SIZE);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (framing != null) {
+                int count = Math.min(length, framing.length - framingPosition);
+                System.arraycopy(framing, framingPosition, buffer, offset, count);
+                framingPosition += count;
+                if (framingPosition == framing.length) {
+                    framing = null;
+                }
+                return count;
+            }
+            if (trailerSent) {
+                return -1;
+            }
+            int read = deflated.read(buffer, offset, length);
+            if (read != -1) {
+                return read;
+            }
+            framing = trailer();
+            framingPosition = 0;
+            trailerSent = true;
+            return read(buffer, offset, length);
+        }
+
+        private byte[] trailer() {
+            long crc = source.crc.getValue();
+            long size = source.size;
+            return new byte[]{
+                    (byte) crc, (byte) (crc >> 8), (byte) (crc >> 16), (byte) (crc >> 24),
+                    (byte) size, (byte) (size >> 8), (byte) (size >> 16), (byte) (size >> 24)
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                deflated.close();
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Tracks the CRC32 and length of the plain content as the deflater consumes it.
+     */
+    private static final class ChecksumStream extends FilterInputStream {
+        private final CRC32 crc = new CRC32();
+        private long size;
+
+        private ChecksumStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = in.read();
+            if (read != -1) {
+                crc.update(read);
+                size++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = in.read(buffer, offset, length);
+            if (read > 0) {
+                crc.update(buffer, offset, read);
+                size += read;
+            }
+            return read;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.dns;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Remembers which addresses recently refused or timed out connections, so they are tried last.
+ * <p>
+ * Each consecutive failure doubles the time an address is held back, from the base penalty up to the
+ * maximum; a successful connect clears it. Held-back addresses are still tried once every healthy
+ * one has failed, so a host whose addresses are all marked down stays reachable.
+ */
+public final class AddressHealth {
+    private final ConcurrentHashMap<InetAddress, Penalty> penalties = new ConcurrentHashMap<>();
+    private final long basePenaltyNanos;
+    private final long maxPenaltyNanos;
+
+    /**
+     * Creates a tracker that holds failing addresses back for 10 seconds, up to 5 minutes.
+     */
+    public AddressHealth() {
+        this(Duration.ofSeconds(10), Duration.ofMinutes(5));
+    }
+
+    /**
+     * Creates a tracker.
+     *
+     * @param basePenalty how long an address is held back after its first failure
+     * @param maxPenalty  the longest an address is held back after repeated failures
+     */
+    public AddressHealth(Duration basePenalty, Duration maxPenalty) {
+        this.basePenaltyNanos = Objects.requireNonNull(basePenalty, "basePenalty").toNanos();
+        this.maxPenaltyNanos = Objects.requireNonNull(maxPenalty, "maxPenalty").toNanos();
+        if (basePenaltyNanos <= 0 || maxPenaltyNanos < basePenaltyNanos) {
+            throw new IllegalArgumentException("penalties must be positive and maxPenalty at least basePenalty");
+        }
+    }
+
+    /**
+     * Records a failed connect to an address.
+     *
+     * @param address the address
+     */
+    public void recordFailure(InetAddress address) {
+        long now = System.nanoTime();
+        penalties.compute(address, (key, previous) -> {
+            int failures = previous != null ? previous.failures + 1 : 1;
+            long penalty = basePenaltyNanos << Math.min(failures - 1, 20);
+            return new Penalty(failures, now + Math.min(penalty > 0 ? penalty : maxPenaltyNanos, maxPenaltyNanos));
+        });
+    }
+
+    /**
+     * Records a successful connect to an address, clearing its penalty.
+     *
+     * @param address the address
+     */
+    public void recordSuccess(InetAddress address) {
+        penalties.remove(address);
+    }
+
+    /**
+     * Returns whether an address is currently held back.
+     *
+     * @param address the address
+     * @return true if the address failed recently
+     */
+    public boolean isHeldBack(InetAddress address) {
+        Penalty penalty = penalties.get(address);
+        // An expired penalty keeps its failure count until the address connects again.
+        return penalty != null && penalty.untilNanos - System.nanoTime() > 0;
+    }
+
+    /**
+     * Orders addresses for connecting as RFC 8305 describes: address families are interleaved,
+     * starting with the family of the first address, and held-back addresses are moved to the end
+     * in order of their penalty expiring.
+     *
+     * @param addresses the resolved addresses, in the resolver's order of preference
+     * @return the order in which to try the addresses
+     */
+    public List<InetAddress> order(List<InetAddress> addresses) {
+        List<InetAddress> healthy = new ArrayList<>(addresses.size());
+        List<InetAddress> heldBack = new ArrayList<>();
+        for (InetAddress address : addresses) {
+            (isHeldBack(address) ? heldBack : healthy).add(address);
+        }
+        List<InetAddress> ordered = interleave(healthy);
+        heldBack.sort(Comparator.comparingLong(address -> {
+            Penalty penalty = penalties.get(address);
+            return penalty != null ? penalty.untilNanos - System.nanoTime() : 0;
+        }));
+        ordered.addAll(heldBack);
+        return ordered;
+    }
+
+    private static List<InetAddress> interleave(List<InetAddress> addresses) {
+        if (addresses.size() < 2) {
+            return new ArrayList<>(addresses);
+        }
+        boolean firstIsV6 = addresses.get(0) instanceof Inet6Address;
+        List<InetAddress> preferred = new ArrayList<>();
+        List<InetAddress> other = new ArrayList<>();
+        for (InetAddress address : addresses) {
+            (address instanceof Inet6Address == firstIsV6 ? preferred : other).add(address);
+        }
+        List<InetAddress> ordered = new ArrayList<>(addresses.size());
+        for (int i = 0; i < Math.max(preferred.size(), other.size()); i++) {
+            if (i < preferred.size()) {
+                ordered.add(preferred.get(i));
+            }
+            if (i < other.size()) {
+                ordered.add(other.get(i));
+            }
+        }
+        return ordered;
+    }
+
+    private record Penalty(int failures, long untilNanos) {
+    }
+}
\ No newline at end of file
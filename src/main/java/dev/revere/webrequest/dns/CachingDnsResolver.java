@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Caches the addresses of each host for a time-to-live, independently of the JVM-wide DNS cache.
+ * <p>
+ * Once an entry expires it is still served for a stale period while a single background lookup
+ * refreshes it, so requests never wait on DNS for a host they use regularly. If the refresh fails
+ * the stale addresses keep being served until the stale period ends. Failed lookups are cached
+ * briefly so that an unknown host does not cost a lookup per request.
+ */
+public final class CachingDnsResolver implements DnsResolver {
+    private static final Executor REFRESHER = task -> Thread.ofVirtual().name("dns-refresh").start(task);
+
+    private final DnsResolver delegate;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long ttlNanos = Duration.ofSeconds(60).toNanos();
+    private volatile long staleNanos = Duration.ofMinutes(5).toNanos();
+    private volatile long negativeTtlNanos = Duration.ofSeconds(5).toNanos();
+    private volatile int maxHosts = 1024;
+
+    /**
+     * Creates a cache in front of another resolver.
+     *
+     * @param delegate the resolver that performs lookups, e.g. {@link DnsResolver#system()}
+     */
+    public CachingDnsResolver(DnsResolver delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * Sets how long resolved addresses are used without a new lookup. Defaults to 60 seconds.
+     *
+     * @param ttl the time-to-live
+     * @return this resolver
+     */
+    public CachingDnsResolver ttl(Duration ttl) {
+        this.ttlNanos = positive(ttl, "ttl").toNanos();
+        return this;
+    }
+
+    /**
+     * Sets how long expired addresses are still served while they are refreshed in the background,
+     * or after a failed refresh. Defaults to 5 minutes.
+     *
+     * @param stale the stale period, or zero to always wait for a new lookup
+     * @return this resolver
+     */
+    public CachingDnsResolver staleWhileRevalidate(Duration stale) {
+        Objects.requireNonNull(stale, "stale");
+        if (stale.isNegative()) {
+            throw new IllegalArgumentException("stale must not be negative: " + stale);
+        }
+        this.staleNanos = stale.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets how long a failed lookup is remembered. Defaults to 5 seconds.
+     *
+     * @param ttl the negative time-to-live
+     * @return this resolver
+     */
+    public CachingDnsResolver negativeTtl(Duration ttl) {
+        this.negativeTtlNanos = positive(ttl, "negativeTtl").toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the number of hosts kept in the cache. Defaults to 1024.
+     *
+     * @param maxHosts the maximum number of cached hosts
+     * @return this resolver
+     */
+    public CachingDnsResolver maxHosts(int maxHosts) {
+        if (maxHosts <= 0) {
+            throw new IllegalArgumentException("maxHosts must be positive: " + maxHosts);
+        }
+        this.maxHosts = maxHosts;
+        return this;
+    }
+
+    @Override
+    public List<InetAddress> resolve(String host) throws UnknownHostException {
+        long now = System.nanoTime();
+        Entry entry = entries.get(host);
+        if (entry != null) {
+            long age = now - entry.resolvedAtNanos;
+            if (entry.addresses == null) {
+                if (age < negativeTtlNanos) {
+                    throw new UnknownHostException(entry.failure);
+                }
+            } else if (age < ttlNanos) {
+                return entry.addresses;
+            } else if (age < ttlNanos + staleNanos) {
+                if (entry.refreshing.compareAndSet(false, true)) {
+                    REFRESHER.execute(() -> refresh(host, entry));
+                }
+                return entry.addresses;
+            }
+        }
+        return lookup(host);
+    }
+
+    /**
+     * Drops the cached addresses of a host, so the next request looks it up again.
+     *
+     * @param host the host name
+     */
+    public void invalidate(String host) {
+        entries.remove(host);
+    }
+
+    /**
+     * Drops every cached host.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private List<InetAddress> lookup(String host) throws UnknownHostException {
+        List<InetAddress> addresses;
+        try {
+            addresses = List.copyOf(delegate.resolve(host));
+            if (addresses.isEmpty()) {
+                throw new UnknownHostException(host + ": no addresses");
+            }
+        } catch (UnknownHostException e) {
+            store(host, new Entry(null, e.getMessage()));
+            throw e;
+        }
+        store(host, new Entry(addresses, null));
+        return addresses;
+    }
+
+    private void refresh(String host, Entry stale) {
+        try {
+            List<InetAddress> addresses = List.copyOf(delegate.resolve(host));
+            if (!addresses.isEmpty()) {
+                entries.replace(host, stale, new Entry(addresses, null));
+                return;
+            }
+        } catch (UnknownHostException | RuntimeException ignored) {
+            // Keep serving the stale addresses; the next expired read tries again.
+        }
+        stale.refreshing.set(false);
+    }
+
+    private void store(String host, Entry entry) {
+        entries.put(host, entry);
+        if (entries.size() > maxHosts) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes entries past their stale period, then arbitrary entries until the cache fits.
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.resolvedAtNanos >= ttlNanos + staleNanos);
+        for (String host : entries.keySet()) {
+            if (entries.size() <= maxHosts) {
+                break;
+            }
+            entries.remove(host);
+        }
+    }
+
+    private static Duration positive(Duration duration, String name) {
+        Objects.requireNonNull(duration, name);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive: " + duration);
+        }
+        return duration;
+    }
+
+    /**
+     * Addresses of a host, or the message of a failed lookup.
+     */
+    private static final class Entry {
+        private final List<InetAddress> addresses;
+        private final String failure;
+        private final long resolvedAtNanos = System.nanoTime();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(List<InetAddress> addresses, String failure) {
+            this.addresses = addresses;
+            this.failure = failure;
+        }
+    }
+}
\ No newline at end of file
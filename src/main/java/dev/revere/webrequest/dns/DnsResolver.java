@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Resolves host names to the addresses a transport connects to.
+ * <p>
+ * Implementations are called from request threads and must be thread-safe. Wrap a resolver in a
+ * {@link CachingDnsResolver} to keep lookups off the request path.
+ */
+@FunctionalInterface
+public interface DnsResolver {
+
+    /**
+     * Resolves a host name.
+     *
+     * @param host the host name or address literal
+     * @return the addresses of the host, in order of preference; never empty
+     * @throws UnknownHostException if the host cannot be resolved
+     */
+    List<InetAddress> resolve(String host) throws UnknownHostException;
+
+    /**
+     * Returns the resolver backed by the JVM's name service, which also applies the JVM-wide
+     * {@code networkaddress.cache.ttl}.
+     *
+     * @return the system resolver
+     */
+    static DnsResolver system() {
+        return host -> List.of(InetAddress.getAllByName(host));
+    }
+}
\ No newline at end of file
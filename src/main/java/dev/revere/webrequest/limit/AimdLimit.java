@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Additive-increase, multiplicative-decrease limit, as used by TCP congestion control.
+ * <p>
+ * Every successful request that found the limit at least half used raises it by one; every dropped
+ * request multiplies it by the backoff ratio. The limit therefore probes upwards slowly and retreats
+ * quickly once the host starts shedding load.
+ */
+public final class AimdLimit implements LimitAlgorithm {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private double limit;
+
+    /**
+     * Creates an AIMD limit that backs off to 90% on every drop.
+     *
+     * @param initialLimit the starting limit
+     * @param minLimit     the lowest the limit may fall to
+     * @param maxLimit     the highest the limit may grow to
+     */
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 0.9);
+    }
+
+    /**
+     * Creates an AIMD limit.
+     *
+     * @param initialLimit the starting limit
+     * @param minLimit     the lowest the limit may fall to
+     * @param maxLimit     the highest the limit may grow to
+     * @param backoffRatio the factor applied to the limit on each drop, between 0.5 and 1 (exclusive)
+     */
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max: "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (backoffRatio < 0.5 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be in [0.5, 1): " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public int limit() {
+        return (int) limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AimdLimit{limit=" + limit() + '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import dev.revere.webrequest.pool.Route;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Keeps one {@link ConcurrencyLimiter} per destination host, so a slow host can only exhaust its own
+ * share of the client and never delays requests to other hosts.
+ */
+public final class Bulkheads {
+    private final Config config;
+    private final ConcurrentHashMap<Route, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates per-host bulkheads.
+     *
+     * @param config the configuration applied to every host
+     */
+    public Bulkheads(Config config) {
+        this.config = Objects.requireNonNull(config, "config");
+    }
+
+    /**
+     * Returns the limiter for the host of a URI, creating it on first use.
+     *
+     * @param uri the request URI
+     * @return the limiter
+     */
+    public ConcurrencyLimiter forHost(URI uri) {
+        Route route = Route.of(uri);
+        ConcurrencyLimiter limiter = limiters.get(route);
+        return limiter != null ? limiter : limiters.computeIfAbsent(route, r ->
+                new ConcurrencyLimiter(r.toString(), config.algorithm.get(), config.maxQueueSize, config.queueTimeout));
+    }
+
+    /**
+     * Returns the limiters created so far.
+     *
+     * @return an unmodifiable view of the limiters keyed by route
+     */
+    public Map<Route, ConcurrencyLimiter> limiters() {
+        return Map.copyOf(limiters);
+    }
+
+    /**
+     * Configuration for {@link Bulkheads}.
+     */
+    public static final class Config {
+        private final Supplier<? extends LimitAlgorithm> algorithm;
+        private int maxQueueSize;
+        private Duration queueTimeout = Duration.ofSeconds(1);
+
+        /**
+         * Creates a configuration that gives every host its own algorithm from the factory.
+         *
+         * @param algorithm creates the algorithm for each host
+         */
+        public Config(Supplier<? extends LimitAlgorithm> algorithm) {
+            this.algorithm = Objects.requireNonNull(algorithm, "algorithm");
+        }
+
+        /**
+         * Limits every host to a fixed number of requests in flight.
+         *
+         * @param limit the limit per host
+         * @return the configuration
+         */
+        public static Config fixed(int limit) {
+            checkLimits(limit, limit);
+            return new Config(() -> new FixedLimit(limit));
+        }
+
+        /**
+         * Adapts the limit of every host with {@link AimdLimit}, starting at {@code initialLimit}.
+         *
+         * @param initialLimit the starting limit per host
+         * @param maxLimit     the highest limit per host
+         * @return the configuration
+         */
+        public static Config aimd(int initialLimit, int maxLimit) {
+            checkLimits(initialLimit, maxLimit);
+            return new Config(() -> new AimdLimit(initialLimit, 1, maxLimit));
+        }
+
+        /**
+         * Adapts the limit of every host to its latency with {@link GradientLimit}, starting at {@code initialLimit}.
+         *
+         * @param initialLimit the starting limit per host
+         * @param maxLimit     the highest limit per host
+         * @return the configuration
+         */
+        public static Config gradient(int initialLimit, int maxLimit) {
+            checkLimits(initialLimit, maxLimit);
+            return new Config(() -> new GradientLimit(initialLimit, 1, maxLimit));
+        }
+
+        private static void checkLimits(int initialLimit, int maxLimit) {
+            if (initialLimit <= 0 || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("Limits must satisfy 0 < initial <= max: " + initialLimit + ", " + maxLimit);
+            }
+        }
+
+        /**
+         * Sets how many requests per host may wait for a permit once the limit is reached.
+         * Defaults to 0, which rejects such requests at once.
+         *
+         * @param maxQueueSize the queue size per host
+         * @return the Config instance
+         */
+        public Config maxQueueSize(int maxQueueSize) {
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("maxQueueSize must not be negative: " + maxQueueSize);
+            }
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a queued request waits for a permit before it is rejected. Defaults to 1 second.
+         *
+         * @param queueTimeout the queue timeout
+         * @return the Config instance
+         */
+        public Config queueTimeout(Duration queueTimeout) {
+            if (queueTimeout.isNegative()) {
+                throw new IllegalArgumentException("queueTimeout must not be negative: " + queueTimeout);
+            }
+            this.queueTimeout = queueTimeout;
+            return this;
+        }
+    }
+}
\ No newline at end of file
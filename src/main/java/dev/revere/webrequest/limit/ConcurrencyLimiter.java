@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Caps the number of requests in flight to one host, with the cap set by a {@link LimitAlgorithm}.
+ * <p>
+ * A request that finds the limit reached waits in a bounded FIFO queue for up to the queue timeout.
+ * When the queue is full, or has size 0, it is rejected at once with a {@link ConcurrencyLimitExceededException},
+ * so a slow host cannot tie up threads or memory of the calling application.
+ */
+public final class ConcurrencyLimiter {
+    private final String name;
+    private final LimitAlgorithm algorithm;
+    private final int maxQueueSize;
+    private final long queueTimeoutMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private int inFlight;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param name         the name used in rejection messages, typically the host
+     * @param algorithm    the algorithm setting the limit
+     * @param maxQueueSize the number of requests that may wait for a permit, or 0 to reject at once
+     * @param queueTimeout how long a request may wait for a permit
+     */
+    public ConcurrencyLimiter(String name, LimitAlgorithm algorithm, int maxQueueSize, Duration queueTimeout) {
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative: " + maxQueueSize);
+        }
+        this.name = name;
+        this.algorithm = algorithm;
+        this.maxQueueSize = maxQueueSize;
+        this.queueTimeoutMillis = queueTimeout.toMillis();
+    }
+
+    /**
+     * Takes a permit if one is free, without waiting.
+     *
+     * @return the permit, or null if the limit has been reached
+     */
+    public Permit tryAcquire() {
+        lock.lock();
+        try {
+            return inFlight < algorithm.limit() && waiters.isEmpty() ? grant() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a permit, waiting in the queue if necessary.
+     *
+     * @return the permit
+     * @throws ConcurrencyLimitExceededException if the queue is full, the wait times out or the thread is interrupted
+     */
+    public Permit acquire() {
+        CompletableFuture<Permit> permit = acquireAsync();
+        try {
+            return permit.get();
+        } catch (ExecutionException e) {
+            throw (ConcurrencyLimitExceededException) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!permit.completeExceptionally(rejection("interrupted while waiting for a permit"))) {
+                permit.join().release(false);
+            }
+            throw rejection("interrupted while waiting for a permit");
+        }
+    }
+
+    /**
+     * Takes a permit asynchronously. The future completes once a permit is free, or fails with a
+     * {@link ConcurrencyLimitExceededException} if the queue is full or the wait times out.
+     *
+     * @return a future completing with the permit
+     */
+    public CompletableFuture<Permit> acquireAsync() {
+        CompletableFuture<Permit> waiter;
+        lock.lock();
+        try {
+            if (inFlight < algorithm.limit() && waiters.isEmpty()) {
+                return CompletableFuture.completedFuture(grant());
+            }
+            if (waiters.size() >= maxQueueSize) {
+                return CompletableFuture.failedFuture(rejection("limit of " + algorithm.limit() + " reached"));
+            }
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+        CompletableFuture.delayedExecutor(queueTimeoutMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            // Leave the queue before failing, so callers that observe the failure never see it still queued.
+            boolean removed;
+            lock.lock();
+            try {
+                removed = waiters.remove(waiter);
+            } finally {
+                lock.unlock();
+            }
+            if (removed) {
+                waiter.completeExceptionally(rejection("timed out after " + queueTimeoutMillis + "ms in the queue"));
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return the limit
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return algorithm.limit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of permits held.
+     *
+     * @return the requests in flight
+     */
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting for a permit.
+     *
+     * @return the queue length
+     */
+    public int queued() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Permit grant() {
+        inFlight++;
+        return new Permit(inFlight);
+    }
+
+    private ConcurrencyLimitExceededException rejection(String reason) {
+        return new ConcurrencyLimitExceededException("Concurrency limit for " + name + ": " + reason);
+    }
+
+    private void release(Permit permit, boolean dropped) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        List<Permit> permits = new ArrayList<>();
+        lock.lock();
+        try {
+            inFlight--;
+            algorithm.onSample(System.nanoTime() - permit.startNanos, permit.inFlight, dropped);
+            while (inFlight < algorithm.limit() && !waiters.isEmpty()) {
+                CompletableFuture<Permit> waiter = waiters.poll();
+                if (!waiter.isDone()) {
+                    granted.add(waiter);
+                    permits.add(grant());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        // Waiters are completed outside the lock because completion runs their dependent stages.
+        for (int i = 0; i < granted.size(); i++) {
+            if (!granted.get(i).complete(permits.get(i))) {
+                permits.get(i).release(false);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiter{" +
+                "name=" + name +
+                ", algorithm=" + algorithm +
+                '}';
+    }
+
+    /**
+     * The right to have one request in flight. Must be released exactly once; further releases are ignored.
+     */
+    public final class Permit {
+        private final long startNanos = System.nanoTime();
+        private final int inFlight;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlight) {
+            this.inFlight = inFlight;
+        }
+
+        /**
+         * Returns the permit and feeds the request's outcome to the limit algorithm.
+         *
+         * @param dropped whether the request failed in a way that signals overload
+         */
+        public void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                ConcurrencyLimiter.this.release(this, dropped);
+            }
+        }
+    }
+}
\ No newline at end of file
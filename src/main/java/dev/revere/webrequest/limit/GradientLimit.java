@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Latency-based limit that needs no error signal.
+ * <p>
+ * A slow-moving average of the round-trip time serves as the host's baseline. When recent requests
+ * take longer than the baseline, the gradient {@code baseline / current} drops below 1 and shrinks
+ * the limit; while latency stays flat the limit grows by about {@code sqrt(limit)} per sample, which
+ * leaves room for a small queue at the host. Drops shrink the limit like {@link AimdLimit}.
+ */
+public final class GradientLimit implements LimitAlgorithm {
+    private static final double LONG_WINDOW_WEIGHT = 1.0 / 600;
+    private static final double SHORT_WINDOW_WEIGHT = 1.0 / 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    /**
+     * Creates a gradient limit that tolerates latency up to twice the baseline before backing off.
+     *
+     * @param initialLimit the starting limit
+     * @param minLimit     the lowest the limit may fall to
+     * @param maxLimit     the highest the limit may grow to
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 2.0, 0.2);
+    }
+
+    /**
+     * Creates a gradient limit.
+     *
+     * @param initialLimit the starting limit
+     * @param minLimit     the lowest the limit may fall to
+     * @param maxLimit     the highest the limit may grow to
+     * @param tolerance    how far recent latency may exceed the baseline before the limit shrinks, at least 1
+     * @param smoothing    how much of each new estimate is applied to the limit, between 0 (exclusive) and 1
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max: "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("tolerance must be at least 1: " + tolerance);
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("smoothing must be in (0, 1]: " + smoothing);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public int limit() {
+        return (int) limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * 0.9);
+            return;
+        }
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+            shortRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) * SHORT_WINDOW_WEIGHT;
+        longRtt += (rttNanos - longRtt) * LONG_WINDOW_WEIGHT;
+        if (longRtt / shortRtt > 2) {
+            // Latency recovered far below the baseline: let the baseline catch up quickly.
+            longRtt = shortRtt * 2;
+        }
+        if (inFlight * 2 < limit) {
+            // The limit is not what holds requests back, so latency says nothing about it.
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + estimate * smoothing));
+    }
+
+    @Override
+    public String toString() {
+        return "GradientLimit{limit=" + limit() + '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Decides how many requests a single host may have in flight, based on the outcome of past requests.
+ * <p>
+ * Each {@link ConcurrencyLimiter} owns one algorithm instance and only calls it while holding its lock,
+ * so implementations need no synchronization of their own.
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the limit, at least 1
+     */
+    int limit();
+
+    /**
+     * Updates the limit with the outcome of a finished request.
+     *
+     * @param rttNanos the round-trip time of the request in nanoseconds
+     * @param inFlight the number of requests that were in flight when it started, including itself
+     * @param dropped  whether the request failed in a way that signals overload, such as a timeout or a 503
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import dev.revere.webrequest.HttpException;
+
+import java.io.Serial;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Thrown when a request is rejected by the client itself because the rate limit of its host or route
+ * would make it wait longer than allowed for a permit. The request never reached the network.
+ * Carries status code 429.
+ */
+public class RateLimitExceededException extends HttpException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterMillis;
+
+    /**
+     * Constructs a new RateLimitExceededException with the specified detail message.
+     *
+     * @param message          the detail message
+     * @param retryAfterMillis the time until a permit is available, or 0 if unknown
+     */
+    public RateLimitExceededException(String message, long retryAfterMillis) {
+        super(429, message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * Returns how long the caller would have had to wait for a permit.
+     *
+     * @return the time in milliseconds until a permit is available, or 0 if unknown
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import dev.revere.webrequest.HttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Limits the rate of requests to one host or route with the generic cell rate algorithm (GCRA),
+ * the lock-free form of a token bucket.
+ * <p>
+ * The whole state is a single theoretical arrival time, advanced by compare-and-set by one emission
+ * interval per permit. A permit is conforming once the clock has reached that time less the burst
+ * tolerance; a caller that arrives earlier reserves the next slot and waits for it, parking its thread
+ * in {@link #acquire()} or completing later from a timer in {@link #acquireAsync()}. A caller whose
+ * slot lies further ahead than the maximum wait is rejected at once without reserving it.
+ * <p>
+ * {@link #onResponse} lets the server move the schedule: a {@code Retry-After} on a 429 or 503 response
+ * and an exhausted {@code X-RateLimit-Remaining} or {@code RateLimit-Remaining} quota hold back every
+ * permit until the wait or the quota's reset has passed.
+ */
+public final class RateLimiter {
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private final String name;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long maxWaitNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+    /**
+     * Creates a limiter.
+     *
+     * @param name    the name used in rejection messages, typically the host or route
+     * @param permits the number of permits per period
+     * @param period  the period over which the permits are spread
+     * @param burst   the number of permits that may be taken back to back after a quiet period
+     * @param maxWait how long a request may wait for a permit before it is rejected
+     */
+    public RateLimiter(String name, int permits, Duration period, int burst, Duration maxWait) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive: " + burst);
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative: " + maxWait);
+        }
+        this.name = name;
+        this.intervalNanos = Math.max(1, period.toNanos() / permits);
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Returns the name of the limiter.
+     *
+     * @return the name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Takes a permit if one is conforming now, without waiting.
+     *
+     * @return true if the permit was taken
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    /**
+     * Takes a permit, parking the calling thread until its slot is reached.
+     *
+     * @throws RateLimitExceededException if the slot lies further ahead than the maximum wait
+     * @throws InterruptedException       if the thread is interrupted while waiting; the slot is not returned
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve(maxWaitNanos);
+        if (wait < 0) {
+            throw rejection(-wait);
+        }
+        long until = System.nanoTime() + wait;
+        while (wait > 0) {
+            LockSupport.parkNanos(this, wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while waiting for the rate limit of " + name);
+            }
+            wait = until - System.nanoTime();
+        }
+    }
+
+    /**
+     * Takes a permit without blocking. The future completes from a timer once the slot is reached,
+     * or fails with a {@link RateLimitExceededException} if it lies further ahead than the maximum wait.
+     *
+     * @return a future completing when the permit may be used
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        long wait = reserve(maxWaitNanos);
+        if (wait < 0) {
+            return CompletableFuture.failedFuture(rejection(-wait));
+        }
+        if (wait == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS, Runnable::run));
+    }
+
+    /**
+     * Returns how long a request arriving now would wait for its permit.
+     *
+     * @return the wait, zero if a permit is conforming now
+     */
+    public Duration waitTime() {
+        return Duration.ofNanos(Math.max(0, theoreticalArrival.get() - toleranceNanos - System.nanoTime()));
+    }
+
+    /**
+     * Holds back every permit for the given time, on top of any wait already scheduled.
+     *
+     * @param pause the time to hold permits back
+     */
+    public void pause(Duration pause) {
+        if (pause.isNegative() || pause.isZero()) {
+            return;
+        }
+        long until = System.nanoTime() + pause.toNanos() + toleranceNanos;
+        theoreticalArrival.accumulateAndGet(until, (current, next) -> next - current > 0 ? next : current);
+    }
+
+    /**
+     * Adjusts the schedule to the rate limit headers of a response.
+     *
+     * @param statusCode the status code of the response
+     * @param headers    the response headers
+     */
+    public void onResponse(int statusCode, HttpHeaders headers) {
+        if (statusCode == 429 || statusCode == 503) {
+            Duration retryAfter = headers.retryAfter();
+            if (retryAfter != null) {
+                pause(retryAfter);
+            }
+        }
+        if (quotaHeader(headers, "X-RateLimit-Remaining", "RateLimit-Remaining") == 0) {
+            long reset = quotaHeader(headers, "X-RateLimit-Reset", "RateLimit-Reset");
+            if (reset > EPOCH_SECONDS_THRESHOLD) {
+                pause(Duration.ofMillis(reset * 1000 - System.currentTimeMillis()));
+            } else if (reset > 0) {
+                pause(Duration.ofSeconds(reset));
+            }
+        }
+    }
+
+    private static long quotaHeader(HttpHeaders headers, String legacyName, String name) {
+        long value = headers.getLong(legacyName);
+        return value >= 0 ? value : headers.getLong(name);
+    }
+
+    /**
+     * Reserves the next slot if it is no further ahead than the given wait.
+     *
+     * @param maxWait the longest acceptable wait in nanoseconds
+     * @return the wait in nanoseconds until the slot is reached, zero if it is conforming now, or the
+     * negated wait if the slot lies further ahead and was not reserved
+     */
+    private long reserve(long maxWait) {
+        while (true) {
+            long now = System.nanoTime();
+            long arrival = theoreticalArrival.get();
+            long wait = Math.max(0, arrival - toleranceNanos - now);
+            if (wait > maxWait) {
+                return -wait;
+            }
+            long start = arrival - now > 0 ? arrival : now;
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                return wait;
+            }
+        }
+    }
+
+    private RateLimitExceededException rejection(long waitNanos) {
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        return new RateLimitExceededException("Rate limit for " + name + ": next permit in " + waitMillis + "ms", waitMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter{" +
+                "name=" + name +
+                ", interval=" + Duration.ofNanos(intervalNanos) +
+                ", burst=" + (toleranceNanos / intervalNanos + 1) +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import dev.revere.webrequest.pool.Route;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Keeps the {@link RateLimiter}s of a client: one shared by all URIs under each configured prefix,
+ * and one per destination host for every other URI if a per-host rate is set.
+ * <p>
+ * A request is paced by the limiter of the longest prefix its URI starts with, or otherwise by the
+ * limiter of its host, so a route with its own quota does not also draw on the host's.
+ */
+public final class RateLimiters {
+    private final Config config;
+    private final List<PrefixLimiter> prefixes;
+    private final ConcurrentHashMap<Route, RateLimiter> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the rate limiters of a client.
+     *
+     * @param config the configuration
+     */
+    public RateLimiters(Config config) {
+        this.config = Objects.requireNonNull(config, "config");
+        List<PrefixLimiter> prefixes = new ArrayList<>();
+        config.routes.forEach((prefix, rate) -> prefixes.add(new PrefixLimiter(prefix,
+                new RateLimiter(prefix, rate.permits(), rate.period(), config.burst, config.maxWait))));
+        prefixes.sort(Comparator.comparingInt((PrefixLimiter limiter) -> limiter.prefix().length()).reversed());
+        this.prefixes = List.copyOf(prefixes);
+    }
+
+    /**
+     * Returns the limiter that paces requests to a URI, creating a host's limiter on first use.
+     *
+     * @param uri the request URI
+     * @return the limiter, or null if the URI is not rate limited
+     */
+    public RateLimiter forUri(URI uri) {
+        if (!prefixes.isEmpty()) {
+            String target = uri.toString();
+            for (PrefixLimiter prefix : prefixes) {
+                if (target.startsWith(prefix.prefix())) {
+                    return prefix.limiter();
+                }
+            }
+        }
+        Rate rate = config.perHost;
+        if (rate == null) {
+            return null;
+        }
+        Route route = Route.of(uri);
+        RateLimiter limiter = hosts.get(route);
+        return limiter != null ? limiter : hosts.computeIfAbsent(route, r ->
+                new RateLimiter(r.toString(), rate.permits(), rate.period(), config.burst, config.maxWait));
+    }
+
+    /**
+     * Returns whether the limiters adjust to the rate limit headers of responses.
+     *
+     * @return true if responses are passed to {@link RateLimiter#onResponse}
+     */
+    public boolean adaptsToHeaders() {
+        return config.adaptToHeaders;
+    }
+
+    /**
+     * Returns the limiters created so far.
+     *
+     * @return an unmodifiable view of the limiters keyed by URI prefix or host route
+     */
+    public Map<String, RateLimiter> limiters() {
+        Map<String, RateLimiter> limiters = new LinkedHashMap<>();
+        prefixes.forEach(prefix -> limiters.put(prefix.prefix(), prefix.limiter()));
+        hosts.forEach((route, limiter) -> limiters.put(route.toString(), limiter));
+        return Map.copyOf(limiters);
+    }
+
+    private record PrefixLimiter(String prefix, RateLimiter limiter) {
+    }
+
+    private record Rate(int permits, Duration period) {
+    }
+
+    /**
+     * Configuration for {@link RateLimiters}. URIs that match no route are not limited unless a per-host rate is set.
+     */
+    public static final class Config {
+        private Rate perHost;
+        private final Map<String, Rate> routes = new LinkedHashMap<>();
+        private int burst = 1;
+        private Duration maxWait = Duration.ofSeconds(10);
+        private boolean adaptToHeaders = true;
+
+        /**
+         * Sets the rate applied to each host separately, for URIs that match no route.
+         *
+         * @param permits the number of requests per period
+         * @param period  the period
+         * @return the Config instance
+         */
+        public Config perHost(int permits, Duration period) {
+            this.perHost = rate(permits, period);
+            return this;
+        }
+
+        /**
+         * Sets the rate shared by all URIs that start with a prefix, such as
+         * {@code https://api.example.com/search}.
+         *
+         * @param uriPrefix the URI prefix
+         * @param permits   the number of requests per period
+         * @param period    the period
+         * @return the Config instance
+         */
+        public Config route(String uriPrefix, int permits, Duration period) {
+            Objects.requireNonNull(uriPrefix, "uriPrefix");
+            routes.put(uriPrefix, rate(permits, period));
+            return this;
+        }
+
+        /**
+         * Sets how many requests may be sent back to back after a quiet period. Defaults to 1, which
+         * spaces every request evenly.
+         *
+         * @param burst the burst size
+         * @return the Config instance
+         */
+        public Config burst(int burst) {
+            if (burst <= 0) {
+                throw new IllegalArgumentException("burst must be positive: " + burst);
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Sets how long a request may wait for a permit before it is rejected with a
+         * {@link RateLimitExceededException}. Defaults to 10 seconds; 0 rejects instead of waiting.
+         *
+         * @param maxWait the maximum wait
+         * @return the Config instance
+         */
+        public Config maxWait(Duration maxWait) {
+            Objects.requireNonNull(maxWait, "maxWait");
+            if (maxWait.isNegative()) {
+                throw new IllegalArgumentException("maxWait must not be negative: " + maxWait);
+            }
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Sets whether {@code Retry-After} and {@code X-RateLimit-*} response headers hold back
+         * further requests. Defaults to true.
+         *
+         * @param enabled whether to adapt to response headers
+         * @return the Config instance
+         */
+        public Config adaptToHeaders(boolean enabled) {
+            this.adaptToHeaders = enabled;
+            return this;
+        }
+
+        private static Rate rate(int permits, Duration period) {
+            if (permits <= 0) {
+                throw new IllegalArgumentException("permits must be positive: " + permits);
+            }
+            Objects.requireNonNull(period, "period");
+            if (period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("period must be positive: " + period);
+            }
+            return new Rate(permits, period);
+        }
+    }
+}
\ No newline at end of file
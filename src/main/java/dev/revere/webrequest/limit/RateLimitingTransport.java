@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.transport.Cancellation;
+import dev.revere.webrequest.transport.HttpTransport;
+import dev.revere.webrequest.transport.TransportResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Transport decorator that takes a permit from the request's {@link RateLimiter} before every exchange
+ * and feeds the response headers back to it.
+ * <p>
+ * Every attempt takes its own permit, since retries and hedges count against the server's quota too.
+ * A blocking send parks its thread until the permit's slot and is woken by the cancellation; an
+ * asynchronous send waits on a timer without holding a thread.
+ */
+public class RateLimitingTransport implements HttpTransport {
+    private final HttpTransport delegate;
+    private final RateLimiters limiters;
+
+    /**
+     * Creates a rate-limiting transport.
+     *
+     * @param delegate the transport that sends the permitted requests
+     * @param limiters the limiters pacing the requests
+     */
+    public RateLimitingTransport(HttpTransport delegate, RateLimiters limiters) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.limiters = Objects.requireNonNull(limiters, "limiters");
+    }
+
+    /**
+     * Returns the limiters pacing the requests.
+     *
+     * @return the limiters
+     */
+    public RateLimiters limiters() {
+        return limiters;
+    }
+
+    @Override
+    public TransportResponse send(HttpRequest request) throws IOException {
+        return send(request, new Cancellation());
+    }
+
+    @Override
+    public TransportResponse send(HttpRequest request, Cancellation cancellation) throws IOException {
+        RateLimiter limiter = limiters.forUri(request.uri());
+        if (limiter == null) {
+            return delegate.send(request, cancellation);
+        }
+        acquire(limiter, cancellation);
+        return observe(limiter, delegate.send(request, cancellation));
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor) {
+        return sendAsync(request, executor, new Cancellation());
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor, Cancellation cancellation) {
+        RateLimiter limiter = limiters.forUri(request.uri());
+        if (limiter == null) {
+            return delegate.sendAsync(request, executor, cancellation);
+        }
+        return limiter.acquireAsync()
+                .thenCompose(permitted -> {
+                    // The deadline may have passed while waiting for the slot.
+                    Throwable reason = cancellation.reason();
+                    return reason != null ? CompletableFuture.failedFuture(reason)
+                            : delegate.sendAsync(request, executor, cancellation);
+                })
+                .thenApply(response -> observe(limiter, response));
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static void acquire(RateLimiter limiter, Cancellation cancellation) throws IOException {
+        cancellation.throwIfCancelled();
+        Cancellation.Registration interrupt = cancellation.onCancel(Thread.currentThread()::interrupt);
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            cancellation.throwIfCancelled();
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException(e.getMessage());
+            interrupted.initCause(e);
+            throw interrupted;
+        } finally {
+            interrupt.remove();
+            if (cancellation.isCancelled()) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private TransportResponse observe(RateLimiter limiter, TransportResponse response) {
+        if (limiters.adaptsToHeaders()) {
+            limiter.onResponse(response.statusCode(), response.httpHeaders());
+        }
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.metrics;
+
+import dev.revere.webrequest.HttpRequest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Built-in {@link MetricsListener} that aggregates exchanges per host and method: latency histograms
+ * for each {@link Phase}, requests in flight, status-class and failure counters, and body bytes in and out.
+ * <p>
+ * Recording is lock-free; {@link #snapshot()} may be called at any time from any thread.
+ * An instance can be shared by several clients to aggregate over all of them.
+ */
+public final class ClientMetrics implements MetricsListener {
+    private final ConcurrentHashMap<MetricsKey, Recorder> recorders = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequestStart(HttpRequest request) {
+        recorder(MetricsKey.of(request)).inFlight.increment();
+    }
+
+    @Override
+    public void onRequestEnd(RequestEvent event) {
+        recorder(MetricsKey.of(event.request())).record(event);
+    }
+
+    /**
+     * Takes a snapshot of the metrics recorded so far.
+     *
+     * @return the snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        Map<MetricsKey, EndpointMetrics> endpoints = new LinkedHashMap<>();
+        recorders.forEach((key, recorder) -> endpoints.put(key, recorder.snapshot(key)));
+        return new MetricsSnapshot(Map.copyOf(endpoints));
+    }
+
+    private Recorder recorder(MetricsKey key) {
+        Recorder recorder = recorders.get(key);
+        return recorder != null ? recorder : recorders.computeIfAbsent(key, k -> new Recorder());
+    }
+
+    /**
+     * Live counters of one host and method.
+     */
+    private static final class Recorder {
+        private final LongAdder inFlight = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder[] statusClasses = new LongAdder[6];
+        private final LongAdder bytesSent = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final LatencyHistogram[] latencies = new LatencyHistogram[Phase.values().length];
+
+        private Recorder() {
+            for (int i = 1; i < statusClasses.length; i++) {
+                statusClasses[i] = new LongAdder();
+            }
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LatencyHistogram();
+            }
+        }
+
+        private void record(RequestEvent event) {
+            inFlight.decrement();
+            requests.increment();
+            int statusClass = event.statusCode() / 100;
+            if (event.failed()) {
+                failures.increment();
+            } else if (statusClass >= 1 && statusClass <= 5) {
+                statusClasses[statusClass].increment();
+            }
+            bytesSent.add(event.bytesSent());
+            bytesReceived.add(event.bytesReceived());
+            for (Phase phase : Phase.values()) {
+                latencies[phase.ordinal()].record(event.durationNanos(phase));
+            }
+        }
+
+        private EndpointMetrics snapshot(MetricsKey key) {
+            long[] statusCounts = new long[statusClasses.length];
+            for (int i = 1; i < statusClasses.length; i++) {
+                statusCounts[i] = statusClasses[i].sum();
+            }
+            Map<Phase, HistogramSnapshot> histograms = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                histograms.put(phase, latencies[phase.ordinal()].snapshot());
+            }
+            return new EndpointMetrics(key, inFlight.sum(), requests.sum(), failures.sum(), statusCounts,
+                    bytesSent.sum(), bytesReceived.sum(), histograms);
+        }
+    }
+}
\ No newline at end of file
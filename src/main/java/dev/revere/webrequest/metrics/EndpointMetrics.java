@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.metrics;
+
+import java.util.Map;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A snapshot of the metrics recorded for one host and method.
+ *
+ * @param key           the host and method
+ * @param inFlight      the requests started but not yet finished
+ * @param requests      the finished requests, including failures
+ * @param failures      the requests that failed without a response
+ * @param statusClasses the number of responses per status class, indexed 1 (1xx) to 5 (5xx)
+ * @param bytesSent     the request body bytes sent
+ * @param bytesReceived the response body bytes received
+ * @param latencies     the latency histogram of each phase
+ */
+public record EndpointMetrics(MetricsKey key, long inFlight, long requests, long failures, long[] statusClasses,
+                              long bytesSent, long bytesReceived, Map<Phase, HistogramSnapshot> latencies) {
+
+    /**
+     * Returns the number of responses in a status class.
+     *
+     * @param statusClass the status class, from 1 (1xx) to 5 (5xx)
+     * @return the number of responses
+     */
+    public long statusCount(int statusClass) {
+        return statusClass >= 1 && statusClass < statusClasses.length ? statusClasses[statusClass] : 0;
+    }
+
+    /**
+     * Returns the latency histogram of a phase.
+     *
+     * @param phase the phase
+     * @return the histogram, empty if the phase was never measured
+     */
+    public HistogramSnapshot latency(Phase phase) {
+        return latencies.getOrDefault(phase, HistogramSnapshot.EMPTY);
+    }
+}
\ No newline at end of file
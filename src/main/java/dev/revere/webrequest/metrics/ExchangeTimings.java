@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.metrics;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * The phase durations a transport was able to measure for one exchange, in nanoseconds.
+ * A negative duration means the phase was not measured.
+ *
+ * @param dnsNanos       time spent resolving the host name
+ * @param connectNanos   time spent opening the connection, including the TLS handshake
+ * @param firstByteNanos time from the start of the request until the response headers arrived
+ */
+public record ExchangeTimings(long dnsNanos, long connectNanos, long firstByteNanos) {
+
+    /**
+     * Timings of a transport that measures nothing.
+     */
+    public static final ExchangeTimings NONE = new ExchangeTimings(-1, -1, -1);
+
+    /**
+     * Returns a copy with the time to first byte set.
+     *
+     * @param firstByteNanos the time to first byte in nanoseconds
+     * @return the updated timings
+     */
+    public ExchangeTimings withFirstByte(long firstByteNanos) {
+        return new ExchangeTimings(dnsNanos, connectNanos, firstByteNanos);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.metrics;
+
+import dev.revere.webrequest.HttpRequest;
+
+import java.net.URI;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Identifies the requests a set of metrics is aggregated over.
+ *
+ * @param host   the target host
+ * @param port   the target port, or -1 if the URL does not name one
+ * @param method the HTTP method
+ */
+public record MetricsKey(String host, int port, String method) {
+
+    /**
+     * Returns the key a request is recorded under.
+     *
+     * @param request the request
+     * @return the key
+     */
+    public static MetricsKey of(HttpRequest request) {
+        URI uri = request.uri();
+        return new MetricsKey(uri.getHost(), uri.getPort(), request.method());
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + (port == -1 ? host : host + ":" + port);
+    }
+}
\ No newline at end of file
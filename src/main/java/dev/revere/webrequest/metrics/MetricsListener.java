@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.metrics;
+
+import dev.revere.webrequest.HttpRequest;
+
+import java.util.List;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Receives the lifecycle of every {@link HttpRequest} a client executes, e.g. to bridge them to
+ * an external metrics system. Callbacks run on the thread that executes the request and must not block.
+ * <p>
+ * Every call to {@link #onRequestStart} is followed by exactly one call to {@link #onRequestEnd}.
+ * For streaming responses the exchange ends when the body has been read to the end or closed.
+ */
+public interface MetricsListener {
+
+    /**
+     * Called before a request is handed to the transport.
+     *
+     * @param request the request
+     */
+    default void onRequestStart(HttpRequest request) {
+    }
+
+    /**
+     * Called once an exchange has completed or failed.
+     *
+     * @param event the outcome of the exchange
+     */
+    void onRequestEnd(RequestEvent event);
+
+    /**
+     * Combines listeners into one that notifies each of them in order.
+     *
+     * @param listeners the listeners
+     * @return the combined listener
+     */
+    static MetricsListener of(List<? extends MetricsListener> listeners) {
+        List<MetricsListener> copy = List.copyOf(listeners);
+        if (copy.size() == 1) {
+            return copy.get(0);
+        }
+        return new MetricsListener() {
+            @Override
+            public void onRequestStart(HttpRequest request) {
+                for (MetricsListener listener : copy) {
+                    listener.onRequestStart(request);
+                }
+            }
+
+            @Override
+            public void onRequestEnd(RequestEvent event) {
+                for (MetricsListener listener : copy) {
+                    listener.onRequestEnd(event);
+                }
+            }
+        };
+    }
+}
\ No newline at end of file
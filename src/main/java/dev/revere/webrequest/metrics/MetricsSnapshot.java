@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.metrics;
+
+import java.util.Map;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A snapshot of the metrics recorded by a {@link ClientMetrics}.
+ *
+ * @param endpoints the metrics of each host and method
+ */
+public record MetricsSnapshot(Map<MetricsKey, EndpointMetrics> endpoints) {
+
+    /**
+     * The snapshot of a client that records no metrics.
+     */
+    public static final MetricsSnapshot EMPTY = new MetricsSnapshot(Map.of());
+
+    /**
+     * Returns the metrics of one host and method.
+     *
+     * @param key the host and method
+     * @return the metrics, or null if no request matched the key
+     */
+    public EndpointMetrics endpoint(MetricsKey key) {
+        return endpoints.get(key);
+    }
+
+    /**
+     * Returns the number of requests in flight across all endpoints.
+     *
+     * @return the requests started but not yet finished
+     */
+    public long inFlight() {
+        return endpoints.values().stream().mapToLong(EndpointMetrics::inFlight).sum();
+    }
+
+    /**
+     * Returns the number of finished requests across all endpoints.
+     *
+     * @return the finished requests, including failures
+     */
+    public long requests() {
+        return endpoints.values().stream().mapToLong(EndpointMetrics::requests).sum();
+    }
+}
\ No newline at end of file
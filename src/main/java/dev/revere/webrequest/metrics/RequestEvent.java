@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.metrics;
+
+import dev.revere.webrequest.HttpRequest;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Describes a finished exchange, as reported to a {@link MetricsListener}.
+ *
+ * @param request       the request that was sent
+ * @param statusCode    the response status code, or -1 if no response was received
+ * @param error         the failure that ended the exchange, or null; error status codes alone are not failures
+ * @param timings       the phase durations measured by the transport
+ * @param totalNanos    the duration of the whole exchange in nanoseconds
+ * @param bytesSent     the request body bytes sent, or 0 if the length was not known up front
+ * @param bytesReceived the response body bytes received
+ */
+public record RequestEvent(HttpRequest request, int statusCode, Throwable error, ExchangeTimings timings,
+                           long totalNanos, long bytesSent, long bytesReceived) {
+
+    /**
+     * Returns whether the exchange failed without a response, e.g. because the connection could not be opened.
+     *
+     * @return true if no status code was received
+     */
+    public boolean failed() {
+        return statusCode < 0;
+    }
+
+    /**
+     * Returns the duration of a phase.
+     *
+     * @param phase the phase
+     * @return the duration in nanoseconds, or -1 if it was not measured
+     */
+    public long durationNanos(Phase phase) {
+        return switch (phase) {
+            case DNS -> timings.dnsNanos();
+            case CONNECT -> timings.connectNanos();
+            case TIME_TO_FIRST_BYTE -> timings.firstByteNanos();
+            case TOTAL -> totalNanos;
+        };
+    }
+}
\ No newline at end of file
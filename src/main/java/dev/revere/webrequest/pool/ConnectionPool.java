@@ -0,0 +1,509 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.pool;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Keeps open connections per {@link Route} so that consecutive requests to the same host
+ * skip the TCP and TLS handshakes.
+ * <p>
+ * The pool caps connections per route and in total, parks callers when the caps are reached,
+ * and closes idle connections from a background evictor once they exceed the idle timeout
+ * or their maximum lifetime.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Opens a new socket for a route when the pool has no idle connection to hand out.
+     */
+    @FunctionalInterface
+    public interface Connector {
+
+        /**
+         * Opens a connected socket to the route.
+         *
+         * @param route the destination
+         * @return the connected socket
+         * @throws IOException if the connection cannot be established
+         */
+        Socket connect(Route route) throws IOException;
+    }
+
+    /**
+     * Idle connections are only probed for staleness after sitting unused for this long.
+     */
+    private static final long VALIDATE_AFTER_INACTIVITY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxPerRoute;
+    private final int maxTotal;
+    private final long idleTimeoutNanos;
+    private final long maxLifetimeNanos;
+    private final long acquireTimeoutNanos;
+    private final long evictionIntervalMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Map<Route, RouteState> routes = new HashMap<>();
+    private final ScheduledExecutorService evictor;
+    private int allocated;
+    private int leased;
+    private int idle;
+    private int pending;
+    private boolean evictorStarted;
+    private boolean closed;
+
+    /**
+     * Creates a pool with the default configuration.
+     */
+    public ConnectionPool() {
+        this(new Config());
+    }
+
+    /**
+     * Creates a pool with the given configuration.
+     *
+     * @param config the pool configuration
+     */
+    public ConnectionPool(Config config) {
+        this.maxPerRoute = config.maxPerRoute;
+        this.maxTotal = config.maxTotal;
+        this.idleTimeoutNanos = config.idleTimeout.toNanos();
+        this.maxLifetimeNanos = config.maxLifetime.toNanos();
+        this.acquireTimeoutNanos = config.acquireTimeout.toNanos();
+        this.evictionIntervalMillis = config.evictionInterval.toMillis();
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Leases a connection for the route, reusing an idle one when possible.
+     * Blocks while the route or the pool is at capacity, up to the configured acquire timeout.
+     *
+     * @param route     the destination
+     * @param connector opens a new socket if no idle connection can be reused
+     * @return the leased connection, which must be handed back through {@link #release}
+     * @throws IOException if no connection becomes available in time or connecting fails
+     */
+    public PooledConnection lease(Route route, Connector connector) throws IOException {
+        long deadline = System.nanoTime() + acquireTimeoutNanos;
+        while (true) {
+            PooledConnection candidate = null;
+            RouteState state;
+            lock.lock();
+            try {
+                startEvictor();
+                state = routes.computeIfAbsent(route, key -> new RouteState());
+                state.pending++;
+                pending++;
+                try {
+                    while (true) {
+                        ensureOpen();
+                        candidate = pollIdle(state);
+                        if (candidate != null) {
+                            break;
+                        }
+                        if (state.allocated < maxPerRoute && (allocated < maxTotal || evictIdleFromOtherRoute(route))) {
+                            state.allocated++;
+                            allocated++;
+                            leased++;
+                            break;
+                        }
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            throw new ConnectionPoolTimeoutException("Timed out waiting for a connection to " + route);
+                        }
+                        available.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a connection to " + route);
+                } finally {
+                    state.pending--;
+                    pending--;
+                    removeIfUnused(route, state);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (candidate == null) {
+                return connect(route, state, connector);
+            }
+            if (System.nanoTime() - candidate.idleSinceNanos() < VALIDATE_AFTER_INACTIVITY_NANOS || !candidate.isStale()) {
+                return candidate;
+            }
+            release(candidate, false);
+        }
+    }
+
+    /**
+     * Hands a leased connection back to the pool.
+     *
+     * @param connection the connection
+     * @param reusable   whether the connection finished its exchange cleanly and may carry another one
+     */
+    public void release(PooledConnection connection, boolean reusable) {
+        boolean discard;
+        lock.lock();
+        try {
+            RouteState state = routes.get(connection.route());
+            leased--;
+            long now = System.nanoTime();
+            discard = !reusable || closed || connection.isRetired(now, maxLifetimeNanos);
+            if (discard) {
+                state.allocated--;
+                allocated--;
+                removeIfUnused(connection.route(), state);
+            } else {
+                connection.markIdle(now);
+                state.idle.addFirst(connection);
+                idle++;
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (discard) {
+            connection.closeQuietly();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the whole pool.
+     *
+     * @return the pool stats
+     */
+    public PoolStats stats() {
+        lock.lock();
+        try {
+            return new PoolStats(leased, idle, pending, maxTotal);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of a single route.
+     *
+     * @param route the route
+     * @return the route's stats
+     */
+    public PoolStats stats(Route route) {
+        lock.lock();
+        try {
+            RouteState state = routes.get(route);
+            if (state == null) {
+                return new PoolStats(0, 0, 0, maxPerRoute);
+            }
+            return new PoolStats(state.allocated - state.idle.size(), state.idle.size(), state.pending, maxPerRoute);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes idle connections that exceeded the idle timeout, the server's keep-alive timeout
+     * or the maximum lifetime. Runs periodically on the evictor thread.
+     */
+    public void closeExpired() {
+        List<PooledConnection> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            Iterator<Map.Entry<Route, RouteState>> iterator = routes.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Route, RouteState> entry = iterator.next();
+                RouteState state = entry.getValue();
+                int before = expired.size();
+                state.idle.removeIf(connection -> {
+                    if (connection.isExpired(now, idleTimeoutNanos, maxLifetimeNanos)) {
+                        expired.add(connection);
+                        return true;
+                    }
+                    return false;
+                });
+                state.allocated -= expired.size() - before;
+                if (state.allocated == 0 && state.pending == 0) {
+                    iterator.remove();
+                }
+            }
+            idle -= expired.size();
+            allocated -= expired.size();
+            if (!expired.isEmpty()) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        expired.forEach(PooledConnection::closeQuietly);
+    }
+
+    /**
+     * Closes all idle connections and stops the evictor. Leased connections are closed
+     * when they are released.
+     */
+    @Override
+    public void close() {
+        List<PooledConnection> idleConnections = new ArrayList<>();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (RouteState state : routes.values()) {
+                idleConnections.addAll(state.idle);
+                state.allocated -= state.idle.size();
+                state.idle.clear();
+            }
+            allocated -= idleConnections.size();
+            idle = 0;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        evictor.shutdownNow();
+        idleConnections.forEach(PooledConnection::closeQuietly);
+    }
+
+    private PooledConnection connect(Route route, RouteState state, Connector connector) throws IOException {
+        Socket socket = null;
+        try {
+            socket = connector.connect(route);
+            PooledConnection connection = new PooledConnection(route, socket);
+            connection.markLeased();
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            if (socket != null) {
+                socket.close();
+            }
+            lock.lock();
+            try {
+                state.allocated--;
+                allocated--;
+                leased--;
+                removeIfUnused(route, state);
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private PooledConnection pollIdle(RouteState state) {
+        long now = System.nanoTime();
+        PooledConnection connection;
+        while ((connection = state.idle.pollFirst()) != null) {
+            idle--;
+            if (connection.isExpired(now, idleTimeoutNanos, maxLifetimeNanos)) {
+                state.allocated--;
+                allocated--;
+                connection.closeQuietly();
+                continue;
+            }
+            leased++;
+            connection.markLeased();
+            return connection;
+        }
+        return null;
+    }
+
+    /**
+     * Makes room for a new route when the pool is full by closing the least recently used
+     * idle connection of another route.
+     */
+    private boolean evictIdleFromOtherRoute(Route route) {
+        PooledConnection oldest = null;
+        Route ownerRoute = null;
+        RouteState owner = null;
+        for (Map.Entry<Route, RouteState> entry : routes.entrySet()) {
+            PooledConnection last = entry.getValue().idle.peekLast();
+            if (!entry.getKey().equals(route) && last != null
+                    && (oldest == null || last.idleSinceNanos() < oldest.idleSinceNanos())) {
+                oldest = last;
+                ownerRoute = entry.getKey();
+                owner = entry.getValue();
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        owner.idle.pollLast();
+        owner.allocated--;
+        idle--;
+        allocated--;
+        removeIfUnused(ownerRoute, owner);
+        oldest.closeQuietly();
+        return true;
+    }
+
+    /**
+     * Schedules the evictor on the first lease rather than in the constructor, so the pool is never
+     * handed to another thread before it is fully built. Called with the lock held.
+     */
+    private void startEvictor() {
+        if (!evictorStarted && !closed) {
+            evictorStarted = true;
+            evictor.scheduleWithFixedDelay(this::closeExpired, evictionIntervalMillis, evictionIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void removeIfUnused(Route route, RouteState state) {
+        if (state.allocated == 0 && state.pending == 0) {
+            routes.remove(route);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Connection pool has been closed");
+        }
+    }
+
+    /**
+     * Per-route bookkeeping. {@code allocated} counts leased, connecting and idle connections.
+     */
+    private static final class RouteState {
+        private final Deque<PooledConnection> idle = new ArrayDeque<>();
+        private int allocated;
+        private int pending;
+    }
+
+    /**
+     * Configuration for a {@link ConnectionPool}.
+     */
+    public static final class Config {
+        private int maxPerRoute = 20;
+        private int maxTotal = 200;
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        private Duration maxLifetime = Duration.ofMinutes(5);
+        private Duration evictionInterval = Duration.ofSeconds(5);
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Sets the maximum number of connections to a single route. Defaults to 20.
+         *
+         * @param maxPerRoute the per-route limit
+         * @return the Config instance
+         */
+        public Config maxPerRoute(int maxPerRoute) {
+            if (maxPerRoute <= 0) {
+                throw new IllegalArgumentException("maxPerRoute must be positive: " + maxPerRoute);
+            }
+            this.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of connections across all routes. Defaults to 200.
+         *
+         * @param maxTotal the total limit
+         * @return the Config instance
+         */
+        public Config maxTotal(int maxTotal) {
+            if (maxTotal <= 0) {
+                throw new IllegalArgumentException("maxTotal must be positive: " + maxTotal);
+            }
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection may stay idle before it is closed. Defaults to 30 seconds.
+         *
+         * @param idleTimeout the idle timeout
+         * @return the Config instance
+         */
+        public Config idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = requirePositive(idleTimeout, "idleTimeout");
+            return this;
+        }
+
+        /**
+         * Sets how long a connection may be used in total before it is retired. Defaults to 5 minutes.
+         *
+         * @param maxLifetime the maximum lifetime
+         * @return the Config instance
+         */
+        public Config maxLifetime(Duration maxLifetime) {
+            this.maxLifetime = requirePositive(maxLifetime, "maxLifetime");
+            return this;
+        }
+
+        /**
+         * Sets how often the background evictor looks for expired idle connections. Defaults to 5 seconds.
+         *
+         * @param evictionInterval the eviction interval
+         * @return the Config instance
+         */
+        public Config evictionInterval(Duration evictionInterval) {
+            this.evictionInterval = requirePositive(evictionInterval, "evictionInterval");
+            return this;
+        }
+
+        /**
+         * Sets how long a caller waits for a connection when the pool is at capacity. Defaults to 30 seconds.
+         *
+         * @param acquireTimeout the acquire timeout
+         * @return the Config instance
+         */
+        public Config acquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = Objects.requireNonNull(acquireTimeout, "acquireTimeout");
+            return this;
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            if (Objects.requireNonNull(duration, name).isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive: " + duration);
+            }
+            return duration;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.pool;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Point-in-time snapshot of a connection pool.
+ *
+ * @param leased  the number of connections currently in use, including ones being connected
+ * @param idle    the number of open connections waiting to be reused
+ * @param pending the number of callers waiting for a connection
+ * @param max     the maximum number of connections allowed
+ */
+public record PoolStats(int leased, int idle, int pending, int max) {
+
+    /**
+     * Stats reported by clients that do not use a connection pool.
+     */
+    public static final PoolStats EMPTY = new PoolStats(0, 0, 0, 0);
+
+    /**
+     * Returns the number of connections that are open or being opened.
+     *
+     * @return leased plus idle connections
+     */
+    public int total() {
+        return leased + idle;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.pool;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * A socket owned by a {@link ConnectionPool}, together with its buffered streams and bookkeeping.
+ */
+public final class PooledConnection {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Route route;
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final long createdNanos;
+    private long idleSinceNanos;
+    private long keepAliveNanos = Long.MAX_VALUE;
+    private int leaseCount;
+
+    PooledConnection(Route route, Socket socket) throws IOException {
+        this.route = route;
+        this.socket = socket;
+        this.in = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+        this.out = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+        this.createdNanos = System.nanoTime();
+        this.idleSinceNanos = createdNanos;
+    }
+
+    /**
+     * Returns the route this connection is bound to.
+     *
+     * @return the route
+     */
+    public Route route() {
+        return route;
+    }
+
+    /**
+     * Returns the underlying socket.
+     *
+     * @return the socket
+     */
+    public Socket socket() {
+        return socket;
+    }
+
+    /**
+     * Returns the buffered stream to read responses from.
+     *
+     * @return the input stream
+     */
+    public InputStream in() {
+        return in;
+    }
+
+    /**
+     * Returns the buffered stream to write requests to.
+     *
+     * @return the output stream
+     */
+    public OutputStream out() {
+        return out;
+    }
+
+    /**
+     * Returns whether this connection has carried an earlier exchange.
+     * A reused connection may have been closed by the server while idle.
+     *
+     * @return true if the connection was taken from the idle set
+     */
+    public boolean isReused() {
+        return leaseCount > 1;
+    }
+
+    /**
+     * Limits how long the connection may stay idle, as advertised by the server's
+     * {@code Keep-Alive: timeout=n} header.
+     *
+     * @param timeoutMillis the server's idle timeout in milliseconds
+     */
+    public void keepAliveTimeout(long timeoutMillis) {
+        this.keepAliveNanos = timeoutMillis * 1_000_000L;
+    }
+
+    void markLeased() {
+        leaseCount++;
+    }
+
+    void markIdle(long now) {
+        idleSinceNanos = now;
+    }
+
+    long idleSinceNanos() {
+        return idleSinceNanos;
+    }
+
+    /**
+     * Returns whether the connection must no longer be handed out.
+     *
+     * @param now              the current time from {@link System#nanoTime()}
+     * @param idleTimeoutNanos the pool's idle timeout
+     * @param maxLifetimeNanos the pool's maximum connection lifetime
+     * @return true if the connection is expired or closed
+     */
+    boolean isExpired(long now, long idleTimeoutNanos, long maxLifetimeNanos) {
+        long idleNanos = now - idleSinceNanos;
+        return socket.isClosed()
+                || idleNanos >= Math.min(idleTimeoutNanos, keepAliveNanos)
+                || now - createdNanos >= maxLifetimeNanos;
+    }
+
+    /**
+     * Returns whether a connection coming back from a lease must be closed rather than kept. Only the
+     * lifetime counts here: the connection was in use until now, so it has not been idle.
+     *
+     * @param now              the current time from {@link System#nanoTime()}
+     * @param maxLifetimeNanos the pool's maximum connection lifetime
+     * @return true if the connection is closed or has outlived its lifetime
+     */
+    boolean isRetired(long now, long maxLifetimeNanos) {
+        return socket.isClosed() || now - createdNanos >= maxLifetimeNanos;
+    }
+
+    /**
+     * Detects a connection the server closed while it sat idle by peeking at the socket.
+     * Any readable byte or end of stream means the connection cannot carry a new exchange.
+     *
+     * @return true if the connection is stale
+     */
+    boolean isStale() {
+        if (socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+            return true;
+        }
+        try {
+            if (in.available() > 0) {
+                return true;
+            }
+            int timeout = socket.getSoTimeout();
+            socket.setSoTimeout(1);
+            try {
+                in.read();
+                return true;
+            } finally {
+                socket.setSoTimeout(timeout);
+            }
+        } catch (SocketTimeoutException e) {
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Closes the underlying socket, ignoring errors.
+     */
+    void closeQuietly() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.retry;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.metrics.LatencyHistogram;
+import dev.revere.webrequest.pool.Route;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Sends a second copy of a slow idempotent request and uses whichever response arrives first.
+ * <p>
+ * The hedge fires once the first attempt has run longer than a high percentile (p95 by default) of
+ * the host's recent latency, so only the slowest few percent of requests are duplicated. Until
+ * enough latencies have been observed a fixed initial delay is used. Each hedge is taken from the
+ * retry budget, so hedging cannot double the load on a host that is slow for everyone.
+ */
+public final class HedgePolicy {
+    private static final int WINDOW = 1000;
+
+    private double percentile = 0.95;
+    private Duration initialDelay = Duration.ofMillis(100);
+    private Duration minDelay = Duration.ofMillis(5);
+    private int minSamples = 20;
+    private final ConcurrentHashMap<Route, Window> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the latency percentile after which the hedge fires. Defaults to 0.95.
+     *
+     * @param percentile the percentile, between 0.5 and 1 (exclusive)
+     * @return the HedgePolicy instance
+     */
+    public HedgePolicy percentile(double percentile) {
+        if (percentile < 0.5 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be in [0.5, 1): " + percentile);
+        }
+        this.percentile = percentile;
+        return this;
+    }
+
+    /**
+     * Sets the delay used until {@code minSamples} latencies have been recorded for a host. Defaults to 100ms.
+     *
+     * @param initialDelay the initial hedge delay
+     * @return the HedgePolicy instance
+     */
+    public HedgePolicy initialDelay(Duration initialDelay) {
+        this.initialDelay = Objects.requireNonNull(initialDelay, "initialDelay");
+        return this;
+    }
+
+    /**
+     * Sets the shortest hedge delay, which keeps very fast hosts from being hedged on noise. Defaults to 5ms.
+     *
+     * @param minDelay the minimum hedge delay
+     * @return the HedgePolicy instance
+     */
+    public HedgePolicy minDelay(Duration minDelay) {
+        this.minDelay = Objects.requireNonNull(minDelay, "minDelay");
+        return this;
+    }
+
+    /**
+     * Sets how many latencies must be recorded for a host before its percentile is used. Defaults to 20.
+     *
+     * @param minSamples the minimum number of samples
+     * @return the HedgePolicy instance
+     */
+    public HedgePolicy minSamples(int minSamples) {
+        if (minSamples < 1) {
+            throw new IllegalArgumentException("minSamples must be positive: " + minSamples);
+        }
+        this.minSamples = minSamples;
+        return this;
+    }
+
+    /**
+     * Returns how long to wait for the first attempt before sending the hedge.
+     *
+     * @param request the request
+     * @return the delay in milliseconds
+     */
+    public long delayMillis(HttpRequest request) {
+        Window window = latencies.get(Route.of(request.uri()));
+        long nanos = window != null ? window.percentileNanos(percentile, minSamples) : -1;
+        if (nanos < 0) {
+            return initialDelay.toMillis();
+        }
+        return Math.max(minDelay.toMillis(), TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * Records the latency of a successful attempt.
+     *
+     * @param request the request
+     * @param nanos   the latency in nanoseconds
+     */
+    public void record(HttpRequest request, long nanos) {
+        latencies.computeIfAbsent(Route.of(request.uri()), route -> new Window()).record(nanos);
+    }
+
+    /**
+     * Two alternating histograms, so the percentile follows the last one to two thousand requests
+     * rather than the whole lifetime of the client.
+     */
+    private static final class Window {
+        private volatile LatencyHistogram previous = new LatencyHistogram();
+        private volatile LatencyHistogram current = new LatencyHistogram();
+
+        private void record(long nanos) {
+            LatencyHistogram histogram = current;
+            histogram.record(nanos);
+            if (histogram.count() >= WINDOW) {
+                synchronized (this) {
+                    if (current == histogram) {
+                        previous = histogram;
+                        current = new LatencyHistogram();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the percentile over both histograms, taking one snapshot of each.
+         *
+         * @param percentile the percentile
+         * @param minSamples the latencies needed before the percentile is trusted
+         * @return the percentile in nanoseconds, or -1 if fewer than {@code minSamples} latencies are recorded
+         */
+        private long percentileNanos(double percentile, int minSamples) {
+            LatencyHistogram older = previous;
+            LatencyHistogram newer = current;
+            if (older.count() + newer.count() < minSamples) {
+                return -1;
+            }
+            return Math.max(older.snapshot().percentileNanos(percentile), newer.snapshot().percentileNanos(percentile));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Client-wide cap on retries, so that a failing upstream does not see its load multiplied by
+ * every caller's retry policy.
+ * <p>
+ * Every first attempt deposits {@code retryRatio} of a token and every retry or hedge withdraws a whole token.
+ * A small reserve refilled at {@code minRetriesPerSecond} keeps retries possible at low traffic.
+ * With the defaults, retries add at most 20% to the request rate once the reserve is used up.
+ */
+public final class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long reservePerSecond;
+    private final long maxBalance;
+    private long balance;
+    private long lastRefillNanos = System.nanoTime();
+
+    /**
+     * Creates a budget allowing retries for 20% of requests plus 10 retries per second.
+     */
+    public RetryBudget() {
+        this(0.2, 10);
+    }
+
+    /**
+     * Creates a budget.
+     *
+     * @param retryRatio          the fraction of requests that may be retried, e.g. 0.2 for 20%
+     * @param minRetriesPerSecond the retries allowed per second regardless of traffic
+     */
+    public RetryBudget(double retryRatio, int minRetriesPerSecond) {
+        if (retryRatio < 0 || retryRatio > 1) {
+            throw new IllegalArgumentException("retryRatio must be between 0 and 1: " + retryRatio);
+        }
+        if (minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("minRetriesPerSecond must not be negative: " + minRetriesPerSecond);
+        }
+        this.depositPerRequest = Math.round(retryRatio * SCALE);
+        this.reservePerSecond = minRetriesPerSecond * SCALE;
+        this.maxBalance = Math.max(SCALE, Math.max(reservePerSecond, 100 * depositPerRequest));
+        this.balance = reservePerSecond;
+    }
+
+    /**
+     * Credits the budget for a first attempt.
+     */
+    public synchronized void deposit() {
+        balance = Math.min(maxBalance, balance + depositPerRequest);
+    }
+
+    /**
+     * Takes one retry from the budget if available.
+     *
+     * @return true if the retry may proceed
+     */
+    public synchronized boolean tryWithdraw() {
+        refill();
+        if (balance < SCALE) {
+            return false;
+        }
+        balance -= SCALE;
+        return true;
+    }
+
+    /**
+     * Returns the number of retries currently available.
+     *
+     * @return the whole retries in the budget
+     */
+    public synchronized long available() {
+        refill();
+        return balance / SCALE;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - lastRefillNanos);
+        if (elapsedMillis > 0) {
+            lastRefillNanos += TimeUnit.MILLISECONDS.toNanos(elapsedMillis);
+            balance = Math.min(maxBalance, balance + reservePerSecond * elapsedMillis / 1000);
+        }
+    }
+}
\ No newline at end of file
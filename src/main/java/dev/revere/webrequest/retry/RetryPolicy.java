@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.retry;
+
+import dev.revere.webrequest.HttpRequest;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Decides whether and when a failed request is sent again.
+ * <p>
+ * Only idempotent methods are retried, after an I/O error or a retryable status (429, 502, 503 and 504
+ * by default). The delay before retry {@code n} is drawn uniformly from {@code [0, min(maxBackoff,
+ * initialBackoff * multiplier^(n-1))]} ("full jitter"), so clients that failed together do not retry
+ * together. A {@code Retry-After} header from the server replaces the computed delay, up to
+ * {@link #maxRetryAfter(Duration)}. Every retry is also taken from the shared {@link RetryBudget}.
+ */
+public final class RetryPolicy {
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(100);
+    private Duration maxBackoff = Duration.ofSeconds(10);
+    private double multiplier = 2.0;
+    private Duration maxRetryAfter = Duration.ofSeconds(30);
+    private Set<String> methods = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private Set<Integer> statusCodes = Set.of(429, 502, 503, 504);
+    private RetryBudget budget = new RetryBudget();
+
+    /**
+     * Sets the maximum number of attempts, including the first one. Defaults to 3.
+     *
+     * @param maxAttempts the maximum number of attempts
+     * @return the RetryPolicy instance
+     */
+    public RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Sets the exponential backoff. Defaults to 100ms doubling up to 10 seconds.
+     *
+     * @param initialBackoff the upper bound of the first delay
+     * @param maxBackoff     the upper bound of any delay
+     * @param multiplier     the growth factor per retry, at least 1
+     * @return the RetryPolicy instance
+     */
+    public RetryPolicy backoff(Duration initialBackoff, Duration maxBackoff, double multiplier) {
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Backoff must satisfy 0 <= initial <= max: " + initialBackoff + ", " + maxBackoff);
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+        }
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    /**
+     * Sets the longest {@code Retry-After} delay the client honors. A response asking for a longer
+     * wait is not retried. Defaults to 30 seconds.
+     *
+     * @param maxRetryAfter the longest delay to wait
+     * @return the RetryPolicy instance
+     */
+    public RetryPolicy maxRetryAfter(Duration maxRetryAfter) {
+        this.maxRetryAfter = Objects.requireNonNull(maxRetryAfter, "maxRetryAfter");
+        return this;
+    }
+
+    /**
+     * Sets the methods that may be retried. Defaults to the idempotent methods GET, HEAD, OPTIONS, PUT and DELETE.
+     *
+     * @param methods the retryable methods
+     * @return the RetryPolicy instance
+     */
+    public RetryPolicy retryMethods(String... methods) {
+        this.methods = Stream.of(methods).map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+        return this;
+    }
+
+    /**
+     * Sets the response status codes that are retried. Defaults to 429, 502, 503 and 504.
+     *
+     * @param statusCodes the retryable status codes
+     * @return the RetryPolicy instance
+     */
+    public RetryPolicy retryOnStatus(int... statusCodes) {
+        this.statusCodes = IntStream.of(statusCodes).boxed().collect(Collectors.toUnmodifiableSet());
+        return this;
+    }
+
+    /**
+     * Sets the budget retries are taken from. Share one budget between policies to cap retries across them.
+     *
+     * @param budget the retry budget
+     * @return the RetryPolicy instance
+     */
+    public RetryPolicy budget(RetryBudget budget) {
+        this.budget = Objects.requireNonNull(budget, "budget");
+        return this;
+    }
+
+    /**
+     * Returns the budget retries are taken from.
+     *
+     * @return the retry budget
+     */
+    public RetryBudget budget() {
+        return budget;
+    }
+
+    /**
+     * Returns whether the request may be sent more than once, by retrying or hedging it.
+     *
+     * @param request the request
+     * @return true if the request's method is retryable
+     */
+    public boolean isRetryable(HttpRequest request) {
+        return methods.contains(request.method());
+    }
+
+    /**
+     * Returns whether a response status code is retried.
+     *
+     * @param statusCode the status code
+     * @return true if the status code is retryable
+     */
+    public boolean isRetryableStatus(int statusCode) {
+        return statusCodes.contains(statusCode);
+    }
+
+    /**
+     * Decides whether to retry after a response, and how long to wait first.
+     *
+     * @param attempt    the number of the attempt that produced the response, starting at 1
+     * @param statusCode the response status code
+     * @param retryAfter the {@code Retry-After} header value, or null
+     * @return the delay in milliseconds, or -1 if the response must not be retried
+     */
+    public long delayAfterResponse(int attempt, int statusCode, String retryAfter) {
+        if (!isRetryableStatus(statusCode) || attempt >= maxAttempts) {
+            return -1;
+        }
+        long requested = RetryAfter.parseMillis(retryAfter, System.currentTimeMillis());
+        if (requested > maxRetryAfter.toMillis()) {
+            return -1;
+        }
+        if (!budget.tryWithdraw()) {
+            return -1;
+        }
+        return requested >= 0 ? requested : backoffMillis(attempt);
+    }
+
+    /**
+     * Decides whether to retry after an I/O error, and how long to wait first.
+     *
+     * @param attempt the number of the attempt that failed, starting at 1
+     * @return the delay in milliseconds, or -1 if the request must not be retried
+     */
+    public long delayAfterFailure(int attempt) {
+        if (attempt >= maxAttempts || !budget.tryWithdraw()) {
+            return -1;
+        }
+        return backoffMillis(attempt);
+    }
+
+    /**
+     * Returns a jittered delay for the given retry.
+     *
+     * @param attempt the number of the attempt that failed, starting at 1
+     * @return the delay in milliseconds
+     */
+    long backoffMillis(int attempt) {
+        double ceiling = initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1);
+        long bound = (long) Math.min(maxBackoff.toMillis(), ceiling);
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+}
\ No newline at end of file
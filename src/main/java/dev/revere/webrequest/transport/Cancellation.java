@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Lets an exchange be aborted from another thread, for example when its caller cancels the
+ * future or its deadline expires.
+ * <p>
+ * A transport registers an abort action for as long as it holds a resource that may block, such as
+ * closing the socket while it waits for the response, and removes it before the resource is handed
+ * back to a pool. Cancelling runs every registered action once; actions registered afterwards run
+ * immediately. Once {@link Registration#remove()} returns, its action is neither running nor will run.
+ */
+public final class Cancellation {
+    private final List<Runnable> actions = new ArrayList<>(2);
+    private volatile Throwable reason;
+
+    /**
+     * A registered abort action.
+     */
+    public interface Registration {
+
+        /**
+         * A registration that does nothing when removed.
+         */
+        Registration NONE = () -> {
+        };
+
+        /**
+         * Removes the action, waiting for it to finish if it is running.
+         */
+        void remove();
+    }
+
+    /**
+     * Returns whether the exchange has been cancelled.
+     *
+     * @return true if cancelled
+     */
+    public boolean isCancelled() {
+        return reason != null;
+    }
+
+    /**
+     * Returns why the exchange was cancelled.
+     *
+     * @return the reason, or null if the exchange has not been cancelled
+     */
+    public Throwable reason() {
+        return reason;
+    }
+
+    /**
+     * Registers an action that aborts the exchange. If the exchange is already cancelled,
+     * the action runs right away.
+     *
+     * @param abort the action, which must not block
+     * @return the registration, to be removed once the action no longer applies
+     */
+    public synchronized Registration onCancel(Runnable abort) {
+        if (reason != null) {
+            abort.run();
+            return Registration.NONE;
+        }
+        actions.add(abort);
+        return () -> {
+            synchronized (this) {
+                actions.remove(abort);
+            }
+        };
+    }
+
+    /**
+     * Cancels the exchange and runs the registered abort actions. Only the first call has an effect.
+     *
+     * @param cause why the exchange is cancelled
+     * @return true if this call cancelled the exchange
+     */
+    public synchronized boolean cancel(Throwable cause) {
+        if (reason != null) {
+            return false;
+        }
+        reason = cause != null ? cause : new CancellationException("Exchange cancelled");
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException ignored) {
+            }
+        }
+        actions.clear();
+        return true;
+    }
+
+    /**
+     * Fails fast if the exchange has been cancelled, so no further work is started for it.
+     *
+     * @throws InterruptedIOException if the exchange has been cancelled
+     */
+    public void throwIfCancelled() throws InterruptedIOException {
+        Throwable cause = reason;
+        if (cause != null) {
+            InterruptedIOException e = new InterruptedIOException("Exchange cancelled");
+            e.initCause(cause);
+            throw e;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Decodes an HTTP/1.1 body sent with {@code Transfer-Encoding: chunked}.
+ * Stops at the terminating chunk without reading past the end of the message.
+ */
+final class ChunkedInputStream extends InputStream {
+    private final InputStream in;
+    private long remaining;
+    private boolean eof;
+
+    ChunkedInputStream(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (eof) {
+            return -1;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (remaining == 0) {
+            nextChunk();
+            if (eof) {
+                return -1;
+            }
+        }
+        int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+        if (read == -1) {
+            throw new EOFException("Connection closed in the middle of a chunk");
+        }
+        remaining -= read;
+        if (remaining == 0) {
+            Http1Codec.readLine(in);
+        }
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return eof ? 0 : (int) Math.min(remaining, in.available());
+    }
+
+    /**
+     * Returns whether the terminating chunk and trailers have been consumed.
+     *
+     * @return true at the end of the message
+     */
+    boolean isComplete() {
+        return eof;
+    }
+
+    private void nextChunk() throws IOException {
+        String line = Http1Codec.readLine(in);
+        int extension = line.indexOf(';');
+        String size = (extension >= 0 ? line.substring(0, extension) : line).trim();
+        try {
+            remaining = Long.parseLong(size, 16);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid chunk size: " + line);
+        }
+        if (remaining < 0) {
+            throw new IOException("Invalid chunk size: " + line);
+        }
+        if (remaining == 0) {
+            while (!Http1Codec.readLine(in).isEmpty()) {
+                // Trailers are not exposed.
+            }
+            eof = true;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.dns.AddressHealth;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Connects to the first of several addresses that answers, as RFC 8305 describes.
+ * <p>
+ * The next address is tried as soon as the previous attempt fails, or once it has been pending for
+ * the attempt delay, while earlier attempts keep running; the first socket to connect wins and the
+ * others are closed. A dead address therefore costs the attempt delay rather than the full connect
+ * timeout. Outcomes are reported to an {@link AddressHealth} so failing addresses are tried last.
+ */
+final class HappyEyeballs {
+
+    private HappyEyeballs() {
+    }
+
+    /**
+     * Connects to one of the addresses.
+     *
+     * @param addresses          the addresses, in the order to try them
+     * @param port               the port
+     * @param connectTimeout     the connect timeout of each attempt in milliseconds
+     * @param attemptDelayMillis how long an attempt runs alone before the next one starts
+     * @param health             the health tracker to report to
+     * @param cancellation       aborts all attempts when cancelled
+     * @return the connected socket
+     * @throws IOException if no address can be connected to
+     */
+    static Socket connect(List<InetAddress> addresses, int port, int connectTimeout, long attemptDelayMillis,
+                          AddressHealth health, Cancellation cancellation) throws IOException {
+        if (addresses.size() == 1) {
+            return connectOne(addresses.get(0), port, connectTimeout, health, cancellation);
+        }
+        Race race = new Race(port, connectTimeout, health);
+        Cancellation.Registration abort = cancellation.onCancel(race::abort);
+        try {
+            int started = 0;
+            int finished = 0;
+            IOException failure = null;
+            race.start(addresses.get(started++));
+            while (true) {
+                Attempt attempt = started < addresses.size()
+                        ? race.results.poll(attemptDelayMillis, TimeUnit.MILLISECONDS)
+                        : race.results.take();
+                cancellation.throwIfCancelled();
+                if (attempt == null) {
+                    race.start(addresses.get(started++));
+                    continue;
+                }
+                finished++;
+                if (attempt.failure == null) {
+                    race.finish(attempt.socket);
+                    return attempt.socket;
+                }
+                if (failure == null) {
+                    failure = new ConnectException("Failed to connect to any of " + addresses + " on port " + port);
+                }
+                failure.addSuppressed(attempt.failure);
+                if (started < addresses.size()) {
+                    race.start(addresses.get(started++));
+                } else if (finished == started) {
+                    throw failure;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            race.abort();
+            throw new InterruptedIOException("Interrupted while connecting");
+        } catch (IOException | RuntimeException e) {
+            race.abort();
+            throw e;
+        } finally {
+            abort.remove();
+        }
+    }
+
+    private static Socket connectOne(InetAddress address, int port, int connectTimeout, AddressHealth health,
+                                     Cancellation cancellation) throws IOException {
+        Socket socket = new Socket();
+        Cancellation.Registration abort = cancellation.onCancel(() -> closeQuietly(socket));
+        try {
+            socket.connect(new InetSocketAddress(address, port), connectTimeout);
+            health.recordSuccess(address);
+            return socket;
+        } catch (IOException e) {
+            closeQuietly(socket);
+            cancellation.throwIfCancelled();
+            health.recordFailure(address);
+            throw e;
+        } finally {
+            abort.remove();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * The outcome of connecting to one address.
+     */
+    private record Attempt(Socket socket, IOException failure) {
+    }
+
+    /**
+     * The attempts of one connect, each running on its own virtual thread.
+     */
+    private static final class Race {
+        private final int port;
+        private final int connectTimeout;
+        private final AddressHealth health;
+        private final BlockingQueue<Attempt> results = new LinkedBlockingQueue<>();
+        private final List<Socket> sockets = new ArrayList<>();
+        private Socket winner;
+        private boolean done;
+
+        private Race(int port, int connectTimeout, AddressHealth health) {
+            this.port = port;
+            this.connectTimeout = connectTimeout;
+            this.health = health;
+        }
+
+        private void start(InetAddress address) {
+            Socket socket = new Socket();
+            synchronized (this) {
+                sockets.add(socket);
+            }
+            Thread.ofVirtual().name("http-connect").start(() -> {
+                try {
+                    socket.connect(new InetSocketAddress(address, port), connectTimeout);
+                    health.recordSuccess(address);
+                    results.add(new Attempt(socket, null));
+                } catch (IOException e) {
+                    closeQuietly(socket);
+                    if (!isDone()) {
+                        health.recordFailure(address);
+                    }
+                    results.add(new Attempt(null, e));
+                }
+            });
+        }
+
+        private synchronized boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Keeps the winning socket and closes every other attempt, connected or not.
+         */
+        private synchronized void finish(Socket socket) {
+            winner = socket;
+            abort();
+        }
+
+        private synchronized void abort() {
+            done = true;
+            for (Socket socket : sockets) {
+                if (socket != winner) {
+                    closeQuietly(socket);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.HttpHeaders;
+import dev.revere.webrequest.HttpRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Reads and writes HTTP/1.1 message heads.
+ */
+final class Http1Codec {
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int MAX_HEADER_COUNT = 256;
+
+    private Http1Codec() {
+    }
+
+    /**
+     * Parsed status line and header section of a response.
+     *
+     * @param version    the protocol version, such as HTTP/1.1
+     * @param statusCode the status code
+     * @param headers    the header fields as received
+     */
+    record ResponseHead(String version, int statusCode, HttpHeaders headers) {
+
+        String header(String name) {
+            List<String> values = headers.all(name);
+            return values.isEmpty() ? null : values.get(values.size() - 1);
+        }
+
+        boolean hasToken(String name, String token) {
+            return headers.hasToken(name, token);
+        }
+    }
+
+    /**
+     * Writes the request line and headers, terminated by an empty line.
+     *
+     * @param out           the stream to write to
+     * @param request       the request
+     * @param contentLength the body length, or -1 to send the body chunked
+     * @throws IOException if an I/O error occurs
+     */
+    static void writeHead(OutputStream out, HttpRequest request, long contentLength) throws IOException {
+        URI uri = request.uri();
+        StringBuilder head = new StringBuilder(256);
+        String path = uri.getRawPath();
+        head.append(request.method()).append(' ').append(path == null || path.isEmpty() ? "/" : path);
+        if (uri.getRawQuery() != null) {
+            head.append('?').append(uri.getRawQuery());
+        }
+        head.append(" HTTP/1.1\r\n");
+
+        request.forEachHeader((name, value) -> {
+            if (!name.equalsIgnoreCase("Content-Length") && !name.equalsIgnoreCase("Transfer-Encoding")) {
+                head.append(name).append(": ").append(value).append("\r\n");
+            }
+        });
+        if (request.header("Host") == null) {
+            head.append("Host: ").append(uri.getHost());
+            if (uri.getPort() != -1) {
+                head.append(':').append(uri.getPort());
+            }
+            head.append("\r\n");
+        }
+        if (contentLength > 0) {
+            head.append("Content-Length: ").append(contentLength).append("\r\n");
+        } else if (contentLength < 0) {
+            head.append("Transfer-Encoding: chunked\r\n");
+        } else if (!"GET".equals(request.method()) && !"HEAD".equals(request.method())) {
+            head.append("Content-Length: 0\r\n");
+        }
+        head.append("\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Reads a response head, skipping interim 1xx responses.
+     *
+     * @param in the stream to read from
+     * @return the final response head
+     * @throws IOException if the head is malformed or an I/O error occurs
+     */
+    static ResponseHead readHead(InputStream in) throws IOException {
+        while (true) {
+            String statusLine = readLine(in);
+            String[] parts = statusLine.split(" ", 3);
+            if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+                throw new IOException("Malformed status line: " + statusLine);
+            }
+            int statusCode;
+            try {
+                statusCode = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed status line: " + statusLine);
+            }
+            HttpHeaders headers = readHeaders(in);
+            if (statusCode >= 100 && statusCode < 200 && statusCode != 101) {
+                continue;
+            }
+            return new ResponseHead(parts[0], statusCode, headers);
+        }
+    }
+
+    /**
+     * Reads a CRLF- or LF-terminated line as ISO-8859-1, without the terminator.
+     *
+     * @param in the stream to read from
+     * @return the line
+     * @throws IOException if the stream ends before the line is terminated or the line is too long
+     */
+    static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                byte[] bytes = line.toByteArray();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+            }
+            if (line.size() >= MAX_LINE_LENGTH) {
+                throw new IOException("Header line exceeds " + MAX_LINE_LENGTH + " bytes");
+            }
+            line.write(b);
+        }
+        throw new EOFException("Connection closed before the end of the line");
+    }
+
+    /**
+     * Reads the header section into its raw field lines, leaving them to be parsed on lookup.
+     */
+    private static HttpHeaders readHeaders(InputStream in) throws IOException {
+        String[] lines = new String[16];
+        int count = 0;
+        int read = 0;
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            if (++read > MAX_HEADER_COUNT) {
+                throw new IOException("Response has more than " + MAX_HEADER_COUNT + " headers");
+            }
+            if (line.indexOf(':') <= 0) {
+                continue;
+            }
+            if (count == lines.length) {
+                lines = Arrays.copyOf(lines, count * 2);
+            }
+            lines[count++] = line;
+        }
+        return HttpHeaders.ofLines(lines, count);
+    }
+
+    /**
+     * Parses the {@code timeout} parameter of a {@code Keep-Alive} header.
+     *
+     * @param keepAlive the header value, possibly null
+     * @return the timeout in milliseconds, or -1 if absent
+     */
+    static long keepAliveTimeoutMillis(String keepAlive) {
+        if (keepAlive != null) {
+            for (String parameter : keepAlive.split(",")) {
+                String[] pair = parameter.trim().split("=", 2);
+                if (pair.length == 2 && pair[0].trim().toLowerCase(Locale.ROOT).equals("timeout")) {
+                    try {
+                        return Long.parseLong(pair[1].trim()) * 1000L;
+                    } catch (NumberFormatException ignored) {
+                        return -1;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,446 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.HttpHeaders;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.RequestBody;
+import dev.revere.webrequest.dns.AddressHealth;
+import dev.revere.webrequest.dns.DnsResolver;
+import dev.revere.webrequest.metrics.ExchangeTimings;
+import dev.revere.webrequest.pool.ConnectionPool;
+import dev.revere.webrequest.pool.PooledConnection;
+import dev.revere.webrequest.pool.Route;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Blocking HTTP/1.1 transport that keeps its sockets in a {@link ConnectionPool}.
+ * <p>
+ * A connection goes back to the pool once its response body has been read to the end,
+ * so consecutive requests to the same host reuse the TCP and TLS session. Bodies closed
+ * before the end close their connection instead. Redirects are not followed and proxies
+ * are not supported.
+ * <p>
+ * Host names are resolved with a pluggable {@link DnsResolver}. When a host has several addresses,
+ * new connections race them happy-eyeballs style, and addresses that recently failed are tried last.
+ */
+public class Http1Transport implements HttpTransport {
+
+    /**
+     * Methods that may be resent when a reused connection turns out to have been closed by the server.
+     */
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+
+    /**
+     * How long a connect attempt runs alone before the next address is tried, per RFC 8305.
+     */
+    private static final long ATTEMPT_DELAY_MILLIS = 250;
+
+    private final ConnectionPool pool;
+    private final boolean ownsPool;
+    private final SSLSocketFactory sslSocketFactory;
+    private final DnsResolver resolver;
+    private final AddressHealth addressHealth = new AddressHealth();
+
+    /**
+     * Creates a transport with its own connection pool using the default configuration.
+     */
+    public Http1Transport() {
+        this(new ConnectionPool(), true, (SSLSocketFactory) SSLSocketFactory.getDefault(), DnsResolver.system());
+    }
+
+    /**
+     * Creates a transport on a shared connection pool. The pool is not closed with the transport.
+     *
+     * @param pool the connection pool
+     */
+    public Http1Transport(ConnectionPool pool) {
+        this(pool, (SSLSocketFactory) SSLSocketFactory.getDefault());
+    }
+
+    /**
+     * Creates a transport on a shared connection pool with a custom TLS socket factory.
+     *
+     * @param pool             the connection pool
+     * @param sslSocketFactory the factory for https connections
+     */
+    public Http1Transport(ConnectionPool pool, SSLSocketFactory sslSocketFactory) {
+        this(pool, sslSocketFactory, DnsResolver.system());
+    }
+
+    /**
+     * Creates a transport on a shared connection pool that resolves hosts with the given resolver.
+     *
+     * @param pool             the connection pool
+     * @param sslSocketFactory the factory for https connections
+     * @param resolver         the resolver for host names, e.g. a {@link dev.revere.webrequest.dns.CachingDnsResolver}
+     */
+    public Http1Transport(ConnectionPool pool, SSLSocketFactory sslSocketFactory, DnsResolver resolver) {
+        this(pool, false, sslSocketFactory, resolver);
+    }
+
+    private Http1Transport(ConnectionPool pool, boolean ownsPool, SSLSocketFactory sslSocketFactory, DnsResolver resolver) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.sslSocketFactory = sslSocketFactory;
+        this.resolver = Objects.requireNonNull(resolver, "resolver");
+    }
+
+    /**
+     * Returns the pool this transport leases connections from.
+     *
+     * @return the connection pool
+     */
+    public ConnectionPool pool() {
+        return pool;
+    }
+
+    /**
+     * Returns the tracker of addresses that recently failed to connect.
+     *
+     * @return the address health
+     */
+    public AddressHealth addressHealth() {
+        return addressHealth;
+    }
+
+    @Override
+    public TransportResponse send(HttpRequest request) throws IOException {
+        return send(request, new Cancellation());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cancelling closes the socket, which fails a blocked connect, write or read at once. The
+     * connection is then discarded rather than returned to the pool.
+     */
+    @Override
+    public TransportResponse send(HttpRequest request, Cancellation cancellation) throws IOException {
+        long start = System.nanoTime();
+        Route route = Route.of(request.uri());
+        RequestBody body = request.body();
+        boolean retryable = IDEMPOTENT_METHODS.contains(request.method());
+        ConnectTimings connectTimings = new ConnectTimings();
+
+        while (true) {
+            cancellation.throwIfCancelled();
+            PooledConnection connection = pool.lease(route, target -> connect(target, request.connectTimeout(), connectTimings, cancellation));
+            Cancellation.Registration abort = cancellation.onCancel(() -> closeQuietly(connection.socket()));
+            boolean responseStarted = false;
+            try {
+                connection.socket().setSoTimeout(request.readTimeout());
+                OutputStream out = connection.out();
+                writeRequest(out, request, body);
+
+                InputStream in = connection.in();
+                in.mark(1);
+                if (in.read() == -1) {
+                    throw new IOException("Connection closed by " + route + " before sending a response");
+                }
+                in.reset();
+                responseStarted = true;
+                ExchangeTimings timings = new ExchangeTimings(connectTimings.dnsNanos, connectTimings.connectNanos,
+                        System.nanoTime() - start);
+
+                return readResponse(connection, request, Http1Codec.readHead(in), timings, abort);
+            } catch (IOException | RuntimeException e) {
+                abort.remove();
+                pool.release(connection, false);
+                if (!responseStarted && connection.isReused() && retryable && e instanceof IOException
+                        && !cancellation.isCancelled()) {
+                    continue;
+                }
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor, Cancellation cancellation) {
+        return HttpTransport.sendBlocking(this, request, executor, cancellation);
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.close();
+        }
+    }
+
+    private static void writeRequest(OutputStream out, HttpRequest request, RequestBody body) throws IOException {
+        long contentLength = body == null ? 0 : body.contentLength();
+        Http1Codec.writeHead(out, request, contentLength);
+        if (body != null) {
+            if (contentLength >= 0) {
+                body.writeTo(out);
+            } else {
+                ChunkedOutputStream chunked = new ChunkedOutputStream(out);
+                body.writeTo(chunked);
+                chunked.finish();
+            }
+        }
+        out.flush();
+    }
+
+    private TransportResponse readResponse(PooledConnection connection, HttpRequest request, Http1Codec.ResponseHead head,
+                                           ExchangeTimings timings, Cancellation.Registration abort) throws IOException {
+        boolean keepAlive = "HTTP/1.1".equals(head.version())
+                ? !head.hasToken("Connection", "close")
+                : head.hasToken("Connection", "keep-alive");
+        keepAlive &= !"close".equalsIgnoreCase(request.header("Connection"));
+        long keepAliveTimeout = Http1Codec.keepAliveTimeoutMillis(head.header("Keep-Alive"));
+        if (keepAliveTimeout >= 0) {
+            connection.keepAliveTimeout(keepAliveTimeout);
+        }
+
+        int status = head.statusCode();
+        InputStream body;
+        if ("HEAD".equals(request.method()) || status == 204 || status == 304) {
+            abort.remove();
+            pool.release(connection, keepAlive);
+            body = InputStream.nullInputStream();
+        } else if (head.hasToken("Transfer-Encoding", "chunked")) {
+            body = new ReleasingInputStream(new ChunkedInputStream(connection.in()), connection, keepAlive, abort);
+        } else if (head.header("Content-Length") != null) {
+            long length = parseContentLength(head.header("Content-Length"));
+            if (length == 0) {
+                abort.remove();
+                pool.release(connection, keepAlive);
+                body = InputStream.nullInputStream();
+            } else {
+                body = new ReleasingInputStream(new BoundedInputStream(connection.in(), length), connection, keepAlive, abort);
+            }
+        } else {
+            body = new ReleasingInputStream(connection.in(), connection, false, abort);
+        }
+        return new Http1Response(head.statusCode(), head.headers(), body, timings);
+    }
+
+    private Socket connect(Route route, int connectTimeout, ConnectTimings timings, Cancellation cancellation) throws IOException {
+        long start = System.nanoTime();
+        List<InetAddress> addresses = addressHealth.order(resolver.resolve(route.host()));
+        long resolved = System.nanoTime();
+        timings.dnsNanos = resolved - start;
+
+        Socket socket = HappyEyeballs.connect(addresses, route.port(), connectTimeout, ATTEMPT_DELAY_MILLIS, addressHealth, cancellation);
+        Cancellation.Registration abort = cancellation.onCancel(() -> closeQuietly(socket));
+        try {
+            socket.setTcpNoDelay(true);
+            if (!route.secure()) {
+                timings.connectNanos = System.nanoTime() - resolved;
+                return socket;
+            }
+            SSLSocket sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket, route.host(), route.port(), true);
+            SSLParameters parameters = sslSocket.getSSLParameters();
+            parameters.setEndpointIdentificationAlgorithm("HTTPS");
+            sslSocket.setSSLParameters(parameters);
+            sslSocket.setSoTimeout(connectTimeout);
+            sslSocket.startHandshake();
+            timings.connectNanos = System.nanoTime() - resolved;
+            return sslSocket;
+        } catch (IOException | RuntimeException e) {
+            socket.close();
+            throw e;
+        } finally {
+            abort.remove();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static long parseContentLength(String value) throws IOException {
+        try {
+            long length = Long.parseLong(value.trim());
+            if (length < 0) {
+                throw new IOException("Negative Content-Length: " + value);
+            }
+            return length;
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid Content-Length: " + value);
+        }
+    }
+
+    /**
+     * Reads exactly {@code length} bytes of a fixed-length body.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read == -1) {
+                throw new IOException("Connection closed with " + remaining + " body bytes outstanding");
+            }
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(remaining, in.available());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Returns the connection to the pool once the body has been read to the end,
+     * or discards it if the body is closed early or fails. The exchange stops being
+     * abortable before the connection leaves this stream.
+     */
+    private final class ReleasingInputStream extends FilterInputStream {
+        private final PooledConnection connection;
+        private final boolean keepAlive;
+        private final Cancellation.Registration abort;
+        private boolean released;
+
+        private ReleasingInputStream(InputStream in, PooledConnection connection, boolean keepAlive, Cancellation.Registration abort) {
+            super(in);
+            this.connection = connection;
+            this.keepAlive = keepAlive;
+            this.abort = abort;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (released) {
+                return -1;
+            }
+            try {
+                int read = in.read();
+                if (read == -1) {
+                    release(keepAlive);
+                }
+                return read;
+            } catch (IOException e) {
+                release(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (released) {
+                return -1;
+            }
+            try {
+                int read = in.read(buffer, offset, length);
+                if (read == -1) {
+                    release(keepAlive);
+                }
+                return read;
+            } catch (IOException e) {
+                release(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public int available() throws IOException {
+            return released ? 0 : in.available();
+        }
+
+        @Override
+        public void close() {
+            release(false);
+        }
+
+        private void release(boolean reusable) {
+            if (!released) {
+                released = true;
+                abort.remove();
+                pool.release(connection, reusable && !connection.socket().isClosed());
+            }
+        }
+    }
+
+    /**
+     * Durations of opening a new connection, left unset when a pooled connection is reused.
+     */
+    private static final class ConnectTimings {
+        private long dnsNanos = -1;
+        private long connectNanos = -1;
+    }
+
+    /**
+     * Response read from a pooled connection.
+     */
+    private record Http1Response(int statusCode, HttpHeaders httpHeaders, InputStream body,
+                                 ExchangeTimings timings) implements TransportResponse {
+
+        @Override
+        public Map<String, List<String>> headers() {
+            return httpHeaders.toMap();
+        }
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.HttpRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Service provider interface for the engine that moves an {@link HttpRequest} over the wire.
+ * <p>
+ * A transport only performs the exchange; status handling, error mapping and body decoding
+ * are done by the {@link dev.revere.webrequest.HttpClient}. Implementations must be thread-safe.
+ */
+public interface HttpTransport extends AutoCloseable {
+
+    /**
+     * Sends a request and blocks until the response headers have been received.
+     * The returned response body is read from the live connection and must be closed by the caller.
+     *
+     * @param request the request to send
+     * @return the response
+     * @throws IOException if an I/O error occurs
+     */
+    TransportResponse send(HttpRequest request) throws IOException;
+
+    /**
+     * Sends a request that can be aborted through the given cancellation, blocking until the response
+     * headers have been received. Cancelling must make a blocked call fail promptly, and must also
+     * abort a later read of the returned body until the response is closed.
+     * <p>
+     * The default implementation ignores the cancellation and calls {@link #send(HttpRequest)}.
+     *
+     * @param request      the request to send
+     * @param cancellation aborts the exchange when cancelled
+     * @return the response
+     * @throws IOException if an I/O error occurs or the exchange is cancelled
+     */
+    default TransportResponse send(HttpRequest request, Cancellation cancellation) throws IOException {
+        return send(request);
+    }
+
+    /**
+     * Sends a request asynchronously. The returned response has its body fully buffered,
+     * so reading it never blocks.
+     * <p>
+     * The default implementation runs {@link #send(HttpRequest)} on the given executor;
+     * non-blocking transports override it to avoid holding a thread for the round trip.
+     *
+     * @param request  the request to send
+     * @param executor the executor to use for blocking work
+     * @return a CompletableFuture that completes with the buffered response
+     */
+    default CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (TransportResponse response = send(request)) {
+                return TransportResponse.buffered(response);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Sends a request asynchronously that can be aborted through the given cancellation. The returned
+     * response has its body fully buffered.
+     * <p>
+     * The default implementation calls {@link #sendAsync(HttpRequest, Executor)} and cancels the
+     * returned future when the exchange is cancelled. Blocking transports override it with
+     * {@link #sendBlocking} so that cancelling closes the connection.
+     *
+     * @param request      the request to send
+     * @param executor     the executor to use for blocking work
+     * @param cancellation aborts the exchange when cancelled
+     * @return a CompletableFuture that completes with the buffered response
+     */
+    default CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor, Cancellation cancellation) {
+        CompletableFuture<TransportResponse> future = sendAsync(request, executor);
+        cancellation.onCancel(() -> future.cancel(true));
+        return future;
+    }
+
+    /**
+     * Runs a blocking exchange on the executor and buffers its response. Cancelling the exchange
+     * aborts it through {@link #send(HttpRequest, Cancellation)} and interrupts the worker thread,
+     * whose interrupt status is cleared before it is handed back to the executor.
+     *
+     * @param transport    the blocking transport
+     * @param request      the request to send
+     * @param executor     the executor to block on
+     * @param cancellation aborts the exchange when cancelled
+     * @return a CompletableFuture that completes with the buffered response
+     */
+    static CompletableFuture<TransportResponse> sendBlocking(HttpTransport transport, HttpRequest request, Executor executor,
+                                                            Cancellation cancellation) {
+        CompletableFuture<TransportResponse> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            Cancellation.Registration interrupt = Cancellation.Registration.NONE;
+            try {
+                cancellation.throwIfCancelled();
+                interrupt = cancellation.onCancel(Thread.currentThread()::interrupt);
+                try (TransportResponse response = transport.send(request, cancellation)) {
+                    result.complete(TransportResponse.buffered(response));
+                }
+            } catch (IOException e) {
+                result.completeExceptionally(new UncheckedIOException(e));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                interrupt.remove();
+                if (cancellation.isCancelled()) {
+                    Thread.interrupted();
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Releases any resources held by the transport. The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,270 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.RequestBody;
+import dev.revere.webrequest.metrics.ExchangeTimings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Non-blocking transport backed by {@link java.net.http.HttpClient}.
+ * <p>
+ * Asynchronous sends are driven by the JDK client's selector threads, so a handful of threads
+ * can keep thousands of exchanges in flight, and HTTP/2 connections are multiplexed when the
+ * server supports it.
+ * <p>
+ * A JDK client fixes its connect timeout when it is built, so the default transport keeps one
+ * client per connect timeout, rounded up to whole seconds, and sends each request through the one
+ * matching {@link HttpRequest#connectTimeout()}. A transport around a preconfigured client always
+ * uses that client's connect timeout. The read timeout bounds the wait for the response headers.
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+    /**
+     * Headers the JDK client manages itself and refuses to accept from callers.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = restrictedHeaders();
+
+    private final HttpClient client;
+    private final ConcurrentHashMap<Long, HttpClient> clientsByConnectTimeout;
+
+    /**
+     * Creates a transport that prefers HTTP/2 and follows redirects like {@link java.net.HttpURLConnection}.
+     *
+     * @see java.net.HttpURLConnection#getFollowRedirects()
+     */
+    public JdkHttpTransport() {
+        this.client = null;
+        this.clientsByConnectTimeout = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a transport around a preconfigured JDK client. Requests are sent with the client's own
+     * connect timeout rather than their own.
+     *
+     * @param client the JDK HttpClient to send requests with
+     */
+    public JdkHttpTransport(HttpClient client) {
+        this.client = Objects.requireNonNull(client, "client");
+        this.clientsByConnectTimeout = null;
+    }
+
+    /**
+     * Returns the JDK client to send a request with.
+     *
+     * @param request the request
+     * @return the preconfigured client, or the one built for the request's connect timeout
+     */
+    private HttpClient clientFor(HttpRequest request) {
+        if (client != null) {
+            return client;
+        }
+        int timeout = request.connectTimeout();
+        long seconds = timeout == 0 ? 0 : (timeout + 999L) / 1000;
+        return clientsByConnectTimeout.computeIfAbsent(seconds, JdkHttpTransport::newClient);
+    }
+
+    /**
+     * Builds a JDK client that prefers HTTP/2 and follows redirects.
+     *
+     * @param connectTimeoutSeconds the connect timeout, or 0 to wait for the operating system's
+     * @return the client
+     */
+    private static HttpClient newClient(long connectTimeoutSeconds) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (connectTimeoutSeconds > 0) {
+            builder.connectTimeout(Duration.ofSeconds(connectTimeoutSeconds));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public TransportResponse send(HttpRequest request) throws IOException {
+        return send(request, new Cancellation());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cancelling cancels the JDK exchange while the headers are awaited and closes the body stream afterwards.
+     */
+    @Override
+    public TransportResponse send(HttpRequest request, Cancellation cancellation) throws IOException {
+        long start = System.nanoTime();
+        cancellation.throwIfCancelled();
+        CompletableFuture<HttpResponse<InputStream>> future = clientFor(request).sendAsync(toJdkRequest(request),
+                HttpResponse.BodyHandlers.ofInputStream());
+        Cancellation.Registration abort = cancellation.onCancel(() -> future.cancel(true));
+        HttpResponse<InputStream> response;
+        try {
+            response = future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        } catch (CancellationException e) {
+            cancellation.throwIfCancelled();
+            throw new InterruptedIOException("Exchange cancelled");
+        } catch (ExecutionException e) {
+            cancellation.throwIfCancelled();
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        } finally {
+            abort.remove();
+        }
+        InputStream body = response.body();
+        Cancellation.Registration closeBody = cancellation.onCancel(() -> {
+            try {
+                body.close();
+            } catch (IOException ignored) {
+            }
+        });
+        return adapt(response, ExchangeTimings.NONE.withFirstByte(System.nanoTime() - start), closeBody);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor) {
+        return clientFor(request).sendAsync(toJdkRequest(request), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> TransportResponse.of(response.statusCode(), response.headers().map(), response.body()));
+    }
+
+    @Override
+    public void close() {
+        if (client != null) {
+            client.shutdownNow();
+        } else {
+            clientsByConnectTimeout.values().forEach(HttpClient::shutdownNow);
+        }
+    }
+
+    /**
+     * Converts a library request into a JDK request.
+     *
+     * @param request the request to convert
+     * @return the JDK request
+     */
+    private java.net.http.HttpRequest toJdkRequest(HttpRequest request) {
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(request.uri());
+        if (request.readTimeout() > 0) {
+            builder.timeout(Duration.ofMillis(request.readTimeout()));
+        }
+
+        request.forEachHeader((name, value) -> {
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                builder.header(name, value);
+            }
+        });
+
+        return builder.method(request.method(), toBodyPublisher(request.body())).build();
+    }
+
+    /**
+     * Adapts a request body to a JDK body publisher that pulls the body as the connection drains it.
+     *
+     * @param body the body, or null
+     * @return the body publisher
+     */
+    private static java.net.http.HttpRequest.BodyPublisher toBodyPublisher(RequestBody body) {
+        if (body == null) {
+            return java.net.http.HttpRequest.BodyPublishers.noBody();
+        }
+        java.net.http.HttpRequest.BodyPublisher stream = java.net.http.HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return body.openStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        long contentLength = body.contentLength();
+        return contentLength >= 0 ? java.net.http.HttpRequest.BodyPublishers.fromPublisher(stream, contentLength) : stream;
+    }
+
+    /**
+     * Adapts a streaming JDK response to a TransportResponse.
+     *
+     * @param response the JDK response
+     * @param timings  the measured phase durations
+     * @param abort    the abort action to remove when the response is closed
+     * @return the adapted response
+     */
+    private static TransportResponse adapt(HttpResponse<InputStream> response, ExchangeTimings timings, Cancellation.Registration abort) {
+        return new TransportResponse() {
+            @Override
+            public int statusCode() {
+                return response.statusCode();
+            }
+
+            @Override
+            public Map<String, List<String>> headers() {
+                return response.headers().map();
+            }
+
+            @Override
+            public InputStream body() {
+                return response.body();
+            }
+
+            @Override
+            public ExchangeTimings timings() {
+                return timings;
+            }
+
+            @Override
+            public void close() throws IOException {
+                abort.remove();
+                response.body().close();
+            }
+        };
+    }
+
+    private static Set<String> restrictedHeaders() {
+        Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        headers.addAll(List.of("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+        return headers;
+    }
+}
\ No newline at end of file
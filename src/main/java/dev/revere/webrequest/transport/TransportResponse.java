@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.HttpHeaders;
+import dev.revere.webrequest.buffer.BufferPool;
+import dev.revere.webrequest.metrics.ExchangeTimings;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Represents the raw response produced by an {@link HttpTransport}.
+ * Closing the response releases the underlying connection.
+ */
+public interface TransportResponse extends Closeable {
+
+    /**
+     * Returns the HTTP status code.
+     *
+     * @return the status code
+     */
+    int statusCode();
+
+    /**
+     * Returns the response headers.
+     *
+     * @return the headers keyed by name
+     */
+    Map<String, List<String>> headers();
+
+    /**
+     * Returns the response body stream. Never null; an empty body yields an empty stream.
+     *
+     * @return the body stream
+     * @throws IOException if an I/O error occurs
+     */
+    InputStream body() throws IOException;
+
+    /**
+     * Returns the response headers as a flat, lazily parsed view. Transports that read the head
+     * themselves override this to hand out the raw field lines without building a map.
+     *
+     * @return the headers
+     */
+    default HttpHeaders httpHeaders() {
+        return HttpHeaders.of(headers());
+    }
+
+    /**
+     * Returns the body length announced by the {@code Content-Length} header.
+     *
+     * @return the length in bytes, or -1 if the header is absent or malformed
+     */
+    default long contentLength() {
+        return httpHeaders().contentLength();
+    }
+
+    /**
+     * Returns the phase durations the transport measured for this exchange.
+     *
+     * @return the timings, or {@link ExchangeTimings#NONE} if the transport measures nothing
+     */
+    default ExchangeTimings timings() {
+        return ExchangeTimings.NONE;
+    }
+
+    /**
+     * Reads the body of the given response fully into memory.
+     *
+     * @param response the response to buffer
+     * @return a response whose body is held in memory
+     * @throws IOException if an I/O error occurs while reading the body
+     */
+    static TransportResponse buffered(TransportResponse response) throws IOException {
+        byte[] bytes;
+        try (InputStream in = response.body()) {
+            bytes = BufferPool.shared().readAll(in, response.contentLength());
+        }
+        int statusCode = response.statusCode();
+        HttpHeaders headers = response.httpHeaders();
+        ExchangeTimings timings = response.timings();
+        return new TransportResponse() {
+            @Override
+            public int statusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public Map<String, List<String>> headers() {
+                return headers.toMap();
+            }
+
+            @Override
+            public HttpHeaders httpHeaders() {
+                return headers;
+            }
+
+            @Override
+            public InputStream body() {
+                return new ByteArrayInputStream(bytes);
+            }
+
+            @Override
+            public ExchangeTimings timings() {
+                return timings;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Creates a response backed by an in-memory body.
+     *
+     * @param statusCode the status code
+     * @param headers    the response headers
+     * @param body       the response body
+     * @return the response
+     */
+    static TransportResponse of(int statusCode, Map<String, List<String>> headers, byte[] body) {
+        return of(statusCode, headers, body, ExchangeTimings.NONE);
+    }
+
+    /**
+     * Creates a response backed by an in-memory body, carrying the timings of the exchange that produced it.
+     *
+     * @param statusCode the status code
+     * @param headers    the response headers
+     * @param body       the response body
+     * @param timings    the measured phase durations
+     * @return the response
+     */
+    static TransportResponse of(int statusCode, Map<String, List<String>> headers, byte[] body, ExchangeTimings timings) {
+        return new TransportResponse() {
+            @Override
+            public int statusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public Map<String, List<String>> headers() {
+                return headers;
+            }
+
+            @Override
+            public InputStream body() {
+                return new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public ExchangeTimings timings() {
+                return timings;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.RequestBody;
+import dev.revere.webrequest.metrics.ExchangeTimings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ * <p>
+ * Blocking transport backed by {@link HttpURLConnection}. Each request holds the calling thread
+ * for its whole round trip. Connections are reused through the JVM-wide keep-alive cache of
+ * {@link HttpURLConnection}, which cannot be sized per client; use {@link Http1Transport} for that.
+ */
+public class UrlConnectionTransport implements HttpTransport {
+
+    @Override
+    public TransportResponse send(HttpRequest request) throws IOException {
+        return send(request, new Cancellation());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cancelling disconnects the connection, which closes its socket instead of returning it to
+     * the keep-alive cache.
+     */
+    @Override
+    public TransportResponse send(HttpRequest request, Cancellation cancellation) throws IOException {
+        long start = System.nanoTime();
+        cancellation.throwIfCancelled();
+        HttpURLConnection connection = connect(request);
+        Cancellation.Registration abort = cancellation.onCancel(connection::disconnect);
+        try {
+            setRequestBody(connection, request.body());
+            int statusCode = connection.getResponseCode();
+            ExchangeTimings timings = ExchangeTimings.NONE.withFirstByte(System.nanoTime() - start);
+            return new UrlConnectionResponse(connection, statusCode, timings, abort);
+        } catch (IOException | RuntimeException e) {
+            abort.remove();
+            connection.disconnect();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(HttpRequest request, Executor executor, Cancellation cancellation) {
+        return HttpTransport.sendBlocking(this, request, executor, cancellation);
+    }
+
+    /**
+     * Opens a connection for the request and writes the request body, if any.
+     *
+     * @param request the request to open
+     * @return the connected HttpURLConnection
+     * @throws IOException if an I/O error occurs
+     */
+    public static HttpURLConnection open(HttpRequest request) throws IOException {
+        HttpURLConnection connection = connect(request);
+        setRequestBody(connection, request.body());
+        return connection;
+    }
+
+    private static HttpURLConnection connect(HttpRequest request) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) request.uri().toURL().openConnection();
+        connection.setRequestMethod(request.method());
+        connection.setConnectTimeout(request.connectTimeout());
+        connection.setReadTimeout(request.readTimeout());
+
+        request.forEachHeader(connection::setRequestProperty);
+        return connection;
+    }
+
+    /**
+     * Streams the request body, if present, straight to the connection. Bodies of known length use
+     * fixed-length streaming mode and others are sent chunked, so the connection never buffers the
+     * whole body in memory.
+     *
+     * @param connection the HttpURLConnection to write the body to
+     * @param body       the body, or null
+     * @throws IOException if an I/O error occurs
+     */
+    private static void setRequestBody(HttpURLConnection connection, RequestBody body) throws IOException {
+        if (body == null) {
+            return;
+        }
+        long contentLength = body.contentLength();
+        connection.setDoOutput(true);
+        if (contentLength >= 0) {
+            connection.setFixedLengthStreamingMode(contentLength);
+        } else {
+            connection.setChunkedStreamingMode(0);
+        }
+        try (OutputStream os = connection.getOutputStream()) {
+            body.writeTo(os);
+        }
+    }
+
+    /**
+     * Response view over an open HttpURLConnection.
+     */
+    private static final class UrlConnectionResponse implements TransportResponse {
+        private final HttpURLConnection connection;
+        private final int statusCode;
+        private final ExchangeTimings timings;
+        private final Cancellation.Registration abort;
+        private InputStream body;
+
+        private UrlConnectionResponse(HttpURLConnection connection, int statusCode, ExchangeTimings timings,
+                                      Cancellation.Registration abort) {
+            this.connection = connection;
+            this.statusCode = statusCode;
+            this.timings = timings;
+            this.abort = abort;
+        }
+
+        @Override
+        public int statusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public Map<String, List<String>> headers() {
+            Map<String, List<String>> headers = new LinkedHashMap<>(connection.getHeaderFields());
+            headers.remove(null);
+            return headers;
+        }
+
+        @Override
+        public InputStream body() throws IOException {
+            if (body == null) {
+                InputStream stream = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream();
+                body = stream != null ? stream : InputStream.nullInputStream();
+            }
+            return body;
+        }
+
+        @Override
+        public ExchangeTimings timings() {
+            return timings;
+        }
+
+        /**
+         * Closes the body stream, which lets the JDK return the socket to its keep-alive cache.
+         * The connection is only torn down if the stream cannot be closed cleanly.
+         */
+        @Override
+        public void close() {
+            abort.remove();
+            try {
+                body().close();
+            } catch (IOException e) {
+                connection.disconnect();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import dev.revere.webrequest.pool.ConnectionPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class BodyHandlerTest {
+
+    private static TestHttpServer server;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/latin1", exchange -> {
+                    exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=ISO-8859-1");
+                    TestHttpServer.respond(exchange, 200, "café".getBytes(StandardCharsets.ISO_8859_1));
+                })
+                .handle("/records", exchange -> TestHttpServer.respond(exchange, 200, "1\n2\n3\n"))
+                .handle("/missing", exchange -> TestHttpServer.respond(exchange, 404, "not found"));
+        client = HttpClient.builder().connectionPool(new ConnectionPool.Config()).build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    private static HttpRequest get(String path) {
+        return new HttpRequestBuilder().url(server.url(path)).buildRequest();
+    }
+
+    @Test
+    void testStringUsesCharsetOfContentType() {
+        TypedResponse<String> response = client.execute(get("/latin1"), BodyHandler.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("café", response.body());
+        assertEquals("text/plain", response.headers().mediaType());
+        assertTrue(response.timings().totalNanos() >= response.timings().firstByteNanos());
+    }
+
+    @Test
+    void testCustomHandlerDecodesFromStream() {
+        BodyHandler<List<Integer>> numbers = (headers, body) -> new BufferedReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8)).lines().map(Integer::valueOf).toList();
+
+        assertEquals(List.of(1, 2, 3), client.execute(get("/records"), numbers).body());
+        assertEquals(6, client.executeAsync(get("/records"), numbers.map(list -> list.stream().mapToInt(i -> i).sum()))
+                .join().body());
+    }
+
+    @Test
+    void testFileAndDiscardingHandlers(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("records.txt");
+
+        assertEquals(file, client.execute(get("/records"), BodyHandler.ofFile(file)).body());
+        assertEquals("1\n2\n3\n", Files.readString(file));
+        assertNull(client.execute(get("/records"), BodyHandler.discarding()).body());
+        assertArrayEquals("1\n2\n3\n".getBytes(StandardCharsets.UTF_8),
+                client.execute(get("/records"), BodyHandler.ofByteArray()).body());
+        assertEquals(0, client.poolStats().leased());
+    }
+
+    @Test
+    void testErrorStatusSkipsHandler() {
+        AtomicBoolean called = new AtomicBoolean();
+        HttpException e = assertThrows(HttpException.class, () -> client.execute(get("/missing"), (headers, body) -> {
+            called.set(true);
+            return null;
+        }));
+
+        assertEquals(404, e.getStatusCode());
+        assertFalse(called.get());
+    }
+}
\ No newline at end of file
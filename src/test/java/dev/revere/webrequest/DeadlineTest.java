@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import dev.revere.webrequest.pool.ConnectionPool;
+import dev.revere.webrequest.retry.RetryBudget;
+import dev.revere.webrequest.retry.RetryPolicy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class DeadlineTest {
+
+    private static final AtomicInteger UNAVAILABLE_CALLS = new AtomicInteger();
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/slow", exchange -> {
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    TestHttpServer.respond(exchange, 200, "late");
+                })
+                .handle("/fast", exchange -> TestHttpServer.respond(exchange, 200, "ok"))
+                .handle("/unavailable", exchange -> {
+                    UNAVAILABLE_CALLS.incrementAndGet();
+                    exchange.getResponseHeaders().add("Retry-After", "1");
+                    TestHttpServer.respond(exchange, 503, "busy");
+                });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    private static HttpClient client(boolean pooled) {
+        HttpClient.Builder builder = HttpClient.builder();
+        return pooled ? builder.connectionPool(new ConnectionPool.Config()).build() : builder.build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testDeadlineAbortsBlockedRead(boolean pooled) {
+        HttpClient client = client(pooled);
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/slow")).readTimeout(0).timeout(200).buildRequest();
+
+            long start = System.nanoTime();
+            HttpException e = assertThrows(HttpException.class, () -> client.execute(request));
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertInstanceOf(TimeoutException.class, e.getCause());
+            assertTrue(elapsed < 2000, "took " + elapsed + " ms");
+            assertEquals("ok", client.execute(new HttpRequestBuilder().url(server.url("/fast")).buildRequest()).body());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testAsyncDeadlineFailsWithTimeout(boolean pooled) {
+        HttpClient client = client(pooled);
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/slow")).timeout(200).buildRequest();
+
+            CompletionException e = assertThrows(CompletionException.class, () -> client.executeAsync(request).join());
+
+            assertInstanceOf(TimeoutException.class, e.getCause());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testCancelFreesTheWorker(boolean pooled) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        HttpClient.Builder builder = HttpClient.builder().executor(executor);
+        HttpClient client = pooled ? builder.connectionPool(new ConnectionPool.Config()).build() : builder.build();
+        try {
+            CompletableFuture<HttpResponse> slow = client.executeAsync(new HttpRequestBuilder().url(server.url("/slow")).buildRequest());
+            Thread.sleep(100);
+            assertTrue(slow.cancel(true));
+
+            HttpResponse fast = client.executeAsync(new HttpRequestBuilder().url(server.url("/fast")).buildRequest())
+                    .get(2, TimeUnit.SECONDS);
+
+            assertEquals("ok", fast.body());
+        } finally {
+            client.shutdown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testClientDefaultTimeoutApplies() {
+        HttpClient client = HttpClient.builder().requestTimeout(200).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/slow")).buildRequest();
+
+            HttpException e = assertThrows(HttpException.class, () -> client.execute(request));
+
+            assertInstanceOf(TimeoutException.class, e.getCause());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testRetryIsSkippedWhenItCannotFinishBeforeTheDeadline() {
+        UNAVAILABLE_CALLS.set(0);
+        RetryPolicy policy = new RetryPolicy().maxAttempts(5).budget(new RetryBudget(1, 100));
+        HttpClient client = HttpClient.builder().retryPolicy(policy).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/unavailable")).timeout(500).buildRequest();
+
+            long start = System.nanoTime();
+            HttpException e = assertThrows(HttpException.class, () -> client.execute(request));
+
+            assertEquals(503, e.getStatusCode());
+            assertEquals(1, UNAVAILABLE_CALLS.get());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testNegativeTimeoutIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new HttpRequestBuilder().timeout(-1));
+        assertThrows(IllegalArgumentException.class, () -> HttpClient.builder().requestTimeout(-1));
+        assertEquals(250, new HttpRequestBuilder().url("http://localhost/").buildRequest().withTimeout(250).timeout());
+    }
+}
\ No newline at end of file
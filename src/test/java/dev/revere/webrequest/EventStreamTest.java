@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class EventStreamTest {
+
+    private static final List<String> LAST_EVENT_IDS = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger();
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/events", exchange -> {
+                    LAST_EVENT_IDS.add(String.valueOf(exchange.getRequestHeaders().getFirst("Last-Event-ID")));
+                    switch (CONNECTIONS.incrementAndGet()) {
+                        case 1 -> TestHttpServer.respond(exchange, 200, "retry: 10\nid: 1\ndata: a\n\ndata: cut off");
+                        case 2 -> TestHttpServer.respond(exchange, 200, "id: 2\ndata: b\n\n");
+                        default -> {
+                            exchange.sendResponseHeaders(204, -1);
+                            exchange.close();
+                        }
+                    }
+                })
+                .handle("/gone", exchange -> TestHttpServer.respond(exchange, 410, "gone"))
+                .handle("/records", exchange -> TestHttpServer.respond(exchange, 200, "{\"n\":1}\n\n{\"n\":2}\r\n{\"n\":3}"));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testParsesEventStreamFields() {
+        String stream = ": comment\r\n"
+                + "data: first\r\ndata:second line\r\n\r\n"
+                + "event: update\rid: 7\rdata: x\r\r"
+                + "id: 8\n\n"
+                + "data\n\n"
+                + "retry: 1500\ndata: last\n\n"
+                + "data: never dispatched";
+
+        List<ServerSentEvent> events = collect(ResponseBody.of(stream.getBytes(StandardCharsets.UTF_8)).events()).join();
+
+        assertEquals(List.of(
+                new ServerSentEvent(null, "message", "first\nsecond line", -1),
+                new ServerSentEvent("7", "update", "x", -1),
+                new ServerSentEvent("8", "message", "", -1),
+                new ServerSentEvent("8", "message", "last", 1500)), events);
+    }
+
+    @Test
+    void testNdjsonSkipsBlankLinesAndBoundsRecords() {
+        List<String> records = collect(ResponseBody.of("{\"a\":1}\n\n  \n{\"b\":2}\r\n".getBytes(StandardCharsets.UTF_8)).ndjson()).join();
+        assertEquals(List.of("{\"a\":1}", "{\"b\":2}"), records);
+
+        byte[] huge = new byte[ResponseBody.MAX_MESSAGE_BYTES + 1];
+        Arrays.fill(huge, (byte) 'x');
+        CompletableFuture<List<String>> failed = collect(ResponseBody.of(huge).ndjson());
+        assertInstanceOf(IOException.class, assertThrows(Exception.class, failed::join).getCause());
+    }
+
+    @Test
+    void testReadsOnlyAsMuchAsRequested() throws Exception {
+        AtomicInteger bytesRead = new AtomicInteger();
+        byte[] content = "data: 1\n\n".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        InputStream counting = new ByteArrayInputStream(content) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                int read = super.read(b, off, len);
+                bytesRead.addAndGet(Math.max(read, 0));
+                return read;
+            }
+        };
+        List<ServerSentEvent> received = new CopyOnWriteArrayList<>();
+        ResponseBody.ofStream(counting, Runnable::run).events().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(2);
+            }
+
+            @Override
+            public void onNext(ServerSentEvent item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertEquals(2, received.size());
+        assertTrue(bytesRead.get() <= 8192, "read " + bytesRead.get() + " bytes");
+    }
+
+    @Test
+    void testReconnectsWithLastEventId() {
+        HttpClient client = HttpClient.builder().build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/events")).buildRequest();
+
+            List<ServerSentEvent> events = collect(client.executeEventStream(request)).orTimeout(5, TimeUnit.SECONDS).join();
+
+            assertEquals(List.of("a", "b"), events.stream().map(ServerSentEvent::data).toList());
+            assertEquals(List.of("null", "1", "2"), LAST_EVENT_IDS);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testErrorStatusFailsTheEventStream() {
+        HttpClient client = HttpClient.builder().build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/gone")).buildRequest();
+
+            Throwable error = assertThrows(Exception.class, () -> collect(client.executeEventStream(request)).join()).getCause();
+            assertEquals(410, assertInstanceOf(HttpException.class, error).getStatusCode());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testExecuteNdjson() {
+        HttpClient client = HttpClient.builder().build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/records")).buildRequest();
+
+            assertEquals(List.of("{\"n\":1}", "{\"n\":2}", "{\"n\":3}"), collect(client.executeNdjson(request)).join());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static <T> CompletableFuture<List<T>> collect(Flow.Publisher<T> publisher) {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        List<T> items = new CopyOnWriteArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(List.copyOf(items));
+            }
+        });
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class HttpBatchTest {
+
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+    private static final AtomicInteger MAX_ACTIVE = new AtomicInteger();
+    private static final AtomicInteger CALLS = new AtomicInteger();
+    private static TestHttpServer server;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/work", exchange -> {
+                    CALLS.incrementAndGet();
+                    String query = exchange.getRequestURI().getQuery();
+                    sleep(Long.parseLong(query.substring(query.indexOf('=') + 1)));
+                    TestHttpServer.respond(exchange, 200, query);
+                })
+                .handle("/capped", exchange -> {
+                    MAX_ACTIVE.accumulateAndGet(ACTIVE.incrementAndGet(), Math::max);
+                    String query = exchange.getRequestURI().getQuery();
+                    try {
+                        sleep(Long.parseLong(query.substring(query.indexOf('=') + 1)));
+                    } finally {
+                        ACTIVE.decrementAndGet();
+                    }
+                    TestHttpServer.respond(exchange, 200, query);
+                })
+                .handle("/fail", exchange -> {
+                    CALLS.incrementAndGet();
+                    TestHttpServer.respond(exchange, 500, "boom");
+                });
+        client = HttpClient.builder().build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static HttpRequest work(long millis) {
+        return new HttpRequestBuilder().url(server.url("/work?ms=" + millis)).buildRequest();
+    }
+
+    private static HttpRequest fail() {
+        return new HttpRequestBuilder().url(server.url("/fail")).buildRequest();
+    }
+
+    @Test
+    void testResultsKeepSubmissionOrderUnderTheParallelismCap() {
+        MAX_ACTIVE.set(0);
+        List<HttpRequest> requests = IntStream.range(0, 12)
+                .mapToObj(i -> new HttpRequestBuilder().url(server.url("/capped?ms=" + (i % 2 == 0 ? 40 : 5))).buildRequest())
+                .toList();
+
+        try (HttpBatch batch = client.executeAll(requests, new BatchOptions().maxParallelism(3))) {
+            List<HttpResponse> responses = batch.responses();
+
+            assertEquals(12, responses.size());
+            for (int i = 0; i < responses.size(); i++) {
+                assertEquals("ms=" + (i % 2 == 0 ? 40 : 5), responses.get(i).body());
+            }
+            assertTrue(MAX_ACTIVE.get() <= 3, "max in flight was " + MAX_ACTIVE.get());
+        }
+    }
+
+    @Test
+    void testStreamDeliversOutcomesInCompletionOrder() {
+        try (HttpBatch batch = client.executeAll(List.of(work(500), work(1)))) {
+            List<Integer> order = batch.stream().map(BatchOutcome::index).toList();
+
+            assertEquals(List.of(1, 0), order);
+            assertThrows(IllegalStateException.class, batch::stream);
+        }
+    }
+
+    @Test
+    void testCollectAllKeepsRunningAfterAFailure() {
+        try (HttpBatch batch = client.executeAll(List.of(fail(), work(50)), new BatchOptions().mode(BatchMode.COLLECT_ALL))) {
+            List<BatchOutcome> outcomes = batch.join();
+
+            assertEquals(500, assertInstanceOf(HttpException.class, outcomes.get(0).failure()).getStatusCode());
+            assertTrue(outcomes.get(1).isSuccess());
+            CompletionException failure = assertThrows(CompletionException.class, batch::responses);
+            assertInstanceOf(HttpException.class, failure.getCause());
+        }
+    }
+
+    @Test
+    void testFailFastCancelsUnfinishedAndUnstartedRequests() {
+        CALLS.set(0);
+        List<HttpRequest> requests = new ArrayList<>(List.of(work(2000), fail()));
+        requests.addAll(List.of(work(1), work(1), work(1)));
+        BatchOptions options = new BatchOptions().mode(BatchMode.FAIL_FAST).maxParallelism(2);
+
+        long start = System.nanoTime();
+        try (HttpBatch batch = client.executeAll(requests, options)) {
+            List<BatchOutcome> outcomes = batch.join();
+
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+            assertInstanceOf(CancellationException.class, outcomes.get(0).failure());
+            assertInstanceOf(HttpException.class, outcomes.get(1).failure());
+            for (BatchOutcome outcome : outcomes.subList(2, 5)) {
+                assertInstanceOf(CancellationException.class, outcome.failure());
+            }
+            assertInstanceOf(HttpException.class, assertThrows(CompletionException.class, batch::responses).getCause());
+            // The in-flight request may not have reached the server yet; the unstarted three never do.
+            sleep(100);
+            assertTrue(CALLS.get() <= 2, "server saw " + CALLS.get() + " requests");
+        }
+    }
+
+    @Test
+    void testDeadlineFailsStragglersWithTimeout() {
+        long start = System.nanoTime();
+        try (HttpBatch batch = client.executeAll(List.of(work(1), work(3000)), new BatchOptions().deadline(Duration.ofMillis(300)))) {
+            List<BatchOutcome> outcomes = batch.join();
+
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+            assertTrue(outcomes.get(0).isSuccess());
+            assertInstanceOf(TimeoutException.class, outcomes.get(1).failure());
+        }
+    }
+
+    @Test
+    void testCancelResolvesTheBatch() {
+        HttpBatch batch = client.executeAll(List.of(work(3000)));
+        batch.cancel();
+
+        assertTrue(batch.isDone());
+        assertInstanceOf(CancellationException.class, batch.join().get(0).failure());
+        assertTrue(client.executeAll(List.of()).join().isEmpty());
+    }
+}
\ No newline at end of file
@@ -28,8 +28,13 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.InputStream;
 import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -83,4 +88,130 @@ class HttpClientTest {
         assertEquals(200, response.statusCode());
         assertTrue(response.body().contains("userId"));
     }
+
+    @Test
+    void testVirtualThreadExecutionMode() throws Exception {
+        try (TestHttpServer server = TestHttpServer.start()) {
+            server.handle("/ok", exchange -> {
+                sleepQuietly(200);
+                TestHttpServer.respond(exchange, 200, "ok");
+            });
+            HttpClient virtualClient = HttpClient.builder().executionMode(ExecutionMode.VIRTUAL_THREADS).build();
+            try {
+                HttpURLConnection connection = new HttpRequestBuilder().url(server.url("/ok")).build();
+
+                boolean virtual = virtualClient.executeAsync(connection)
+                        .thenApply(response -> Thread.currentThread().isVirtual())
+                        .join();
+
+                assertTrue(virtual);
+            } finally {
+                virtualClient.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testCallerSuppliedExecutorOutlivesShutdown() throws Exception {
+        try (TestHttpServer server = TestHttpServer.start()) {
+            server.handle("/ok", exchange -> TestHttpServer.respond(exchange, 200, "ok"));
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                HttpClient boundedClient = HttpClient.builder().executor(executor).build();
+                HttpRequest request = new HttpRequestBuilder().url(server.url("/ok")).buildRequest();
+
+                assertEquals("ok", boundedClient.executeAsync(request).join().body());
+
+                boundedClient.shutdown();
+
+                assertFalse(executor.isShutdown());
+                CompletionException rejected = assertThrows(CompletionException.class,
+                        () -> boundedClient.executeAsync(request).join());
+                assertEquals(503, assertInstanceOf(HttpException.class, rejected.getCause()).getStatusCode());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void testBinaryBodyIsNotRewritten() throws Exception {
+        byte[] payload = {'a', '\r', '\n', 'b', (byte) 0xC3, 0};
+        try (TestHttpServer server = TestHttpServer.start()) {
+            server.handle("/bin", exchange -> TestHttpServer.respond(exchange, 200, payload));
+            HttpClient localClient = HttpClient.builder().build();
+            try {
+                HttpRequest request = new HttpRequestBuilder().url(server.url("/bin")).buildRequest();
+
+                assertArrayEquals(payload, localClient.execute(request).content().asBytes());
+
+                try (HttpResponse response = localClient.executeStreaming(request);
+                     InputStream stream = response.content().asInputStream()) {
+                    assertArrayEquals(payload, stream.readAllBytes());
+                }
+            } finally {
+                localClient.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testSharedInstanceSurvivesShutdown() throws Exception {
+        try (TestHttpServer server = TestHttpServer.start()) {
+            server.handle("/ok", exchange -> TestHttpServer.respond(exchange, 200, "ok"));
+            HttpClient shared = HttpClient.getInstance();
+
+            shared.shutdown();
+            shared.close();
+
+            assertFalse(shared.isShutdown());
+            assertEquals("ok", shared.executeAsync(new HttpRequestBuilder().url(server.url("/ok")).buildRequest()).join().body());
+        }
+    }
+
+    @Test
+    void testBuiltClientsCloseIndependently() throws Exception {
+        try (TestHttpServer server = TestHttpServer.start()) {
+            server.handle("/ok", exchange -> TestHttpServer.respond(exchange, 200, "ok"));
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/ok")).buildRequest();
+            try (HttpClient batch = HttpClient.builder().build()) {
+                HttpClient latency = HttpClient.builder().executionMode(ExecutionMode.VIRTUAL_THREADS).build();
+                try (latency) {
+                    assertEquals("ok", latency.executeAsync(request).join().body());
+                }
+
+                assertTrue(latency.isShutdown());
+                assertThrows(CompletionException.class, () -> latency.executeAsync(request).join());
+                assertFalse(batch.isShutdown());
+                assertEquals("ok", batch.executeAsync(request).join().body());
+            }
+        }
+    }
+
+    @Test
+    void testClientTimeoutsApplyToRequestsWithoutTheirOwn() throws Exception {
+        try (TestHttpServer server = TestHttpServer.start();
+             HttpClient impatient = HttpClient.builder().readTimeout(100).build()) {
+            server.handle("/slow", exchange -> {
+                sleepQuietly(500);
+                TestHttpServer.respond(exchange, 200, "slow");
+            });
+
+            HttpRequest defaults = new HttpRequestBuilder().url(server.url("/slow")).buildRequest();
+            assertEquals(10_000, defaults.readTimeout());
+            HttpException e = assertThrows(HttpException.class, () -> impatient.execute(defaults));
+            assertInstanceOf(SocketTimeoutException.class, e.getCause());
+
+            HttpRequest patient = new HttpRequestBuilder().url(server.url("/slow")).readTimeout(5000).buildRequest();
+            assertEquals("slow", impatient.execute(patient).body());
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class HttpHeadersTest {
+
+    private static HttpHeaders headers(String... lines) {
+        return HttpHeaders.ofLines(lines, lines.length);
+    }
+
+    @Test
+    void testLookupIsCaseInsensitiveAndKeepsRepeatedFields() {
+        HttpHeaders headers = headers("Set-Cookie: a=1", "Content-Type:text/plain", "set-cookie:  b=2\t");
+
+        assertEquals(3, headers.size());
+        assertTrue(headers.contains("CONTENT-TYPE"));
+        assertFalse(headers.contains("Content"));
+        assertEquals("a=1", headers.get("SET-COOKIE"));
+        assertEquals(List.of("a=1", "b=2"), headers.all("Set-Cookie"));
+        assertNull(headers.get("ETag"));
+        assertEquals(List.of(), headers.all("ETag"));
+    }
+
+    @Test
+    void testTypedAccessors() {
+        HttpHeaders headers = headers(
+                "Content-Length: 42",
+                "Content-Type: Application/JSON; charset=\"ISO-8859-1\"",
+                "ETag: W/\"v1\"",
+                "Last-Modified: Tue, 15 Nov 1994 08:12:31 GMT",
+                "X-RateLimit-Remaining: nope",
+                "Connection: keep-alive, Upgrade");
+
+        assertEquals(42, headers.contentLength());
+        assertEquals("application/json", headers.mediaType());
+        assertEquals(StandardCharsets.ISO_8859_1, headers.charset());
+        assertEquals("W/\"v1\"", headers.etag());
+        assertEquals(Instant.parse("1994-11-15T08:12:31Z"), headers.getDate("Last-Modified"));
+        assertEquals(-1, headers.getLong("X-RateLimit-Remaining"));
+        assertTrue(headers.hasToken("connection", "upgrade"));
+        assertNull(HttpHeaders.EMPTY.charset());
+        assertEquals(-1, HttpHeaders.EMPTY.contentLength());
+    }
+
+    @Test
+    void testRetryAfterInSecondsOrAsDate() {
+        assertEquals(Duration.ofSeconds(120), headers("Retry-After: 120").retryAfter());
+        assertEquals(Duration.ZERO, headers("Retry-After: Tue, 15 Nov 1994 08:12:31 GMT").retryAfter());
+        assertNull(headers("Retry-After: soon").retryAfter());
+    }
+
+    @Test
+    void testMapViewIsBuiltOnceAndMatchesFromMap() {
+        HttpHeaders headers = headers("Vary: Accept", "vary: Origin", "Age: 3");
+        Map<String, List<String>> map = headers.toMap();
+
+        assertSame(map, headers.toMap());
+        assertEquals(List.of("Accept", "Origin"), map.get("VARY"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put("Age", List.of("4")));
+
+        HttpHeaders copied = HttpHeaders.of(map);
+        assertEquals(List.of("Accept", "Origin"), copied.all("Vary"));
+        assertEquals("3", copied.get("age"));
+    }
+}
\ No newline at end of file
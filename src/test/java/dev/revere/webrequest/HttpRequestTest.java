@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class HttpRequestTest {
+
+    @Test
+    void testWithHeaderLeavesTemplateUntouched() {
+        HttpRequest template = new HttpRequestBuilder()
+                .url("https://example.com/items")
+                .addHeader("Accept", "application/json")
+                .buildRequest();
+
+        HttpRequest derived = template.withHeader("accept", "text/plain").withHeader("X-Trace", "1");
+
+        assertEquals("application/json", template.header("Accept"));
+        assertNull(template.header("X-Trace"));
+        assertEquals("text/plain", derived.header("Accept"));
+        assertEquals("1", derived.header("x-trace"));
+        assertEquals(2, derived.headers().size());
+        assertSame(template.uri(), derived.uri());
+    }
+
+    @Test
+    void testPathParamsAreEncodedAndShareTheTemplate() {
+        HttpRequest template = new HttpRequestBuilder()
+                .url("https://example.com/users/{id}/files/{name}?v=1")
+                .buildRequest();
+
+        HttpRequest request = template.withPathParam("id", 42).withPathParam("name", "a b/../c");
+
+        assertEquals(URI.create("https://example.com/users/42/files/a%20b%2F..%2Fc?v=1"), request.uri());
+        assertSame(template.template(), request.template());
+        assertEquals(List.of("id", "name"), template.template().variables());
+    }
+
+    @Test
+    void testRepeatedPlaceholderIsBoundOnce() {
+        HttpRequest request = new HttpRequestBuilder()
+                .url("https://example.com/{v}/{v}")
+                .buildRequest()
+                .withPathParam("v", "x");
+
+        assertEquals(URI.create("https://example.com/x/x"), request.uri());
+    }
+
+    @Test
+    void testUnboundOrUnknownPathParam() {
+        HttpRequest template = new HttpRequestBuilder().url("https://example.com/users/{id}").buildRequest();
+
+        assertThrows(IllegalStateException.class, template::uri);
+        assertThrows(IllegalArgumentException.class, () -> template.withPathParam("name", "x"));
+    }
+
+    @Test
+    void testInvalidTemplateIsRejected() {
+        HttpRequestBuilder builder = new HttpRequestBuilder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.url("ftp://example.com/{id}"));
+        assertThrows(IllegalArgumentException.class, () -> builder.url("https://example.com/{id"));
+        assertThrows(IllegalArgumentException.class, () -> builder.url("https://example.com/{}"));
+    }
+
+    @Test
+    void testHeadersThatWouldSplitTheRequestAreRejected() {
+        HttpRequestBuilder builder = new HttpRequestBuilder().url("https://example.com/items");
+        HttpRequest request = builder.buildRequest();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.addHeader("X-Name", "a\r\nX-Injected: 1"));
+        assertThrows(IllegalArgumentException.class, () -> builder.addHeader("X Name", "a"));
+        assertThrows(IllegalArgumentException.class, () -> builder.addHeader("", "a"));
+        assertThrows(IllegalArgumentException.class, () -> request.withHeader("X-Name", "a\nGET / HTTP/1.1"));
+        assertThrows(IllegalArgumentException.class, () -> request.withHeader("X-Name:", "a"));
+        assertThrows(IllegalArgumentException.class, () -> request.withHeader("X-Name", "a\0"));
+        assertEquals("a\tb", request.withHeader("X-Name", "a\tb").header("X-Name"));
+    }
+}
\ No newline at end of file
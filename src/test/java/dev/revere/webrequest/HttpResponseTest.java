@@ -26,7 +26,13 @@ package dev.revere.webrequest;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 /**
  * @author Remi
@@ -50,4 +56,34 @@ class HttpResponseTest {
         String expected = "HttpResponse{statusCode=200, body='{\"message\":\"success\"}'}";
         assertEquals(expected, response.toString());
     }
+
+    @Test
+    void testBodyIsDecodedLazilyWithLineEndingsPreserved() {
+        byte[] bytes = "line1\r\nline2\r\n".getBytes(StandardCharsets.UTF_8);
+        HttpResponse response = new HttpResponse(200, ResponseBody.ofStream(new ByteArrayInputStream(bytes), Runnable::run));
+
+        assertEquals("HttpResponse{statusCode=200, body=<streaming>}", response.toString());
+        assertEquals("line1\r\nline2\r\n", response.body());
+        assertEquals("line1\r\nline2\r\n", response.content().asString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testResponsesCompareByStatusAndBody() {
+        HttpResponse response = new HttpResponse(200, "ok");
+
+        assertEquals(new HttpResponse(200, "ok"), response);
+        assertEquals(new HttpResponse(200, "ok").hashCode(), response.hashCode());
+        assertEquals(new HttpResponse(200, ResponseBody.of("ok".getBytes(StandardCharsets.UTF_8))), response);
+        assertNotEquals(new HttpResponse(201, "ok"), response);
+        assertNotEquals(new HttpResponse(200, "no"), response);
+    }
+
+    @Test
+    void testBodyIsDecodedWithContentTypeCharset() {
+        HttpHeaders headers = HttpHeaders.of(Map.of("Content-Type", List.of("text/plain; charset=ISO-8859-1")));
+        HttpResponse response = new HttpResponse(200, headers, ResponseBody.of("caf\u00e9".getBytes(StandardCharsets.ISO_8859_1)),
+                ResponseTimings.NONE);
+
+        assertEquals("caf\u00e9", response.body());
+    }
 }
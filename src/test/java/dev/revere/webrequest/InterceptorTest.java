@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class InterceptorTest {
+
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/headers", exchange -> {
+                    hits.incrementAndGet();
+                    TestHttpServer.respond(exchange, 200, exchange.getRequestHeaders().getFirst("X-Trace") + "/"
+                            + exchange.getRequestHeaders().getFirst("Authorization"));
+                })
+                .handle("/missing", exchange -> TestHttpServer.respond(exchange, 404, "not found"))
+                .handle("/slow", exchange -> {
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    TestHttpServer.respond(exchange, 200, "late");
+                });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    private static HttpRequest get(String path) {
+        return new HttpRequestBuilder().url(server.url(path)).buildRequest();
+    }
+
+    @Test
+    void testInterceptorsRewriteInOrderOnBothPaths() {
+        HttpClient client = HttpClient.builder()
+                .interceptor(Interceptor.rewriting(request -> request.withHeader("X-Trace", "outer")))
+                .interceptor(Interceptor.rewriting(request -> request.withHeader("X-Trace", request.header("X-Trace") + "-inner")))
+                .interceptor(chain -> chain.proceed(chain.request().withHeader("Authorization", "Bearer token")))
+                .build();
+        try {
+            assertEquals("outer-inner/Bearer token", client.execute(get("/headers")).body());
+            assertEquals("outer-inner/Bearer token", client.executeAsync(get("/headers")).join().body());
+            assertEquals("outer-inner/Bearer token", client.execute(get("/headers"), BodyHandler.ofString()).body());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testInterceptorCanAnswerWithoutSending() {
+        Interceptor canned = new Interceptor() {
+            @Override
+            public HttpResponse intercept(Chain chain) {
+                return new HttpResponse(200, "cached");
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> interceptAsync(AsyncChain chain) {
+                return CompletableFuture.completedFuture(new HttpResponse(200, "cached"));
+            }
+        };
+        HttpClient client = HttpClient.builder().interceptor(canned).build();
+        try {
+            int before = hits.get();
+
+            assertEquals("cached", client.execute(get("/headers")).body());
+            assertEquals("cached", client.executeAsync(get("/headers")).join().body());
+            assertEquals(before, hits.get());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testObserverSeesResponsesAndFailures() {
+        List<String> outcomes = new CopyOnWriteArrayList<>();
+        HttpClient client = HttpClient.builder()
+                .interceptor(Interceptor.observing((request, response, error) -> outcomes.add(request.uri().getPath() + "="
+                        + (response != null ? response.statusCode() : ((HttpException) error).getStatusCode()))))
+                .build();
+        try {
+            client.execute(get("/headers"));
+            assertThrows(HttpException.class, () -> client.execute(get("/missing")));
+            CompletionException async = assertThrows(CompletionException.class, () -> client.executeAsync(get("/missing")).join());
+            assertInstanceOf(HttpException.class, async.getCause());
+
+            assertEquals(List.of("/headers=200", "/missing=404", "/missing=404"), outcomes);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testFailingInterceptorFailsAsyncCall() {
+        HttpClient client = HttpClient.builder()
+                .interceptor(new Interceptor() {
+                    @Override
+                    public HttpResponse intercept(Chain chain) {
+                        throw new IllegalStateException("no token");
+                    }
+
+                    @Override
+                    public CompletableFuture<HttpResponse> interceptAsync(AsyncChain chain) {
+                        throw new IllegalStateException("no token");
+                    }
+                })
+                .build();
+        try {
+            assertThrows(IllegalStateException.class, () -> client.execute(get("/headers")));
+            CompletionException e = assertThrows(CompletionException.class, () -> client.executeAsync(get("/headers")).join());
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testCancelAbortsExchangeBehindObserver() throws Exception {
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        HttpClient client = HttpClient.builder()
+                .executor(executor)
+                .interceptor(Interceptor.observing((request, response, error) -> failures.add(error)))
+                .build();
+        try {
+            CompletableFuture<HttpResponse> slow = client.executeAsync(get("/slow"));
+            Thread.sleep(100);
+            assertTrue(slow.cancel(true));
+
+            HttpResponse fast = client.executeAsync(get("/headers")).get(2, TimeUnit.SECONDS);
+
+            assertEquals(200, fast.statusCode());
+            assertNotNull(failures.get(0));
+        } finally {
+            client.shutdown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDeadlineCoversInterceptors() {
+        Interceptor stalling = chain -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return chain.proceed(chain.request());
+        };
+        HttpClient client = HttpClient.builder().interceptor(stalling).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/headers")).timeout(200).buildRequest();
+
+            HttpException e = assertThrows(HttpException.class, () -> client.execute(request));
+            assertInstanceOf(TimeoutException.class, e.getCause());
+            CompletionException async = assertThrows(CompletionException.class, () -> client.executeAsync(request).join());
+            assertInstanceOf(TimeoutException.class, async.getCause());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
\ No newline at end of file
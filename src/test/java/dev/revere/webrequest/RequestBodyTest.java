@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class RequestBodyTest {
+
+    @Test
+    void testStringIsEncodedAsUtf8() throws Exception {
+        RequestBody body = RequestBody.ofString("héllo");
+
+        assertEquals(6, body.contentLength());
+        assertArrayEquals("héllo".getBytes(StandardCharsets.UTF_8), written(body));
+    }
+
+    @Test
+    void testByteBufferBodyLeavesBufferUntouched() throws Exception {
+        ByteBuffer direct = ByteBuffer.allocateDirect(8);
+        direct.put(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}).flip().position(2);
+        ByteBuffer heap = ByteBuffer.wrap(new byte[]{9, 8, 7, 6}, 1, 2);
+
+        RequestBody directBody = RequestBody.ofByteBuffer(direct);
+        RequestBody heapBody = RequestBody.ofByteBuffer(heap);
+
+        assertArrayEquals(new byte[]{3, 4, 5, 6, 7, 8}, written(directBody));
+        assertArrayEquals(new byte[]{3, 4, 5, 6, 7, 8}, written(directBody));
+        assertArrayEquals(new byte[]{3, 4, 5, 6, 7, 8}, directBody.openStream().readAllBytes());
+        assertEquals(2, direct.position());
+        assertArrayEquals(new byte[]{8, 7}, written(heapBody));
+        assertEquals(1, heap.position());
+    }
+
+    @Test
+    void testFileBodyIsRepeatable(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("upload.bin");
+        byte[] content = new byte[50_000];
+        content[49_999] = 42;
+        Files.write(file, content);
+
+        RequestBody body = RequestBody.ofFile(file);
+
+        assertEquals(content.length, body.contentLength());
+        assertArrayEquals(content, written(body));
+        assertArrayEquals(content, written(body));
+    }
+
+    @Test
+    void testFileBodyNeverDeviatesFromAnnouncedLength(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("upload.bin");
+        Files.write(file, new byte[1000]);
+        RequestBody body = RequestBody.ofFile(file);
+        assertEquals(1000, body.contentLength());
+
+        Files.write(file, new byte[1500]);
+        assertEquals(1000, body.contentLength());
+        assertEquals(1000, written(body).length);
+        try (InputStream in = body.openStream()) {
+            assertEquals(1000, in.readAllBytes().length);
+        }
+
+        Files.write(file, new byte[400]);
+        assertThrows(EOFException.class, () -> written(body));
+        try (InputStream in = body.openStream()) {
+            assertThrows(EOFException.class, in::readAllBytes);
+        }
+    }
+
+    @Test
+    void testInputStreamBodyRequestsNewStreamPerWrite() throws Exception {
+        RequestBody body = RequestBody.ofInputStream(() -> new ByteArrayInputStream(new byte[]{1, 2}), -1);
+
+        assertEquals(-1, body.contentLength());
+        assertArrayEquals(new byte[]{1, 2}, written(body));
+        assertArrayEquals(new byte[]{1, 2}, written(body));
+    }
+
+    private static byte[] written(RequestBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toByteArray();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class ResponseBodyTest {
+
+    @Test
+    void testBufferedBodyViews() {
+        byte[] bytes = {0, 1, 2, (byte) 0xFF};
+        ResponseBody body = ResponseBody.of(bytes);
+
+        assertArrayEquals(bytes, body.asBytes());
+        assertTrue(body.asByteBuffer().isReadOnly());
+        assertEquals(4, body.asByteBuffer().remaining());
+        assertDoesNotThrow(() -> assertArrayEquals(bytes, body.asInputStream().readAllBytes()));
+        assertDoesNotThrow(() -> assertArrayEquals(bytes, body.asInputStream().readAllBytes()));
+    }
+
+    @Test
+    void testStreamingBodyCanOnlyBeStreamedOnce() throws Exception {
+        ResponseBody body = ResponseBody.ofStream(new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8)), Runnable::run);
+
+        assertFalse(body.isBuffered());
+        assertEquals("abc", new String(body.asInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        assertThrows(IllegalStateException.class, body::asBytes);
+    }
+
+    @Test
+    void testStreamingBodyIsBufferedForByteViews() {
+        ResponseBody body = ResponseBody.ofStream(new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8)), Runnable::run);
+
+        assertEquals("abc", body.asString(StandardCharsets.UTF_8));
+        assertTrue(body.isBuffered());
+        assertEquals(3, body.asByteBuffer().remaining());
+    }
+
+    @Test
+    void testLinesPublisherHonoursDemand() throws Exception {
+        ResponseBody body = ResponseBody.of("one\r\ntwo\nthree".getBytes(StandardCharsets.UTF_8));
+        List<String> received = new ArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+
+        body.lines(StandardCharsets.UTF_8).subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(String item) {
+                received.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+
+        done.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("one", "two", "three"), received);
+    }
+
+    @Test
+    void testChunksPublisherStopsWithoutDemand() {
+        ResponseBody body = ResponseBody.of(new byte[10]);
+        List<ByteBuffer> received = new ArrayList<>();
+
+        body.chunks(4).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(2);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Publisher completed without demand");
+            }
+        });
+
+        assertEquals(2, received.size());
+        assertEquals(4, received.get(0).remaining());
+    }
+
+    @Test
+    void testTransferToFile(@TempDir Path directory) throws Exception {
+        byte[] bytes = new byte[100_000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        Path file = directory.resolve("body.bin");
+        ResponseBody body = ResponseBody.ofStream(new ByteArrayInputStream(bytes), Runnable::run);
+
+        assertEquals(bytes.length, body.transferTo(file));
+        assertArrayEquals(bytes, Files.readAllBytes(file));
+    }
+}
\ No newline at end of file
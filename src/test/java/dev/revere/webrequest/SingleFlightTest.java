@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class SingleFlightTest {
+
+    private static final AtomicInteger CALLS = new AtomicInteger();
+    private static volatile CountDownLatch release = new CountDownLatch(0);
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/hot", exchange -> {
+                    int call = CALLS.incrementAndGet();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    String tenant = exchange.getRequestHeaders().getFirst("X-Tenant");
+                    TestHttpServer.respond(exchange, 200, "call " + call + " for " + tenant);
+                });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        release.countDown();
+        server.close();
+    }
+
+    @Test
+    void testConcurrentIdenticalRequestsShareOneExchange() throws Exception {
+        CALLS.set(0);
+        release = new CountDownLatch(1);
+        HttpClient client = HttpClient.builder().coalesceRequests("X-Tenant").build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/hot")).addHeader("X-Tenant", "a").buildRequest();
+
+            List<CompletableFuture<HttpResponse>> futures = Stream.generate(() -> client.executeAsync(request)).limit(20).toList();
+            CompletableFuture<HttpResponse> otherTenant = client.executeAsync(request.withHeader("X-Tenant", "b"));
+            while (CALLS.get() < 2) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            HttpResponse first = futures.get(0).join();
+            assertTrue(first.body().endsWith("for a"));
+            for (CompletableFuture<HttpResponse> future : futures) {
+                HttpResponse response = future.join();
+                assertEquals(first.body(), response.body());
+                assertArrayEquals(first.content().asBytes(), response.content().asBytes());
+            }
+            assertTrue(otherTenant.join().body().endsWith("for b"));
+            assertEquals(2, CALLS.get());
+
+            client.execute(request);
+            assertEquals(3, CALLS.get());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testCallersCannotChangeEachOthersBody() throws Exception {
+        CALLS.set(0);
+        release = new CountDownLatch(1);
+        HttpClient client = HttpClient.builder().coalesceRequests().build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/hot")).buildRequest();
+
+            CompletableFuture<HttpResponse> leader = client.executeAsync(request);
+            CompletableFuture<HttpResponse> joiner = client.executeAsync(request);
+            while (CALLS.get() < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            byte[] leaderBytes = leader.join().content().asBytes();
+            Arrays.fill(leaderBytes, (byte) 'x');
+            HttpResponse other = joiner.join();
+
+            assertEquals("call 1 for null", other.body());
+            assertEquals("call 1 for null", new String(other.content().asBytes(), StandardCharsets.UTF_8));
+            assertNotEquals('x', leader.join().content().asBytes()[0]);
+            assertEquals(1, CALLS.get());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testFailureIsDeliveredToEveryCaller() {
+        HttpClient client = HttpClient.builder().coalesceRequests().build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url("http://127.0.0.1:1/unreachable").buildRequest();
+
+            List<CompletableFuture<HttpResponse>> futures = Stream.generate(() -> client.executeAsync(request)).limit(5).toList();
+
+            for (CompletableFuture<HttpResponse> future : futures) {
+                assertInstanceOf(HttpException.class, assertThrows(Exception.class, future::join).getCause());
+            }
+            assertThrows(HttpException.class, () -> client.execute(request));
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testExchangeIsAbortedOnlyWhenEveryCallerCancels() throws Exception {
+        CALLS.set(0);
+        release = new CountDownLatch(1);
+        HttpClient client = HttpClient.builder().coalesceRequests().build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/hot")).buildRequest();
+
+            CompletableFuture<HttpResponse> leader = client.executeAsync(request);
+            CompletableFuture<HttpResponse> joiner = client.executeAsync(request);
+            while (CALLS.get() < 1) {
+                Thread.sleep(5);
+            }
+            assertTrue(leader.cancel(true));
+            CompletableFuture<HttpResponse> alone = client.executeAsync(request);
+            assertTrue(joiner.cancel(true));
+            assertTrue(alone.cancel(true));
+
+            CompletableFuture<HttpResponse> fresh = client.executeAsync(request);
+            while (CALLS.get() < 2) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals("call 2 for null", fresh.get(5, TimeUnit.SECONDS).body());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testBlockingCallerJoiningTimedOutCallGetsHttpException() throws Exception {
+        CALLS.set(0);
+        release = new CountDownLatch(1);
+        HttpClient client = HttpClient.builder().coalesceRequests().build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/hot")).timeout(200).buildRequest();
+
+            CompletableFuture<HttpResponse> leader = client.executeAsync(request);
+            while (CALLS.get() < 1) {
+                Thread.sleep(5);
+            }
+
+            HttpException e = assertThrows(HttpException.class, () -> client.execute(request));
+            assertInstanceOf(TimeoutException.class, e.getCause());
+            assertInstanceOf(TimeoutException.class, assertThrows(Exception.class, leader::join).getCause());
+        } finally {
+            release.countDown();
+            client.shutdown();
+        }
+    }
+}
\ No newline at end of file
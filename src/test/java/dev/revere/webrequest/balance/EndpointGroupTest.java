@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.balance;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpException;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.TestHttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class EndpointGroupTest {
+
+    private static final Map<String, AtomicInteger> HITS = new ConcurrentHashMap<>();
+    private static TestHttpServer fast;
+    private static TestHttpServer other;
+    private static TestHttpServer failing;
+    private static TestHttpServer slow;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        fast = server("fast", 200, 0);
+        other = server("other", 200, 0);
+        failing = server("failing", 503, 0);
+        slow = server("slow", 200, 100);
+    }
+
+    private static TestHttpServer server(String name, int status, long delayMillis) throws Exception {
+        return TestHttpServer.start().handle("/", exchange -> {
+            HITS.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            TestHttpServer.respond(exchange, status, name + " " + exchange.getRequestURI());
+        });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        fast.close();
+        other.close();
+        failing.close();
+        slow.close();
+    }
+
+    private static int hits(String name) {
+        AtomicInteger hits = HITS.get(name);
+        return hits != null ? hits.get() : 0;
+    }
+
+    private static HttpRequest request() {
+        return new HttpRequestBuilder().url("http://service/items?page=2").buildRequest();
+    }
+
+    @Test
+    void testRoundRobinAlternatesAndKeepsPathAndQuery() {
+        HITS.clear();
+        EndpointGroup group = EndpointGroup.of("service", fast.url("/api"), other.url("/api/"))
+                .loadBalancer(LoadBalancer.roundRobin());
+        HttpClient client = HttpClient.builder().endpointGroup(group).build();
+        try {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(client.execute(request()).body().endsWith(" /api/items?page=2"));
+            }
+
+            assertEquals(5, hits("fast"));
+            assertEquals(5, hits("other"));
+            assertEquals(0, group.endpoints().get(0).outstanding());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testFailingEndpointIsEjected() {
+        HITS.clear();
+        EndpointGroup group = EndpointGroup.of("service", fast.url("/"), failing.url("/"))
+                .loadBalancer(LoadBalancer.roundRobin())
+                .outlierDetection(2, Duration.ofSeconds(30));
+        HttpClient client = HttpClient.builder().endpointGroup(group).build();
+        try {
+            int failures = 0;
+            for (int i = 0; i < 20; i++) {
+                try {
+                    client.execute(request());
+                } catch (HttpException e) {
+                    assertEquals(503, e.getStatusCode());
+                    failures++;
+                }
+            }
+
+            assertEquals(2, failures);
+            assertEquals(18, hits("fast"));
+            assertTrue(group.endpoints().get(1).isEjected());
+            assertFalse(group.endpoints().get(0).isEjected());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testEjectionNeverEmptiesTheGroup() {
+        EndpointGroup group = EndpointGroup.of("service", failing.url("/"))
+                .outlierDetection(1, Duration.ofSeconds(30));
+        HttpClient client = HttpClient.builder().endpointGroup(group).build();
+        try {
+            for (int i = 0; i < 3; i++) {
+                assertEquals(503, assertThrows(HttpException.class, () -> client.execute(request())).getStatusCode());
+            }
+
+            assertFalse(group.endpoints().get(0).isEjected());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testPowerOfTwoChoicesMovesAwayFromSlowEndpoint() {
+        HITS.clear();
+        EndpointGroup group = EndpointGroup.of("service", slow.url("/"), fast.url("/"));
+        HttpClient client = HttpClient.builder().endpointGroup(group).build();
+        try {
+            for (int i = 0; i < 30; i++) {
+                client.execute(request());
+            }
+
+            assertTrue(hits("slow") <= 2, "slow endpoint got " + hits("slow") + " requests");
+            assertTrue(group.endpoints().get(0).latencyMillis() > group.endpoints().get(1).latencyMillis());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testLeastOutstandingAvoidsBusyEndpoint() {
+        EndpointGroup group = EndpointGroup.of("service", "http://10.0.0.1", "http://10.0.0.2")
+                .loadBalancer(LoadBalancer.leastOutstanding());
+        Endpoint busy = group.endpoints().get(0);
+        busy.begin();
+
+        for (int i = 0; i < 10; i++) {
+            assertSame(group.endpoints().get(1), group.select());
+        }
+    }
+
+    @Test
+    void testResolveAndValidation() {
+        Endpoint endpoint = EndpointGroup.of("service", "https://10.0.0.1:8443/base/").endpoints().get(0);
+
+        assertEquals(URI.create("https://10.0.0.1:8443/base/a%20b?x=1"), endpoint.resolve(URI.create("http://service/a%20b?x=1")));
+        assertThrows(IllegalArgumentException.class, () -> EndpointGroup.of("service", "ftp://10.0.0.1"));
+        assertThrows(IllegalArgumentException.class, () -> EndpointGroup.of("service"));
+        assertThrows(IllegalArgumentException.class, () -> HttpClient.builder()
+                .endpointGroup(EndpointGroup.of("service", "http://10.0.0.1"))
+                .endpointGroup(EndpointGroup.of("SERVICE", "http://10.0.0.2")));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.breaker;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpException;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.TestHttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class CircuitBreakerTest {
+
+    private static final AtomicInteger CALLS = new AtomicInteger();
+    private static volatile int status = 503;
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/flaky", exchange -> {
+                    CALLS.incrementAndGet();
+                    TestHttpServer.respond(exchange, status, "status " + status);
+                });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    private static CircuitBreakers.Config config() {
+        return new CircuitBreakers.Config().minimumCalls(4).waitInOpenState(Duration.ofMillis(100)).permittedCallsInHalfOpenState(2);
+    }
+
+    @Test
+    void testOpensOnceFailureRateIsReached() {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker("host", config().listener((b, from, to) -> transitions.add(from + "->" + to)));
+
+        for (int i = 0; i < 2; i++) {
+            breaker.acquirePermission();
+            breaker.onSuccess(0);
+        }
+        breaker.acquirePermission();
+        breaker.onError(0);
+        assertEquals(CircuitState.CLOSED, breaker.state());
+        assertEquals(-1, breaker.failureRate());
+
+        breaker.acquirePermission();
+        breaker.onError(0);
+
+        assertEquals(CircuitState.OPEN, breaker.state());
+        CircuitBreakerOpenException e = assertThrows(CircuitBreakerOpenException.class, breaker::acquirePermission);
+        assertEquals(503, e.getStatusCode());
+        assertTrue(e.getRetryAfterMillis() > 0);
+        assertEquals(List.of("CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    void testHalfOpenClosesAfterSuccessfulTrialCalls() throws Exception {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker("host", config().listener((b, from, to) -> transitions.add(from + "->" + to)));
+        for (int i = 0; i < 4; i++) {
+            breaker.acquirePermission();
+            breaker.onError(0);
+        }
+        Thread.sleep(150);
+
+        breaker.acquirePermission();
+        breaker.acquirePermission();
+        assertEquals(CircuitState.HALF_OPEN, breaker.state());
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquirePermission);
+        breaker.onSuccess(0);
+        breaker.onSuccess(0);
+
+        assertEquals(CircuitState.CLOSED, breaker.state());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+        breaker.acquirePermission();
+    }
+
+    @Test
+    void testFailedTrialCallReopens() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("host", config());
+        for (int i = 0; i < 4; i++) {
+            breaker.acquirePermission();
+            breaker.onError(0);
+        }
+        Thread.sleep(150);
+
+        breaker.acquirePermission();
+        breaker.onError(0);
+
+        assertEquals(CircuitState.OPEN, breaker.state());
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquirePermission);
+    }
+
+    @Test
+    void testIgnoredTrialCallHandsItsPermitBack() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("host", config().permittedCallsInHalfOpenState(1));
+        for (int i = 0; i < 4; i++) {
+            breaker.acquirePermission();
+            breaker.onError(0);
+        }
+        Thread.sleep(150);
+
+        breaker.acquirePermission();
+        breaker.onIgnored();
+        breaker.acquirePermission();
+        breaker.onSuccess(0);
+
+        assertEquals(CircuitState.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testSlowCallsOpenTheBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("host", config().slowCallThreshold(50, Duration.ofMillis(100)));
+
+        for (int i = 0; i < 4; i++) {
+            breaker.acquirePermission();
+            breaker.onSuccess(i < 2 ? 0 : TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        assertEquals(50f, breaker.slowCallRate());
+        assertEquals(CircuitState.OPEN, breaker.state());
+    }
+
+    @Test
+    void testClientFailsFastWhileOpen() throws Exception {
+        CALLS.set(0);
+        status = 503;
+        HttpClient client = HttpClient.builder().circuitBreaker(config()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/flaky")).buildRequest();
+            for (int i = 0; i < 4; i++) {
+                assertEquals(503, assertThrows(HttpException.class, () -> client.execute(request)).getStatusCode());
+            }
+
+            assertThrows(CircuitBreakerOpenException.class, () -> client.execute(request));
+            CompletionException async = assertThrows(CompletionException.class, () -> client.executeAsync(request).join());
+            assertInstanceOf(CircuitBreakerOpenException.class, async.getCause());
+            assertEquals(4, CALLS.get());
+            assertEquals(CircuitState.OPEN, client.circuitBreakers().values().iterator().next().state());
+
+            status = 200;
+            Thread.sleep(150);
+            assertEquals("status 200", client.execute(request).body());
+            assertEquals("status 200", client.executeAsync(request).join().body());
+            assertEquals(CircuitState.CLOSED, client.circuitBreakers().values().iterator().next().state());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testConfigValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakers.Config().failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakers.Config().minimumCalls(0));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakers.Config().slidingWindow(Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakers.Config().waitInOpenState(Duration.ofSeconds(-1)));
+    }
+}
\ No newline at end of file
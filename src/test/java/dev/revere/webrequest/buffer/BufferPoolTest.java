@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.buffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class BufferPoolTest {
+
+    @Test
+    void testBuffersAreRoundedToSizeClassesAndReused() {
+        BufferPool pool = new BufferPool(1024 * 1024);
+
+        byte[] first = pool.acquire(5000);
+        assertEquals(8192, first.length);
+        pool.release(first);
+
+        assertSame(first, pool.acquire(8000));
+        BufferPoolStats stats = pool.stats();
+        assertEquals(1, stats.allocated());
+        assertEquals(1, stats.reused());
+        assertEquals(0.5, stats.reuseRate());
+    }
+
+    @Test
+    void testSharedPoolIsBoundedAndReportsOccupancy() {
+        BufferPool pool = new BufferPool(16 * 1024);
+        byte[][] buffers = new byte[4][];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = pool.acquire(8192);
+        }
+        for (byte[] buffer : buffers) {
+            pool.release(buffer);
+        }
+
+        // One buffer stays with the thread, two fill the shared pool and the last is dropped.
+        BufferPoolStats stats = pool.stats();
+        assertEquals(2, stats.pooledBuffers());
+        assertEquals(16 * 1024, stats.pooledBytes());
+        assertEquals(1, stats.discarded());
+
+        pool.acquire(8192);
+        pool.acquire(8192);
+        assertEquals(8192, pool.stats().pooledBytes());
+    }
+
+    @Test
+    void testVirtualThreadsShareThePool() throws Exception {
+        BufferPool pool = new BufferPool(1024 * 1024);
+        AtomicReference<byte[]> released = new AtomicReference<>();
+        Thread.ofVirtual().start(() -> {
+            byte[] buffer = pool.acquire(4096);
+            released.set(buffer);
+            pool.release(buffer);
+        }).join();
+
+        assertEquals(1, pool.stats().pooledBuffers());
+        Thread.ofVirtual().start(() -> assertSame(released.get(), pool.acquire(4096))).join();
+        assertEquals(1, pool.stats().reused());
+    }
+
+    @Test
+    void testForeignAndOversizedBuffersAreNotPooled() {
+        BufferPool pool = new BufferPool(64 * 1024 * 1024);
+        pool.release(new byte[5000]);
+        pool.release(pool.acquire(4 * 1024 * 1024));
+        pool.release(ByteBuffer.allocate(8192));
+
+        assertEquals(3, pool.stats().discarded());
+        assertEquals(0, pool.stats().pooledBuffers());
+    }
+
+    @Test
+    void testDirectBuffersAreClearedOnReuse() {
+        BufferPool pool = new BufferPool(1024 * 1024);
+        ByteBuffer buffer = pool.acquireDirect(100);
+        assertTrue(buffer.isDirect());
+        assertEquals(4096, buffer.capacity());
+        buffer.put(new byte[10]).flip();
+        pool.release(buffer);
+
+        ByteBuffer reused = pool.acquireDirect(4096);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(4096, reused.remaining());
+    }
+
+    @Test
+    void testReadAllUsesTheExpectedLength() throws Exception {
+        BufferPool pool = new BufferPool(1024 * 1024);
+        byte[] content = random(100_000);
+
+        assertArrayEquals(content, pool.readAll(new ByteArrayInputStream(content), content.length));
+        assertEquals(0, pool.stats().allocated());
+
+        // A wrong announcement still yields the actual content.
+        assertArrayEquals(content, pool.readAll(new ByteArrayInputStream(content), 10));
+        assertArrayEquals(content, pool.readAll(new ByteArrayInputStream(content), 200_000));
+        assertArrayEquals(new byte[0], pool.readAll(InputStream.nullInputStream(), 0));
+    }
+
+    @Test
+    void testReadAllOfUnknownLengthGrowsThroughPooledBuffers() throws Exception {
+        BufferPool pool = new BufferPool(4 * 1024 * 1024);
+        byte[] content = random(300_000);
+
+        assertArrayEquals(content, pool.readAll(new ByteArrayInputStream(content), -1));
+        long allocated = pool.stats().allocated();
+        assertArrayEquals(content, pool.readAll(new ByteArrayInputStream(content), -1));
+
+        assertEquals(allocated, pool.stats().allocated());
+        assertTrue(pool.stats().reused() >= allocated);
+    }
+
+    @Test
+    void testTransferAndWrite() throws Exception {
+        BufferPool pool = new BufferPool(1024 * 1024);
+        byte[] content = random(50_000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(content.length, pool.transfer(new ByteArrayInputStream(content), out));
+        assertArrayEquals(content, out.toByteArray());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(content.length).put(content).flip();
+        out.reset();
+        pool.write(direct, out);
+        assertArrayEquals(content, out.toByteArray());
+        assertEquals(0, direct.position());
+    }
+
+    private static byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
\ No newline at end of file
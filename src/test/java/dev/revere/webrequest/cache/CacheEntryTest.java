@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.transport.TransportResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class CacheEntryTest {
+
+    private static final HttpRequest REQUEST = new HttpRequestBuilder().url("http://example.com/config").buildRequest();
+
+    private static CacheEntry entry(Map<String, List<String>> headers, long responseMillis) {
+        TransportResponse response = TransportResponse.of(200, headers, "body".getBytes(StandardCharsets.UTF_8));
+        return CacheEntry.of(REQUEST, response, "body".getBytes(StandardCharsets.UTF_8), responseMillis, responseMillis);
+    }
+
+    private static String httpDate(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC));
+    }
+
+    @Test
+    void testFreshnessFollowsMaxAgeExpiresAndHeuristic() {
+        long now = 1_800_000_000_000L;
+
+        CacheEntry maxAge = entry(Map.of("Cache-Control", List.of("public, max-age=60")), now);
+        assertTrue(maxAge.isFresh(REQUEST, now + 59_000));
+        assertFalse(maxAge.isFresh(REQUEST, now + 60_000));
+        assertFalse(maxAge.isFresh(REQUEST.withHeader("Cache-Control", "no-cache"), now));
+
+        CacheEntry expires = entry(Map.of("Date", List.of(httpDate(now)), "Expires", List.of(httpDate(now + 10_000))), now);
+        assertEquals(10_000, expires.freshnessLifetimeMillis());
+
+        CacheEntry heuristic = entry(Map.of("Date", List.of(httpDate(now)), "Last-Modified", List.of(httpDate(now - 100_000))), now);
+        assertEquals(10_000, heuristic.freshnessLifetimeMillis());
+
+        CacheEntry aged = entry(Map.of("Cache-Control", List.of("max-age=60"), "Age", List.of("50")), now);
+        assertEquals(55_000, aged.currentAgeMillis(now + 5_000));
+    }
+
+    @Test
+    void testStorabilityAndVary() {
+        assertTrue(CacheEntry.isStorable(200, Map.of("ETag", List.of("\"v1\""))));
+        assertFalse(CacheEntry.isStorable(200, Map.of()));
+        assertFalse(CacheEntry.isStorable(200, Map.of("Cache-Control", List.of("no-store, max-age=60"))));
+        assertFalse(CacheEntry.isStorable(200, Map.of("Cache-Control", List.of("max-age=60"), "Vary", List.of("*"))));
+        assertFalse(CacheEntry.isStorable(500, Map.of("Cache-Control", List.of("max-age=60"))));
+
+        CacheEntry varying = entry(Map.of("Cache-Control", List.of("max-age=60"), "Vary", List.of("Accept")), 0);
+        assertTrue(varying.matches(REQUEST));
+        assertFalse(varying.matches(REQUEST.withHeader("Accept", "text/plain")));
+    }
+
+    @Test
+    void testRevalidationReplacesHeadersButKeepsBody() throws IOException {
+        CacheEntry stale = entry(Map.of("ETag", List.of("\"v1\""), "Cache-Control", List.of("max-age=0")), 0);
+
+        HttpRequest conditional = stale.conditional(REQUEST);
+        CacheEntry refreshed = stale.revalidated(Map.of("cache-control", List.of("max-age=60"), "Content-Length", List.of("0")), 1000, 1000);
+
+        assertEquals("\"v1\"", conditional.header("If-None-Match"));
+        assertTrue(refreshed.isFresh(REQUEST, 2000));
+        assertEquals("body", new String(refreshed.toResponse(2000).body().readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(List.of("1"), refreshed.toResponse(2000).headers().get("Age"));
+    }
+
+    @Test
+    void testSerializationRoundTrip() throws IOException {
+        CacheEntry original = entry(Map.of("ETag", List.of("\"v1\""), "Vary", List.of("Accept")), 1234);
+
+        CacheEntry copy = CacheEntry.deserialize(original.serialize());
+
+        assertEquals(200, copy.statusCode());
+        assertTrue(copy.hasValidators());
+        assertTrue(copy.matches(REQUEST));
+        assertFalse(copy.matches(REQUEST.withHeader("Accept", "text/plain")));
+        assertEquals(original.currentAgeMillis(5000), copy.currentAgeMillis(5000));
+    }
+
+    @Test
+    void testDiskStoreSurvivesReopenAndStopsAtTornRecord(@TempDir Path directory) throws IOException {
+        DiskStore store = new DiskStore(directory, 1024 * 1024);
+        store.put("a", new byte[]{1, 2, 3});
+        store.put("b", new byte[]{4});
+        store.put("a", new byte[]{5, 6});
+        store.remove("b");
+        store.put("c", new byte[]{7});
+        store.close();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        DiskStore reopened = new DiskStore(directory, 1024 * 1024);
+        assertArrayEquals(new byte[]{5, 6}, reopened.get("a"));
+        assertNull(reopened.get("b"));
+        assertArrayEquals(new byte[]{7}, reopened.get("c"));
+
+        // Corrupt the data byte of the last record, as a crash mid-write would.
+        long lastData = reopened.bytes() - 1;
+        reopened.close();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(lastData);
+            file.write(99);
+        }
+        DiskStore recovered = new DiskStore(directory, 1024 * 1024);
+        assertArrayEquals(new byte[]{5, 6}, recovered.get("a"));
+        assertNull(recovered.get("c"));
+    }
+
+    @Test
+    void testDiskStoreDropsOldestSegment(@TempDir Path directory) throws IOException {
+        DiskStore store = new DiskStore(directory, 256 * 1024);
+        byte[] data = new byte[16 * 1024];
+        int evicted = 0;
+        for (int i = 0; i < 40; i++) {
+            evicted += store.put("key" + i, data);
+        }
+
+        assertTrue(evicted > 0);
+        assertNull(store.get("key0"));
+        assertArrayEquals(data, store.get("key39"));
+        assertTrue(store.bytes() <= 256 * 1024);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.cache;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.TestHttpServer;
+import dev.revere.webrequest.transport.JdkHttpTransport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class CachingTransportTest {
+
+    private static final AtomicInteger FRESH_CALLS = new AtomicInteger();
+    private static final AtomicInteger ETAG_CALLS = new AtomicInteger();
+    private static final AtomicInteger NOT_MODIFIED = new AtomicInteger();
+    private static final AtomicInteger NO_STORE_CALLS = new AtomicInteger();
+    private static final AtomicInteger CHUNKED_CALLS = new AtomicInteger();
+    private static final byte[] LARGE_BODY = new byte[64 * 1024];
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/fresh", exchange -> {
+                    if (exchange.getRequestMethod().equals("GET")) {
+                        exchange.getResponseHeaders().add("Cache-Control", "max-age=300");
+                        TestHttpServer.respond(exchange, 200, "fresh " + FRESH_CALLS.incrementAndGet());
+                    } else {
+                        TestHttpServer.respond(exchange, 204, "");
+                    }
+                })
+                .handle("/etag", exchange -> {
+                    ETAG_CALLS.incrementAndGet();
+                    exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                    exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+                    if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                        NOT_MODIFIED.incrementAndGet();
+                        exchange.sendResponseHeaders(304, -1);
+                        exchange.close();
+                    } else {
+                        TestHttpServer.respond(exchange, 200, "tagged");
+                    }
+                })
+                .handle("/no-store", exchange -> {
+                    exchange.getResponseHeaders().add("Cache-Control", "no-store");
+                    TestHttpServer.respond(exchange, 200, "private " + NO_STORE_CALLS.incrementAndGet());
+                })
+                .handle("/large-chunked", exchange -> {
+                    CHUNKED_CALLS.incrementAndGet();
+                    exchange.getResponseHeaders().add("ETag", "\"large\"");
+                    exchange.sendResponseHeaders(200, 0);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(LARGE_BODY);
+                    }
+                });
+        Arrays.fill(LARGE_BODY, (byte) 'x');
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testFreshResponseIsServedFromCacheUntilInvalidated() {
+        FRESH_CALLS.set(0);
+        HttpClient client = HttpClient.builder().cache(new HttpCache.Config()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/fresh")).buildRequest();
+
+            assertEquals("fresh 1", client.execute(request).body());
+            assertEquals("fresh 1", client.execute(request).body());
+            assertEquals("fresh 1", client.executeAsync(request).join().body());
+
+            client.execute(request.withMethod("DELETE"));
+            assertEquals("fresh 2", client.execute(request).body());
+
+            CacheStats stats = client.cacheStats();
+            assertEquals(2, stats.hitCount());
+            assertEquals(2, stats.missCount());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testStaleResponseIsRevalidatedWithETag() {
+        HttpClient client = HttpClient.builder().transport(new JdkHttpTransport()).cache(new HttpCache.Config()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/etag")).buildRequest();
+
+            assertEquals("tagged", client.execute(request).body());
+            assertEquals("tagged", client.execute(request).body());
+            assertEquals("tagged", client.executeAsync(request).join().body());
+
+            assertEquals(3, ETAG_CALLS.get());
+            assertEquals(2, NOT_MODIFIED.get());
+            assertEquals(2, client.cacheStats().revalidatedCount());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testNoStoreResponseIsNeverCached() {
+        HttpClient client = HttpClient.builder().cache(new HttpCache.Config()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/no-store")).buildRequest();
+
+            String first = client.execute(request).body();
+            String second = client.execute(request).body();
+
+            assertNotEquals(first, second);
+            assertEquals(0, client.cacheStats().memoryBytes());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testDiskTierSurvivesClientRestart(@TempDir Path directory) {
+        FRESH_CALLS.set(100);
+        HttpRequest request = new HttpRequestBuilder().url(server.url("/fresh")).buildRequest();
+        HttpCache.Config config = new HttpCache.Config().directory(directory, 1024 * 1024);
+
+        HttpClient first = HttpClient.builder().cache(config).build();
+        assertEquals("fresh 101", first.execute(request).body());
+        first.shutdown();
+
+        HttpClient second = HttpClient.builder().cache(config).build();
+        try {
+            assertEquals("fresh 101", second.execute(request).body());
+            assertEquals(1, second.cacheStats().hitCount());
+            assertTrue(second.cacheStats().diskBytes() > 0);
+        } finally {
+            second.shutdown();
+        }
+    }
+
+    @Test
+    void testChunkedBodyOverEntryLimitIsStreamedWithoutStoring() {
+        HttpClient client = HttpClient.builder().cache(new HttpCache.Config().maxEntryBytes(1024)).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/large-chunked")).buildRequest();
+
+            assertArrayEquals(LARGE_BODY, client.execute(request).content().asBytes());
+            assertArrayEquals(LARGE_BODY, client.executeAsync(request).join().content().asBytes());
+
+            assertEquals(2, CHUNKED_CALLS.get());
+            assertEquals(0, client.cacheStats().memoryBytes());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.codec;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.HttpResponse;
+import dev.revere.webrequest.TestHttpServer;
+import dev.revere.webrequest.pool.ConnectionPool;
+import dev.revere.webrequest.transport.Http1Transport;
+import dev.revere.webrequest.transport.HttpTransport;
+import dev.revere.webrequest.transport.JdkHttpTransport;
+import dev.revere.webrequest.transport.UrlConnectionTransport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class CompressionTest {
+
+    private static final String JSON = "{\"name\":\"value\"}".repeat(1000);
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/json", exchange -> {
+                    String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+                    if (accepted == null || !accepted.contains("gzip")) {
+                        TestHttpServer.respond(exchange, 200, JSON);
+                        return;
+                    }
+                    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                        gzip.write(JSON.getBytes(StandardCharsets.UTF_8));
+                    }
+                    exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                    TestHttpServer.respond(exchange, 200, compressed.toByteArray());
+                })
+                .handle("/upload", exchange -> {
+                    InputStream body = exchange.getRequestBody();
+                    if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+                        body = new GZIPInputStream(body);
+                    }
+                    TestHttpServer.respond(exchange, 200, exchange.getRequestHeaders().getFirst("Content-Encoding")
+                            + ":" + body.readAllBytes().length);
+                });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    static Stream<Supplier<HttpTransport>> transports() {
+        return Stream.of(UrlConnectionTransport::new, JdkHttpTransport::new, Http1Transport::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testResponsesAreDecompressedTransparently(Supplier<HttpTransport> transport) throws Exception {
+        HttpClient client = HttpClient.builder().transport(transport.get()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/json")).buildRequest();
+
+            assertEquals(JSON, client.execute(request).body());
+            assertEquals(JSON, client.executeAsync(request).join().body());
+            try (HttpResponse streaming = client.executeStreaming(request)) {
+                assertEquals(JSON, new String(streaming.content().asInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            }
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testPooledConnectionIsReusedAfterCompressedResponse() throws Exception {
+        HttpClient client = HttpClient.builder().connectionPool(new ConnectionPool.Config()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/json")).buildRequest();
+
+            assertEquals(JSON, client.execute(request).body());
+            try (HttpResponse streaming = client.executeStreaming(request)) {
+                assertEquals(JSON, new String(streaming.content().asInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            }
+            assertEquals(JSON, client.execute(request).body());
+
+            assertEquals(1, client.poolStats().idle());
+            assertEquals(1, client.poolStats().total());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testDecompressionCanBeDisabled() {
+        HttpClient client = HttpClient.builder().decompression(false).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/json")).buildRequest();
+
+            assertEquals(JSON, client.execute(request).body());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testLargeRequestBodiesAreCompressed(Supplier<HttpTransport> transport) {
+        HttpClient client = HttpClient.builder().transport(transport.get()).build();
+        try {
+            HttpRequestBuilder builder = new HttpRequestBuilder().url(server.url("/upload")).method("POST")
+                    .compressBody(ContentCodec.GZIP, 1024);
+
+            assertEquals("gzip:16000", client.execute(builder.body(JSON).buildRequest()).body());
+            assertEquals("null:5", client.execute(builder.body("small").buildRequest()).body());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class ContentCodecTest {
+
+    private static final byte[] CONTENT = "{\"items\":[1,2,3]}".repeat(2000).getBytes(StandardCharsets.UTF_8);
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] content, boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+            deflate.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void testGzipEncodingIsReadableByTheJdk() throws IOException {
+        byte[] encoded = ContentCodec.GZIP.encode(new ByteArrayInputStream(CONTENT)).readAllBytes();
+
+        assertTrue(encoded.length < CONTENT.length / 10);
+        assertArrayEquals(CONTENT, new GZIPInputStream(new ByteArrayInputStream(encoded)).readAllBytes());
+        assertArrayEquals(new byte[0], new GZIPInputStream(new ByteArrayInputStream(
+                ContentCodec.GZIP.encode(InputStream.nullInputStream()).readAllBytes())).readAllBytes());
+    }
+
+    @Test
+    void testDeflateDecodesZlibAndRawData() throws IOException {
+        assertArrayEquals(CONTENT, ContentCodec.DEFLATE.decode(new ByteArrayInputStream(deflate(CONTENT, false))).readAllBytes());
+        assertArrayEquals(CONTENT, ContentCodec.DEFLATE.decode(new ByteArrayInputStream(deflate(CONTENT, true))).readAllBytes());
+        assertArrayEquals(CONTENT, ContentCodec.DEFLATE.decode(ContentCodec.DEFLATE.encode(new ByteArrayInputStream(CONTENT))).readAllBytes());
+    }
+
+    @Test
+    void testDecodeAppliesCodingsInReverseOrder() throws IOException {
+        ContentCodecs codecs = ContentCodecs.defaults();
+        byte[] layered = gzip(deflate(CONTENT, false));
+
+        assertArrayEquals(CONTENT, codecs.decode(new ByteArrayInputStream(layered), "deflate, gzip").readAllBytes());
+        assertArrayEquals(CONTENT, codecs.decode(new ByteArrayInputStream(CONTENT), "identity").readAllBytes());
+        assertArrayEquals(CONTENT, codecs.decode(new ByteArrayInputStream(CONTENT), "br").readAllBytes());
+        assertEquals(0, codecs.decode(InputStream.nullInputStream(), "gzip").readAllBytes().length);
+    }
+
+    @Test
+    void testCustomCodecIsPreferred() {
+        ContentCodec identity = new ContentCodec() {
+            @Override
+            public String name() {
+                return "x-identity";
+            }
+
+            @Override
+            public InputStream decode(InputStream encoded) {
+                return encoded;
+            }
+
+            @Override
+            public InputStream encode(InputStream plain) {
+                return plain;
+            }
+        };
+
+        ContentCodecs codecs = ContentCodecs.defaults().with(identity);
+
+        assertEquals("x-identity, gzip, deflate", codecs.acceptEncoding());
+        assertSame(identity, codecs.codec("X-Identity"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.dns;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class CachingDnsResolverTest {
+
+    private static InetAddress address(int last) throws UnknownHostException {
+        return InetAddress.getByAddress(new byte[]{10, 0, 0, (byte) last});
+    }
+
+    @Test
+    void testFreshEntryIsServedWithoutLookup() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        InetAddress address = address(1);
+        CachingDnsResolver resolver = new CachingDnsResolver(host -> {
+            lookups.incrementAndGet();
+            return List.of(address);
+        });
+
+        assertEquals(List.of(address), resolver.resolve("api.example"));
+        assertEquals(List.of(address), resolver.resolve("api.example"));
+
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void testStaleEntryIsServedWhileRefreshing() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        InetAddress first = address(1);
+        InetAddress second = address(2);
+        CachingDnsResolver resolver = new CachingDnsResolver(host -> lookups.incrementAndGet() == 1 ? List.of(first) : List.of(second))
+                .ttl(Duration.ofMillis(20));
+
+        assertEquals(List.of(first), resolver.resolve("api.example"));
+        Thread.sleep(40);
+
+        assertEquals(List.of(first), resolver.resolve("api.example"));
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!resolver.resolve("api.example").equals(List.of(second)) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(List.of(second), resolver.resolve("api.example"));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void testFailedRefreshKeepsStaleAddresses() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        InetAddress address = address(1);
+        CachingDnsResolver resolver = new CachingDnsResolver(host -> {
+            if (lookups.incrementAndGet() > 1) {
+                throw new UnknownHostException(host);
+            }
+            return List.of(address);
+        }).ttl(Duration.ofMillis(20));
+
+        resolver.resolve("api.example");
+        Thread.sleep(40);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(List.of(address), resolver.resolve("api.example"));
+            Thread.sleep(5);
+        }
+        assertTrue(lookups.get() >= 2);
+    }
+
+    @Test
+    void testExpiredEntryWithoutStalePeriodIsLookedUpAgain() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        InetAddress address = address(1);
+        CachingDnsResolver resolver = new CachingDnsResolver(host -> {
+            lookups.incrementAndGet();
+            return List.of(address);
+        }).ttl(Duration.ofMillis(10)).staleWhileRevalidate(Duration.ZERO);
+
+        resolver.resolve("api.example");
+        Thread.sleep(20);
+        resolver.resolve("api.example");
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void testFailuresAreCachedBriefly() {
+        AtomicInteger lookups = new AtomicInteger();
+        CachingDnsResolver resolver = new CachingDnsResolver(host -> {
+            lookups.incrementAndGet();
+            throw new UnknownHostException(host);
+        });
+
+        assertThrows(UnknownHostException.class, () -> resolver.resolve("missing.example"));
+        assertThrows(UnknownHostException.class, () -> resolver.resolve("missing.example"));
+        assertEquals(1, lookups.get());
+
+        resolver.invalidate("missing.example");
+        assertThrows(UnknownHostException.class, () -> resolver.resolve("missing.example"));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void testAddressHealthOrdersFailingAddressesLast() throws Exception {
+        InetAddress v4a = address(1);
+        InetAddress v4b = address(2);
+        InetAddress v6 = InetAddress.getByName("::1");
+        AddressHealth health = new AddressHealth();
+
+        assertEquals(List.of(v6, v4a, v4b), health.order(List.of(v6, v4a, v4b)));
+        assertEquals(List.of(v4a, v6, v4b), health.order(List.of(v4a, v4b, v6)));
+
+        health.recordFailure(v4a);
+        assertTrue(health.isHeldBack(v4a));
+        assertEquals(List.of(v4b, v6, v4a), health.order(List.of(v4a, v4b, v6)));
+
+        health.recordSuccess(v4a);
+        assertFalse(health.isHeldBack(v4a));
+    }
+}
\ No newline at end of file
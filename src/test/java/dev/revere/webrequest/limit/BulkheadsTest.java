@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.HttpResponse;
+import dev.revere.webrequest.TestHttpServer;
+import dev.revere.webrequest.pool.Route;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class BulkheadsTest {
+
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/slow", exchange -> {
+                    try {
+                        RELEASE.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    TestHttpServer.respond(exchange, 200, "slow");
+                })
+                .handle("/fast", exchange -> TestHttpServer.respond(exchange, 200, "fast"));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        RELEASE.countDown();
+        server.close();
+    }
+
+    @Test
+    void testSlowHostIsRejectedFastWithoutBlockingOtherHosts() {
+        HttpClient client = HttpClient.builder().concurrencyLimit(Bulkheads.Config.fixed(1)).build();
+        try {
+            HttpRequest slow = new HttpRequestBuilder().url(server.url("/slow")).buildRequest();
+            HttpRequest otherHost = new HttpRequestBuilder().url(server.url("/fast").replace("127.0.0.1", "localhost")).buildRequest();
+
+            CompletableFuture<HttpResponse> inFlight = client.executeAsync(slow);
+            CompletionException rejected = assertThrows(CompletionException.class, () -> client.executeAsync(slow).join());
+            assertInstanceOf(ConcurrencyLimitExceededException.class, rejected.getCause());
+            assertThrows(ConcurrencyLimitExceededException.class, () -> client.execute(slow));
+
+            assertEquals("fast", client.execute(otherHost).body());
+
+            RELEASE.countDown();
+            assertEquals("slow", inFlight.join().body());
+            assertEquals(0, client.concurrencyLimiters().get(Route.of(URI.create(server.url("/")))).inFlight());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testConfigValidation() {
+        assertThrows(IllegalArgumentException.class, () -> Bulkheads.Config.fixed(0));
+        assertThrows(IllegalArgumentException.class, () -> Bulkheads.Config.aimd(10, 5));
+        assertThrows(IllegalArgumentException.class, () -> Bulkheads.Config.gradient(1, 10).maxQueueSize(-1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class ConcurrencyLimiterTest {
+
+    @Test
+    void testRejectsAtOnceWithoutQueue() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", new FixedLimit(2), 0, Duration.ofSeconds(1));
+
+        ConcurrencyLimiter.Permit first = limiter.acquire();
+        limiter.acquire();
+
+        assertNull(limiter.tryAcquire());
+        assertThrows(ConcurrencyLimitExceededException.class, limiter::acquire);
+
+        first.release(false);
+        first.release(false);
+        assertEquals(1, limiter.inFlight());
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    void testQueuedRequestGetsReleasedPermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", new FixedLimit(1), 1, Duration.ofSeconds(5));
+        ConcurrencyLimiter.Permit held = limiter.acquire();
+
+        CompletableFuture<ConcurrencyLimiter.Permit> queued = limiter.acquireAsync();
+        CompletableFuture<ConcurrencyLimiter.Permit> overflow = limiter.acquireAsync();
+
+        assertFalse(queued.isDone());
+        CompletionException rejected = assertThrows(CompletionException.class, overflow::join);
+        assertInstanceOf(ConcurrencyLimitExceededException.class, rejected.getCause());
+        assertEquals(503, ((ConcurrencyLimitExceededException) rejected.getCause()).getStatusCode());
+
+        held.release(false);
+        assertTrue(queued.isDone());
+        assertEquals(1, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+    }
+
+    @Test
+    void testQueuedRequestTimesOut() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", new FixedLimit(1), 1, Duration.ofMillis(50));
+        ConcurrencyLimiter.Permit held = limiter.acquire();
+
+        ConcurrencyLimitExceededException e = assertThrows(ConcurrencyLimitExceededException.class, limiter::acquire);
+
+        assertTrue(e.getMessage().contains("timed out"));
+        assertEquals(0, limiter.queued());
+        held.release(false);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void testAimdLimitBacksOffOnDropsAndGrowsUnderLoad() {
+        AimdLimit limit = new AimdLimit(10, 1, 20);
+
+        limit.onSample(1_000_000, 10, false);
+        assertEquals(11, limit.limit());
+
+        limit.onSample(1_000_000, 1, false);
+        assertEquals(11, limit.limit());
+
+        limit.onSample(1_000_000, 10, true);
+        assertEquals(9, limit.limit());
+    }
+
+    @Test
+    void testGradientLimitShrinksWhenLatencyRises() {
+        GradientLimit limit = new GradientLimit(20, 1, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(1_000_000, limit.limit(), false);
+        }
+        int steady = limit.limit();
+        assertTrue(steady > 20, "limit should grow while latency is flat: " + steady);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(20_000_000, limit.limit(), false);
+        }
+        assertTrue(limit.limit() < steady, "limit should shrink when latency rises: " + limit.limit());
+    }
+
+    @Test
+    void testAdaptiveLimitReleasesWaitersWhenItGrows() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", new AimdLimit(1, 1, 10), 2, Duration.ofSeconds(5));
+        ConcurrencyLimiter.Permit held = limiter.acquire();
+        CompletableFuture<ConcurrencyLimiter.Permit> first = limiter.acquireAsync();
+        CompletableFuture<ConcurrencyLimiter.Permit> second = limiter.acquireAsync();
+
+        held.release(false);
+
+        assertEquals(2, limiter.limit());
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.limit;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpException;
+import dev.revere.webrequest.HttpHeaders;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.TestHttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class RateLimiterTest {
+
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/quota", exchange -> {
+                    exchange.getResponseHeaders().add("Retry-After", "30");
+                    TestHttpServer.respond(exchange, 429, "slow down");
+                })
+                .handle("/other", exchange -> TestHttpServer.respond(exchange, 200, "ok"));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    private static HttpHeaders headers(String... lines) {
+        return HttpHeaders.ofLines(lines, lines.length);
+    }
+
+    @Test
+    void testBurstIsAllowedThenPermitsAreSpaced() {
+        RateLimiter limiter = new RateLimiter("test", 10, Duration.ofSeconds(1), 3, Duration.ZERO);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        Duration wait = limiter.waitTime();
+        assertTrue(wait.compareTo(Duration.ZERO) > 0 && wait.compareTo(Duration.ofMillis(100)) <= 0, wait.toString());
+    }
+
+    @Test
+    void testAcquireWaitsForItsSlot() throws Exception {
+        RateLimiter limiter = new RateLimiter("test", 20, Duration.ofSeconds(1), 1, Duration.ofSeconds(1));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+        }
+
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(95).toNanos());
+    }
+
+    @Test
+    void testSlotBeyondMaxWaitIsRejectedWithoutReservingIt() {
+        RateLimiter limiter = new RateLimiter("test", 1, Duration.ofSeconds(10), 1, Duration.ofMillis(100));
+
+        assertTrue(limiter.tryAcquire());
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class, limiter::acquire);
+        assertEquals(429, e.getStatusCode());
+        assertTrue(e.getRetryAfterMillis() > 9000);
+
+        CompletionException async = assertThrows(CompletionException.class, () -> limiter.acquireAsync().join());
+        assertInstanceOf(RateLimitExceededException.class, async.getCause());
+        assertTrue(limiter.waitTime().compareTo(Duration.ofSeconds(10)) <= 0);
+    }
+
+    @Test
+    void testAsyncAcquisitionCompletesFromTimer() {
+        RateLimiter limiter = new RateLimiter("test", 10, Duration.ofSeconds(1), 1, Duration.ofSeconds(1));
+
+        assertTrue(limiter.acquireAsync().isDone());
+        CompletableFuture<Void> next = limiter.acquireAsync();
+        assertFalse(next.isDone());
+        next.join();
+    }
+
+    @Test
+    void testResponseHeadersHoldBackPermits() {
+        RateLimiter limiter = new RateLimiter("test", 100, Duration.ofSeconds(1), 1, Duration.ZERO);
+
+        limiter.onResponse(200, headers("X-RateLimit-Remaining: 5", "X-RateLimit-Reset: 60"));
+        assertTrue(limiter.tryAcquire());
+
+        limiter.onResponse(429, headers("Retry-After: 2"));
+        assertTrue(limiter.waitTime().compareTo(Duration.ofMillis(1900)) >= 0);
+
+        long reset = System.currentTimeMillis() / 1000 + 5;
+        limiter.onResponse(200, headers("RateLimit-Remaining: 0", "RateLimit-Reset: " + reset));
+        assertTrue(limiter.waitTime().compareTo(Duration.ofSeconds(3)) >= 0);
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void testClientHonoursRetryAfterPerRoute() {
+        HttpClient client = HttpClient.builder()
+                .rateLimit(new RateLimiters.Config()
+                        .perHost(100, Duration.ofSeconds(1))
+                        .route(server.url("/quota"), 100, Duration.ofSeconds(1))
+                        .maxWait(Duration.ofSeconds(1)))
+                .build();
+        try {
+            HttpRequest quota = new HttpRequestBuilder().url(server.url("/quota")).buildRequest();
+            HttpRequest other = new HttpRequestBuilder().url(server.url("/other")).buildRequest();
+
+            HttpException fromServer = assertThrows(HttpException.class, () -> client.execute(quota));
+            assertEquals(429, fromServer.getStatusCode());
+            assertFalse(fromServer instanceof RateLimitExceededException);
+
+            long start = System.nanoTime();
+            RateLimitExceededException fromClient = assertThrows(RateLimitExceededException.class, () -> client.execute(quota));
+            assertTrue(fromClient.getRetryAfterMillis() > 25_000);
+            CompletionException async = assertThrows(CompletionException.class, () -> client.executeAsync(quota).join());
+            assertInstanceOf(RateLimitExceededException.class, async.getCause());
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+
+            assertEquals("ok", client.execute(other).body());
+            assertEquals(2, client.rateLimiters().size());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.metrics;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpException;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.HttpResponse;
+import dev.revere.webrequest.TestHttpServer;
+import dev.revere.webrequest.transport.Http1Transport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class ClientMetricsTest {
+
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/ok", exchange -> TestHttpServer.respond(exchange, 200, "0123456789"))
+                .handle("/missing", exchange -> TestHttpServer.respond(exchange, 404, "not here"));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testRecordsPerEndpoint() {
+        HttpClient client = HttpClient.builder().transport(new Http1Transport()).enableMetrics().build();
+        try {
+            HttpRequest ok = new HttpRequestBuilder().url(server.url("/ok")).buildRequest();
+            HttpRequest post = new HttpRequestBuilder().url(server.url("/ok")).method("POST").body("abc").buildRequest();
+            HttpRequest missing = new HttpRequestBuilder().url(server.url("/missing")).buildRequest();
+
+            client.execute(ok);
+            client.executeAsync(ok).join();
+            client.execute(post);
+            assertThrows(HttpException.class, () -> client.execute(missing));
+
+            MetricsSnapshot snapshot = client.metrics();
+            EndpointMetrics get = snapshot.endpoint(MetricsKey.of(ok));
+            EndpointMetrics posts = snapshot.endpoint(MetricsKey.of(post));
+
+            assertEquals(3, get.requests());
+            assertEquals(2, get.statusCount(2));
+            assertEquals(1, get.statusCount(4));
+            assertEquals(0, get.failures());
+            assertEquals(0, get.inFlight());
+            assertEquals(28, get.bytesReceived());
+            assertEquals(3, posts.bytesSent());
+            assertEquals(4, snapshot.requests());
+
+            assertEquals(3, get.latency(Phase.TOTAL).count());
+            assertEquals(3, get.latency(Phase.TIME_TO_FIRST_BYTE).count());
+            assertEquals(1, get.latency(Phase.CONNECT).count() + posts.latency(Phase.CONNECT).count());
+            assertEquals(1, get.latency(Phase.DNS).count() + posts.latency(Phase.DNS).count());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testConnectionFailureIsCounted() {
+        HttpClient client = HttpClient.builder().transport(new Http1Transport()).enableMetrics().build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url("http://127.0.0.1:1/").buildRequest();
+
+            assertThrows(HttpException.class, () -> client.execute(request));
+
+            EndpointMetrics metrics = client.metrics().endpoint(MetricsKey.of(request));
+            assertEquals(1, metrics.failures());
+            assertEquals(0, metrics.inFlight());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testStreamingExchangeEndsWhenBodyIsConsumed() throws Exception {
+        List<RequestEvent> events = new CopyOnWriteArrayList<>();
+        HttpClient client = HttpClient.builder().metricsListener(events::add).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/ok")).buildRequest();
+
+            try (HttpResponse response = client.executeStreaming(request)) {
+                assertTrue(events.isEmpty());
+                assertEquals(10, response.content().asInputStream().readAllBytes().length);
+            }
+
+            assertEquals(1, events.size());
+            assertEquals(200, events.get(0).statusCode());
+            assertEquals(10, events.get(0).bytesReceived());
+            assertTrue(events.get(0).durationNanos(Phase.TIME_TO_FIRST_BYTE) >= 0);
+            assertSame(MetricsSnapshot.EMPTY, client.metrics());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
\ No newline at end of file
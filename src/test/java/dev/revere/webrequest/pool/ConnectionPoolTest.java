@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.pool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class ConnectionPoolTest {
+
+    private ServerSocket serverSocket;
+    private final List<Socket> accepted = new ArrayList<>();
+    private final AtomicInteger connects = new AtomicInteger();
+    private Route route;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        route = new Route("http", serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort());
+        Thread acceptor = new Thread(() -> {
+            try {
+                while (true) {
+                    Socket socket = serverSocket.accept();
+                    synchronized (accepted) {
+                        accepted.add(socket);
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        serverSocket.close();
+        synchronized (accepted) {
+            for (Socket socket : accepted) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    void testReleasedConnectionIsReused() throws IOException {
+        try (ConnectionPool pool = new ConnectionPool()) {
+            PooledConnection first = pool.lease(route, this::connect);
+            pool.release(first, true);
+
+            PooledConnection second = pool.lease(route, this::connect);
+
+            assertSame(first, second);
+            assertTrue(second.isReused());
+            assertEquals(1, connects.get());
+            assertEquals(new PoolStats(1, 0, 0, 200), pool.stats());
+        }
+    }
+
+    @Test
+    void testNonReusableConnectionIsClosed() throws IOException {
+        try (ConnectionPool pool = new ConnectionPool()) {
+            PooledConnection connection = pool.lease(route, this::connect);
+            pool.release(connection, false);
+
+            assertTrue(connection.socket().isClosed());
+            assertEquals(new PoolStats(0, 0, 0, 200), pool.stats());
+        }
+    }
+
+    @Test
+    void testLeaseWaitsForCapacity() throws Exception {
+        ConnectionPool.Config config = new ConnectionPool.Config().maxPerRoute(1).acquireTimeout(Duration.ofSeconds(5));
+        try (ConnectionPool pool = new ConnectionPool(config)) {
+            PooledConnection first = pool.lease(route, this::connect);
+
+            CompletableFuture<PooledConnection> waiter = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return pool.lease(route, this::connect);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            awaitPending(pool, 1);
+
+            pool.release(first, true);
+
+            assertSame(first, waiter.get());
+            assertEquals(1, connects.get());
+        }
+    }
+
+    @Test
+    void testLeaseTimesOutWhenExhausted() throws IOException {
+        ConnectionPool.Config config = new ConnectionPool.Config().maxTotal(1).acquireTimeout(Duration.ofMillis(50));
+        try (ConnectionPool pool = new ConnectionPool(config)) {
+            pool.lease(route, this::connect);
+
+            assertThrows(ConnectionPoolTimeoutException.class, () -> pool.lease(route, this::connect));
+            assertEquals(0, pool.stats().pending());
+        }
+    }
+
+    @Test
+    void testIdleConnectionOfOtherRouteIsEvictedWhenFull() throws IOException {
+        Route other = new Route("http", "localhost", serverSocket.getLocalPort());
+        try (ConnectionPool pool = new ConnectionPool(new ConnectionPool.Config().maxTotal(1))) {
+            PooledConnection first = pool.lease(route, this::connect);
+            pool.release(first, true);
+
+            PooledConnection second = pool.lease(other, this::connect);
+
+            assertTrue(first.socket().isClosed());
+            assertNotSame(first, second);
+            assertEquals(new PoolStats(1, 0, 0, 1), pool.stats());
+        }
+    }
+
+    @Test
+    void testEvictorClosesIdleConnections() throws Exception {
+        ConnectionPool.Config config = new ConnectionPool.Config()
+                .idleTimeout(Duration.ofMillis(50))
+                .evictionInterval(Duration.ofMillis(20));
+        try (ConnectionPool pool = new ConnectionPool(config)) {
+            PooledConnection connection = pool.lease(route, this::connect);
+            pool.release(connection, true);
+            assertEquals(1, pool.stats().idle());
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (pool.stats().idle() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(0, pool.stats().idle());
+            assertTrue(connection.socket().isClosed());
+        }
+    }
+
+    @Test
+    void testLongLeaseDoesNotCountAsIdleTime() throws Exception {
+        ConnectionPool.Config config = new ConnectionPool.Config()
+                .idleTimeout(Duration.ofMillis(300))
+                .evictionInterval(Duration.ofMinutes(1));
+        try (ConnectionPool pool = new ConnectionPool(config)) {
+            PooledConnection connection = pool.lease(route, this::connect);
+            pool.release(connection, true);
+            Thread.sleep(200);
+
+            PooledConnection reused = pool.lease(route, this::connect);
+            assertSame(connection, reused);
+            Thread.sleep(200);
+            pool.release(reused, true);
+
+            assertFalse(reused.socket().isClosed());
+            assertEquals(1, pool.stats().idle());
+        }
+    }
+
+    @Test
+    void testMaxLifetimeRetiresConnectionOnRelease() throws Exception {
+        try (ConnectionPool pool = new ConnectionPool(new ConnectionPool.Config().maxLifetime(Duration.ofMillis(20)))) {
+            PooledConnection connection = pool.lease(route, this::connect);
+            Thread.sleep(30);
+            pool.release(connection, true);
+
+            assertTrue(connection.socket().isClosed());
+            assertEquals(0, pool.stats().total());
+        }
+    }
+
+    private Socket connect(Route target) throws IOException {
+        connects.incrementAndGet();
+        Socket socket = new Socket();
+        socket.connect(new InetSocketAddress(serverSocket.getInetAddress(), target.port()), 1000);
+        return socket;
+    }
+
+    private static void awaitPending(ConnectionPool pool, int pending) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.stats().pending() < pending && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
\ No newline at end of file
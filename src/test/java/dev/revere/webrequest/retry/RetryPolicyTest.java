@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.retry;
+
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class RetryPolicyTest {
+
+    @Test
+    void testRetryAfterParsesSecondsAndDates() {
+        long now = ZonedDateTime.of(2026, 10, 17, 12, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.of(2026, 10, 17, 12, 0, 30, 0, ZoneOffset.UTC));
+
+        assertEquals(5000, RetryAfter.parseMillis("5", now));
+        assertEquals(30_000, RetryAfter.parseMillis(date, now));
+        assertEquals(0, RetryAfter.parseMillis("Sat, 17 Oct 2026 11:00:00 GMT", now));
+        assertEquals(-1, RetryAfter.parseMillis(null, now));
+        assertEquals(-1, RetryAfter.parseMillis("soon", now));
+        assertEquals(-1, RetryAfter.parseMillis("-3", now));
+    }
+
+    @Test
+    void testBudgetLimitsRetriesToRatioOfRequests() {
+        RetryBudget budget = new RetryBudget(0.1, 0);
+        assertFalse(budget.tryWithdraw());
+
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+
+        int retries = 0;
+        while (budget.tryWithdraw()) {
+            retries++;
+        }
+        assertEquals(10, retries);
+    }
+
+    @Test
+    void testBackoffIsJitteredWithinExponentialBound() {
+        RetryPolicy policy = new RetryPolicy().backoff(Duration.ofMillis(100), Duration.ofMillis(1000), 2);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(policy.backoffMillis(1) <= 100);
+            assertTrue(policy.backoffMillis(3) <= 400);
+            assertTrue(policy.backoffMillis(10) <= 1000);
+        }
+    }
+
+    @Test
+    void testOnlyIdempotentRequestsAndRetryableStatusesAreRetried() {
+        RetryPolicy policy = new RetryPolicy().maxAttempts(2).budget(new RetryBudget(1, 1000));
+        HttpRequest get = new HttpRequestBuilder().url("http://example.com").buildRequest();
+
+        assertTrue(policy.isRetryable(get));
+        assertFalse(policy.isRetryable(get.withMethod("POST")));
+        assertEquals(-1, policy.delayAfterResponse(1, 500, null));
+        assertEquals(1000, policy.delayAfterResponse(1, 503, "1"));
+        assertEquals(-1, policy.delayAfterResponse(1, 503, "3600"));
+        assertEquals(-1, policy.delayAfterResponse(2, 503, null));
+    }
+}
\ No newline at end of file
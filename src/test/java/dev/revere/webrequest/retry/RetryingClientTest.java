@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.retry;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpException;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.TestHttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class RetryingClientTest {
+
+    private static final ConcurrentHashMap<String, AtomicInteger> CALLS = new ConcurrentHashMap<>();
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/flaky", exchange -> {
+                    int call = calls(exchange.getRequestURI().getQuery()).incrementAndGet();
+                    if (call <= 2) {
+                        exchange.getResponseHeaders().add("Retry-After", "0");
+                        TestHttpServer.respond(exchange, 503, "busy");
+                    } else {
+                        TestHttpServer.respond(exchange, 200, "ok after " + call);
+                    }
+                })
+                .handle("/hedge", exchange -> {
+                    if (calls(exchange.getRequestURI().getQuery()).incrementAndGet() == 1) {
+                        try {
+                            Thread.sleep(3000);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    TestHttpServer.respond(exchange, 200, "hedged");
+                });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    private static AtomicInteger calls(String key) {
+        return CALLS.computeIfAbsent(key, k -> new AtomicInteger());
+    }
+
+    private static HttpClient retryingClient() {
+        RetryPolicy policy = new RetryPolicy()
+                .backoff(Duration.ofMillis(1), Duration.ofMillis(10), 2)
+                .budget(new RetryBudget(0.2, 100));
+        return HttpClient.builder().retryPolicy(policy).build();
+    }
+
+    @Test
+    void testRetryableStatusIsRetriedSyncAndAsync() {
+        HttpClient client = retryingClient();
+        try {
+            HttpRequest sync = new HttpRequestBuilder().url(server.url("/flaky?sync")).buildRequest();
+            HttpRequest async = new HttpRequestBuilder().url(server.url("/flaky?async")).buildRequest();
+
+            assertEquals("ok after 3", client.execute(sync).body());
+            assertEquals("ok after 3", client.executeAsync(async).join().body());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testNonIdempotentRequestIsNotRetried() {
+        HttpClient client = retryingClient();
+        try {
+            HttpRequest post = new HttpRequestBuilder().url(server.url("/flaky?post")).method("POST").body("x").buildRequest();
+
+            HttpException error = assertThrows(HttpException.class, () -> client.execute(post));
+
+            assertEquals(503, error.getStatusCode());
+            assertEquals(1, calls("post").get());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testAttemptsAreBoundedByMaxAttempts() {
+        HttpClient client = HttpClient.builder()
+                .retryPolicy(new RetryPolicy().maxAttempts(2).budget(new RetryBudget(1, 100)))
+                .build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/flaky?bounded")).buildRequest();
+
+            assertEquals(503, assertThrows(HttpException.class, () -> client.execute(request)).getStatusCode());
+            assertEquals(2, calls("bounded").get());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testSlowRequestIsHedged() {
+        HttpClient client = HttpClient.builder()
+                .hedging(new HedgePolicy().initialDelay(Duration.ofMillis(50)))
+                .build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/hedge?sync")).buildRequest();
+
+            long start = System.nanoTime();
+            assertEquals("hedged", client.execute(request).body());
+
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+            assertEquals(2, calls("sync").get());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.HttpResponse;
+import dev.revere.webrequest.ResponseTimings;
+import dev.revere.webrequest.TestHttpServer;
+import dev.revere.webrequest.dns.CachingDnsResolver;
+import dev.revere.webrequest.pool.ConnectionPool;
+import dev.revere.webrequest.pool.PoolStats;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLSocketFactory;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class Http1TransportTest {
+
+    private static TestHttpServer server;
+    private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/port", exchange -> {
+                    clientPorts.add(exchange.getRemoteAddress().getPort());
+                    TestHttpServer.respond(exchange, 200, "ok");
+                })
+                .handle("/chunked", exchange -> {
+                    exchange.sendResponseHeaders(200, 0);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        for (int i = 0; i < 3; i++) {
+                            os.write(("part" + i + "\r\n").getBytes(StandardCharsets.UTF_8));
+                            os.flush();
+                        }
+                    }
+                })
+                .handle("/headers", exchange -> {
+                    exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                    exchange.getResponseHeaders().add("X-Trace", "a");
+                    exchange.getResponseHeaders().add("X-Trace", "b");
+                    TestHttpServer.respond(exchange, 200, "ok");
+                })
+                .handle("/echo", exchange -> {
+                    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                    TestHttpServer.respond(exchange, 201, exchange.getRequestMethod() + ":" + body);
+                });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testSequentialRequestsReuseOneConnection() {
+        clientPorts.clear();
+        HttpClient client = HttpClient.builder().connectionPool(new ConnectionPool.Config()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/port")).buildRequest();
+            for (int i = 0; i < 5; i++) {
+                assertEquals("ok", client.execute(request).body());
+            }
+
+            assertEquals(1, clientPorts.size());
+            assertEquals(new PoolStats(0, 1, 0, 200), client.poolStats());
+        } finally {
+            client.shutdown();
+        }
+        assertEquals(0, client.poolStats().total());
+    }
+
+    @Test
+    void testChunkedResponseIsDecoded() throws Exception {
+        try (Http1Transport transport = new Http1Transport();
+             TransportResponse response = transport.send(new HttpRequestBuilder().url(server.url("/chunked")).buildRequest());
+             InputStream body = response.body()) {
+            assertEquals(200, response.statusCode());
+            assertEquals("part0\r\npart1\r\npart2\r\n", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(1, transport.pool().stats().idle());
+        }
+    }
+
+    @Test
+    void testPostBodyAndHeadRequest() throws Exception {
+        try (Http1Transport transport = new Http1Transport()) {
+            HttpRequest post = new HttpRequestBuilder().url(server.url("/echo")).method("POST").body("payload").buildRequest();
+            try (TransportResponse response = TransportResponse.buffered(transport.send(post))) {
+                assertEquals(201, response.statusCode());
+                assertEquals("POST:payload", new String(response.body().readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            HttpRequest head = new HttpRequestBuilder().url(server.url("/echo")).method("HEAD").buildRequest();
+            try (TransportResponse response = transport.send(head)) {
+                assertEquals(201, response.statusCode());
+                assertEquals(-1, response.body().read());
+            }
+            assertEquals(new PoolStats(0, 1, 0, 200), transport.pool().stats());
+        }
+    }
+
+    @Test
+    void testBodyClosedEarlyDiscardsConnection() throws Exception {
+        try (Http1Transport transport = new Http1Transport()) {
+            TransportResponse response = transport.send(new HttpRequestBuilder().url(server.url("/chunked")).buildRequest());
+            response.close();
+
+            assertEquals(0, transport.pool().stats().total());
+        }
+    }
+
+    @Test
+    void testConnectRacesPastRefusedAddress() throws Exception {
+        InetAddress refused = InetAddress.getByName("127.0.0.2");
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        try (Http1Transport transport = new Http1Transport(new ConnectionPool(), (SSLSocketFactory) SSLSocketFactory.getDefault(),
+                host -> List.of(refused, loopback))) {
+            int port = URI.create(server.url("/port")).getPort();
+            HttpRequest request = new HttpRequestBuilder().url("http://service.test:" + port + "/port").buildRequest();
+
+            try (TransportResponse response = TransportResponse.buffered(transport.send(request))) {
+                assertEquals(200, response.statusCode());
+            }
+
+            assertTrue(transport.addressHealth().isHeldBack(refused));
+            assertEquals(List.of(loopback, refused), transport.addressHealth().order(List.of(refused, loopback)));
+        }
+    }
+
+    @Test
+    void testClientResolvesThroughConfiguredResolver() {
+        AtomicInteger lookups = new AtomicInteger();
+        HttpClient client = HttpClient.builder()
+                .dnsResolver(new CachingDnsResolver(host -> {
+                    lookups.incrementAndGet();
+                    return List.of(InetAddress.getLoopbackAddress());
+                }))
+                .build();
+        try {
+            int port = URI.create(server.url("/port")).getPort();
+            HttpRequest request = new HttpRequestBuilder().url("http://service.test:" + port + "/port").buildRequest();
+
+            assertEquals("ok", client.execute(request).body());
+            assertEquals("ok", client.execute(request).body());
+
+            assertInstanceOf(Http1Transport.class, client.transport());
+            assertEquals(1, lookups.get());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void testResponseCarriesHeadersAndTimings() {
+        Instant before = Instant.now();
+        for (HttpClient client : List.of(HttpClient.builder().build(),
+                HttpClient.builder().connectionPool(new ConnectionPool.Config()).build())) {
+            try {
+                HttpResponse response = client.execute(new HttpRequestBuilder().url(server.url("/headers")).buildRequest());
+
+                assertEquals("\"v1\"", response.headers().etag());
+                assertEquals(2, response.headers().contentLength());
+                assertEquals(List.of("a", "b"), response.headers().all("x-trace"));
+                assertEquals("a", response.header("X-TRACE"));
+
+                ResponseTimings timings = response.timings();
+                assertFalse(timings.requestStart().isBefore(before.minusMillis(50)));
+                assertTrue(timings.firstByteNanos() >= 0);
+                assertTrue(timings.totalNanos() >= timings.firstByteNanos());
+                assertFalse(timings.completedAt().isBefore(timings.requestStart()));
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.revere.webrequest.transport;
+
+import dev.revere.webrequest.HttpClient;
+import dev.revere.webrequest.HttpException;
+import dev.revere.webrequest.HttpRequest;
+import dev.revere.webrequest.HttpRequestBuilder;
+import dev.revere.webrequest.HttpResponse;
+import dev.revere.webrequest.TestHttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-request-library
+ * @date 10/17/2026
+ */
+class HttpTransportTest {
+
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = TestHttpServer.start()
+                .handle("/echo", exchange -> {
+                    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                    TestHttpServer.respond(exchange, 200, exchange.getRequestMethod() + ":" + body);
+                })
+                .handle("/missing", exchange -> TestHttpServer.respond(exchange, 404, "not here"))
+                .handle("/upload", exchange -> {
+                    byte[] body = exchange.getRequestBody().readAllBytes();
+                    String framing = exchange.getRequestHeaders().getFirst("Transfer-Encoding") != null ? "chunked" : "fixed";
+                    TestHttpServer.respond(exchange, 200, framing + ":" + body.length + ":" + body[body.length - 1]);
+                });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    static Stream<Supplier<HttpTransport>> transports() {
+        return Stream.of(UrlConnectionTransport::new, JdkHttpTransport::new, Http1Transport::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testExecuteSync(Supplier<HttpTransport> transport) {
+        HttpClient client = HttpClient.builder().transport(transport.get()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder()
+                    .url(server.url("/echo"))
+                    .method("POST")
+                    .body("hello")
+                    .buildRequest();
+
+            HttpResponse response = client.execute(request);
+
+            assertEquals(200, response.statusCode());
+            assertEquals("POST:hello", response.body());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testExecuteAsyncFanOut(Supplier<HttpTransport> transport) {
+        HttpClient client = HttpClient.builder().transport(transport.get()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/echo")).buildRequest();
+
+            List<CompletableFuture<HttpResponse>> futures = Stream.generate(() -> client.executeAsync(request))
+                    .limit(50)
+                    .toList();
+
+            for (CompletableFuture<HttpResponse> future : futures) {
+                assertEquals("GET:", future.join().body());
+            }
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testErrorStatusIsMappedToHttpException(Supplier<HttpTransport> transport) {
+        HttpClient client = HttpClient.builder().transport(transport.get()).build();
+        try {
+            HttpRequest request = new HttpRequestBuilder().url(server.url("/missing")).buildRequest();
+
+            HttpException sync = assertThrows(HttpException.class, () -> client.execute(request));
+            assertEquals(404, sync.getStatusCode());
+
+            CompletionException async = assertThrows(CompletionException.class, () -> client.executeAsync(request).join());
+            assertEquals(404, assertInstanceOf(HttpException.class, async.getCause()).getStatusCode());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testStreamedRequestBodies(Supplier<HttpTransport> transport, @TempDir Path directory) throws Exception {
+        byte[] content = new byte[200_000];
+        content[content.length - 1] = 7;
+        Path file = Files.write(directory.resolve("upload.bin"), content);
+        ByteBuffer direct = ByteBuffer.allocateDirect(content.length).put(content).flip();
+
+        HttpClient client = HttpClient.builder().transport(transport.get()).build();
+        try {
+            HttpRequestBuilder builder = new HttpRequestBuilder().url(server.url("/upload")).method("PUT");
+
+            assertEquals("fixed:200000:7", client.execute(builder.body(file).buildRequest()).body());
+            assertEquals("fixed:200000:7", client.execute(builder.body(direct).buildRequest()).body());
+            assertEquals("chunked:200000:7",
+                    client.execute(builder.body(() -> new ByteArrayInputStream(content), -1).buildRequest()).body());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testConnectTimeoutIsHonoured(Supplier<HttpTransport> transport) throws Exception {
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        try (ServerSocket unresponsive = new ServerSocket(0, 1, loopback);
+             Socket first = new Socket(loopback, unresponsive.getLocalPort());
+             Socket second = new Socket(loopback, unresponsive.getLocalPort())) {
+            // The backlog is full, so further connection attempts get no answer.
+            HttpClient client = HttpClient.builder().transport(transport.get()).build();
+            try {
+                HttpRequest request = new HttpRequestBuilder()
+                        .url("http://127.0.0.1:" + unresponsive.getLocalPort() + "/")
+                        .connectTimeout(300)
+                        .timeout(30_000)
+                        .buildRequest();
+
+                long start = System.nanoTime();
+                assertThrows(HttpException.class, () -> client.execute(request));
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                assertTrue(elapsed < 5000, "took " + elapsed + " ms");
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+}
\ No newline at end of file